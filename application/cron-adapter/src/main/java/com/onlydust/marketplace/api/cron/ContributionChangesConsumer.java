@@ -0,0 +1,60 @@
+package com.onlydust.marketplace.api.cron;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.job.ContributionChangesConsumerJob;
+import onlydust.com.marketplace.api.domain.port.output.OutboxPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Processes the contribution changes queued by the events endpoint once per window instead of on each notification, so
+ * that the changes received on the same repos during the window are deduplicated and refreshed in the same batches.
+ * The depth of the queue and the age of its oldest event are exposed as gauges.
+ */
+@Component
+@Slf4j
+@Profile("api")
+public class ContributionChangesConsumer {
+    private final OutboxPort contributionChangeOutbox;
+    private final ContributionChangesConsumerJob contributionChangesConsumerJob;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong processingLagInSeconds = new AtomicLong();
+
+    public ContributionChangesConsumer(final OutboxPort contributionChangeOutbox,
+                                       final ContributionChangesConsumerJob contributionChangesConsumerJob,
+                                       final MeterRegistry meterRegistry) {
+        this.contributionChangeOutbox = contributionChangeOutbox;
+        this.contributionChangesConsumerJob = contributionChangesConsumerJob;
+        Gauge.builder("contribution_changes.queue.depth", queueDepth, AtomicLong::get)
+                .description("Number of contribution changes waiting to be processed")
+                .register(meterRegistry);
+        Gauge.builder("contribution_changes.processing.lag", processingLagInSeconds, AtomicLong::get)
+                .description("Age of the oldest contribution change waiting to be processed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${application.cron.contribution-changes-window}")
+    public void processContributionChanges() {
+        recordBacklog();
+        contributionChangesConsumerJob.run();
+    }
+
+    private void recordBacklog() {
+        try {
+            final OutboxPort.Backlog backlog = contributionChangeOutbox.backlog();
+            queueDepth.set(backlog.size());
+            processingLagInSeconds.set(isNull(backlog.oldestEventCreatedAt()) ? 0 :
+                    (System.currentTimeMillis() - backlog.oldestEventCreatedAt().getTime()) / 1000);
+        } catch (Exception e) {
+            LOGGER.warn("Failed to read the contribution changes backlog", e);
+        }
+    }
+}
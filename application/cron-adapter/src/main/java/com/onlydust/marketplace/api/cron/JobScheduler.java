@@ -2,7 +2,9 @@ package com.onlydust.marketplace.api.cron;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.job.OutboxArchivingJob;
 import onlydust.com.marketplace.api.domain.job.OutboxConsumerJob;
+import onlydust.com.marketplace.api.domain.job.ProjectContributorStatsRefreshJob;
 import onlydust.com.marketplace.api.domain.port.input.ProjectFacadePort;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -15,6 +17,10 @@ import org.springframework.stereotype.Component;
 public class JobScheduler {
     private final OutboxConsumerJob notificationOutboxJob;
     private final OutboxConsumerJob indexerOutboxJob;
+    private final OutboxArchivingJob notificationOutboxArchivingJob;
+    private final OutboxArchivingJob indexerOutboxArchivingJob;
+    private final OutboxArchivingJob contributionChangeOutboxArchivingJob;
+    private final ProjectContributorStatsRefreshJob projectContributorStatsRefreshJob;
     private final ProjectFacadePort projectFacadePort;
 
     @Scheduled(fixedDelayString = "${application.cron.notification-job-delay}")
@@ -29,9 +35,41 @@ public class JobScheduler {
         indexerOutboxJob.run();
     }
 
+    @Scheduled(fixedDelayString = "${application.cron.archive-processed-outbox-events-job-delay}")
+    public void archiveProcessedOutboxEvents() {
+        LOGGER.info("Archiving processed outbox events");
+        notificationOutboxArchivingJob.run();
+        indexerOutboxArchivingJob.run();
+        contributionChangeOutboxArchivingJob.run();
+    }
+
+    @Scheduled(fixedDelayString = "${application.cron.project-contributor-stats-refresh-job-delay}")
+    public void refreshQueuedProjectContributorStats() {
+        LOGGER.debug("Refreshing queued project contributor stats");
+        projectContributorStatsRefreshJob.run();
+    }
+
     @Scheduled(fixedDelayString = "${application.cron.update-projects-ranking}")
     public void updateProjectRanking() {
         LOGGER.info("Updating projects ranking");
         projectFacadePort.updateProjectsRanking();
     }
+
+    @Scheduled(fixedDelayString = "${application.cron.update-queued-projects-ranking}")
+    public void updateQueuedProjectsRanking() {
+        LOGGER.debug("Updating queued projects ranking");
+        projectFacadePort.updateQueuedProjectsRanking();
+    }
+
+    @Scheduled(fixedDelayString = "${application.cron.refresh-project-catalog}")
+    public void refreshProjectCatalog() {
+        LOGGER.info("Refreshing projects catalog");
+        projectFacadePort.refreshProjectCatalog();
+    }
+
+    @Scheduled(fixedDelayString = "${application.cron.refresh-project-contributor-logins}")
+    public void refreshProjectContributorLogins() {
+        LOGGER.info("Refreshing project contributor logins");
+        projectFacadePort.refreshProjectContributorLogins();
+    }
 }
@@ -0,0 +1,149 @@
+package com.onlydust.marketplace.api.cron;
+
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.job.OutboxConsumerJob;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Listens on a dedicated database connection to the notifications sent when an event is pushed to an outbox, and runs
+ * the matching {@link OutboxConsumerJob} right away. The scheduled jobs of {@link JobScheduler} remain as a safety net
+ * for the notifications missed while the listener is reconnecting.
+ * <p>
+ * The connection is opened with the JDBC driver rather than borrowed from the pool, so that it does not hold a pooled
+ * connection for the lifetime of the application. Jobs run on one single-threaded executor per channel, with room for a
+ * single pending run: the notifications received while a job is running trigger one more run of it, and the listener
+ * thread keeps reading notifications meanwhile.
+ */
+@Component
+@Slf4j
+@Profile("api")
+public class OutboxEventListener {
+    // Channel names are the outbox table names, see the repositories of the postgres adapter
+    private static final String NOTIFICATION_CHANNEL = "notification_outbox_events";
+    private static final String INDEXER_CHANNEL = "indexer_outbox_events";
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Map<String, OutboxConsumerJob> jobsByChannel;
+    private final Map<String, ExecutorService> executorsByChannel;
+    private final Integer pollTimeout;
+    private final Long reconnectDelay;
+    private volatile boolean running;
+    private Thread thread;
+
+    public OutboxEventListener(@Value("${spring.datasource.url}") final String url,
+                               @Value("${spring.datasource.username}") final String username,
+                               @Value("${spring.datasource.password}") final String password,
+                               final OutboxConsumerJob notificationOutboxJob,
+                               final OutboxConsumerJob indexerOutboxJob,
+                               @Value("${application.cron.outbox-listener.poll-timeout}") final Integer pollTimeout,
+                               @Value("${application.cron.outbox-listener.reconnect-delay}") final Long reconnectDelay) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.jobsByChannel = Map.of(NOTIFICATION_CHANNEL, notificationOutboxJob, INDEXER_CHANNEL, indexerOutboxJob);
+        this.executorsByChannel = jobsByChannel.keySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), OutboxEventListener::newChannelExecutor));
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        thread = new Thread(this::listen, "outbox-event-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (!isNull(thread)) {
+            thread.interrupt();
+        }
+        executorsByChannel.values().forEach(ExecutorService::shutdown);
+    }
+
+    private static ExecutorService newChannelExecutor(final String channel) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1), runnable -> {
+            final Thread thread = new Thread(runnable, "outbox-event-listener-" + channel);
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : jobsByChannel.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                LOGGER.info("Listening to outbox events on channels {}", jobsByChannel.keySet());
+                while (running) {
+                    final PGNotification[] notifications = pgConnection.getNotifications(pollTimeout);
+                    if (notifications != null) {
+                        runJobsNotifiedBy(notifications);
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    LOGGER.warn("Outbox event listener connection lost, reconnecting in {} ms", reconnectDelay, e);
+                    sleep(reconnectDelay);
+                }
+            }
+        }
+    }
+
+    private void runJobsNotifiedBy(final PGNotification[] notifications) {
+        // Several events pushed at once are processed by a single run of the job
+        final Set<String> channels = new LinkedHashSet<>();
+        for (PGNotification notification : notifications) {
+            channels.add(notification.getName());
+        }
+        channels.forEach(this::onNotification);
+    }
+
+    void onNotification(final String channel) {
+        final OutboxConsumerJob job = jobsByChannel.get(channel);
+        if (isNull(job)) {
+            return;
+        }
+        // When a run is already pending, it will process the events of this notification too: the task is discarded
+        executorsByChannel.get(channel).execute(job);
+    }
+
+    private void sleep(final Long delay) {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.onlydust.marketplace.api.cron;
+
+import onlydust.com.marketplace.api.domain.job.OutboxConsumerJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class OutboxEventListenerTest {
+
+    final OutboxConsumerJob notificationOutboxJob = mock(OutboxConsumerJob.class);
+    final OutboxConsumerJob indexerOutboxJob = mock(OutboxConsumerJob.class);
+    final OutboxEventListener listener = new OutboxEventListener("jdbc:postgresql://localhost/db", "user", "password",
+            notificationOutboxJob, indexerOutboxJob, 100, 100L);
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    void should_run_the_job_of_the_notified_channel_off_the_listener_thread() throws InterruptedException {
+        // Given
+        final CountDownLatch ran = new CountDownLatch(1);
+        final Thread listenerThread = Thread.currentThread();
+        doAnswer(invocation -> {
+            assertThat(Thread.currentThread()).isNotSameAs(listenerThread);
+            ran.countDown();
+            return null;
+        }).when(indexerOutboxJob).run();
+
+        // When
+        listener.onNotification("indexer_outbox_events");
+        listener.onNotification("unknown_channel");
+
+        // Then
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+        verifyNoInteractions(notificationOutboxJob);
+    }
+
+    @Test
+    void should_coalesce_the_notifications_received_while_the_job_is_running() throws InterruptedException {
+        // Given
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            done.countDown();
+            return null;
+        }).when(notificationOutboxJob).run();
+
+        // When
+        listener.onNotification("notification_outbox_events");
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 10; i++) {
+            listener.onNotification("notification_outbox_events");
+        }
+        release.countDown();
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        verify(notificationOutboxJob, times(2)).run();
+    }
+}
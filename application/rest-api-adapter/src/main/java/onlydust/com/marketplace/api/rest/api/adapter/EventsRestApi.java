@@ -18,7 +18,8 @@ public class EventsRestApi implements EventsApi {
 
     @Override
     public ResponseEntity<Void> onContributionsChange(OnContributionsChangeEvent onContributionsChangeEvent) {
-        contributionObserverPort.onContributionsChanged(onContributionsChangeEvent.getRepoIds());
-        return ResponseEntity.noContent().build();
+        contributionObserverPort.onContributionsChanged(onContributionsChangeEvent.getRepoIds(),
+                onContributionsChangeEvent.getContributionIds());
+        return ResponseEntity.accepted().build();
     }
 }
@@ -14,6 +14,7 @@ import onlydust.com.marketplace.api.domain.port.input.ContributorFacadePort;
 import onlydust.com.marketplace.api.domain.port.input.GithubOrganizationFacadePort;
 import onlydust.com.marketplace.api.domain.port.input.UserFacadePort;
 import onlydust.com.marketplace.api.domain.view.*;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.AuthenticationService;
@@ -119,7 +120,7 @@ public class MeRestApi implements MeApi {
     public ResponseEntity<MyRewardsPageResponse> getMyRewards(Integer pageIndex, Integer pageSize,
                                                               String sort, String direction,
                                                               List<CurrencyContract> currencies, List<UUID> projects,
-                                                              String fromDate, String toDate) {
+                                                              String fromDate, String toDate, String after) {
         final var sanitizedPageSize = sanitizePageSize(pageSize);
         final var sanitizedPageIndex = sanitizePageIndex(pageIndex);
         final var authenticatedUser = authenticationService.getAuthenticatedUser();
@@ -132,11 +133,11 @@ public class MeRestApi implements MeApi {
                 .build();
 
         final var page = userFacadePort.getRewardsForUserId(authenticatedUser.getId(), filters, sanitizedPageIndex,
-                sanitizedPageSize, sortBy, SortDirectionMapper.requestToDomain(direction));
+                sanitizedPageSize, sortBy, SortDirectionMapper.requestToDomain(direction), Cursor.decode(after));
 
         final var myRewardsPageResponse = mapMyRewardsToResponse(sanitizedPageIndex, page);
 
-        return myRewardsPageResponse.getTotalPageNumber() > 1 ?
+        return myRewardsPageResponse.getHasMore() || myRewardsPageResponse.getTotalPageNumber() > 1 ?
                 ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).body(myRewardsPageResponse) :
                 ResponseEntity.ok(myRewardsPageResponse);
     }
@@ -158,7 +159,8 @@ public class MeRestApi implements MeApi {
                                                                        ContributionSort sort,
                                                                        String direction,
                                                                        Integer page,
-                                                                       Integer pageSize) {
+                                                                       Integer pageSize,
+                                                                       String after) {
         final User authenticatedUser = authenticationService.getAuthenticatedUser();
         final int sanitizedPageSize = sanitizePageSize(pageSize);
         final int sanitizedPageIndex = sanitizePageIndex(page);
@@ -179,13 +181,14 @@ public class MeRestApi implements MeApi {
                 ContributionMapper.mapSort(sort),
                 SortDirectionMapper.requestToDomain(direction),
                 sanitizedPageIndex,
-                sanitizedPageSize);
+                sanitizedPageSize,
+                Cursor.decode(after));
 
         final var contributionPageResponse = ContributionMapper.mapContributionPageResponse(
                 sanitizedPageIndex,
                 contributions);
 
-        return contributionPageResponse.getTotalPageNumber() > 1 ?
+        return contributionPageResponse.getHasMore() || contributionPageResponse.getTotalPageNumber() > 1 ?
                 ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).body(contributionPageResponse)
                 : ResponseEntity.ok(contributionPageResponse);
 
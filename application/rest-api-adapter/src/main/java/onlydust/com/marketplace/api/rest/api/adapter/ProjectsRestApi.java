@@ -16,6 +16,7 @@ import onlydust.com.marketplace.api.domain.port.input.ContributionFacadePort;
 import onlydust.com.marketplace.api.domain.port.input.ProjectFacadePort;
 import onlydust.com.marketplace.api.domain.port.input.RewardFacadePort;
 import onlydust.com.marketplace.api.domain.view.*;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.AuthenticationService;
@@ -82,17 +83,18 @@ public class ProjectsRestApi implements ProjectsApi {
     public ResponseEntity<ProjectPageResponse> getProjects(final Integer pageIndex, final Integer pageSize,
                                                            final String sort, final List<String> technologies,
                                                            final List<UUID> sponsorId, final Boolean mine,
-                                                           final String search) {
+                                                           final String search, final String after) {
         final int sanitizedPageSize = sanitizePageSize(pageSize);
         final int sanitizedPageIndex = sanitizePageIndex(pageIndex);
         final Optional<User> optionalUser = authenticationService.tryGetAuthenticatedUser();
         final ProjectCardView.SortBy sortBy = mapSortByParameter(sort);
+        final Cursor cursor = Cursor.decode(after);
         final Page<ProjectCardView> projectCardViewPage =
                 optionalUser.map(user -> projectFacadePort.getByTechnologiesSponsorsUserIdSearchSortBy(technologies,
                                 sponsorId, search, sortBy, user.getId(), !isNull(mine) && mine, sanitizedPageIndex,
-                                sanitizedPageSize))
+                                sanitizedPageSize, cursor))
                         .orElseGet(() -> projectFacadePort.getByTechnologiesSponsorsSearchSortBy(technologies,
-                                sponsorId, search, sortBy, sanitizedPageIndex, sanitizedPageSize));
+                                sponsorId, search, sortBy, sanitizedPageIndex, sanitizedPageSize, cursor));
         return ResponseEntity.ok(mapProjectCards(projectCardViewPage, sanitizedPageIndex));
     }
 
@@ -141,22 +143,24 @@ public class ProjectsRestApi implements ProjectsApi {
                                                                            Integer pageSize,
                                                                            String login,
                                                                            String sort,
-                                                                           String direction) {
+                                                                           String direction,
+                                                                           String after) {
 
         final int sanitizedPageSize = sanitizePageSize(pageSize);
         final ProjectContributorsLinkView.SortBy sortBy = mapSortBy(sort);
+        final Cursor cursor = Cursor.decode(after);
         final Page<ProjectContributorsLinkView> projectContributorsLinkViewPage =
                 authenticationService.tryGetAuthenticatedUser()
                         .map(user -> projectFacadePort.getContributorsForProjectLeadId(projectId, login, user.getId(),
                                 sortBy, SortDirectionMapper.requestToDomain(direction),
-                                pageIndex, sanitizedPageSize))
+                                pageIndex, sanitizedPageSize, cursor))
                         .orElseGet(() -> projectFacadePort.getContributors(projectId, login,
                                 sortBy, SortDirectionMapper.requestToDomain(direction),
-                                pageIndex, sanitizedPageSize));
+                                pageIndex, sanitizedPageSize, cursor));
         final ContributorsPageResponse contributorsPageResponse =
                 mapProjectContributorsLinkViewPageToResponse(projectContributorsLinkViewPage,
                         pageIndex);
-        return contributorsPageResponse.getTotalPageNumber() > 1 ?
+        return contributorsPageResponse.getHasMore() || contributorsPageResponse.getTotalPageNumber() > 1 ?
                 ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).body(contributorsPageResponse) :
                 ResponseEntity.ok(contributorsPageResponse);
     }
@@ -360,7 +364,8 @@ public class ProjectsRestApi implements ProjectsApi {
                                                                                    ProjectContributionSort sort,
                                                                                    String direction,
                                                                                    Integer pageIndex,
-                                                                                   Integer pageSize) {
+                                                                                   Integer pageSize,
+                                                                                   String after) {
         final User authenticatedUser = authenticationService.getAuthenticatedUser();
         final int sanitizedPageSize = sanitizePageSize(pageSize);
         final int sanitizedPageIndex = sanitizePageIndex(pageIndex);
@@ -382,13 +387,14 @@ public class ProjectsRestApi implements ProjectsApi {
                 ContributionMapper.mapSort(sort),
                 SortDirectionMapper.requestToDomain(direction),
                 sanitizedPageIndex,
-                sanitizedPageSize);
+                sanitizedPageSize,
+                Cursor.decode(after));
 
         final var contributionPageResponse = ContributionMapper.mapContributionPageResponse(
                 sanitizedPageIndex,
                 contributions);
 
-        return contributionPageResponse.getTotalPageNumber() > 1 ?
+        return contributionPageResponse.getHasMore() || contributionPageResponse.getTotalPageNumber() > 1 ?
                 ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).body(contributionPageResponse)
                 : ResponseEntity.ok(contributionPageResponse);
     }
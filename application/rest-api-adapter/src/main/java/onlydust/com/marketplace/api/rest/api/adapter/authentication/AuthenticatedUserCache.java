@@ -0,0 +1,145 @@
+package onlydust.com.marketplace.api.rest.api.adapter.authentication;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import onlydust.com.marketplace.api.domain.model.User;
+import onlydust.com.marketplace.api.domain.model.UserRole;
+import onlydust.com.marketplace.api.domain.port.output.UserCachePort;
+import onlydust.com.marketplace.api.domain.view.ProjectLedView;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Keeps the hydrated {@link User} of each authenticated JWT subject in memory, so that the user, its leads,
+ * applications and payout information are not reloaded on every request. An entry never outlives the token it was
+ * loaded for, and is evicted by the domain observers whenever the user data changes.
+ * <p>
+ * Evictions requested inside a transaction are applied again once it commits, so that a request that re-cached the
+ * user before the commit does not keep the old data. Evictions are local to this instance: other instances only pick
+ * up the change when their entry expires, which is why users holding an admin role or leading projects are cached
+ * for a shorter time.
+ */
+public class AuthenticatedUserCache implements UserCachePort {
+
+    private final Config config;
+    private final Cache<String, Entry> cache;
+
+    public AuthenticatedUserCache(final Config config) {
+        this.config = config;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String subject, Entry entry, long currentTime) {
+                        return entry.ttl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String subject, Entry entry, long currentTime,
+                                                  @NonNegative long currentDuration) {
+                        return entry.ttl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String subject, Entry entry, long currentTime,
+                                                @NonNegative long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public User get(final String subject, final Date tokenExpiresAt, final Supplier<User> loader) {
+        if (isExpired(ttlFor(tokenExpiresAt, config.getTtlInSeconds()))) {
+            return loader.get();
+        }
+        return cache.get(subject, key -> {
+            final User user = loader.get();
+            return new Entry(user, ttlFor(tokenExpiresAt, isPrivileged(user) ? config.getPrivilegedTtlInSeconds() :
+                    config.getTtlInSeconds()));
+        }).user;
+    }
+
+    @Override
+    public void evict(UUID userId) {
+        evictNowAndAfterCommit(() -> cache.asMap().values().removeIf(entry -> userId.equals(entry.user.getId())));
+    }
+
+    @Override
+    public void evictByGithubUserId(Long githubUserId) {
+        evictNowAndAfterCommit(() -> cache.asMap().values()
+                .removeIf(entry -> githubUserId.equals(entry.user.getGithubUserId())));
+    }
+
+    @Override
+    public void evictProjectLeaders(UUID projectId) {
+        evictNowAndAfterCommit(() -> cache.asMap().values()
+                .removeIf(entry -> leads(entry.user.getProjectsLed(), projectId) ||
+                                   leads(entry.user.getPendingProjectsLed(), projectId)));
+    }
+
+    private void evictNowAndAfterCommit(final Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private static Duration ttlFor(final Date tokenExpiresAt, final Long ttlInSeconds) {
+        final Duration maxTtl = Duration.ofSeconds(ttlInSeconds);
+        if (isNull(tokenExpiresAt)) {
+            return maxTtl;
+        }
+        final Duration tokenTtl = Duration.ofMillis(tokenExpiresAt.getTime() - System.currentTimeMillis());
+        return tokenTtl.compareTo(maxTtl) < 0 ? (tokenTtl.isNegative() ? Duration.ZERO : tokenTtl) : maxTtl;
+    }
+
+    private static boolean isExpired(final Duration ttl) {
+        return ttl.isZero() || ttl.isNegative();
+    }
+
+    private static boolean isPrivileged(final User user) {
+        return user.hasRole(UserRole.ADMIN) ||
+               (user.getProjectsLed() != null && !user.getProjectsLed().isEmpty()) ||
+               (user.getPendingProjectsLed() != null && !user.getPendingProjectsLed().isEmpty());
+    }
+
+    private static boolean leads(final List<ProjectLedView> projectsLed, final UUID projectId) {
+        return projectsLed != null && projectsLed.stream().anyMatch(project -> projectId.equals(project.getId()));
+    }
+
+    private record Entry(User user, Duration ttl) {
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Long ttlInSeconds = 300L;
+        @Builder.Default
+        Long privilegedTtlInSeconds = 30L;
+        @Builder.Default
+        Long maximumSize = 10_000L;
+    }
+}
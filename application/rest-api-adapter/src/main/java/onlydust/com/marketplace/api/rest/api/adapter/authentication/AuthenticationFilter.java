@@ -20,8 +20,7 @@ import static java.util.Objects.nonNull;
 public class AuthenticationFilter extends OncePerRequestFilter {
     public final static String BEARER_PREFIX = "Bearer ";
     public final static String IMPERSONATION_HEADER = "X-Impersonation-Claims";
-    private final JwtService jwtServiceAuth0;
-    private final JwtService jwtServiceHasura;
+    private final JwtService jwtService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest httpServletRequest,
@@ -32,13 +31,9 @@ public class AuthenticationFilter extends OncePerRequestFilter {
         final String impersonationHeader = httpServletRequest.getHeader(IMPERSONATION_HEADER);
         if (nonNull(authorization) && authorization.startsWith(BEARER_PREFIX)) {
             try {
-                jwtServiceAuth0.getAuthenticationFromJwt(authorization.replace(BEARER_PREFIX, ""), impersonationHeader)
+                jwtService.getAuthenticationFromJwt(authorization.substring(BEARER_PREFIX.length()), impersonationHeader)
                         .ifPresentOrElse(authentication -> SecurityContextHolder.getContext().setAuthentication(authentication),
-                                () -> jwtServiceHasura.getAuthenticationFromJwt(authorization.replace(BEARER_PREFIX,
-                                                        ""),
-                                                impersonationHeader)
-                                        .ifPresentOrElse(authentication -> SecurityContextHolder.getContext().setAuthentication(authentication),
-                                                SecurityContextHolder::clearContext));
+                                SecurityContextHolder::clearContext);
             } catch (Exception e) {
                 LOGGER.error("Error while authenticating user", e);
                 SecurityContextHolder.clearContext();
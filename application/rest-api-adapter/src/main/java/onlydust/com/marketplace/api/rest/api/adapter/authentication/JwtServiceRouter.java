@@ -0,0 +1,60 @@
+package onlydust.com.marketplace.api.rest.api.adapter.authentication;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.JwtHeader;
+
+import java.util.Base64;
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Dispatches each token to the one {@link JwtService} able to verify it, based on its header: Auth0 tokens are signed
+ * with RS256 by a key of the Auth0 JWKS (hence carry a {@code kid}), while Hasura tokens are signed with the HS256
+ * shared secret. Tokens matching neither are rejected without any verification attempt.
+ */
+@Slf4j
+@AllArgsConstructor
+public class JwtServiceRouter implements JwtService {
+    private final ObjectMapper objectMapper;
+    private final JwtService jwtServiceAuth0;
+    private final JwtService jwtServiceHasura;
+
+    @Override
+    public Optional<OnlyDustAuthentication> getAuthenticationFromJwt(final String jwt,
+                                                                     final String impersonationHeader) {
+        return route(jwt).flatMap(jwtService -> jwtService.getAuthenticationFromJwt(jwt, impersonationHeader));
+    }
+
+    private Optional<JwtService> route(final String jwt) {
+        final int headerEnd = jwt.indexOf('.');
+        if (headerEnd <= 0) {
+            LOGGER.warn("Invalid Jwt format");
+            return Optional.empty();
+        }
+
+        final JwtHeader jwtHeader;
+        try {
+            jwtHeader = objectMapper.readValue(Base64.getUrlDecoder().decode(jwt.substring(0, headerEnd)),
+                    JwtHeader.class);
+        } catch (Exception e) {
+            LOGGER.warn("Invalid Jwt header format", e);
+            return Optional.empty();
+        }
+
+        if (isNull(jwtHeader.getAlg())) {
+            LOGGER.warn("Missing Jwt algorithm type");
+            return Optional.empty();
+        }
+        return switch (jwtHeader.getAlg()) {
+            case "RS256" -> isNull(jwtHeader.getKid()) ? Optional.empty() : Optional.of(jwtServiceAuth0);
+            case "HS256" -> Optional.of(jwtServiceHasura);
+            default -> {
+                LOGGER.warn("Unsupported Jwt algorithm type {}", jwtHeader.getAlg());
+                yield Optional.empty();
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package onlydust.com.marketplace.api.rest.api.adapter.authentication;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Keeps the outcome of a successful JWT verification (decoded and trusted claims) in memory, keyed by a SHA-256 hash
+ * of the raw token, so that a token replayed on every request of a session is only verified once. An entry never
+ * outlives the token it was verified for. Only the verification is cached: the user behind the token is still
+ * resolved on each request, through the {@link AuthenticatedUserCache}.
+ */
+public class VerifiedTokenCache<T> {
+
+    private final Config config;
+    private final Cache<String, Entry<T>> cache;
+
+    public VerifiedTokenCache(final Config config) {
+        this.config = config;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfter(new Expiry<String, Entry<T>>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, Entry<T> entry, long currentTime) {
+                        return entry.ttl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, Entry<T> entry, long currentTime,
+                                                  @NonNegative long currentDuration) {
+                        return entry.ttl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, Entry<T> entry, long currentTime,
+                                                @NonNegative long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Returns the cached verification of the token, or runs the verifier. The verifier returns null (or throws) when
+     * the token is invalid, in which case nothing is cached.
+     */
+    public T get(final String token, final Function<String, T> verifier, final Function<T, Date> expiresAt) {
+        final String tokenHash = DigestUtils.sha256Hex(token);
+        final Entry<T> cached = cache.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached.verified;
+        }
+
+        final T verified = verifier.apply(token);
+        if (verified != null) {
+            final Duration ttl = ttlFor(expiresAt.apply(verified));
+            if (!ttl.isZero() && !ttl.isNegative()) {
+                cache.put(tokenHash, new Entry<>(verified, ttl));
+            }
+        }
+        return verified;
+    }
+
+    private Duration ttlFor(final Date tokenExpiresAt) {
+        final Duration maxTtl = Duration.ofSeconds(config.getTtlInSeconds());
+        if (isNull(tokenExpiresAt)) {
+            return maxTtl;
+        }
+        final Duration tokenTtl = Duration.ofMillis(tokenExpiresAt.getTime() - System.currentTimeMillis());
+        return tokenTtl.compareTo(maxTtl) < 0 ? tokenTtl : maxTtl;
+    }
+
+    private record Entry<T>(T verified, Duration ttl) {
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Long ttlInSeconds = 3600L;
+        @Builder.Default
+        Long maximumSize = 10_000L;
+    }
+}
@@ -10,12 +10,15 @@ import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
 import onlydust.com.marketplace.api.domain.model.User;
 import onlydust.com.marketplace.api.domain.model.UserRole;
 import onlydust.com.marketplace.api.domain.port.input.UserFacadePort;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.AuthenticatedUserCache;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.JwtService;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.OnlyDustAuthentication;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.OnlyDustGrantedAuthority;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.VerifiedTokenCache;
 
 import java.io.IOException;
 import java.util.Base64;
+import java.util.Date;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -25,15 +28,17 @@ public class Auth0JwtService implements JwtService {
     private final ObjectMapper objectMapper;
     private final JWTVerifier jwtVerifier;
     private final UserFacadePort userFacadePort;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final VerifiedTokenCache<DecodedJWT> verifiedTokenCache;
 
     public Optional<OnlyDustAuthentication> getAuthenticationFromJwt(final String jwt,
                                                                      final String impersonationHeader) {
         try {
-            final DecodedJWT decodedJwt = this.jwtVerifier.verify(jwt);
+            final DecodedJWT decodedJwt = verifiedTokenCache.get(jwt, jwtVerifier::verify, DecodedJWT::getExpiresAt);
             final Auth0JwtClaims jwtClaims =
                     objectMapper.readValue(Base64.getUrlDecoder().decode(decodedJwt.getPayload()),
                             Auth0JwtClaims.class);
-            final User user = getUserFromClaims(jwtClaims, true);
+            final User user = getUserFromClaims(jwtClaims, decodedJwt.getExpiresAt(), true);
 
             if (impersonationHeader != null && !impersonationHeader.isEmpty()) {
                 return getAuthenticationFromImpersonationHeader(decodedJwt, user, impersonationHeader);
@@ -57,14 +62,15 @@ public class Auth0JwtService implements JwtService {
 
     }
 
-    private User getUserFromClaims(Auth0JwtClaims jwtClaims, boolean createIfNotExists) {
+    private User getUserFromClaims(Auth0JwtClaims jwtClaims, Date tokenExpiresAt, boolean createIfNotExists) {
         final Long githubUserId = Long.valueOf(jwtClaims.getGithubWithUserId().replaceFirst("github\\|", ""));
-        return this.userFacadePort.getUserByGithubIdentity(GithubUserIdentity.builder()
-                .githubUserId(githubUserId)
-                .githubLogin(jwtClaims.getGithubLogin())
-                .githubAvatarUrl(jwtClaims.getGithubAvatarUrl())
-                .email(jwtClaims.getEmail())
-                .build(), createIfNotExists);
+        return authenticatedUserCache.get(jwtClaims.getGithubWithUserId(), tokenExpiresAt,
+                () -> this.userFacadePort.getUserByGithubIdentity(GithubUserIdentity.builder()
+                        .githubUserId(githubUserId)
+                        .githubLogin(jwtClaims.getGithubLogin())
+                        .githubAvatarUrl(jwtClaims.getGithubAvatarUrl())
+                        .email(jwtClaims.getEmail())
+                        .build(), createIfNotExists));
     }
 
     private Optional<OnlyDustAuthentication> getAuthenticationFromImpersonationHeader(DecodedJWT decodedJwt,
@@ -82,7 +88,7 @@ public class Auth0JwtService implements JwtService {
             return Optional.empty();
         }
 
-        final User impersonated = getUserFromClaims(claims, false);
+        final User impersonated = getUserFromClaims(claims, decodedJwt.getExpiresAt(), false);
 
         LOGGER.info("User {} is impersonating {}", impersonator, impersonated);
 
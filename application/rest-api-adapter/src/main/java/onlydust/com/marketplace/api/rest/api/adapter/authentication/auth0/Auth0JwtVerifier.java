@@ -1,43 +1,16 @@
 package onlydust.com.marketplace.api.rest.api.adapter.authentication.auth0;
 
-import com.auth0.jwk.JwkProvider;
-import com.auth0.jwk.JwkProviderBuilder;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
 import com.auth0.jwt.interfaces.RSAKeyProvider;
-import lombok.SneakyThrows;
-
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
 
 public class Auth0JwtVerifier implements JWTVerifier {
     private final JWTVerifier jwtVerifier;
 
-    public Auth0JwtVerifier(final Auth0Properties conf) {
-        JwkProvider provider = new JwkProviderBuilder(conf.getJwksUrl())
-                .build();
-
-        RSAKeyProvider keyProvider = new RSAKeyProvider() {
-            @SneakyThrows
-            @Override
-            public RSAPublicKey getPublicKeyById(String kid) {
-                return (RSAPublicKey) provider.get(kid).getPublicKey();
-            }
-
-            @Override
-            public RSAPrivateKey getPrivateKey() {
-                // return the private key used
-                return null;
-            }
-
-            @Override
-            public String getPrivateKeyId() {
-                return null;
-            }
-        };
+    public Auth0JwtVerifier(final Auth0Properties conf, final RSAKeyProvider keyProvider) {
         Algorithm algorithm = Algorithm.RSA256(keyProvider);
 
         this.jwtVerifier = JWT.require(algorithm)
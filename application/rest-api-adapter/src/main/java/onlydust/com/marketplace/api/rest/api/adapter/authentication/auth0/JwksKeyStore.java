@@ -0,0 +1,157 @@
+package onlydust.com.marketplace.api.rest.api.adapter.authentication.auth0;
+
+import com.auth0.jwk.Jwk;
+import com.auth0.jwk.UrlJwkProvider;
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.URL;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Keeps the signing keys published by Auth0 in memory, so that authenticating a request never waits for a remote
+ * fetch. The keys are loaded at startup and refreshed in the background, and the current keys keep being served while
+ * a refresh is in flight or failing. A token signed with an unknown key id triggers a synchronous fetch to pick up
+ * rotated keys early, but at most once per configured interval.
+ */
+@Slf4j
+public class JwksKeyStore implements RSAKeyProvider, AutoCloseable {
+    private static final String JWKS_PATH = ".well-known/jwks.json";
+
+    private final UrlJwkProvider jwkProvider;
+    private final Config config;
+    private final ScheduledExecutorService scheduler;
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer fetchTimer;
+    private final AtomicLong lastUnknownKeyFetchAt = new AtomicLong();
+    private volatile Map<String, RSAPublicKey> keys = Map.of();
+
+    public JwksKeyStore(final String jwksUrl, final Config config, final MeterRegistry meterRegistry) {
+        this(new UrlJwkProvider(jwksEndpoint(jwksUrl), config.getConnectTimeoutInMillis(),
+                config.getReadTimeoutInMillis()), config, meterRegistry);
+    }
+
+    public JwksKeyStore(final UrlJwkProvider jwkProvider, final Config config, final MeterRegistry meterRegistry) {
+        this.jwkProvider = jwkProvider;
+        this.config = config;
+        this.hits = Counter.builder("auth0.jwks.lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("auth0.jwks.lookups").tag("result", "miss").register(meterRegistry);
+        this.fetchTimer = Timer.builder("auth0.jwks.fetch").register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refreshSafely();
+        this.scheduler.scheduleWithFixedDelay(this::refreshSafely, config.getRefreshIntervalInSeconds(),
+                config.getRefreshIntervalInSeconds(), TimeUnit.SECONDS);
+    }
+
+    @Override
+    public RSAPublicKey getPublicKeyById(String keyId) {
+        if (isNull(keyId)) {
+            return null;
+        }
+        final RSAPublicKey key = keys.get(keyId);
+        if (!isNull(key)) {
+            hits.increment();
+            return key;
+        }
+        misses.increment();
+        if (tryAcquireUnknownKeyFetch()) {
+            refreshSafely();
+            return keys.get(keyId);
+        }
+        return null;
+    }
+
+    @Override
+    public RSAPrivateKey getPrivateKey() {
+        return null;
+    }
+
+    @Override
+    public String getPrivateKeyId() {
+        return null;
+    }
+
+    private boolean tryAcquireUnknownKeyFetch() {
+        final long now = System.currentTimeMillis();
+        final long lastFetchAt = lastUnknownKeyFetchAt.get();
+        return now - lastFetchAt >= TimeUnit.SECONDS.toMillis(config.getUnknownKeyFetchIntervalInSeconds())
+               && lastUnknownKeyFetchAt.compareAndSet(lastFetchAt, now);
+    }
+
+    /**
+     * The configured URL is the Auth0 domain, with or without a trailing slash: a relative resolution against a URL
+     * without one would replace its last path segment. A URL that already points to a JSON document is used as is.
+     */
+    @SneakyThrows
+    static URL jwksEndpoint(final String jwksUrl) {
+        if (jwksUrl.endsWith(".json")) {
+            return URI.create(jwksUrl).toURL();
+        }
+        return URI.create(jwksUrl.endsWith("/") ? jwksUrl : jwksUrl + "/").resolve(JWKS_PATH).toURL();
+    }
+
+    public synchronized void refresh() throws Exception {
+        final List<Jwk> jwks = fetchTimer.recordCallable(jwkProvider::getAll);
+        final Map<String, RSAPublicKey> loadedKeys = new HashMap<>();
+        for (Jwk jwk : jwks) {
+            final PublicKey publicKey = jwk.getPublicKey();
+            if (!isNull(jwk.getId()) && publicKey instanceof RSAPublicKey rsaPublicKey) {
+                loadedKeys.put(jwk.getId(), rsaPublicKey);
+            }
+        }
+        keys = Map.copyOf(loadedKeys);
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            LOGGER.error("Failed to refresh Auth0 signing keys", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Long refreshIntervalInSeconds = 300L;
+        @Builder.Default
+        Long unknownKeyFetchIntervalInSeconds = 30L;
+        @Builder.Default
+        Integer connectTimeoutInMillis = 2_000;
+        @Builder.Default
+        Integer readTimeoutInMillis = 2_000;
+    }
+}
@@ -2,9 +2,7 @@ package onlydust.com.marketplace.api.rest.api.adapter.authentication.hasura;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.impl.crypto.DefaultJwtSignatureValidator;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
 import onlydust.com.marketplace.api.domain.model.User;
@@ -13,6 +11,7 @@ import onlydust.com.marketplace.api.domain.port.input.UserFacadePort;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.JwtService;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.OnlyDustAuthentication;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.OnlyDustGrantedAuthority;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.VerifiedTokenCache;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.JwtHeader;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.JwtSecret;
 
@@ -23,13 +22,26 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static io.jsonwebtoken.SignatureAlgorithm.HS256;
+import static java.util.Objects.isNull;
 
-@AllArgsConstructor
 @Slf4j
 public class HasuraJwtService implements JwtService {
     private final ObjectMapper objectMapper;
     private final JwtSecret jwtSecret;
     private final UserFacadePort userFacadePort;
+    private final VerifiedTokenCache<HasuraJwtPayload> verifiedTokenCache;
+    private final DefaultJwtSignatureValidator signatureValidator;
+
+    public HasuraJwtService(final ObjectMapper objectMapper, final JwtSecret jwtSecret,
+                            final UserFacadePort userFacadePort,
+                            final VerifiedTokenCache<HasuraJwtPayload> verifiedTokenCache) {
+        this.objectMapper = objectMapper;
+        this.jwtSecret = jwtSecret;
+        this.userFacadePort = userFacadePort;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.signatureValidator = new DefaultJwtSignatureValidator(HS256,
+                new SecretKeySpec(jwtSecret.getKey().getBytes(), HS256.getJcaName()));
+    }
 
     private User getUserFromClaims(HasuraJwtPayload.HasuraClaims claims) {
         final Long githubUserId = claims.getGithubUserId();
@@ -42,10 +54,34 @@ public class HasuraJwtService implements JwtService {
 
     public Optional<OnlyDustAuthentication> getAuthenticationFromJwt(final String jwt,
                                                                      final String impersonationHeader) {
+        final HasuraJwtPayload hasuraJwtPayload = verifiedTokenCache.get(jwt, this::verify, HasuraJwtPayload::getExp);
+        if (isNull(hasuraJwtPayload)) {
+            return Optional.empty();
+        }
+
+        User user = getUserFromClaims(hasuraJwtPayload.getClaims());
+
+        if (impersonationHeader != null && !impersonationHeader.isEmpty()) {
+            return getAuthenticationFromImpersonationHeader(hasuraJwtPayload, user, impersonationHeader, jwt);
+        }
+
+        return Optional.of(HasuraAuthentication.builder()
+                .user(user)
+                .authorities(user.getRoles().stream().map(OnlyDustGrantedAuthority::new).collect(Collectors.toList()))
+                .credentials(hasuraJwtPayload)
+                .isAuthenticated(true)
+                .claims(hasuraJwtPayload.getClaims())
+                .principal(user.getGithubLogin())
+                .impersonating(false)
+                .jwt(jwt)
+                .build());
+    }
+
+    private HasuraJwtPayload verify(final String jwt) {
         final String[] chunks = jwt.split("\\.");
         if (chunks.length != 3) {
             LOGGER.warn("Invalid Jwt format");
-            return Optional.empty();
+            return null;
         }
         final String payload = chunks[1];
         final String header = chunks[0];
@@ -57,19 +93,16 @@ public class HasuraJwtService implements JwtService {
             jwtHeader = objectMapper.readValue(Base64.getUrlDecoder().decode(header), JwtHeader.class);
         } catch (Exception e) {
             LOGGER.warn("Invalid Jwt header format", e);
-            return Optional.empty();
+            return null;
         }
         if (!jwtHeader.getAlg().equals("HS256")) {
             LOGGER.warn("Invalid Jwt algorithm type");
-            return Optional.empty();
+            return null;
         }
 
-        final SignatureAlgorithm sa = HS256;
-        final SecretKeySpec secretKeySpec = new SecretKeySpec(jwtSecret.getKey().getBytes(), sa.getJcaName());
-        final DefaultJwtSignatureValidator validator = new DefaultJwtSignatureValidator(sa, secretKeySpec);
-        if (!validator.isValid(tokenWithoutSignature, signature)) {
+        if (!signatureValidator.isValid(tokenWithoutSignature, signature)) {
             LOGGER.warn("Invalid Jwt signature");
-            return Optional.empty();
+            return null;
         }
 
         final HasuraJwtPayload hasuraJwtPayload;
@@ -78,29 +111,14 @@ public class HasuraJwtService implements JwtService {
                     HasuraJwtPayload.class);
         } catch (IOException e) {
             LOGGER.warn("Unable to deserialize Jwt token", e);
-            return Optional.empty();
+            return null;
         }
         if (!hasuraJwtPayload.getIss().equals(jwtSecret.getIssuer())) {
             LOGGER.warn("Invalid Jwt issuer");
-            return Optional.empty();
-        }
-
-        User user = getUserFromClaims(hasuraJwtPayload.getClaims());
-
-        if (impersonationHeader != null && !impersonationHeader.isEmpty()) {
-            return getAuthenticationFromImpersonationHeader(hasuraJwtPayload, user, impersonationHeader, jwt);
+            return null;
         }
 
-        return Optional.of(HasuraAuthentication.builder()
-                .user(user)
-                .authorities(user.getRoles().stream().map(OnlyDustGrantedAuthority::new).collect(Collectors.toList()))
-                .credentials(hasuraJwtPayload)
-                .isAuthenticated(true)
-                .claims(hasuraJwtPayload.getClaims())
-                .principal(user.getGithubLogin())
-                .impersonating(false)
-                .jwt(jwt)
-                .build());
+        return hasuraJwtPayload;
     }
 
     private Optional<OnlyDustAuthentication> getAuthenticationFromImpersonationHeader(HasuraJwtPayload hasuraJwtPayload, User impersonator,
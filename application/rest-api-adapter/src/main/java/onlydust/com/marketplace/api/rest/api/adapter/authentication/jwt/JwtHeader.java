@@ -1,5 +1,6 @@
 package onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,6 +10,8 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class JwtHeader {
     String alg;
+    String kid;
 }
@@ -9,7 +9,7 @@ import onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper;
 
 import java.util.Optional;
 
-import static onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper.hasMore;
+import static java.util.Objects.nonNull;
 
 public interface ContributionMapper {
     static ContributionType mapContributionType(onlydust.com.marketplace.api.contract.model.ContributionType type) {
@@ -34,7 +34,8 @@ public interface ContributionMapper {
 
         return new ContributionPageResponse()
                 .contributions(contributions.getContent().stream().map(ContributionMapper::mapContributionPageItemResponse).toList())
-                .hasMore(hasMore(pageIndex, contributions.getTotalPageNumber()))
+                .hasMore(nonNull(contributions.getNextCursor()))
+                .nextCursor(contributions.getNextCursor())
                 .totalPageNumber(contributions.getTotalPageNumber())
                 .totalItemNumber(contributions.getTotalItemNumber())
                 .nextPageIndex(PaginationHelper.nextPageIndex(pageIndex, contributions.getTotalPageNumber()));
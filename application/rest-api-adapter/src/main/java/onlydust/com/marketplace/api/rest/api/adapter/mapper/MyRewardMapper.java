@@ -11,7 +11,6 @@ import onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper;
 import java.util.List;
 import java.util.Objects;
 
-import static onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper.hasMore;
 import static onlydust.com.marketplace.api.rest.api.adapter.mapper.ProjectBudgetMapper.mapCurrency;
 import static onlydust.com.marketplace.api.rest.api.adapter.mapper.ProjectRewardMapper.mapMoney;
 
@@ -20,7 +19,8 @@ public interface MyRewardMapper {
     static MyRewardsPageResponse mapMyRewardsToResponse(final int pageIndex,
                                                         final UserRewardsPageView page) {
         return new MyRewardsPageResponse()
-                .hasMore(hasMore(pageIndex, page.getRewards().getTotalPageNumber()))
+                .hasMore(Objects.nonNull(page.getRewards().getNextCursor()))
+                .nextCursor(page.getRewards().getNextCursor())
                 .totalPageNumber(page.getRewards().getTotalPageNumber())
                 .totalItemNumber(page.getRewards().getTotalItemNumber())
                 .nextPageIndex(PaginationHelper.nextPageIndex(pageIndex, page.getRewards().getTotalPageNumber()))
@@ -7,6 +7,7 @@ import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 public interface ProjectContributorsMapper {
 
@@ -28,7 +29,8 @@ public interface ProjectContributorsMapper {
         contributorPageResponse.setTotalItemNumber(page.getTotalItemNumber());
         contributorPageResponse.setContributors(page.getContent().stream()
                 .map(ProjectContributorsMapper::mapProjectContributorsLinkViewToResponse).toList());
-        contributorPageResponse.setHasMore(PaginationHelper.hasMore(pageIndex, page.getTotalPageNumber()));
+        contributorPageResponse.setHasMore(nonNull(page.getNextCursor()));
+        contributorPageResponse.setNextCursor(page.getNextCursor());
         contributorPageResponse.setNextPageIndex(PaginationHelper.nextPageIndex(pageIndex, page.getTotalPageNumber()));
         return contributorPageResponse;
     }
@@ -178,7 +178,8 @@ public interface ProjectMapper {
         projectPageResponse.setSponsors(sponsors.stream().sorted(Comparator.comparing(SponsorResponse::getName)).toList());
         projectPageResponse.setTotalPageNumber(page.getTotalPageNumber());
         projectPageResponse.setTotalItemNumber(page.getTotalItemNumber());
-        projectPageResponse.setHasMore(PaginationHelper.hasMore(pageIndex, page.getTotalPageNumber()));
+        projectPageResponse.setHasMore(nonNull(page.getNextCursor()));
+        projectPageResponse.setNextCursor(page.getNextCursor());
         projectPageResponse.setNextPageIndex(PaginationHelper.nextPageIndex(pageIndex, page.getTotalPageNumber()));
         return projectPageResponse;
     }
@@ -290,6 +291,9 @@ public interface ProjectMapper {
             if (sort.equals("CONTRIBUTOR_COUNT")) {
                 return ProjectCardView.SortBy.CONTRIBUTORS_COUNT;
             }
+            if (sort.equals("RELEVANCE")) {
+                return ProjectCardView.SortBy.RELEVANCE;
+            }
         }
         return null;
     }
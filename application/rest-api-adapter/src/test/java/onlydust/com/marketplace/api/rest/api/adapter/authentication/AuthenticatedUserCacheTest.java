@@ -0,0 +1,147 @@
+package onlydust.com.marketplace.api.rest.api.adapter.authentication;
+
+import com.github.javafaker.Faker;
+import onlydust.com.marketplace.api.domain.model.User;
+import onlydust.com.marketplace.api.domain.view.ProjectLedView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuthenticatedUserCacheTest {
+
+    private static final Faker faker = new Faker();
+    private final Date inOneHour = new Date(System.currentTimeMillis() + 3_600_000L);
+    private AuthenticatedUserCache authenticatedUserCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        authenticatedUserCache = new AuthenticatedUserCache(AuthenticatedUserCache.Config.builder().build());
+        loadCount = new AtomicInteger();
+    }
+
+    private Supplier<User> loader(User user) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return user;
+        };
+    }
+
+    @Test
+    void should_load_user_once_per_subject() {
+        // Given
+        final User user = User.builder().id(UUID.randomUUID()).githubUserId(faker.number().randomNumber()).build();
+
+        // When
+        authenticatedUserCache.get("github|" + user.getGithubUserId(), inOneHour, loader(user));
+        final User cached = authenticatedUserCache.get("github|" + user.getGithubUserId(), inOneHour, loader(user));
+
+        // Then
+        assertThat(cached).isEqualTo(user);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_cache_user_of_an_expired_token() {
+        // Given
+        final User user = User.builder().id(UUID.randomUUID()).githubUserId(faker.number().randomNumber()).build();
+        final Date oneHourAgo = new Date(System.currentTimeMillis() - 3_600_000L);
+
+        // When
+        authenticatedUserCache.get("github|" + user.getGithubUserId(), oneHourAgo, loader(user));
+        authenticatedUserCache.get("github|" + user.getGithubUserId(), oneHourAgo, loader(user));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_cache_when_disabled() {
+        // Given
+        authenticatedUserCache = new AuthenticatedUserCache(AuthenticatedUserCache.Config.builder()
+                .ttlInSeconds(0L)
+                .build());
+        final User user = User.builder().id(UUID.randomUUID()).githubUserId(faker.number().randomNumber()).build();
+
+        // When
+        authenticatedUserCache.get("github|" + user.getGithubUserId(), inOneHour, loader(user));
+        authenticatedUserCache.get("github|" + user.getGithubUserId(), inOneHour, loader(user));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_evict_user_by_id_and_by_github_id() {
+        // Given
+        final User user = User.builder().id(UUID.randomUUID()).githubUserId(faker.number().randomNumber()).build();
+        final String subject = "github|" + user.getGithubUserId();
+        authenticatedUserCache.get(subject, inOneHour, loader(user));
+
+        // When
+        authenticatedUserCache.evict(user.getId());
+        authenticatedUserCache.get(subject, inOneHour, loader(user));
+        authenticatedUserCache.evictByGithubUserId(user.getGithubUserId());
+        authenticatedUserCache.get(subject, inOneHour, loader(user));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void should_evict_leaders_of_a_project() {
+        // Given
+        final UUID projectId = UUID.randomUUID();
+        final User leader = User.builder().id(UUID.randomUUID()).githubUserId(1L)
+                .projectsLed(List.of(ProjectLedView.builder().id(projectId).build()))
+                .build();
+        final User invitedLeader = User.builder().id(UUID.randomUUID()).githubUserId(2L)
+                .pendingProjectsLed(List.of(ProjectLedView.builder().id(projectId).build()))
+                .build();
+        final User otherUser = User.builder().id(UUID.randomUUID()).githubUserId(3L).build();
+        authenticatedUserCache.get("github|1", inOneHour, loader(leader));
+        authenticatedUserCache.get("github|2", inOneHour, loader(invitedLeader));
+        authenticatedUserCache.get("github|3", inOneHour, loader(otherUser));
+
+        // When
+        authenticatedUserCache.evictProjectLeaders(projectId);
+        authenticatedUserCache.get("github|1", inOneHour, loader(leader));
+        authenticatedUserCache.get("github|2", inOneHour, loader(invitedLeader));
+        authenticatedUserCache.get("github|3", inOneHour, loader(otherUser));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(5);
+    }
+
+    @Test
+    void should_evict_again_once_the_transaction_commits() {
+        // Given
+        final User user = User.builder().id(UUID.randomUUID()).githubUserId(faker.number().randomNumber()).build();
+        final String subject = "github|" + user.getGithubUserId();
+        authenticatedUserCache.get(subject, inOneHour, loader(user));
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            authenticatedUserCache.evict(user.getId());
+            // A concurrent request re-caches the user before the transaction commits
+            authenticatedUserCache.get(subject, inOneHour, loader(user));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        authenticatedUserCache.get(subject, inOneHour, loader(user));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,79 @@
+package onlydust.com.marketplace.api.rest.api.adapter.authentication;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JwtServiceRouterTest {
+
+    private JwtService jwtServiceAuth0;
+    private JwtService jwtServiceHasura;
+    private JwtServiceRouter jwtServiceRouter;
+
+    @BeforeEach
+    void setUp() {
+        jwtServiceAuth0 = mock(JwtService.class);
+        jwtServiceHasura = mock(JwtService.class);
+        when(jwtServiceAuth0.getAuthenticationFromJwt(any(), any())).thenReturn(Optional.empty());
+        when(jwtServiceHasura.getAuthenticationFromJwt(any(), any())).thenReturn(Optional.empty());
+        jwtServiceRouter = new JwtServiceRouter(new ObjectMapper(), jwtServiceAuth0, jwtServiceHasura);
+    }
+
+    private static String token(String header) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(header.getBytes(StandardCharsets.UTF_8)) +
+               ".payload.signature";
+    }
+
+    @Test
+    void should_route_rs256_tokens_to_auth0_only() {
+        // Given
+        final String jwt = token("{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"key-1\"}");
+
+        // When
+        jwtServiceRouter.getAuthenticationFromJwt(jwt, "impersonation");
+
+        // Then
+        verify(jwtServiceAuth0).getAuthenticationFromJwt(jwt, "impersonation");
+        verify(jwtServiceHasura, never()).getAuthenticationFromJwt(any(), any());
+    }
+
+    @Test
+    void should_route_hs256_tokens_to_hasura_only() {
+        // Given
+        final String jwt = token("{\"alg\":\"HS256\",\"typ\":\"JWT\"}");
+
+        // When
+        jwtServiceRouter.getAuthenticationFromJwt(jwt, null);
+
+        // Then
+        verify(jwtServiceHasura).getAuthenticationFromJwt(jwt, null);
+        verify(jwtServiceAuth0, never()).getAuthenticationFromJwt(any(), any());
+    }
+
+    @Test
+    void should_reject_unroutable_tokens_without_verifying_them() {
+        // When
+        final var results = List.of(
+                jwtServiceRouter.getAuthenticationFromJwt(token("{\"alg\":\"none\"}"), null),
+                jwtServiceRouter.getAuthenticationFromJwt(token("{\"alg\":\"RS256\"}"), null),
+                jwtServiceRouter.getAuthenticationFromJwt(token("not-json"), null),
+                jwtServiceRouter.getAuthenticationFromJwt("not-a-jwt", null));
+
+        // Then
+        assertThat(results).allMatch(Optional::isEmpty);
+        verify(jwtServiceAuth0, never()).getAuthenticationFromJwt(any(), any());
+        verify(jwtServiceHasura, never()).getAuthenticationFromJwt(any(), any());
+    }
+}
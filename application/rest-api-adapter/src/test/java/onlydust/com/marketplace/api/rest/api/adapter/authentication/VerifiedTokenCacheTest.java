@@ -0,0 +1,60 @@
+package onlydust.com.marketplace.api.rest.api.adapter.authentication;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VerifiedTokenCacheTest {
+
+    private VerifiedTokenCache<Date> verifiedTokenCache;
+    private AtomicInteger verifyCount;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache<>(VerifiedTokenCache.Config.builder().build());
+        verifyCount = new AtomicInteger();
+    }
+
+    private Function<String, Date> verifier(Date expiresAt) {
+        return token -> {
+            verifyCount.incrementAndGet();
+            return expiresAt;
+        };
+    }
+
+    @Test
+    void should_verify_token_once_until_it_expires() {
+        // Given
+        final Date inOneHour = new Date(System.currentTimeMillis() + 3_600_000L);
+
+        // When
+        verifiedTokenCache.get("token", verifier(inOneHour), Function.identity());
+        final Date cached = verifiedTokenCache.get("token", verifier(inOneHour), Function.identity());
+        verifiedTokenCache.get("other-token", verifier(inOneHour), Function.identity());
+
+        // Then
+        assertThat(cached).isEqualTo(inOneHour);
+        assertThat(verifyCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_cache_expired_or_invalid_tokens() {
+        // Given
+        final Date oneHourAgo = new Date(System.currentTimeMillis() - 3_600_000L);
+
+        // When
+        verifiedTokenCache.get("expired", verifier(oneHourAgo), Function.identity());
+        verifiedTokenCache.get("expired", verifier(oneHourAgo), Function.identity());
+        final Date invalid = verifiedTokenCache.get("invalid", verifier(null), Function.identity());
+        verifiedTokenCache.get("invalid", verifier(null), Function.identity());
+
+        // Then
+        assertThat(invalid).isNull();
+        assertThat(verifyCount.get()).isEqualTo(4);
+    }
+}
@@ -1,10 +1,13 @@
 package onlydust.com.marketplace.api.rest.api.adapter.authentication.auth0;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
 import onlydust.com.marketplace.api.domain.model.User;
 import onlydust.com.marketplace.api.domain.model.UserRole;
 import onlydust.com.marketplace.api.domain.port.input.UserFacadePort;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.AuthenticatedUserCache;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.VerifiedTokenCache;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -18,6 +21,8 @@ class Auth0JwtServiceTest {
 
     private static final Long ONE_CENTURY = 3153600000L;
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JwksKeyStore jwksKeyStore = new JwksKeyStore("https://onlydust-hackathon.eu.auth0.com/",
+            JwksKeyStore.Config.builder().build(), new SimpleMeterRegistry());
 
     @Test
     void should_authenticate_from_a_valid_jwt() {
@@ -44,8 +49,10 @@ class Auth0JwtServiceTest {
         final Auth0JwtVerifier jwtVerifier = new Auth0JwtVerifier(Auth0Properties.builder()
                 .jwksUrl("https://onlydust-hackathon.eu.auth0.com/")
                 .expiresAtLeeway(ONE_CENTURY)
-                .build());
-        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort);
+                .build(), jwksKeyStore);
+        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort,
+                new AuthenticatedUserCache(AuthenticatedUserCache.Config.builder().build()),
+                new VerifiedTokenCache<>(VerifiedTokenCache.Config.builder().build()));
 
         // When
         final var authentication = auth0JwtService.getAuthenticationFromJwt(jwt, null).orElseThrow();
@@ -86,8 +93,10 @@ class Auth0JwtServiceTest {
         final Auth0JwtVerifier jwtVerifier = new Auth0JwtVerifier(Auth0Properties.builder()
                 .jwksUrl("https://onlydust-hackathon.eu.auth0.com/")
                 .expiresAtLeeway(ONE_CENTURY)
-                .build());
-        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort);
+                .build(), jwksKeyStore);
+        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort,
+                new AuthenticatedUserCache(AuthenticatedUserCache.Config.builder().build()),
+                new VerifiedTokenCache<>(VerifiedTokenCache.Config.builder().build()));
         final var authentication = auth0JwtService.getAuthenticationFromJwt(jwt, null);
 
         assertThat(authentication).isEmpty();
@@ -116,7 +125,7 @@ class Auth0JwtServiceTest {
         final Auth0JwtVerifier jwtVerifier = new Auth0JwtVerifier(Auth0Properties.builder()
                 .jwksUrl("https://onlydust-hackathon.eu.auth0.com/")
                 .expiresAtLeeway(ONE_CENTURY)
-                .build());
+                .build(), jwksKeyStore);
 
         final String impersonationHeader = """
                 {
@@ -139,7 +148,9 @@ class Auth0JwtServiceTest {
                 .roles(List.of(UserRole.USER))
                 .build());
 
-        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort);
+        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort,
+                new AuthenticatedUserCache(AuthenticatedUserCache.Config.builder().build()),
+                new VerifiedTokenCache<>(VerifiedTokenCache.Config.builder().build()));
 
         // When
         final var authentication = auth0JwtService.getAuthenticationFromJwt(jwt, impersonationHeader).orElseThrow();
@@ -183,7 +194,7 @@ class Auth0JwtServiceTest {
         final Auth0JwtVerifier jwtVerifier = new Auth0JwtVerifier(Auth0Properties.builder()
                 .jwksUrl("https://onlydust-hackathon.eu.auth0.com/")
                 .expiresAtLeeway(ONE_CENTURY)
-                .build());
+                .build(), jwksKeyStore);
 
         final String impersonationHeader = """
                 {
@@ -206,7 +217,9 @@ class Auth0JwtServiceTest {
                 .roles(List.of(UserRole.USER))
                 .build());
 
-        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort);
+        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort,
+                new AuthenticatedUserCache(AuthenticatedUserCache.Config.builder().build()),
+                new VerifiedTokenCache<>(VerifiedTokenCache.Config.builder().build()));
 
         // When
         final var authentication = auth0JwtService.getAuthenticationFromJwt(jwt, impersonationHeader);
@@ -0,0 +1,110 @@
+package onlydust.com.marketplace.api.rest.api.adapter.authentication.auth0;
+
+import com.auth0.jwk.Jwk;
+import com.auth0.jwk.SigningKeyNotFoundException;
+import com.auth0.jwk.UrlJwkProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class JwksKeyStoreTest {
+
+    private final UrlJwkProvider jwkProvider = mock(UrlJwkProvider.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JwksKeyStore jwksKeyStore;
+
+    @AfterEach
+    void tearDown() {
+        if (jwksKeyStore != null) {
+            jwksKeyStore.close();
+        }
+    }
+
+    @Test
+    void should_serve_preloaded_keys_without_fetching_them_again() throws Exception {
+        // Given
+        final RSAPublicKey key = rsaPublicKey();
+        final List<Jwk> jwks = List.of(jwk("kid-1", key));
+        when(jwkProvider.getAll()).thenReturn(jwks);
+        jwksKeyStore = new JwksKeyStore(jwkProvider, JwksKeyStore.Config.builder().build(), meterRegistry);
+
+        // When
+        final var first = jwksKeyStore.getPublicKeyById("kid-1");
+        final var second = jwksKeyStore.getPublicKeyById("kid-1");
+
+        // Then
+        assertThat(first).isEqualTo(key);
+        assertThat(second).isEqualTo(key);
+        verify(jwkProvider, times(1)).getAll();
+        assertThat(meterRegistry.get("auth0.jwks.lookups").tag("result", "hit").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth0.jwks.fetch").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_fetch_rotated_keys_at_most_once_per_interval() throws Exception {
+        // Given
+        final RSAPublicKey rotatedKey = rsaPublicKey();
+        final List<Jwk> jwks = List.of(jwk("kid-1", rsaPublicKey()));
+        final List<Jwk> rotatedJwks = List.of(jwk("kid-2", rotatedKey));
+        when(jwkProvider.getAll()).thenReturn(jwks, rotatedJwks);
+        jwksKeyStore = new JwksKeyStore(jwkProvider, JwksKeyStore.Config.builder().build(), meterRegistry);
+
+        // When
+        final var rotated = jwksKeyStore.getPublicKeyById("kid-2");
+        final var unknown = jwksKeyStore.getPublicKeyById("kid-3");
+
+        // Then
+        assertThat(rotated).isEqualTo(rotatedKey);
+        assertThat(unknown).isNull();
+        verify(jwkProvider, times(2)).getAll();
+        assertThat(meterRegistry.get("auth0.jwks.lookups").tag("result", "miss").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void should_keep_serving_known_keys_when_a_refresh_fails() throws Exception {
+        // Given
+        final RSAPublicKey key = rsaPublicKey();
+        final List<Jwk> jwks = List.of(jwk("kid-1", key));
+        when(jwkProvider.getAll()).thenReturn(jwks)
+                .thenThrow(new SigningKeyNotFoundException("Cannot obtain jwks from url", null));
+        jwksKeyStore = new JwksKeyStore(jwkProvider, JwksKeyStore.Config.builder().build(), meterRegistry);
+
+        // When
+        jwksKeyStore.getPublicKeyById("kid-2");
+        final var known = jwksKeyStore.getPublicKeyById("kid-1");
+
+        // Then
+        assertThat(known).isEqualTo(key);
+    }
+
+    @Test
+    void should_resolve_the_jwks_endpoint_with_or_without_a_trailing_slash() {
+        // Then
+        assertThat(JwksKeyStore.jwksEndpoint("https://onlydust.eu.auth0.com/").toString())
+                .isEqualTo("https://onlydust.eu.auth0.com/.well-known/jwks.json");
+        assertThat(JwksKeyStore.jwksEndpoint("https://onlydust.eu.auth0.com").toString())
+                .isEqualTo("https://onlydust.eu.auth0.com/.well-known/jwks.json");
+        assertThat(JwksKeyStore.jwksEndpoint("https://onlydust.eu.auth0.com/.well-known/jwks.json").toString())
+                .isEqualTo("https://onlydust.eu.auth0.com/.well-known/jwks.json");
+    }
+
+    private static Jwk jwk(final String keyId, final RSAPublicKey key) throws Exception {
+        final Jwk jwk = mock(Jwk.class);
+        when(jwk.getId()).thenReturn(keyId);
+        when(jwk.getPublicKey()).thenReturn(key);
+        return jwk;
+    }
+
+    private static RSAPublicKey rsaPublicKey() throws Exception {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return (RSAPublicKey) generator.generateKeyPair().getPublic();
+    }
+}
@@ -8,6 +8,7 @@ import onlydust.com.marketplace.api.domain.model.User;
 import onlydust.com.marketplace.api.domain.model.UserRole;
 import onlydust.com.marketplace.api.domain.port.input.UserFacadePort;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.OnlyDustAuthentication;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.VerifiedTokenCache;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.JwtSecret;
 import org.junit.jupiter.api.Test;
 
@@ -60,7 +61,8 @@ public class HasuraJwtServiceTest {
 
         final JwtSecret jwtSecret = JwtSecret.builder().key(faker.cat().name()).issuer(faker.cat().breed()).type(
                 "HS256").build();
-        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort);
+        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort,
+                new VerifiedTokenCache<>(VerifiedTokenCache.Config.builder().build()));
         final HasuraJwtPayload hasuraJwtPayload =
                 HasuraJwtPayload.builder()
                         .iss(jwtSecret.getIssuer())
@@ -107,7 +109,8 @@ public class HasuraJwtServiceTest {
         final UserFacadePort userFacadePort = mock(UserFacadePort.class);
         final JwtSecret jwtSecret = JwtSecret.builder().key(faker.cat().name()).issuer(faker.cat().breed()).type(
                 "HS256").build();
-        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort);
+        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort,
+                new VerifiedTokenCache<>(VerifiedTokenCache.Config.builder().build()));
 
         // When
         final Optional<OnlyDustAuthentication> authentication =
@@ -125,7 +128,8 @@ public class HasuraJwtServiceTest {
         final User user = mockUserFacadePort(userFacadePort, false);
         final JwtSecret jwtSecret = JwtSecret.builder().key(faker.cat().name()).issuer(faker.cat().breed()).type(
                 "HS256").build();
-        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort);
+        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort,
+                new VerifiedTokenCache<>(VerifiedTokenCache.Config.builder().build()));
         final String jwtToken =
                 faker.cat().name() + "." + faker.pokemon().name() + "." + faker.pokemon().name();
 
@@ -144,7 +148,8 @@ public class HasuraJwtServiceTest {
         final User user = mockUserFacadePort(userFacadePort, false);
         final JwtSecret jwtSecret = JwtSecret.builder().key(faker.cat().name()).issuer(faker.cat().breed()).type(
                 "HS256").build();
-        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort);
+        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort,
+                new VerifiedTokenCache<>(VerifiedTokenCache.Config.builder().build()));
         final String jwtToken = JwtHelper.generateValidJwtFor(jwtSecret, faker.pokemon().name());
 
         // When
@@ -162,7 +167,8 @@ public class HasuraJwtServiceTest {
         final User user = mockUserFacadePort(userFacadePort, true);
         final JwtSecret jwtSecret = JwtSecret.builder().key(faker.cat().name()).issuer(faker.cat().breed()).type(
                 "HS256").build();
-        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort);
+        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort,
+                new VerifiedTokenCache<>(VerifiedTokenCache.Config.builder().build()));
         final HasuraJwtPayload hasuraJwtPayload =
                 HasuraJwtPayload.builder()
                         .iss(jwtSecret.getIssuer())
@@ -246,7 +252,8 @@ public class HasuraJwtServiceTest {
         final User user = mockUserFacadePort(userFacadePort, false);
         final JwtSecret jwtSecret = JwtSecret.builder().key(faker.cat().name()).issuer(faker.cat().breed()).type(
                 "HS256").build();
-        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort);
+        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort,
+                new VerifiedTokenCache<>(VerifiedTokenCache.Config.builder().build()));
         final HasuraJwtPayload hasuraJwtPayload =
                 HasuraJwtPayload.builder()
                         .iss(jwtSecret.getIssuer())
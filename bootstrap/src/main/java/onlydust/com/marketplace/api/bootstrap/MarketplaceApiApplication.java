@@ -1,6 +1,7 @@
 package onlydust.com.marketplace.api.bootstrap;
 
 import com.onlydust.marketplace.api.cron.JobScheduler;
+import com.onlydust.marketplace.api.cron.OutboxEventListener;
 import onlydust.com.marketplace.api.postgres.adapter.configuration.PostgresConfiguration;
 import onlydust.com.marketplace.api.rest.api.adapter.AppRestApi;
 import onlydust.com.marketplace.api.rest.api.adapter.VersionRestApi;
@@ -22,7 +23,7 @@ import java.util.TimeZone;
 @EnableConfigurationProperties
 @EnableScheduling
 @EnableRetry
-@Import({PostgresConfiguration.class, JobScheduler.class})
+@Import({PostgresConfiguration.class, JobScheduler.class, OutboxEventListener.class})
 public class MarketplaceApiApplication {
 
     public static void main(String[] args) {
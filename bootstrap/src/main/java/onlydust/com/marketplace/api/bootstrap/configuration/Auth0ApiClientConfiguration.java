@@ -1,10 +1,12 @@
 package onlydust.com.marketplace.api.bootstrap.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import onlydust.com.marketplace.api.auth0.api.client.adapter.Auth0ApiClientAdapter;
 import onlydust.com.marketplace.api.auth0.api.client.adapter.Auth0ApiClientProperties;
 import onlydust.com.marketplace.api.auth0.api.client.adapter.Auth0ApiHttpClient;
 import onlydust.com.marketplace.api.auth0.api.client.adapter.authentication.Auth0ApiAuthenticator;
 import onlydust.com.marketplace.api.auth0.api.client.adapter.deprecated.RetroCompatibleGithubAuthenticationAdapter;
+import onlydust.com.marketplace.api.bootstrap.http.OutboundHttpClients;
 import onlydust.com.marketplace.api.domain.port.output.GithubAuthenticationPort;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.AuthenticationService;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -20,14 +22,19 @@ public class Auth0ApiClientConfiguration {
     }
 
     @Bean
-    public Auth0ApiAuthenticator auth0ApiAuthenticator(final Auth0ApiClientProperties properties) {
-        return new Auth0ApiAuthenticator(properties);
+    public Auth0ApiAuthenticator auth0ApiAuthenticator(final ObjectMapper objectMapper,
+                                                       final OutboundHttpClients outboundHttpClients,
+                                                       final Auth0ApiClientProperties properties) {
+        return new Auth0ApiAuthenticator(objectMapper, outboundHttpClients.forTarget("auth0"), properties);
     }
 
     @Bean
-    public Auth0ApiHttpClient auth0ApiHttpClient(final Auth0ApiClientProperties properties,
+    public Auth0ApiHttpClient auth0ApiHttpClient(final ObjectMapper objectMapper,
+                                                 final OutboundHttpClients outboundHttpClients,
+                                                 final Auth0ApiClientProperties properties,
                                                  final Auth0ApiAuthenticator auth0ApiAuthenticator) {
-        return new Auth0ApiHttpClient(properties, auth0ApiAuthenticator);
+        return new Auth0ApiHttpClient(objectMapper, outboundHttpClients.forTarget("auth0"), properties,
+                auth0ApiAuthenticator);
     }
 
     @Bean
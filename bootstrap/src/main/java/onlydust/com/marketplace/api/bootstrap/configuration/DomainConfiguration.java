@@ -1,9 +1,12 @@
 package onlydust.com.marketplace.api.bootstrap.configuration;
 
 import onlydust.com.marketplace.api.domain.gateway.DateProvider;
+import onlydust.com.marketplace.api.domain.job.ContributionChangesConsumerJob;
 import onlydust.com.marketplace.api.domain.job.IndexerApiOutboxConsumer;
 import onlydust.com.marketplace.api.domain.job.OutboxConsumer;
+import onlydust.com.marketplace.api.domain.job.OutboxArchivingJob;
 import onlydust.com.marketplace.api.domain.job.OutboxConsumerJob;
+import onlydust.com.marketplace.api.domain.job.ProjectContributorStatsRefreshJob;
 import onlydust.com.marketplace.api.domain.job.WebhookNotificationOutboxConsumer;
 import onlydust.com.marketplace.api.domain.observer.ContributionObserver;
 import onlydust.com.marketplace.api.domain.observer.ProjectObserver;
@@ -15,6 +18,7 @@ import onlydust.com.marketplace.api.postgres.adapter.PostgresGithubAdapter;
 import onlydust.com.marketplace.api.postgres.adapter.PostgresProjectAdapter;
 import onlydust.com.marketplace.api.postgres.adapter.PostgresUserAdapter;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.hasura.HasuraAuthentication;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.retry.annotation.EnableRetry;
@@ -34,8 +38,9 @@ public class DomainConfiguration {
 
     @Bean
     public ContributionFacadePort contributionFacadePort(final ContributionStoragePort contributionStoragePort,
-                                                         final PermissionService permissionService) {
-        return new ContributionService(contributionStoragePort, permissionService);
+                                                         final PermissionService permissionService,
+                                                         final ContributionObserverPort contributionObserverPort) {
+        return new ContributionService(contributionStoragePort, permissionService, contributionObserverPort);
     }
 
     @Bean
@@ -61,10 +66,11 @@ public class DomainConfiguration {
     public GithubInstallationFacadePort githubInstallationFacadePort(
             final PostgresGithubAdapter postgresGithubAdapter,
             final GithubSearchPort githubSearchPort,
+            final GithubOrganizationCachePort githubOrganizationCachePort,
             final RetriedGithubInstallationFacade.Config config
     ) {
-        return new RetriedGithubInstallationFacade(new GithubAccountService(postgresGithubAdapter, githubSearchPort),
-                config);
+        return new RetriedGithubInstallationFacade(new GithubAccountService(postgresGithubAdapter, githubSearchPort,
+                githubOrganizationCachePort), config);
     }
 
     @Bean
@@ -112,20 +118,83 @@ public class DomainConfiguration {
 
     @Bean
     public GithubAccountService githubAccountService(final GithubSearchPort githubSearchPort,
-                                                     final GithubStoragePort githubStoragePort) {
-        return new GithubAccountService(githubStoragePort, githubSearchPort);
+                                                     final GithubStoragePort githubStoragePort,
+                                                     final GithubOrganizationCachePort githubOrganizationCachePort) {
+        return new GithubAccountService(githubStoragePort, githubSearchPort, githubOrganizationCachePort);
     }
 
     @Bean
     public OutboxConsumerJob notificationOutboxJob(final OutboxPort notificationOutbox,
-                                                   final OutboxConsumer webhookNotificationOutboxConsumer) {
-        return new OutboxConsumerJob(notificationOutbox, webhookNotificationOutboxConsumer);
+                                                   final OutboxConsumer webhookNotificationOutboxConsumer,
+                                                   final OutboxConsumerJob.Config outboxConsumerJobConfig) {
+        return new OutboxConsumerJob(notificationOutbox, webhookNotificationOutboxConsumer, outboxConsumerJobConfig);
     }
 
     @Bean
     public OutboxConsumerJob indexerOutboxJob(final OutboxPort indexerOutbox,
-                                              final OutboxConsumer indexerApiOutboxConsumer) {
-        return new OutboxConsumerJob(indexerOutbox, indexerApiOutboxConsumer);
+                                              final OutboxConsumer indexerApiOutboxConsumer,
+                                              final OutboxConsumerJob.Config outboxConsumerJobConfig) {
+        return new OutboxConsumerJob(indexerOutbox, indexerApiOutboxConsumer, outboxConsumerJobConfig);
+    }
+
+    @Bean
+    @ConfigurationProperties("application.cron.outbox-consumer")
+    public OutboxConsumerJob.Config outboxConsumerJobConfig() {
+        return new OutboxConsumerJob.Config();
+    }
+
+    @Bean
+    public ContributionChangesConsumerJob contributionChangesConsumerJob(final OutboxPort contributionChangeOutbox,
+                                                                         final ContributionStoragePort contributionStoragePort,
+                                                                         final ProjectStoragePort projectStoragePort,
+                                                                         final ProjectCachePort projectCachePort,
+                                                                         final ContributionChangesConsumerJob.Config contributionChangesConsumerJobConfig) {
+        return new ContributionChangesConsumerJob(contributionChangeOutbox, contributionStoragePort, projectStoragePort,
+                projectCachePort, contributionChangesConsumerJobConfig);
+    }
+
+    @Bean
+    @ConfigurationProperties("application.cron.contribution-changes-consumer")
+    public ContributionChangesConsumerJob.Config contributionChangesConsumerJobConfig() {
+        return new ContributionChangesConsumerJob.Config();
+    }
+
+    @Bean
+    public OutboxArchivingJob notificationOutboxArchivingJob(final OutboxPort notificationOutbox,
+                                                             final OutboxArchivingJob.Config outboxArchivingJobConfig) {
+        return new OutboxArchivingJob(notificationOutbox, outboxArchivingJobConfig);
+    }
+
+    @Bean
+    public OutboxArchivingJob indexerOutboxArchivingJob(final OutboxPort indexerOutbox,
+                                                        final OutboxArchivingJob.Config outboxArchivingJobConfig) {
+        return new OutboxArchivingJob(indexerOutbox, outboxArchivingJobConfig);
+    }
+
+    @Bean
+    public OutboxArchivingJob contributionChangeOutboxArchivingJob(final OutboxPort contributionChangeOutbox,
+                                                                   final OutboxArchivingJob.Config outboxArchivingJobConfig) {
+        return new OutboxArchivingJob(contributionChangeOutbox, outboxArchivingJobConfig);
+    }
+
+    @Bean
+    @ConfigurationProperties("application.cron.outbox-archiving")
+    public OutboxArchivingJob.Config outboxArchivingJobConfig() {
+        return new OutboxArchivingJob.Config();
+    }
+
+    @Bean
+    public ProjectContributorStatsRefreshJob projectContributorStatsRefreshJob(final ContributionStoragePort contributionStoragePort,
+                                                                               final ProjectCachePort projectCachePort,
+                                                                               final ProjectContributorStatsRefreshJob.Config projectContributorStatsRefreshJobConfig) {
+        return new ProjectContributorStatsRefreshJob(contributionStoragePort, projectCachePort,
+                projectContributorStatsRefreshJobConfig);
+    }
+
+    @Bean
+    @ConfigurationProperties("application.cron.project-contributor-stats-refresh")
+    public ProjectContributorStatsRefreshJob.Config projectContributorStatsRefreshJobConfig() {
+        return new ProjectContributorStatsRefreshJob.Config();
     }
 
     @Bean
@@ -147,19 +216,25 @@ public class DomainConfiguration {
     @Bean
     public ProjectObserverPort projectObserverPort(final OutboxPort notificationOutbox,
                                                    final ContributionStoragePort contributionStoragePort,
-                                                   final OutboxPort indexerOutbox) {
-        return new ProjectObserver(notificationOutbox, contributionStoragePort, indexerOutbox);
+                                                   final OutboxPort contributionChangeOutbox,
+                                                   final OutboxPort indexerOutbox,
+                                                   final UserCachePort userCachePort,
+                                                   final ProjectCachePort projectCachePort) {
+        return new ProjectObserver(notificationOutbox, contributionStoragePort, contributionChangeOutbox, indexerOutbox,
+                userCachePort, projectCachePort);
     }
 
 
     @Bean
-    public ContributionObserverPort contributionObserverPort(final ContributionStoragePort contributionStoragePort) {
-        return new ContributionObserver(contributionStoragePort);
+    public ContributionObserverPort contributionObserverPort(final OutboxPort contributionChangeOutbox) {
+        return new ContributionObserver(contributionChangeOutbox);
     }
 
     @Bean
-    public UserObserverPort userObserverPort(final OutboxPort indexerOutbox) {
-        return new UserObserver(indexerOutbox);
+    public UserObserverPort userObserverPort(final OutboxPort indexerOutbox,
+                                             final UserCachePort userCachePort,
+                                             final RegisteredUserIndexPort registeredUserIndexPort) {
+        return new UserObserver(indexerOutbox, userCachePort, registeredUserIndexPort);
     }
 
 }
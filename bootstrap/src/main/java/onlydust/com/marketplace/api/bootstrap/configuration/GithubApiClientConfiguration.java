@@ -1,12 +1,14 @@
 package onlydust.com.marketplace.api.bootstrap.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import onlydust.com.marketplace.api.bootstrap.http.OutboundHttpClients;
 import onlydust.com.marketplace.api.domain.port.output.GithubAuthenticationPort;
 import onlydust.com.marketplace.api.domain.port.output.GithubSearchPort;
 import onlydust.com.marketplace.api.domain.service.RetriedGithubInstallationFacade;
+import onlydust.com.marketplace.api.github_api.GithubEtagCache;
 import onlydust.com.marketplace.api.github_api.GithubHttpClient;
+import onlydust.com.marketplace.api.github_api.GithubRateLimiter;
 import onlydust.com.marketplace.api.github_api.adapters.GithubDustyBotAdapter;
 import onlydust.com.marketplace.api.github_api.adapters.GithubSearchApiAdapter;
 import onlydust.com.marketplace.api.github_api.properties.GithubPaginationProperties;
@@ -14,8 +16,6 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.net.http.HttpClient;
-
 @Configuration
 public class GithubApiClientConfiguration {
 
@@ -27,35 +27,56 @@ public class GithubApiClientConfiguration {
 
 
     @Bean
-    public ObjectMapper objectMapper() {
-        final var objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        return objectMapper;
+    @ConfigurationProperties("infrastructure.github")
+    GithubHttpClient.Config githubConfig() {
+        return new GithubHttpClient.Config();
     }
 
     @Bean
-    public HttpClient httpClient() {
-        return HttpClient.newHttpClient();
+    public GithubSearchPort githubSearchPort(final GithubHttpClient githubHttpClient,
+                                             final GithubAuthenticationPort githubAuthenticationPort,
+                                             final GithubEtagCache githubEtagCache,
+                                             final GithubSearchApiAdapter.Config githubSearchConfig) {
+        return new GithubSearchApiAdapter(githubHttpClient, GithubPaginationProperties.builder().build(),
+                githubAuthenticationPort, githubEtagCache, githubSearchConfig);
     }
 
     @Bean
-    @ConfigurationProperties("infrastructure.github")
-    GithubHttpClient.Config githubConfig() {
-        return new GithubHttpClient.Config();
+    @ConfigurationProperties("infrastructure.github.search")
+    public GithubSearchApiAdapter.Config githubSearchConfig() {
+        return new GithubSearchApiAdapter.Config();
     }
 
     @Bean
-    public GithubSearchPort githubSearchPort(final GithubHttpClient githubHttpClient,
-                                             final GithubAuthenticationPort githubAuthenticationPort) {
-        return new GithubSearchApiAdapter(githubHttpClient, GithubPaginationProperties.builder().build(),
-                githubAuthenticationPort);
+    public GithubEtagCache githubEtagCache(final GithubEtagCache.Config githubEtagCacheConfig) {
+        return new GithubEtagCache(githubEtagCacheConfig);
+    }
+
+    @Bean
+    @ConfigurationProperties("infrastructure.github.etag-cache")
+    public GithubEtagCache.Config githubEtagCacheConfig() {
+        return new GithubEtagCache.Config();
+    }
+
+    @Bean
+    public GithubHttpClient githubHttpClient(final ObjectMapper objectMapper,
+                                             final OutboundHttpClients outboundHttpClients,
+                                             final GithubHttpClient.Config githubConfig,
+                                             final GithubRateLimiter githubRateLimiter) {
+        return new GithubHttpClient(objectMapper, outboundHttpClients.forTarget("github"), githubConfig,
+                githubRateLimiter);
+    }
+
+    @Bean
+    public GithubRateLimiter githubRateLimiter(final GithubRateLimiter.Config githubRateLimiterConfig,
+                                               final MeterRegistry meterRegistry) {
+        return new GithubRateLimiter(githubRateLimiterConfig, meterRegistry);
     }
 
     @Bean
-    public GithubHttpClient githubHttpClient(final ObjectMapper objectMapper, final HttpClient httpClient,
-                                             final GithubHttpClient.Config githubConfig) {
-        return new GithubHttpClient(objectMapper, httpClient, githubConfig);
+    @ConfigurationProperties("infrastructure.github.rate-limiter")
+    public GithubRateLimiter.Config githubRateLimiterConfig() {
+        return new GithubRateLimiter.Config();
     }
 
     @Bean
@@ -65,9 +86,12 @@ public class GithubApiClientConfiguration {
     }
 
     @Bean
-    public GithubHttpClient dustyBotClient(final ObjectMapper objectMapper, final HttpClient httpClient,
-                                           final GithubHttpClient.Config githubDustyBotConfig) {
-        return new GithubHttpClient(objectMapper, httpClient, githubDustyBotConfig);
+    public GithubHttpClient dustyBotClient(final ObjectMapper objectMapper,
+                                           final OutboundHttpClients outboundHttpClients,
+                                           final GithubHttpClient.Config githubDustyBotConfig,
+                                           final GithubRateLimiter githubRateLimiter) {
+        return new GithubHttpClient(objectMapper, outboundHttpClients.forTarget("github"), githubDustyBotConfig,
+                githubRateLimiter);
     }
 
     @Bean
@@ -0,0 +1,34 @@
+package onlydust.com.marketplace.api.bootstrap.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import onlydust.com.marketplace.api.bootstrap.http.OutboundHttpClients;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HttpClientConfiguration {
+
+    @Bean
+    public ObjectMapper objectMapper() {
+        final var objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return objectMapper;
+    }
+
+    @Bean
+    @ConfigurationProperties("infrastructure.http-clients")
+    public OutboundHttpClients.Properties outboundHttpClientsProperties() {
+        return new OutboundHttpClients.Properties();
+    }
+
+    @Bean
+    public OutboundHttpClients outboundHttpClients(final OutboundHttpClients.Properties outboundHttpClientsProperties,
+                                                   final MeterRegistry meterRegistry) {
+        return new OutboundHttpClients(outboundHttpClientsProperties, meterRegistry);
+    }
+}
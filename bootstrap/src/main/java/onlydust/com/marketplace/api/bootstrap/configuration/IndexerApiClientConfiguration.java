@@ -1,5 +1,7 @@
 package onlydust.com.marketplace.api.bootstrap.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import onlydust.com.marketplace.api.bootstrap.http.OutboundHttpClients;
 import onlydust.com.marketplace.api.domain.port.output.IndexerPort;
 import onlydust.com.marketplace.api.indexer.api.client.adapter.IndexerApiClientAdapter;
 import onlydust.com.marketplace.api.indexer.api.client.adapter.IndexerApiHttpClient;
@@ -17,12 +19,22 @@ public class IndexerApiClientConfiguration {
     }
 
     @Bean
-    public IndexerApiHttpClient indexerApiHttpClient(final IndexerApiHttpClient.Properties indexerApiHttpClientProperties) {
-        return new IndexerApiHttpClient(indexerApiHttpClientProperties);
+    public IndexerApiHttpClient indexerApiHttpClient(final ObjectMapper objectMapper,
+                                                     final OutboundHttpClients outboundHttpClients,
+                                                     final IndexerApiHttpClient.Properties indexerApiHttpClientProperties) {
+        return new IndexerApiHttpClient(objectMapper, outboundHttpClients.forTarget("indexer"),
+                indexerApiHttpClientProperties);
     }
 
     @Bean
-    public IndexerPort indexerPort(final IndexerApiHttpClient indexerApiHttpClient) {
-        return new IndexerApiClientAdapter(indexerApiHttpClient);
+    public IndexerPort indexerPort(final IndexerApiHttpClient indexerApiHttpClient,
+                                   final IndexerApiClientAdapter.Config indexerApiClientAdapterConfig) {
+        return new IndexerApiClientAdapter(indexerApiHttpClient, indexerApiClientAdapterConfig);
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "infrastructure.indexer.api")
+    public IndexerApiClientAdapter.Config indexerApiClientAdapterConfig() {
+        return new IndexerApiClientAdapter.Config();
     }
 }
@@ -1,14 +1,13 @@
 package onlydust.com.marketplace.api.bootstrap.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import onlydust.com.marketplace.api.bootstrap.http.OutboundHttpClients;
 import onlydust.com.marketplace.api.linear.LinearGraphqlClient;
 import onlydust.com.marketplace.api.linear.adapters.LinearTrackingIssueAdapter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.net.http.HttpClient;
-
 @Configuration
 public class LinearConfiguration {
     @Bean
@@ -18,8 +17,10 @@ public class LinearConfiguration {
     }
 
     @Bean
-    public LinearGraphqlClient linearGraphqlClient(final LinearGraphqlClient.Config config) {
-        return new LinearGraphqlClient(new ObjectMapper(), HttpClient.newHttpClient(), config);
+    public LinearGraphqlClient linearGraphqlClient(final ObjectMapper objectMapper,
+                                                   final OutboundHttpClients outboundHttpClients,
+                                                   final LinearGraphqlClient.Config config) {
+        return new LinearGraphqlClient(objectMapper, outboundHttpClients.forTarget("linear"), config);
     }
 
     @Bean
@@ -1,5 +1,7 @@
 package onlydust.com.marketplace.api.bootstrap.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import onlydust.com.marketplace.api.bootstrap.http.OutboundHttpClients;
 import onlydust.com.marketplace.api.domain.port.output.RewardServicePort;
 import onlydust.com.marketplace.api.od.rust.api.client.adapter.OdRustApiClientAdapter;
 import onlydust.com.marketplace.api.od.rust.api.client.adapter.OdRustApiHttpClient;
@@ -18,8 +20,11 @@ public class OdRustApiClientConfiguration {
     }
 
     @Bean
-    public OdRustApiHttpClient odRustApiHttpClient(final OdRustApiHttpClient.Properties odRustApiHttpClientProperties) {
-        return new OdRustApiHttpClient(odRustApiHttpClientProperties);
+    public OdRustApiHttpClient odRustApiHttpClient(final ObjectMapper objectMapper,
+                                                   final OutboundHttpClients outboundHttpClients,
+                                                   final OdRustApiHttpClient.Properties odRustApiHttpClientProperties) {
+        return new OdRustApiHttpClient(objectMapper, outboundHttpClients.forTarget("od-rust-api"),
+                odRustApiHttpClientProperties);
     }
 
     @Bean
@@ -2,6 +2,7 @@ package onlydust.com.marketplace.api.bootstrap.configuration;
 
 import com.auth0.jwt.interfaces.JWTVerifier;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Data;
 import onlydust.com.marketplace.api.domain.port.input.UserFacadePort;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.*;
@@ -10,6 +11,7 @@ import onlydust.com.marketplace.api.rest.api.adapter.authentication.api_key.ApiK
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.auth0.Auth0JwtService;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.auth0.Auth0JwtVerifier;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.auth0.Auth0Properties;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.auth0.JwksKeyStore;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.hasura.HasuraJwtService;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.JwtSecret;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -34,26 +36,44 @@ public class WebSecurityConfiguration {
     }
 
     @Bean
-    public JWTVerifier jwtVerifier(final Auth0Properties auth0Properties) {
-        return new Auth0JwtVerifier(auth0Properties);
+    public JWTVerifier jwtVerifier(final Auth0Properties auth0Properties, final JwksKeyStore jwksKeyStore) {
+        return new Auth0JwtVerifier(auth0Properties, jwksKeyStore);
+    }
+
+    @Bean
+    public JwksKeyStore jwksKeyStore(final Auth0Properties auth0Properties,
+                                     final JwksKeyStore.Config jwksKeyStoreConfig,
+                                     final MeterRegistry meterRegistry) {
+        return new JwksKeyStore(auth0Properties.getJwksUrl(), jwksKeyStoreConfig, meterRegistry);
     }
 
     @Bean
     public JwtService jwtServiceAuth0(final ObjectMapper objectMapper, final JWTVerifier jwtVerifier,
-                                      final UserFacadePort userFacadePort) {
-        return new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort);
+                                      final UserFacadePort userFacadePort,
+                                      final AuthenticatedUserCache authenticatedUserCache,
+                                      final VerifiedTokenCache.Config verifiedTokenCacheConfig) {
+        return new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort, authenticatedUserCache,
+                new VerifiedTokenCache<>(verifiedTokenCacheConfig));
+    }
+
+    @Bean
+    public AuthenticatedUserCache authenticatedUserCache(final AuthenticatedUserCache.Config authenticatedUserCacheConfig) {
+        return new AuthenticatedUserCache(authenticatedUserCacheConfig);
     }
 
     @Bean
     public JwtService jwtServiceHasura(final ObjectMapper objectMapper, final JwtSecret jwtSecret,
-                                       final UserFacadePort userFacadePort) {
-        return new HasuraJwtService(objectMapper, jwtSecret, userFacadePort);
+                                       final UserFacadePort userFacadePort,
+                                       final VerifiedTokenCache.Config verifiedTokenCacheConfig) {
+        return new HasuraJwtService(objectMapper, jwtSecret, userFacadePort,
+                new VerifiedTokenCache<>(verifiedTokenCacheConfig));
     }
 
     @Bean
-    public AuthenticationFilter authenticationFilter(final JwtService jwtServiceAuth0,
+    public AuthenticationFilter authenticationFilter(final ObjectMapper objectMapper,
+                                                     final JwtService jwtServiceAuth0,
                                                      final JwtService jwtServiceHasura) {
-        return new AuthenticationFilter(jwtServiceAuth0, jwtServiceHasura);
+        return new AuthenticationFilter(new JwtServiceRouter(objectMapper, jwtServiceAuth0, jwtServiceHasura));
     }
 
     @Bean
@@ -88,6 +108,24 @@ public class WebSecurityConfiguration {
         return new JwtSecret();
     }
 
+    @Bean
+    @ConfigurationProperties("application.web.verified-token-cache")
+    public VerifiedTokenCache.Config verifiedTokenCacheConfig() {
+        return new VerifiedTokenCache.Config();
+    }
+
+    @Bean
+    @ConfigurationProperties("application.web.authenticated-user-cache")
+    public AuthenticatedUserCache.Config authenticatedUserCacheConfig() {
+        return new AuthenticatedUserCache.Config();
+    }
+
+    @Bean
+    @ConfigurationProperties("application.web.jwks-key-store")
+    public JwksKeyStore.Config jwksKeyStoreConfig() {
+        return new JwksKeyStore.Config();
+    }
+
     @Bean
     @ConfigurationProperties("application.web.auth0")
     public Auth0Properties auth0Properties() {
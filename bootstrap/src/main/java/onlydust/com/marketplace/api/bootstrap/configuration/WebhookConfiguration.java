@@ -1,6 +1,7 @@
 package onlydust.com.marketplace.api.bootstrap.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import onlydust.com.marketplace.api.bootstrap.http.OutboundHttpClients;
 import onlydust.com.marketplace.api.domain.port.output.WebhookPort;
 import onlydust.com.marketplace.api.webhook.Config;
 import onlydust.com.marketplace.api.webhook.WebhookHttpClient;
@@ -9,8 +10,6 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.net.http.HttpClient;
-
 @Configuration
 public class WebhookConfiguration {
 
@@ -22,9 +21,10 @@ public class WebhookConfiguration {
 
     @Bean
     public WebhookHttpClient webhookHttpClient(final ObjectMapper objectMapper,
-                                               final HttpClient httpClient,
+                                               final OutboundHttpClients outboundHttpClients,
                                                final Config webhookHttpClientProperties) {
-        return new WebhookHttpClient(objectMapper, httpClient, webhookHttpClientProperties);
+        return new WebhookHttpClient(objectMapper, outboundHttpClients.forTarget("webhook"),
+                webhookHttpClientProperties);
     }
 
     @Bean
@@ -0,0 +1,181 @@
+package onlydust.com.marketplace.api.bootstrap.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+
+/**
+ * {@link HttpClient} dedicated to one outbound target (one connection pool per target). On top of its delegate it
+ * applies the target request timeout to requests that do not set one, caps the number of in-flight requests so that a
+ * slow dependency cannot hold every calling thread, and records the latency and outcome of each request.
+ */
+public class InstrumentedHttpClient extends HttpClient {
+    private static final String REQUESTS_METRIC = "http.client.outbound.requests";
+
+    private final String target;
+    private final HttpClient delegate;
+    private final Duration requestTimeout;
+    private final Duration acquireTimeout;
+    private final Semaphore permits;
+    private final MeterRegistry meterRegistry;
+
+    public InstrumentedHttpClient(final String target, final HttpClient delegate, final Duration requestTimeout,
+                                  final int maxConcurrentRequests, final Duration acquireTimeout,
+                                  final MeterRegistry meterRegistry) {
+        this.target = target;
+        this.delegate = delegate;
+        this.requestTimeout = requestTimeout;
+        this.acquireTimeout = acquireTimeout;
+        this.permits = new Semaphore(maxConcurrentRequests);
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("http.client.outbound.in_flight", permits,
+                        semaphore -> maxConcurrentRequests - semaphore.availablePermits())
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+            throws IOException, InterruptedException {
+        if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            record(request, "REJECTED", 0L);
+            throw new IOException("Too many concurrent requests to %s".formatted(target));
+        }
+        final long start = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            final HttpResponse<T> response = delegate.send(tuned(request), responseBodyHandler);
+            status = String.valueOf(response.statusCode());
+            return response;
+        } catch (HttpTimeoutException e) {
+            status = "TIMEOUT";
+            throw e;
+        } finally {
+            permits.release();
+            record(request, status, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                                            HttpResponse.BodyHandler<T> responseBodyHandler) {
+        return sendAsync(request, responseBodyHandler, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                                            HttpResponse.BodyHandler<T> responseBodyHandler,
+                                                            HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+        if (!permits.tryAcquire()) {
+            record(request, "REJECTED", 0L);
+            return CompletableFuture.failedFuture(
+                    new IOException("Too many concurrent requests to %s".formatted(target)));
+        }
+        final long start = System.nanoTime();
+        return delegate.sendAsync(tuned(request), responseBodyHandler, pushPromiseHandler)
+                .whenComplete((response, error) -> {
+                    permits.release();
+                    record(request, isNull(error) ? String.valueOf(response.statusCode()) : errorStatus(error),
+                            System.nanoTime() - start);
+                });
+    }
+
+    /**
+     * Applies the target request timeout when the request has none, and keeps plain-text requests on HTTP/1.1: HTTP/2
+     * is only negotiated over TLS, avoiding a cleartext upgrade attempt on each new connection.
+     */
+    private HttpRequest tuned(final HttpRequest request) {
+        final boolean cleartext = "http".equalsIgnoreCase(request.uri().getScheme());
+        if (request.timeout().isPresent() && (!cleartext || request.version().isPresent())) {
+            return request;
+        }
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(request, (name, value) -> true);
+        if (request.timeout().isEmpty()) {
+            builder.timeout(requestTimeout);
+        }
+        if (cleartext && request.version().isEmpty()) {
+            builder.version(Version.HTTP_1_1);
+        }
+        return builder.build();
+    }
+
+    private static String errorStatus(final Throwable error) {
+        final Throwable cause = error instanceof CompletionException && error.getCause() != null ?
+                error.getCause() : error;
+        return cause instanceof HttpTimeoutException ? "TIMEOUT" : "IO_ERROR";
+    }
+
+    private void record(final HttpRequest request, final String status, final long durationInNanos) {
+        Timer.builder(REQUESTS_METRIC)
+                .tag("target", target)
+                .tag("method", request.method())
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(durationInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+        return delegate.cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+        return delegate.connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+        return delegate.followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+        return delegate.proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+        return delegate.sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+        return delegate.sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+        return delegate.authenticator();
+    }
+
+    @Override
+    public Version version() {
+        return delegate.version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+        return delegate.executor();
+    }
+}
@@ -0,0 +1,66 @@
+package onlydust.com.marketplace.api.bootstrap.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out one {@link InstrumentedHttpClient} per outbound target (GitHub, indexer, Auth0, ...), each with its own
+ * connection pool, timeouts and concurrency limit, so that every integration shares the same tuned HTTP layer.
+ * Targets without a dedicated configuration get the default one.
+ */
+public class OutboundHttpClients {
+    private final Properties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, HttpClient> clients = new ConcurrentHashMap<>();
+
+    public OutboundHttpClients(final Properties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public HttpClient forTarget(final String target) {
+        return clients.computeIfAbsent(target, this::create);
+    }
+
+    private HttpClient create(final String target) {
+        final Config config = properties.getTargets().getOrDefault(target, new Config());
+        return new InstrumentedHttpClient(target,
+                HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_2)
+                        .connectTimeout(Duration.ofMillis(config.getConnectTimeoutInMillis()))
+                        .build(),
+                Duration.ofMillis(config.getRequestTimeoutInMillis()),
+                config.getMaxConcurrentRequests(),
+                Duration.ofMillis(config.getAcquireTimeoutInMillis()),
+                meterRegistry);
+    }
+
+    @Data
+    public static class Properties {
+        Map<String, Config> targets = new HashMap<>();
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Long connectTimeoutInMillis = 2000L;
+        @Builder.Default
+        Long requestTimeoutInMillis = 10000L;
+        @Builder.Default
+        Integer maxConcurrentRequests = 50;
+        @Builder.Default
+        Long acquireTimeoutInMillis = 1000L;
+    }
+}
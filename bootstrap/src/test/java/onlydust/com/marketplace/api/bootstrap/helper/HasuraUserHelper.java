@@ -3,6 +3,7 @@ package onlydust.com.marketplace.api.bootstrap.helper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.NonNull;
+import onlydust.com.marketplace.api.domain.port.output.RegisteredUserIndexPort;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.AuthUserEntity;
 import onlydust.com.marketplace.api.postgres.adapter.repository.old.AuthUserRepository;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.hasura.HasuraJwtPayload;
@@ -21,6 +22,8 @@ public class HasuraUserHelper {
     AuthUserRepository authUserRepository;
     @Autowired
     JwtSecret jwtSecret;
+    @Autowired
+    RegisteredUserIndexPort registeredUserIndexPort;
 
     @NonNull
     public AuthenticatedUser newFakeUser(UUID userId, long githubUserId, String login, String avatarUrl,
@@ -35,6 +38,8 @@ public class HasuraUserHelper {
                 .isAdmin(isAdmin)
                 .build();
         authUserRepository.save(user);
+        // Stands for a sign-up on this instance, which is visible right away
+        registeredUserIndexPort.add(githubUserId);
 
         return authenticateUser(user);
     }
@@ -7,6 +7,7 @@ import lombok.SneakyThrows;
 import onlydust.com.marketplace.api.bootstrap.helper.JwtVerifierStub;
 import onlydust.com.marketplace.api.contract.model.GetMeResponse;
 import onlydust.com.marketplace.api.domain.model.UserRole;
+import onlydust.com.marketplace.api.postgres.adapter.RegisteredGithubIdsBitmap;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.UserEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.OnboardingEntity;
 import onlydust.com.marketplace.api.postgres.adapter.repository.UserRepository;
@@ -39,6 +40,8 @@ public class Auth0MeApiIT extends AbstractMarketplaceApiIT {
     OnboardingRepository onboardingRepository;
     @Autowired
     EntityManagerFactory entityManagerFactory;
+    @Autowired
+    RegisteredGithubIdsBitmap registeredGithubIdsBitmap;
 
     @BeforeEach
     void setup() {
@@ -71,6 +74,7 @@ public class Auth0MeApiIT extends AbstractMarketplaceApiIT {
     @Test
     void should_sign_up_and_get_user_given_a_valid_jwt() {
         // Given
+        assertThat(registeredGithubIdsBitmap.contains(githubUserId)).isFalse();
 
         // When
         var me = client.get()
@@ -84,6 +88,7 @@ public class Auth0MeApiIT extends AbstractMarketplaceApiIT {
         // Then
         assertMe(me);
         assertUserEntity(me.getId());
+        assertThat(registeredGithubIdsBitmap.contains(githubUserId)).isTrue();
         waitAtLeastOneCycleOfOutboxEventProcessing();
         indexerApiWireMockServer.verify(1, putRequestedFor(urlEqualTo("/api/v1/users/%d".formatted(githubUserId)))
                 .withHeader("Content-Type", equalTo("application/json"))
@@ -0,0 +1,91 @@
+package onlydust.com.marketplace.api.bootstrap.it.api;
+
+import com.auth0.jwt.interfaces.JWTVerifier;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import onlydust.com.marketplace.api.bootstrap.helper.JwtVerifierStub;
+import onlydust.com.marketplace.api.contract.model.GetMeResponse;
+import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.OnboardingEntity;
+import onlydust.com.marketplace.api.postgres.adapter.repository.old.OnboardingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Date;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "application.web.authenticated-user-cache.ttl-in-seconds=300",
+        "application.web.authenticated-user-cache.privileged-ttl-in-seconds=300"
+})
+public class AuthenticatedUserCacheIT extends AbstractMarketplaceApiIT {
+    final static String JWT_TOKEN = "fake-jwt";
+    Long githubUserId;
+
+    @Autowired
+    JWTVerifier jwtVerifier;
+    @Autowired
+    OnboardingRepository onboardingRepository;
+
+    @BeforeEach
+    void setup() {
+        githubUserId = faker.number().randomNumber(15, true);
+        ((JwtVerifierStub) jwtVerifier).withJwtMock(JWT_TOKEN, githubUserId, faker.name().username(),
+                faker.internet().avatar(), faker.internet().emailAddress());
+
+        indexerApiWireMockServer.stubFor(WireMock.put(
+                        WireMock.urlEqualTo("/api/v1/users/%d".formatted(githubUserId)))
+                .withHeader("Api-Key", equalTo("some-indexer-api-key"))
+                .willReturn(ResponseDefinitionBuilder.okForEmptyJson()));
+    }
+
+    @Test
+    void should_evict_the_authenticated_user_when_its_onboarding_is_updated() {
+        // Given
+        final GetMeResponse signedUp = getMe();
+        assertThat(signedUp.getHasSeenOnboardingWizard()).isFalse();
+        assertThat(signedUp.getHasAcceptedLatestTermsAndConditions()).isFalse();
+
+        onboardingRepository.save(OnboardingEntity.builder()
+                .id(signedUp.getId())
+                .termsAndConditionsAcceptanceDate(new Date())
+                .build());
+        assertThat(getMe().getHasAcceptedLatestTermsAndConditions())
+                .as("the user is served from the cache while it is not evicted")
+                .isFalse();
+
+        // When
+        client.patch()
+                .uri(getApiURI(ME_PATCH))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + JWT_TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                            "hasSeenOnboardingWizard": true
+                        }
+                        """)
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful();
+
+        // Then
+        final GetMeResponse me = getMe();
+        assertThat(me.getHasSeenOnboardingWizard()).isTrue();
+        assertThat(me.getHasAcceptedLatestTermsAndConditions()).isTrue();
+    }
+
+    private GetMeResponse getMe() {
+        return client.get()
+                .uri(getApiURI(ME_GET))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + JWT_TOKEN)
+                .exchange()
+                .expectStatus().is2xxSuccessful()
+                .expectBody(GetMeResponse.class)
+                .returnResult().getResponseBody();
+    }
+}
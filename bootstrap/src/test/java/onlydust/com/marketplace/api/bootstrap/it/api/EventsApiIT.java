@@ -3,7 +3,9 @@ package onlydust.com.marketplace.api.bootstrap.it.api;
 import onlydust.com.marketplace.api.bootstrap.helper.HasuraUserHelper;
 import onlydust.com.marketplace.api.domain.model.ProjectRewardSettings;
 import onlydust.com.marketplace.api.domain.model.ProjectVisibility;
+import onlydust.com.marketplace.api.postgres.adapter.PostgresOutboxAdapter;
 import onlydust.com.marketplace.api.postgres.adapter.PostgresProjectAdapter;
+import onlydust.com.marketplace.api.postgres.adapter.entity.write.ContributionChangeEventEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.CustomIgnoredContributionEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.IgnoredContributionEntity;
 import onlydust.com.marketplace.api.postgres.adapter.repository.CustomIgnoredContributionsRepository;
@@ -11,11 +13,13 @@ import onlydust.com.marketplace.api.postgres.adapter.repository.IgnoredContribut
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 
 
@@ -57,6 +61,8 @@ public class EventsApiIT extends AbstractMarketplaceApiIT {
     CustomIgnoredContributionsRepository customIgnoredContributionsRepository;
     @Autowired
     PostgresProjectAdapter postgresProjectAdapter;
+    @Autowired
+    PostgresOutboxAdapter<ContributionChangeEventEntity> contributionChangeOutbox;
 
     @Test
     public void should_refresh_ignored_contributions_on_contributions_change_event() {
@@ -81,7 +87,8 @@ public class EventsApiIT extends AbstractMarketplaceApiIT {
                 .exchange()
                 // Then
                 .expectStatus()
-                .is2xxSuccessful();
+                .isAccepted();
+        waitForContributionChangesProcessing();
 
         // Then
         // @formatter:off
@@ -134,7 +141,8 @@ public class EventsApiIT extends AbstractMarketplaceApiIT {
                 .exchange()
                 // Then
                 .expectStatus()
-                .is2xxSuccessful();
+                .isAccepted();
+        waitForContributionChangesProcessing();
 
         // Then
         // @formatter:off
@@ -185,12 +193,45 @@ public class EventsApiIT extends AbstractMarketplaceApiIT {
                 .exchange()
                 // Then
                 .expectStatus()
-                .is2xxSuccessful();
+                .isAccepted();
+        waitForContributionChangesProcessing();
 
         // Then
         assertIgnored(projectId);
     }
 
+    @Test
+    public void should_rescan_the_whole_repo_when_contribution_ids_are_empty() {
+        // Given
+        final UUID projectId = createProject(REWARD_SETTINGS);
+
+        customUnignoreContribution(projectId, repo1ContributionIds.get(0));
+
+        // When
+        client.post()
+                .uri(getApiURI(EVENT_ON_CONTRIBUTIONS_CHANGE_POST))
+                .header("Api-Key", API_KEY)
+                .contentType(APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                          "repoIds": [86943508],
+                          "contributionIds": []
+                        }
+                        """)
+                .exchange()
+                // Then
+                .expectStatus()
+                .isAccepted();
+        waitForContributionChangesProcessing();
+
+        // Then
+        assertIgnored(projectId,
+                repo1ContributionIds.get(1),
+                repo1ContributionIds.get(2),
+                repo1ContributionIds.get(3)
+        );
+    }
+
     @Test
     public void should_return_401_when_api_key_is_missing() {
         client.post()
@@ -219,6 +260,12 @@ public class EventsApiIT extends AbstractMarketplaceApiIT {
         return projectId;
     }
 
+    private void waitForContributionChangesProcessing() {
+        await().atMost(Duration.ofSeconds(10))
+                .pollInterval(Duration.ofMillis(100))
+                .until(() -> contributionChangeOutbox.backlog().size() == 0);
+    }
+
     private void assertIgnored(UUID projectId, String... expectedIgnoredContributionIds) {
         final var ignoredContributions = ignoredContributionsRepository.findAllByProjectId(projectId);
         assertThat(ignoredContributions).containsExactlyElementsOf(Arrays.stream(expectedIgnoredContributionIds).map(contributionId ->
@@ -20,12 +20,14 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -211,15 +213,18 @@ public class HasuraAuthMeApiIT extends AbstractMarketplaceApiIT {
                 .jsonPath("$.isAdmin").isEqualTo(true)
                 .jsonPath("$.id").isEqualTo(userId.toString());
 
-        final var iamUser = userRepository.findById(userId);
-        assertThat(iamUser).isPresent();
-        assertThat(iamUser.get().getId()).isEqualTo(userId);
-        assertThat(iamUser.get().getGithubUserId()).isEqualTo(githubUserId);
-        assertThat(iamUser.get().getGithubLogin()).isEqualTo(login);
-        assertThat(iamUser.get().getGithubAvatarUrl()).isEqualTo("https://avatars.githubusercontent.com/u/595505?v=4");
-        assertThat(iamUser.get().getRoles()).containsExactly(UserRole.USER, UserRole.ADMIN);
-        assertThat(iamUser.get().getLastSeenAt().toInstant()).isGreaterThan(LocalDateTime.parse("2023-12-14T08:00:00" +
-                                                                                                ".000").toInstant(java.time.ZoneOffset.UTC));
+        // The identity is written by the write-behind buffer, in the background
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            final var iamUser = userRepository.findById(userId);
+            assertThat(iamUser).isPresent();
+            assertThat(iamUser.get().getId()).isEqualTo(userId);
+            assertThat(iamUser.get().getGithubUserId()).isEqualTo(githubUserId);
+            assertThat(iamUser.get().getGithubLogin()).isEqualTo(login);
+            assertThat(iamUser.get().getGithubAvatarUrl()).isEqualTo("https://avatars.githubusercontent.com/u/595505?v=4");
+            assertThat(iamUser.get().getRoles()).containsExactly(UserRole.USER, UserRole.ADMIN);
+            assertThat(iamUser.get().getLastSeenAt().toInstant()).isGreaterThan(LocalDateTime.parse("2023-12-14T08:00:00" +
+                                                                                                    ".000").toInstant(java.time.ZoneOffset.UTC));
+        });
     }
 
     @Test
@@ -12,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
+import java.util.List;
 import java.util.UUID;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
@@ -56,12 +57,6 @@ public class ProjectCreateUpdateIT extends AbstractMarketplaceApiIT {
                 .withHeader("Content-Type", equalTo("application/json"))
                 .withHeader("Api-Key", equalTo("some-indexer-api-key"))
                 .willReturn(ResponseDefinitionBuilder.okForEmptyJson()));
-
-        indexerApiWireMockServer.stubFor(WireMock.put(
-                        WireMock.urlEqualTo("/api/v1/users/777"))
-                .withHeader("Content-Type", equalTo("application/json"))
-                .withHeader("Api-Key", equalTo("some-indexer-api-key"))
-                .willReturn(ResponseDefinitionBuilder.responseDefinition().withStatus(500)));
     }
 
     @SneakyThrows
@@ -174,6 +169,8 @@ public class ProjectCreateUpdateIT extends AbstractMarketplaceApiIT {
 
 
         waitAtLeastOneCycleOfOutboxEventProcessing();
+        List.of(595505, 43467246, 5160414).forEach(githubUserId -> indexerApiWireMockServer.verify(moreThanOrExactly(1),
+                putRequestedFor(urlEqualTo("/api/v1/users/%d".formatted(githubUserId)))));
         webhookWireMockServer.verify(1, postRequestedFor(urlEqualTo("/"))
                 .withHeader("Content-Type", equalTo("application/json"))
                 .withRequestBody(matchingJsonPath("$.aggregate_name", equalTo("Project")))
@@ -243,33 +240,6 @@ public class ProjectCreateUpdateIT extends AbstractMarketplaceApiIT {
         );
     }
 
-    @Test
-    @Order(3)
-    public void should_fail_to_update_the_project_when_indexer_responds_with_500() {
-
-        // And When
-        client.put()
-                .uri(getApiURI(format(PROJECTS_PUT, projectId)))
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + userHelper.authenticatePierre().jwt())
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue("""
-                        {
-                          "name": "Updated Project",
-                          "shortDescription": "This is a super updated project",
-                          "longDescription": "This is a super awesome updated project with a nice description",
-                          "isLookingForContributors": false,
-                          "inviteGithubUserIdsAsProjectLeads": [
-                            777
-                          ],
-                          "logoUrl": "https://avatars.githubusercontent.com/u/yyyyyyyyyyyy"
-                        }
-                        """)
-                .exchange()
-                // Then
-                .expectStatus()
-                .is5xxServerError();
-    }
-
     @SneakyThrows
     @Test
     @Order(10)
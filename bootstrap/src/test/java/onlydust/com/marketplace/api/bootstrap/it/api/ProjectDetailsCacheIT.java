@@ -0,0 +1,98 @@
+package onlydust.com.marketplace.api.bootstrap.it.api;
+
+import onlydust.com.marketplace.api.bootstrap.helper.HasuraUserHelper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.UUID;
+
+import static java.lang.String.format;
+
+@TestPropertySource(properties = "infrastructure.postgres.project-details-cache.maximum-size=100")
+public class ProjectDetailsCacheIT extends AbstractMarketplaceApiIT {
+    final static UUID BRETZEL_ID = UUID.fromString("7d04163c-4187-4313-8066-61504d34fc56");
+    final static String BRETZEL_SLUG = "bretzel";
+
+    @Autowired
+    HasuraUserHelper userHelper;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void should_evict_the_project_details_when_the_project_is_updated() {
+        // Given
+        getProjectById()
+                .jsonPath("$.shortDescription").isEqualTo("A project for people who love fruits");
+        getProjectBySlug()
+                .jsonPath("$.shortDescription").isEqualTo("A project for people who love fruits");
+
+        updateShortDescriptionInDatabase("Updated behind the cache");
+        getProjectById()
+                .jsonPath("$.shortDescription").isEqualTo("A project for people who love fruits");
+        getProjectBySlug()
+                .jsonPath("$.shortDescription").isEqualTo("A project for people who love fruits");
+
+        // When
+        client.put()
+                .uri(getApiURI(format(PROJECTS_PUT, BRETZEL_ID)))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + userHelper.authenticateGregoire().jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                          "name": "Bretzel",
+                          "shortDescription": "A project for people who love bretzels",
+                          "longDescription": "A project for people who love bretzels, and fruits",
+                          "moreInfos": [],
+                          "isLookingForContributors": true,
+                          "logoUrl": "https://avatars.githubusercontent.com/u/16590657?v=4"
+                        }
+                        """)
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful();
+
+        // Then
+        getProjectById()
+                .jsonPath("$.shortDescription").isEqualTo("A project for people who love bretzels")
+                .jsonPath("$.longDescription").isEqualTo("A project for people who love bretzels, and fruits");
+        getProjectBySlug()
+                .jsonPath("$.shortDescription").isEqualTo("A project for people who love bretzels")
+                .jsonPath("$.longDescription").isEqualTo("A project for people who love bretzels, and fruits");
+    }
+
+    private WebTestClient.BodyContentSpec getProjectById() {
+        return client.get()
+                .uri(getApiURI(PROJECTS_GET_BY_ID + "/" + BRETZEL_ID))
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectBody();
+    }
+
+    private WebTestClient.BodyContentSpec getProjectBySlug() {
+        return client.get()
+                .uri(getApiURI(PROJECTS_GET_BY_SLUG + "/" + BRETZEL_SLUG))
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectBody();
+    }
+
+    private void updateShortDescriptionInDatabase(final String shortDescription) {
+        final var em = entityManagerFactory.createEntityManager();
+        em.getTransaction().begin();
+        em.createNativeQuery("""
+                        update project_details set short_description = :shortDescription where project_id = :projectId
+                        """)
+                .setParameter("shortDescription", shortDescription)
+                .setParameter("projectId", BRETZEL_ID)
+                .executeUpdate();
+        em.getTransaction().commit();
+        em.close();
+    }
+}
@@ -0,0 +1,82 @@
+package onlydust.com.marketplace.api.bootstrap.it.api;
+
+import onlydust.com.marketplace.api.bootstrap.helper.HasuraUserHelper;
+import onlydust.com.marketplace.api.contract.model.BudgetResponse;
+import onlydust.com.marketplace.api.contract.model.CurrencyContract;
+import onlydust.com.marketplace.api.contract.model.ProjectBudgetsResponse;
+import onlydust.com.marketplace.api.postgres.adapter.InMemoryQuoteProvider;
+import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.CryptoUsdQuotesEntity;
+import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.type.CurrencyEnumEntity;
+import onlydust.com.marketplace.api.postgres.adapter.repository.old.CryptoUsdQuotesRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+
+import static onlydust.com.marketplace.api.rest.api.adapter.authentication.AuthenticationFilter.BEARER_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@TestPropertySource(properties = {
+        "infrastructure.postgres.usd-quotes.refresh-interval-in-seconds=3600",
+        "infrastructure.postgres.usd-quotes.max-age-in-seconds=10"
+})
+public class UsdQuotesCacheIT extends AbstractMarketplaceApiIT {
+    final static UUID PROJECT_ID = UUID.fromString("f39b827f-df73-498c-8853-99bc3f562723");
+
+    @Autowired
+    HasuraUserHelper userHelper;
+    @Autowired
+    CryptoUsdQuotesRepository cryptoUsdQuotesRepository;
+    @Autowired
+    InMemoryQuoteProvider inMemoryQuoteProvider;
+
+    @Test
+    void should_reload_the_usd_quotes_once_the_snapshot_is_older_than_its_max_age() {
+        // Given
+        final String jwt = userHelper.authenticatePierre().jwt();
+        saveEthQuote(BigDecimal.valueOf(1500));
+        inMemoryQuoteProvider.refresh();
+        assertThat(getEthConversionRate(jwt)).isEqualByComparingTo(BigDecimal.valueOf(1500));
+
+        // When
+        saveEthQuote(BigDecimal.valueOf(1800));
+
+        // Then
+        assertThat(getEthConversionRate(jwt))
+                .as("the snapshot is served until it is older than its max age")
+                .isEqualByComparingTo(BigDecimal.valueOf(1500));
+        await().atMost(Duration.ofSeconds(20))
+                .pollInterval(Duration.ofSeconds(1))
+                .untilAsserted(() -> assertThat(getEthConversionRate(jwt))
+                        .isEqualByComparingTo(BigDecimal.valueOf(1800)));
+    }
+
+    private void saveEthQuote(final BigDecimal price) {
+        cryptoUsdQuotesRepository.save(CryptoUsdQuotesEntity.builder()
+                .updatedAt(new Date())
+                .price(price)
+                .currency(CurrencyEnumEntity.eth)
+                .build());
+    }
+
+    private BigDecimal getEthConversionRate(final String jwt) {
+        final ProjectBudgetsResponse budgets = client.get()
+                .uri(getApiURI(String.format(PROJECTS_GET_BUDGETS, PROJECT_ID)))
+                .header("Authorization", BEARER_PREFIX + jwt)
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectBody(ProjectBudgetsResponse.class)
+                .returnResult().getResponseBody();
+        return budgets.getBudgets().stream()
+                .filter(budget -> budget.getCurrency() == CurrencyContract.ETH)
+                .map(BudgetResponse::getDollarsConversionRate)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,160 @@
+package onlydust.com.marketplace.api.domain.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.model.notification.ProjectContributionsChanged;
+import onlydust.com.marketplace.api.domain.model.notification.RepoContributionsChanged;
+import onlydust.com.marketplace.api.domain.port.output.ContributionStoragePort;
+import onlydust.com.marketplace.api.domain.port.output.OutboxPort;
+import onlydust.com.marketplace.api.domain.port.output.OutboxPort.IdentifiableEvent;
+import onlydust.com.marketplace.api.domain.port.output.ProjectCachePort;
+import onlydust.com.marketplace.api.domain.port.output.ProjectStoragePort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Drains the contribution changes queue by batches. The changes of a batch are merged by repo, then the ignored
+ * contributions of all the repos are refreshed at once: with a single rescan for the repos whose changed contributions
+ * are unknown, and with a scoped refresh for the others, split by chunks of contribution ids so that each query stays
+ * under the bind parameters limit of the database. When the batch refresh fails, the repos are refreshed one by one so
+ * that only the events of the failing repos are rejected and retried.
+ * <p>
+ * Changes made to a project on this API side only need the contributor statistics of the project to be refreshed:
+ * they are merged by project and refreshed one project at a time.
+ */
+@Slf4j
+@AllArgsConstructor
+public class ContributionChangesConsumerJob implements Runnable {
+
+    private final OutboxPort contributionChangeOutbox;
+    private final ContributionStoragePort contributionStoragePort;
+    private final ProjectStoragePort projectStoragePort;
+    private final ProjectCachePort projectCachePort;
+    private final Config config;
+
+    @Override
+    public void run() {
+        try {
+            List<IdentifiableEvent> events;
+            while (!(events = contributionChangeOutbox.peek(config.getBatchSize())).isEmpty()) {
+                process(events);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Error while processing contribution changes", e);
+        }
+    }
+
+    private void process(final List<IdentifiableEvent> events) {
+        final Map<Long, RepoContributionsChanged> changesByRepo = new LinkedHashMap<>();
+        final Map<Long, List<Long>> eventIdsByRepo = new LinkedHashMap<>();
+        final List<Long> changeEventIds = new ArrayList<>();
+        final Map<UUID, List<Long>> eventIdsByProject = new LinkedHashMap<>();
+        final List<Long> otherEventIds = new ArrayList<>();
+        events.forEach(event -> {
+            if (event.event() instanceof RepoContributionsChanged change) {
+                changesByRepo.merge(change.getRepoId(), change,
+                        (pending, next) -> (RepoContributionsChanged) next.coalesce(pending));
+                eventIdsByRepo.computeIfAbsent(change.getRepoId(), repoId -> new ArrayList<>()).add(event.id());
+                changeEventIds.add(event.id());
+            } else if (event.event() instanceof ProjectContributionsChanged change) {
+                eventIdsByProject.computeIfAbsent(change.getProjectId(), projectId -> new ArrayList<>())
+                        .add(event.id());
+            } else {
+                otherEventIds.add(event.id());
+            }
+        });
+        if (!otherEventIds.isEmpty()) {
+            contributionChangeOutbox.ack(otherEventIds);
+        }
+        eventIdsByProject.forEach(this::processProject);
+
+        if (changeEventIds.isEmpty()) {
+            return;
+        }
+        try {
+            refresh(changesByRepo.values());
+            contributionChangeOutbox.ack(changeEventIds);
+            LOGGER.info("Processed {} contribution changes on {} repos", events.size(), changesByRepo.size());
+        } catch (Exception e) {
+            LOGGER.warn("Error while processing contribution changes on repos %s, retrying repo by repo"
+                    .formatted(changesByRepo.keySet()), e);
+            changesByRepo.forEach((repoId, change) -> processRepo(change, eventIdsByRepo.get(repoId)));
+        }
+    }
+
+    private void processRepo(final RepoContributionsChanged change, final List<Long> eventIds) {
+        try {
+            refresh(List.of(change));
+            contributionChangeOutbox.ack(eventIds);
+        } catch (Exception e) {
+            LOGGER.error("Error while processing contribution changes on repo %d".formatted(change.getRepoId()), e);
+            eventIds.forEach(eventId -> contributionChangeOutbox.nack(eventId, String.valueOf(e.getMessage())));
+        }
+    }
+
+    private void processProject(final UUID projectId, final List<Long> eventIds) {
+        try {
+            contributionStoragePort.refreshProjectContributorStats(projectId);
+            projectCachePort.evict(projectId);
+            contributionChangeOutbox.ack(eventIds);
+        } catch (Exception e) {
+            LOGGER.error("Error while processing contribution changes on project %s".formatted(projectId), e);
+            eventIds.forEach(eventId -> contributionChangeOutbox.nack(eventId, String.valueOf(e.getMessage())));
+        }
+    }
+
+    private void refresh(final Collection<RepoContributionsChanged> changes) {
+        final List<Long> rescannedRepoIds = changes.stream()
+                .filter(change -> isNull(change.getContributionIds()))
+                .map(RepoContributionsChanged::getRepoId)
+                .toList();
+        final List<RepoContributionsChanged> scopedChanges = changes.stream()
+                .filter(change -> !isNull(change.getContributionIds()))
+                .toList();
+        final List<Long> repoIds = changes.stream().map(RepoContributionsChanged::getRepoId).toList();
+
+        if (!rescannedRepoIds.isEmpty()) {
+            contributionStoragePort.refreshIgnoredContributions(rescannedRepoIds);
+        }
+        if (!scopedChanges.isEmpty()) {
+            final List<Long> scopedRepoIds = scopedChanges.stream().map(RepoContributionsChanged::getRepoId).toList();
+            final List<String> contributionIds = scopedChanges.stream()
+                    .map(RepoContributionsChanged::getContributionIds)
+                    .flatMap(Collection::stream)
+                    .distinct()
+                    .toList();
+            final int chunkSize = config.getContributionIdsChunkSize();
+            for (int from = 0; from < contributionIds.size(); from += chunkSize) {
+                contributionStoragePort.refreshIgnoredContributions(scopedRepoIds,
+                        contributionIds.subList(from, Math.min(from + chunkSize, contributionIds.size())));
+            }
+        }
+        if (!repoIds.isEmpty()) {
+            contributionStoragePort.refreshProjectContributorStats(repoIds);
+            projectStoragePort.refreshProjectCatalog(repoIds);
+            projectStoragePort.queueProjectsRanking(repoIds);
+            projectCachePort.evictByRepoIds(repoIds);
+        }
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Integer batchSize = 500;
+        @Builder.Default
+        Integer contributionIdsChunkSize = 10_000;
+    }
+}
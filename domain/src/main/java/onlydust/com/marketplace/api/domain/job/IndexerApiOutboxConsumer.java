@@ -3,6 +3,7 @@ package onlydust.com.marketplace.api.domain.job;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import onlydust.com.marketplace.api.domain.model.notification.Event;
+import onlydust.com.marketplace.api.domain.model.notification.ProjectLeadersIndexingRequested;
 import onlydust.com.marketplace.api.domain.model.notification.ProjectLinkedReposChanged;
 import onlydust.com.marketplace.api.domain.model.notification.UserSignedUp;
 import onlydust.com.marketplace.api.domain.port.output.IndexerPort;
@@ -27,6 +28,8 @@ public class IndexerApiOutboxConsumer implements OutboxConsumer {
                     projectLinkedReposChanged.getUnlinkedRepoIds());
         } else if (event instanceof UserSignedUp userSignedUp) {
             indexerPort.indexUser(userSignedUp.getGithubUserId());
+        } else if (event instanceof ProjectLeadersIndexingRequested projectLeadersIndexingRequested) {
+            indexerPort.indexUsers(projectLeadersIndexingRequested.getGithubUserIds());
         }
     }
 }
@@ -0,0 +1,40 @@
+package onlydust.com.marketplace.api.domain.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.port.output.OutboxPort;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+@Slf4j
+@AllArgsConstructor
+public class OutboxArchivingJob implements Runnable {
+
+    private final OutboxPort outbox;
+    private final Config config;
+
+    @Override
+    public void run() {
+        try {
+            final Date processedBefore = Date.from(Instant.now().minus(Duration.ofDays(config.getRetentionInDays())));
+            final int archivedCount = outbox.archiveProcessedEvents(processedBefore);
+            LOGGER.info("{} processed event(s) archived", archivedCount);
+        } catch (Exception e) {
+            LOGGER.error("Error while archiving processed events", e);
+        }
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Integer retentionInDays = 7;
+    }
+}
@@ -1,30 +1,91 @@
 package onlydust.com.marketplace.api.domain.job;
 
 import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import onlydust.com.marketplace.api.domain.model.notification.Event;
 import onlydust.com.marketplace.api.domain.port.output.OutboxPort;
+import onlydust.com.marketplace.api.domain.port.output.OutboxPort.IdentifiableEvent;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
-@AllArgsConstructor
-public class OutboxConsumerJob implements Runnable {
+public class OutboxConsumerJob implements Runnable, AutoCloseable {
 
     private final OutboxPort outbox;
     private final OutboxConsumer consumer;
+    private final Config config;
+    private final ExecutorService executor;
+
+    public OutboxConsumerJob(final OutboxPort outbox, final OutboxConsumer consumer, final Config config) {
+        this.outbox = outbox;
+        this.consumer = consumer;
+        this.config = config;
+        this.executor = Executors.newFixedThreadPool(config.getParallelism(), runnable -> {
+            final Thread thread = new Thread(runnable, "outbox-consumer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
     @Override
     public void run() {
         try {
-            Optional<Event> event;
-            while ((event = outbox.peek()).isPresent()) {
-                consumer.process(event.get());
-                outbox.ack();
+            List<IdentifiableEvent> events;
+            while (!(events = outbox.peek(config.getBatchSize())).isEmpty()) {
+                process(events);
             }
         } catch (Exception e) {
-            LOGGER.error("Error while processing event", e);
-            outbox.nack(e.getMessage());
+            LOGGER.error("Error while processing events", e);
         }
     }
+
+    private void process(final List<IdentifiableEvent> events) {
+        final var results = events.stream()
+                .map(event -> CompletableFuture.supplyAsync(() -> dispatch(event), executor))
+                .toList();
+
+        final List<Long> processedEventIds = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            final Long eventId = events.get(i).id();
+            results.get(i).join().ifPresentOrElse(
+                    error -> outbox.nack(eventId, error),
+                    () -> processedEventIds.add(eventId));
+        }
+        if (!processedEventIds.isEmpty()) {
+            outbox.ack(processedEventIds);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private Optional<String> dispatch(final IdentifiableEvent event) {
+        try {
+            consumer.process(event.event());
+            return Optional.empty();
+        } catch (Exception e) {
+            LOGGER.error("Error while processing event %d".formatted(event.id()), e);
+            return Optional.of(String.valueOf(e.getMessage()));
+        }
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Integer batchSize = 50;
+        @Builder.Default
+        Integer parallelism = 4;
+    }
 }
@@ -0,0 +1,51 @@
+package onlydust.com.marketplace.api.domain.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.port.output.ContributionStoragePort;
+import onlydust.com.marketplace.api.domain.port.output.ProjectCachePort;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Refreshes the contributor stats of the projects whose rewards changed, whatever the writer (this API, backoffice,
+ * rust API): reward writes only enqueue the project, the refresh itself happens here, outside of their transaction.
+ * The cached details of the refreshed projects, whose remaining budget depends on their rewards, are evicted as well.
+ */
+@Slf4j
+@AllArgsConstructor
+public class ProjectContributorStatsRefreshJob implements Runnable {
+
+    private final ContributionStoragePort contributionStoragePort;
+    private final ProjectCachePort projectCachePort;
+    private final Config config;
+
+    @Override
+    public void run() {
+        try {
+            List<UUID> refreshedProjectIds;
+            do {
+                refreshedProjectIds = contributionStoragePort.refreshQueuedProjectContributorStats(config.getBatchSize());
+                refreshedProjectIds.forEach(projectCachePort::evict);
+                if (!refreshedProjectIds.isEmpty()) {
+                    LOGGER.info("Contributor stats refreshed for {} queued project(s)", refreshedProjectIds.size());
+                }
+            } while (refreshedProjectIds.size() >= config.getBatchSize());
+        } catch (Exception e) {
+            LOGGER.error("Error while refreshing queued project contributor stats", e);
+        }
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Integer batchSize = 20;
+    }
+}
@@ -0,0 +1,33 @@
+package onlydust.com.marketplace.api.domain.model;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+
+@Value
+public class UsdQuotes {
+    @NonNull
+    Map<Currency, BigDecimal> prices;
+    @NonNull
+    Instant fetchedAt;
+
+    public Optional<BigDecimal> price(final Currency currency) {
+        return Optional.ofNullable(prices.get(currency));
+    }
+
+    public BigDecimal toUsd(final Currency currency, final BigDecimal amount) {
+        if (isNull(amount)) {
+            return null;
+        }
+        if (currency == Currency.Usd) {
+            return amount;
+        }
+        return price(currency).map(amount::multiply).orElse(null);
+    }
+}
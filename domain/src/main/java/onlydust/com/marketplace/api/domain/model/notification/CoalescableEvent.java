@@ -0,0 +1,16 @@
+package onlydust.com.marketplace.api.domain.model.notification;
+
+/**
+ * An event that is merged into the pending event with the same coalescing key when it is pushed to an outbox, instead
+ * of being queued once more.
+ */
+public interface CoalescableEvent {
+
+    String coalescingKey();
+
+    /**
+     * @param pending the event that is still waiting in the outbox with the same coalescing key
+     * @return the event that replaces the pending one
+     */
+    Event coalesce(Event pending);
+}
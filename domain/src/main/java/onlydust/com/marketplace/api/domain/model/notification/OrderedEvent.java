@@ -0,0 +1,10 @@
+package onlydust.com.marketplace.api.domain.model.notification;
+
+/**
+ * An event that must not be processed before the events with the same ordering key that were pushed to the same outbox
+ * before it, typically because they are about the same aggregate.
+ */
+public interface OrderedEvent {
+
+    String orderingKey();
+}
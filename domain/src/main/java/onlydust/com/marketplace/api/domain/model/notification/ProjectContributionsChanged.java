@@ -0,0 +1,30 @@
+package onlydust.com.marketplace.api.domain.model.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Contributions of a project have changed on this API side (rewards, ignored contributions, linked repos or reward
+ * settings), so that the contributor statistics of the project must be refreshed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class ProjectContributionsChanged extends Event implements CoalescableEvent {
+    UUID projectId;
+
+    @Override
+    public String coalescingKey() {
+        return "project-contributions-changed:%s".formatted(projectId);
+    }
+
+    @Override
+    public Event coalesce(Event pending) {
+        return this;
+    }
+}
@@ -12,7 +12,12 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-public class ProjectCreated extends Event {
+public class ProjectCreated extends Event implements OrderedEvent {
     UUID projectId;
     Date createdAt;
+
+    @Override
+    public String orderingKey() {
+        return "project:" + projectId;
+    }
 }
@@ -12,8 +12,13 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-public class ProjectLeaderAssigned extends Event {
+public class ProjectLeaderAssigned extends Event implements OrderedEvent {
     UUID projectId;
     UUID leaderId;
     Date assignedAt;
+
+    @Override
+    public String orderingKey() {
+        return "project:" + projectId;
+    }
 }
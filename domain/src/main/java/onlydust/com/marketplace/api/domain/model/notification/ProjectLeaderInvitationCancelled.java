@@ -12,8 +12,13 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-public class ProjectLeaderInvitationCancelled extends Event {
+public class ProjectLeaderInvitationCancelled extends Event implements OrderedEvent {
     UUID projectId;
     Long githubUserId;
     Date cancelledAt;
+
+    @Override
+    public String orderingKey() {
+        return "project:" + projectId;
+    }
 }
@@ -12,8 +12,13 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-public class ProjectLeaderInvited extends Event {
+public class ProjectLeaderInvited extends Event implements OrderedEvent {
     UUID projectId;
     Long githubUserId;
     Date invitedAt;
+
+    @Override
+    public String orderingKey() {
+        return "project:" + projectId;
+    }
 }
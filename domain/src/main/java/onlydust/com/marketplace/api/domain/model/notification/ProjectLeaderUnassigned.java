@@ -12,8 +12,13 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-public class ProjectLeaderUnassigned extends Event {
+public class ProjectLeaderUnassigned extends Event implements OrderedEvent {
     UUID projectId;
     UUID leaderId;
     Date unassignedAt;
+
+    @Override
+    public String orderingKey() {
+        return "project:" + projectId;
+    }
 }
@@ -0,0 +1,25 @@
+package onlydust.com.marketplace.api.domain.model.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class ProjectLeadersIndexingRequested extends Event implements OrderedEvent {
+    UUID projectId;
+    List<Long> githubUserIds;
+    Date requestedAt;
+
+    @Override
+    public String orderingKey() {
+        return "project:" + projectId;
+    }
+}
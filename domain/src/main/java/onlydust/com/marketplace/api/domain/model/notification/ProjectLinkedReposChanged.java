@@ -12,8 +12,13 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-public class ProjectLinkedReposChanged extends Event {
+public class ProjectLinkedReposChanged extends Event implements OrderedEvent {
     UUID projectId;
     java.util.Set<Long> linkedRepoIds;
     Set<Long> unlinkedRepoIds;
+
+    @Override
+    public String orderingKey() {
+        return "project:" + projectId;
+    }
 }
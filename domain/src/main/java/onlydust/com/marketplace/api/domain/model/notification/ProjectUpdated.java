@@ -12,7 +12,12 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-public class ProjectUpdated extends Event {
+public class ProjectUpdated extends Event implements OrderedEvent {
     UUID projectId;
     Date updatedAt;
+
+    @Override
+    public String orderingKey() {
+        return "project:" + projectId;
+    }
 }
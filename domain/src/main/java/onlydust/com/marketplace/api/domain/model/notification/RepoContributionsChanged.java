@@ -0,0 +1,40 @@
+package onlydust.com.marketplace.api.domain.model.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Contributions of a repo have changed on the indexer side. A null set of contribution ids means that every
+ * contribution of the repo must be re-evaluated.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class RepoContributionsChanged extends Event implements CoalescableEvent {
+    Long repoId;
+    Set<String> contributionIds;
+
+    @Override
+    public String coalescingKey() {
+        return "repo-contributions-changed:%d".formatted(repoId);
+    }
+
+    @Override
+    public Event coalesce(Event pending) {
+        if (!(pending instanceof RepoContributionsChanged pendingChange) || isNull(contributionIds)
+            || isNull(pendingChange.contributionIds)) {
+            return new RepoContributionsChanged(repoId, null);
+        }
+        final Set<String> mergedContributionIds = new HashSet<>(pendingChange.contributionIds);
+        mergedContributionIds.addAll(contributionIds);
+        return new RepoContributionsChanged(repoId, mergedContributionIds);
+    }
+}
@@ -12,9 +12,14 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-public class UserAppliedOnProject extends Event {
+public class UserAppliedOnProject extends Event implements OrderedEvent {
     UUID applicationId;
     UUID projectId;
     UUID userId;
     Date appliedAt;
+
+    @Override
+    public String orderingKey() {
+        return "project:" + projectId;
+    }
 }
@@ -12,9 +12,14 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-public class UserSignedUp extends Event {
+public class UserSignedUp extends Event implements OrderedEvent {
     UUID userId;
     Long githubUserId;
     String login;
     Date signedUpAt;
+
+    @Override
+    public String orderingKey() {
+        return "user:" + userId;
+    }
 }
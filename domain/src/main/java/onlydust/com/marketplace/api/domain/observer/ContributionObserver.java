@@ -1,18 +1,34 @@
 package onlydust.com.marketplace.api.domain.observer;
 
 import lombok.AllArgsConstructor;
+import onlydust.com.marketplace.api.domain.model.notification.ProjectContributionsChanged;
+import onlydust.com.marketplace.api.domain.model.notification.RepoContributionsChanged;
 import onlydust.com.marketplace.api.domain.port.input.ContributionObserverPort;
-import onlydust.com.marketplace.api.domain.port.output.ContributionStoragePort;
+import onlydust.com.marketplace.api.domain.port.output.OutboxPort;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
 
 @AllArgsConstructor
 public class ContributionObserver implements ContributionObserverPort {
+    final OutboxPort contributionChangeOutbox;
 
-    final ContributionStoragePort contributionStoragePort;
+    /**
+     * An empty list of contribution ids is handled as a missing one: the whole repos are re-evaluated, as the caller
+     * signals that something changed on them without telling what.
+     */
+    @Override
+    public void onContributionsChanged(List<Long> repoIds, List<String> contributionIds) {
+        final boolean unknownContributions = isNull(contributionIds) || contributionIds.isEmpty();
+        repoIds.stream().distinct().forEach(repoId -> contributionChangeOutbox.push(new RepoContributionsChanged(repoId,
+                unknownContributions ? null : new HashSet<>(contributionIds))));
+    }
 
     @Override
-    public void onContributionsChanged(List<Long> repoIds) {
-        contributionStoragePort.refreshIgnoredContributions(repoIds);
+    public void onProjectContributionsChanged(UUID projectId) {
+        contributionChangeOutbox.push(new ProjectContributionsChanged(projectId));
     }
 }
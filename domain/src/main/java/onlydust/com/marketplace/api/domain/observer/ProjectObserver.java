@@ -5,8 +5,11 @@ import onlydust.com.marketplace.api.domain.model.notification.*;
 import onlydust.com.marketplace.api.domain.port.input.ProjectObserverPort;
 import onlydust.com.marketplace.api.domain.port.output.ContributionStoragePort;
 import onlydust.com.marketplace.api.domain.port.output.OutboxPort;
+import onlydust.com.marketplace.api.domain.port.output.ProjectCachePort;
+import onlydust.com.marketplace.api.domain.port.output.UserCachePort;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -15,7 +18,10 @@ public class ProjectObserver implements ProjectObserverPort {
 
     private final OutboxPort notificationOutbox;
     private final ContributionStoragePort contributionStoragePort;
+    private final OutboxPort contributionChangeOutbox;
     private final OutboxPort indexerOutbox;
+    private final UserCachePort userCachePort;
+    private final ProjectCachePort projectCachePort;
 
     @Override
     public void onProjectCreated(UUID projectId) {
@@ -25,41 +31,61 @@ public class ProjectObserver implements ProjectObserverPort {
     @Override
     public void onProjectDetailsUpdated(UUID projectId) {
         notificationOutbox.push(new ProjectUpdated(projectId, new Date()));
+        userCachePort.evictProjectLeaders(projectId);
+        projectCachePort.evict(projectId);
     }
 
     @Override
     public void onLeaderAssigned(UUID projectId, UUID leaderId) {
         notificationOutbox.push(new ProjectLeaderAssigned(projectId, leaderId, new Date()));
+        userCachePort.evict(leaderId);
+        projectCachePort.evict(projectId);
     }
 
     @Override
     public void onLeaderUnassigned(UUID projectId, UUID leaderId) {
         notificationOutbox.push(new ProjectLeaderUnassigned(projectId, leaderId, new Date()));
+        userCachePort.evict(leaderId);
+        projectCachePort.evict(projectId);
     }
 
     @Override
     public void onLeaderInvited(UUID projectId, Long githubUserId) {
         notificationOutbox.push(new ProjectLeaderInvited(projectId, githubUserId, new Date()));
+        userCachePort.evictByGithubUserId(githubUserId);
+        projectCachePort.evict(projectId);
     }
 
     @Override
     public void onLeaderInvitationCancelled(UUID projectId, Long githubUserId) {
         notificationOutbox.push(new ProjectLeaderInvitationCancelled(projectId, githubUserId, new Date()));
+        userCachePort.evictByGithubUserId(githubUserId);
+        projectCachePort.evict(projectId);
+    }
+
+    @Override
+    public void onProjectLeadersToIndex(UUID projectId, List<Long> githubUserIds) {
+        indexerOutbox.push(new ProjectLeadersIndexingRequested(projectId, List.copyOf(githubUserIds), new Date()));
     }
 
     @Override
     public void onLinkedReposChanged(UUID projectId, Set<Long> linkedRepoIds, Set<Long> unlinkedRepoIds) {
         contributionStoragePort.refreshIgnoredContributions(projectId);
+        contributionChangeOutbox.push(new ProjectContributionsChanged(projectId));
         indexerOutbox.push(new ProjectLinkedReposChanged(projectId, linkedRepoIds, unlinkedRepoIds));
+        projectCachePort.evict(projectId);
     }
 
     @Override
     public void onRewardSettingsChanged(UUID projectId) {
         contributionStoragePort.refreshIgnoredContributions(projectId);
+        contributionChangeOutbox.push(new ProjectContributionsChanged(projectId));
+        projectCachePort.evict(projectId);
     }
 
     @Override
     public void onUserApplied(UUID projectId, UUID userId, UUID applicationId) {
         notificationOutbox.push(new UserAppliedOnProject(applicationId, projectId, userId, new Date()));
+        userCachePort.evict(userId);
     }
 }
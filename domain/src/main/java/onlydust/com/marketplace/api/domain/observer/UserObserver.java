@@ -5,16 +5,32 @@ import onlydust.com.marketplace.api.domain.model.User;
 import onlydust.com.marketplace.api.domain.model.notification.UserSignedUp;
 import onlydust.com.marketplace.api.domain.port.input.UserObserverPort;
 import onlydust.com.marketplace.api.domain.port.output.OutboxPort;
+import onlydust.com.marketplace.api.domain.port.output.RegisteredUserIndexPort;
+import onlydust.com.marketplace.api.domain.port.output.UserCachePort;
 
 import java.util.Date;
+import java.util.UUID;
 
 @AllArgsConstructor
 public class UserObserver implements UserObserverPort {
 
     private final OutboxPort indexerOutbox;
+    private final UserCachePort userCachePort;
+    private final RegisteredUserIndexPort registeredUserIndexPort;
 
     @Override
     public void onUserSignedUp(User user) {
+        registeredUserIndexPort.add(user.getGithubUserId());
         indexerOutbox.push(new UserSignedUp(user.getId(), user.getGithubUserId(), user.getGithubLogin(), new Date()));
     }
+
+    @Override
+    public void onPayoutInformationUpdated(UUID userId) {
+        userCachePort.evict(userId);
+    }
+
+    @Override
+    public void onOnboardingUpdated(UUID userId) {
+        userCachePort.evict(userId);
+    }
 }
@@ -1,7 +1,14 @@
 package onlydust.com.marketplace.api.domain.port.input;
 
 import java.util.List;
+import java.util.UUID;
 
 public interface ContributionObserverPort {
-    void onContributionsChanged(List<Long> repoIds);
+
+    /**
+     * @param contributionIds the contributions that have changed on the repos, or null when unknown
+     */
+    void onContributionsChanged(List<Long> repoIds, List<String> contributionIds);
+
+    void onProjectContributionsChanged(UUID projectId);
 }
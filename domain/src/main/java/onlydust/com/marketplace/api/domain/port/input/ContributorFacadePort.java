@@ -5,6 +5,7 @@ import onlydust.com.marketplace.api.domain.model.Currency;
 import onlydust.com.marketplace.api.domain.model.GithubRepo;
 import onlydust.com.marketplace.api.domain.model.Project;
 import onlydust.com.marketplace.api.domain.view.ContributionView;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 import org.apache.commons.lang3.tuple.Pair;
@@ -23,7 +24,7 @@ public interface ContributorFacadePort {
                                          ContributionView.Filters filters,
                                          ContributionView.Sort sort,
                                          SortDirection direction,
-                                         Integer page, Integer pageSize);
+                                         Integer page, Integer pageSize, Cursor after);
 
     List<Project> contributedProjects(Long contributorId, ContributionView.Filters filters);
 
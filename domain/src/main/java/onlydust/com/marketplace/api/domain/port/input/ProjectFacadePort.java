@@ -2,6 +2,7 @@ package onlydust.com.marketplace.api.domain.port.input;
 
 import onlydust.com.marketplace.api.domain.model.*;
 import onlydust.com.marketplace.api.domain.view.*;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 import org.apache.commons.lang3.tuple.Pair;
@@ -19,11 +20,11 @@ public interface ProjectFacadePort {
     Page<ProjectCardView> getByTechnologiesSponsorsUserIdSearchSortBy(List<String> technologies, List<UUID> sponsorIds,
                                                                       String search, ProjectCardView.SortBy sort,
                                                                       UUID userId, Boolean mine,
-                                                                      Integer pageIndex, Integer pageSize);
+                                                                      Integer pageIndex, Integer pageSize, Cursor after);
 
     Page<ProjectCardView> getByTechnologiesSponsorsSearchSortBy(List<String> technologies, List<UUID> sponsorIds,
                                                                 String search, ProjectCardView.SortBy sort,
-                                                                Integer pageIndex, Integer pageSize);
+                                                                Integer pageIndex, Integer pageSize, Cursor after);
 
 
     Pair<UUID, String> createProject(CreateProjectCommand createProjectCommand);
@@ -36,14 +37,16 @@ public interface ProjectFacadePort {
                                                       ProjectContributorsLinkView.SortBy sortBy,
                                                       SortDirection sortDirection,
                                                       Integer pageIndex,
-                                                      Integer pageSize);
+                                                      Integer pageSize,
+                                                      Cursor after);
 
     Page<ProjectContributorsLinkView> getContributorsForProjectLeadId(UUID projectId, String login,
                                                                       UUID projectLeadId,
                                                                       ProjectContributorsLinkView.SortBy sortBy,
                                                                       SortDirection sortDirection,
                                                                       Integer pageIndex,
-                                                                      Integer pageSize);
+                                                                      Integer pageSize,
+                                                                      Cursor after);
 
     ProjectRewardsPageView getRewards(UUID projectId, UUID projectLeadId,
                                       ProjectRewardView.Filters filters,
@@ -78,10 +81,16 @@ public interface ProjectFacadePort {
 
     Page<ContributionView> contributions(UUID projectId, User caller, ContributionView.Filters filters,
                                          ContributionView.Sort sort, SortDirection direction,
-                                         Integer page, Integer pageSize);
+                                         Integer page, Integer pageSize, Cursor after);
 
     void updateProjectsRanking();
 
+    void updateQueuedProjectsRanking();
+
+    void refreshProjectCatalog();
+
+    void refreshProjectContributorLogins();
+
     Page<ContributionView> staledContributions(UUID projectId, User caller, Integer page, Integer pageSize);
 
     Page<ChurnedContributorView> churnedContributors(UUID projectId, User caller, Integer page, Integer pageSize);
@@ -1,5 +1,6 @@
 package onlydust.com.marketplace.api.domain.port.input;
 
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -16,6 +17,8 @@ public interface ProjectObserverPort {
 
     void onLeaderInvitationCancelled(UUID projectId, Long githubUserId);
 
+    void onProjectLeadersToIndex(UUID projectId, List<Long> githubUserIds);
+
     void onLinkedReposChanged(UUID projectId, Set<Long> linkedRepoIds, Set<Long> unlinkedRepoIds);
 
     void onRewardSettingsChanged(UUID projectId);
@@ -5,6 +5,7 @@ import onlydust.com.marketplace.api.domain.model.User;
 import onlydust.com.marketplace.api.domain.model.UserPayoutInformation;
 import onlydust.com.marketplace.api.domain.model.UserProfile;
 import onlydust.com.marketplace.api.domain.view.*;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 
@@ -37,7 +38,8 @@ public interface UserFacadePort {
 
     UserRewardsPageView getRewardsForUserId(UUID userId, UserRewardView.Filters filters,
                                             int pageIndex, int sanitizedPageSize,
-                                            UserRewardView.SortBy sortBy, SortDirection sortDirection);
+                                            UserRewardView.SortBy sortBy, SortDirection sortDirection,
+                                            Cursor after);
 
     UserRewardTotalAmountsView getRewardTotalAmountsForUserId(UUID userId);
 
@@ -2,6 +2,12 @@ package onlydust.com.marketplace.api.domain.port.input;
 
 import onlydust.com.marketplace.api.domain.model.User;
 
+import java.util.UUID;
+
 public interface UserObserverPort {
     void onUserSignedUp(User user);
+
+    void onPayoutInformationUpdated(UUID userId);
+
+    void onOnboardingUpdated(UUID userId);
 }
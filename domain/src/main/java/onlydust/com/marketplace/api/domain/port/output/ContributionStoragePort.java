@@ -4,6 +4,7 @@ import onlydust.com.marketplace.api.domain.model.GithubRepo;
 import onlydust.com.marketplace.api.domain.model.Project;
 import onlydust.com.marketplace.api.domain.view.ContributionDetailsView;
 import onlydust.com.marketplace.api.domain.view.ContributionView;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 
@@ -16,7 +17,8 @@ public interface ContributionStoragePort {
                                              ContributionView.Sort sort,
                                              SortDirection direction,
                                              Integer page,
-                                             Integer pageSize);
+                                             Integer pageSize,
+                                             Cursor after);
 
     ContributionDetailsView findContributionById(UUID projectId, String contributionId);
 
@@ -33,4 +35,25 @@ public interface ContributionStoragePort {
     void refreshIgnoredContributions(UUID projectId);
 
     void refreshIgnoredContributions(List<Long> repoIds);
+
+    /**
+     * Re-evaluates only the given contributions of the given repos.
+     */
+    void refreshIgnoredContributions(List<Long> repoIds, List<String> contributionIds);
+
+    void refreshProjectContributorStats(UUID projectId);
+
+    void refreshProjectContributorStats(List<Long> repoIds);
+
+    /**
+     * Refreshes the contributor stats of (at most maxProjectCount) projects queued by reward changes.
+     *
+     * @return the refreshed projects
+     */
+    List<UUID> refreshQueuedProjectContributorStats(int maxProjectCount);
+
+    /**
+     * Copies the current GitHub logins into the contributor stats, to pick up the accounts renamed by the indexer.
+     */
+    void refreshProjectContributorLogins();
 }
@@ -0,0 +1,11 @@
+package onlydust.com.marketplace.api.domain.port.output;
+
+/**
+ * Cache of the GitHub organizations and memberships fetched on behalf of users. This API does not receive the GitHub
+ * app installation webhooks (the indexer does), so organizations are evicted when the frontend reads the installation
+ * right after the app has been installed. Entries changed on GitHub without an installation are revalidated with their
+ * ETag on every read.
+ */
+public interface GithubOrganizationCachePort {
+    void evictOrganization(String organizationLogin);
+}
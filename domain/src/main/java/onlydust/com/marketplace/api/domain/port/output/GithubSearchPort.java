@@ -5,6 +5,7 @@ import onlydust.com.marketplace.api.domain.model.GithubMembership;
 import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
 
 import java.util.List;
+import java.util.Map;
 
 public interface GithubSearchPort {
     List<GithubUserIdentity> searchUsersByLogin(String login);
@@ -13,4 +14,7 @@ public interface GithubSearchPort {
 
     GithubMembership getGithubUserMembershipForOrganization(Long githubUserId, String userLogin,
                                                             String organizationLogin);
+
+    Map<String, GithubMembership> getGithubUserMembershipForOrganizations(Long githubUserId, String userLogin,
+                                                                          List<String> organizationLogins);
 }
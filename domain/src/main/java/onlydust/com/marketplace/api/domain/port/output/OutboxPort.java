@@ -2,14 +2,37 @@ package onlydust.com.marketplace.api.domain.port.output;
 
 import onlydust.com.marketplace.api.domain.model.notification.Event;
 
-import java.util.Optional;
+import java.util.Date;
+import java.util.List;
 
 public interface OutboxPort {
     void push(Event event);
 
-    Optional<Event> peek();
+    /**
+     * Claims up to {@code maxCount} events that are due for processing. Claimed events are hidden from other consumers
+     * until they are acknowledged, rejected, or their claim expires.
+     */
+    List<IdentifiableEvent> peek(int maxCount);
 
-    void ack();
+    void ack(List<Long> eventIds);
 
-    void nack(String message);
+    void nack(Long eventId, String message);
+
+    /**
+     * Moves the events that were processed, or skipped after too many attempts, before the given date out of the outbox.
+     *
+     * @return the number of archived events
+     */
+    int archiveProcessedEvents(Date processedBefore);
+
+    /**
+     * @return the number of events that are not processed yet, and the creation date of the oldest one
+     */
+    Backlog backlog();
+
+    record IdentifiableEvent(Long id, Event event) {
+    }
+
+    record Backlog(long size, Date oldestEventCreatedAt) {
+    }
 }
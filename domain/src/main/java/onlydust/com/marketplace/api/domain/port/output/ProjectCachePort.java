@@ -0,0 +1,10 @@
+package onlydust.com.marketplace.api.domain.port.output;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ProjectCachePort {
+    void evict(UUID projectId);
+
+    void evictByRepoIds(List<Long> repoIds);
+}
@@ -2,6 +2,7 @@ package onlydust.com.marketplace.api.domain.port.output;
 
 import onlydust.com.marketplace.api.domain.model.*;
 import onlydust.com.marketplace.api.domain.view.*;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 
@@ -15,11 +16,11 @@ public interface ProjectStoragePort {
     Page<ProjectCardView> findByTechnologiesSponsorsUserIdSearchSortBy(List<String> technologies, List<UUID> sponsorIds,
                                                                        UUID userId, String search,
                                                                        ProjectCardView.SortBy sort, Boolean mine,
-                                                                       Integer pageIndex, Integer pageSize);
+                                                                       Integer pageIndex, Integer pageSize, Cursor after);
 
     Page<ProjectCardView> findByTechnologiesSponsorsSearchSortBy(List<String> technologies, List<UUID> sponsorIds,
                                                                  String search, ProjectCardView.SortBy sort,
-                                                                 Integer pageIndex, Integer pageSize);
+                                                                 Integer pageIndex, Integer pageSize, Cursor after);
 
     String createProject(UUID projectId, String name, String shortDescription, String longDescription,
                          Boolean isLookingForContributors, List<MoreInfoLink> moreInfos,
@@ -35,12 +36,12 @@ public interface ProjectStoragePort {
     Page<ProjectContributorsLinkView> findContributors(UUID projectId, String login,
                                                        ProjectContributorsLinkView.SortBy sortBy,
                                                        SortDirection sortDirection,
-                                                       int pageIndex, int pageSize);
+                                                       int pageIndex, int pageSize, Cursor after);
 
     Page<ProjectContributorsLinkView> findContributorsForProjectLead(UUID projectId, String login,
                                                                      ProjectContributorsLinkView.SortBy sortBy,
                                                                      SortDirection sortDirection,
-                                                                     int pageIndex, int pageSize);
+                                                                     int pageIndex, int pageSize, Cursor after);
 
     List<UUID> getProjectLeadIds(UUID projectId);
 
@@ -80,6 +81,28 @@ public interface ProjectStoragePort {
 
     void updateProjectsRanking();
 
+    /**
+     * Recomputes the ranking features and the rank of the projects queued since the last run, against the current
+     * moments of all projects.
+     */
+    void updateQueuedProjectsRanking();
+
+    /**
+     * Queues the projects the given repos are linked to for the next {@link #updateQueuedProjectsRanking()} run.
+     */
+    void queueProjectsRanking(List<Long> repoIds);
+
+    /**
+     * Recomputes the projects list catalog rows of the projects the given repos are linked to.
+     */
+    void refreshProjectCatalog(List<Long> repoIds);
+
+    /**
+     * Recomputes the projects list catalog rows of all projects, to pick up the indexer changes that come without a
+     * contribution change event.
+     */
+    void refreshProjectCatalog();
+
     Page<ChurnedContributorView> getChurnedContributors(UUID projectId, Integer pageIndex, Integer pageSize);
 
     Page<NewcomerView> getNewcomers(UUID projectId, Integer pageIndex, Integer pageSize);
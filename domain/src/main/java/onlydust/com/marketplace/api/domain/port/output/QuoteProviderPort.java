@@ -0,0 +1,7 @@
+package onlydust.com.marketplace.api.domain.port.output;
+
+import onlydust.com.marketplace.api.domain.model.UsdQuotes;
+
+public interface QuoteProviderPort {
+    UsdQuotes latest();
+}
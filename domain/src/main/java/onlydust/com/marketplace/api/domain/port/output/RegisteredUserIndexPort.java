@@ -0,0 +1,5 @@
+package onlydust.com.marketplace.api.domain.port.output;
+
+public interface RegisteredUserIndexPort {
+    void add(Long githubUserId);
+}
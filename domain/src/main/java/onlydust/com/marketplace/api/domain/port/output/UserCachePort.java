@@ -0,0 +1,11 @@
+package onlydust.com.marketplace.api.domain.port.output;
+
+import java.util.UUID;
+
+public interface UserCachePort {
+    void evict(UUID userId);
+
+    void evictByGithubUserId(Long githubUserId);
+
+    void evictProjectLeaders(UUID projectId);
+}
@@ -6,6 +6,7 @@ import onlydust.com.marketplace.api.domain.model.User;
 import onlydust.com.marketplace.api.domain.model.UserPayoutInformation;
 import onlydust.com.marketplace.api.domain.model.UserProfile;
 import onlydust.com.marketplace.api.domain.view.*;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 
@@ -22,6 +23,8 @@ public interface UserStoragePort {
 
     Optional<User> getUserByGithubId(Long githubId);
 
+    Set<Long> registeredGithubIds(Collection<Long> githubUserIds);
+
     void createUser(User user);
 
     void updateUserIdentity(UUID userId, String githubLogin, String githubAvatarUrl, String emailFromGithub,
@@ -41,7 +44,8 @@ public interface UserStoragePort {
 
     UserRewardsPageView findRewardsForUserId(UUID userId, UserRewardView.Filters filters,
                                              int pageIndex, int pageSize,
-                                             UserRewardView.SortBy sortBy, SortDirection sortDirection);
+                                             UserRewardView.SortBy sortBy, SortDirection sortDirection,
+                                             Cursor after);
 
     UserRewardTotalAmountsView findRewardTotalAmountsForUserId(UUID userId);
 
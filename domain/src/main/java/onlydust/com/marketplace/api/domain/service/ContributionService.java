@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
 import onlydust.com.marketplace.api.domain.model.User;
 import onlydust.com.marketplace.api.domain.port.input.ContributionFacadePort;
+import onlydust.com.marketplace.api.domain.port.input.ContributionObserverPort;
 import onlydust.com.marketplace.api.domain.port.output.ContributionStoragePort;
 import onlydust.com.marketplace.api.domain.view.ContributionDetailsView;
 
@@ -14,6 +15,7 @@ import java.util.UUID;
 public class ContributionService implements ContributionFacadePort {
     final ContributionStoragePort contributionStoragePort;
     final PermissionService permissionService;
+    final ContributionObserverPort contributionObserverPort;
 
     @Override
     public ContributionDetailsView getContribution(UUID projectId, String contributionId, User caller) {
@@ -29,6 +31,7 @@ public class ContributionService implements ContributionFacadePort {
         if (!permissionService.isUserProjectLead(projectId, projectLeadId))
             throw OnlyDustException.forbidden("Only project leaders can edit the list of ignored contributions");
         contributionStoragePort.ignoreContributions(projectId, contributionIds);
+        contributionObserverPort.onProjectContributionsChanged(projectId);
     }
 
     @Override
@@ -36,5 +39,6 @@ public class ContributionService implements ContributionFacadePort {
         if (!permissionService.isUserProjectLead(projectId, projectLeadId))
             throw OnlyDustException.forbidden("Only project leaders can edit the list of ignored contributions");
         contributionStoragePort.unignoreContributions(projectId, contributionIds);
+        contributionObserverPort.onProjectContributionsChanged(projectId);
     }
 }
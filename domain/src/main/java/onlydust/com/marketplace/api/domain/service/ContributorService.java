@@ -4,10 +4,12 @@ import lombok.AllArgsConstructor;
 import onlydust.com.marketplace.api.domain.model.Contributor;
 import onlydust.com.marketplace.api.domain.model.Currency;
 import onlydust.com.marketplace.api.domain.model.GithubRepo;
+import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
 import onlydust.com.marketplace.api.domain.model.Project;
 import onlydust.com.marketplace.api.domain.port.input.ContributorFacadePort;
 import onlydust.com.marketplace.api.domain.port.output.*;
 import onlydust.com.marketplace.api.domain.view.ContributionView;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 import org.apache.commons.lang3.tuple.Pair;
@@ -49,9 +51,10 @@ public class ContributorService implements ContributorFacadePort {
                                                 ContributionView.Sort sort,
                                                 SortDirection direction,
                                                 Integer page,
-                                                Integer pageSize) {
+                                                Integer pageSize,
+                                                Cursor after) {
         return contributionStoragePort.findContributions(
-                contributorId, filters, sort, direction, page, pageSize);
+                contributorId, filters, sort, direction, page, pageSize, after);
     }
 
     @Override
@@ -86,10 +89,13 @@ public class ContributorService implements ContributorFacadePort {
     }
 
     private List<Contributor> getExternalContributors(String login) {
-        return githubSearchPort.searchUsersByLogin(login).stream().map(
+        final List<GithubUserIdentity> identities = githubSearchPort.searchUsersByLogin(login);
+        final Set<Long> registeredGithubIds = userStoragePort.registeredGithubIds(
+                identities.stream().map(GithubUserIdentity::getGithubUserId).toList());
+        return identities.stream().map(
                 identity -> Contributor.builder()
                         .id(identity)
-                        .isRegistered(userStoragePort.getUserByGithubId(identity.getGithubUserId()).isPresent())
+                        .isRegistered(registeredGithubIds.contains(identity.getGithubUserId()))
                         .build()
         ).toList();
     }
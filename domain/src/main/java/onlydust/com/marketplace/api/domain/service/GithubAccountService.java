@@ -6,11 +6,13 @@ import onlydust.com.marketplace.api.domain.model.GithubMembership;
 import onlydust.com.marketplace.api.domain.model.User;
 import onlydust.com.marketplace.api.domain.port.input.GithubInstallationFacadePort;
 import onlydust.com.marketplace.api.domain.port.input.GithubOrganizationFacadePort;
+import onlydust.com.marketplace.api.domain.port.output.GithubOrganizationCachePort;
 import onlydust.com.marketplace.api.domain.port.output.GithubSearchPort;
 import onlydust.com.marketplace.api.domain.port.output.GithubStoragePort;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -19,26 +21,31 @@ public class GithubAccountService implements GithubInstallationFacadePort, Githu
 
     private final GithubStoragePort githubStoragePort;
     private final GithubSearchPort githubSearchPort;
+    private final GithubOrganizationCachePort githubOrganizationCachePort;
 
     @Override
     public Optional<GithubAccount> getAccountByInstallationId(Long installationId) {
-        return githubStoragePort.findAccountByInstallationId(installationId);
+        final Optional<GithubAccount> account = githubStoragePort.findAccountByInstallationId(installationId);
+        // The frontend reads the installation right after the GitHub app has been installed: this is the only
+        // installation event this API gets, see GithubOrganizationCachePort
+        account.ifPresent(installedAccount -> githubOrganizationCachePort.evictOrganization(installedAccount.getLogin()));
+        return account;
     }
 
     @Override
     public List<GithubAccount> getOrganizationsForAuthenticatedUser(final User authenticatedUser) {
-        final List<GithubAccount> userGithubAccounts =
-                new ArrayList<>(githubSearchPort.searchOrganizationsByGithubUserId(authenticatedUser.getGithubUserId()))
-                        .stream()
-                        .map(githubAccount -> githubAccount.toBuilder()
-                                .isCurrentUserAdmin(githubSearchPort.getGithubUserMembershipForOrganization(
-                                        authenticatedUser.getGithubUserId(),
-                                        authenticatedUser.getGithubLogin(),
-                                        githubAccount.getLogin()
-                                ).equals(GithubMembership.ADMIN))
-                                .build()
-                        )
-                        .collect(Collectors.toList());
+        final List<GithubAccount> organizations =
+                githubSearchPort.searchOrganizationsByGithubUserId(authenticatedUser.getGithubUserId());
+        final Map<String, GithubMembership> memberships = githubSearchPort.getGithubUserMembershipForOrganizations(
+                authenticatedUser.getGithubUserId(),
+                authenticatedUser.getGithubLogin(),
+                organizations.stream().map(GithubAccount::getLogin).toList());
+        final List<GithubAccount> userGithubAccounts = organizations.stream()
+                .map(githubAccount -> githubAccount.toBuilder()
+                        .isCurrentUserAdmin(GithubMembership.ADMIN.equals(memberships.get(githubAccount.getLogin())))
+                        .build()
+                )
+                .collect(Collectors.toList());
         userGithubAccounts.add(GithubAccount.builder()
                 .id(authenticatedUser.getGithubUserId())
                 .login(authenticatedUser.getGithubLogin())
@@ -9,6 +9,7 @@ import onlydust.com.marketplace.api.domain.port.input.ProjectFacadePort;
 import onlydust.com.marketplace.api.domain.port.input.ProjectObserverPort;
 import onlydust.com.marketplace.api.domain.port.output.*;
 import onlydust.com.marketplace.api.domain.view.*;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 import org.apache.commons.lang3.tuple.Pair;
@@ -72,26 +73,23 @@ public class ProjectService implements ProjectFacadePort {
     public Page<ProjectCardView> getByTechnologiesSponsorsUserIdSearchSortBy(List<String> technologies,
                                                                              List<UUID> sponsorIds, String search,
                                                                              ProjectCardView.SortBy sort, UUID userId
-            , Boolean mine, Integer pageIndex, Integer pageSize) {
+            , Boolean mine, Integer pageIndex, Integer pageSize, Cursor after) {
         return projectStoragePort.findByTechnologiesSponsorsUserIdSearchSortBy(technologies, sponsorIds, userId, search,
-                sort, mine, pageIndex, pageSize);
+                sort, mine, pageIndex, pageSize, after);
     }
 
     @Override
     public Page<ProjectCardView> getByTechnologiesSponsorsSearchSortBy(List<String> technologies, List<UUID> sponsorIds,
                                                                        String search, ProjectCardView.SortBy sort,
-                                                                       Integer pageIndex, Integer pageSize) {
+                                                                       Integer pageIndex, Integer pageSize,
+                                                                       Cursor after) {
         return projectStoragePort.findByTechnologiesSponsorsSearchSortBy(technologies, sponsorIds, search, sort,
-                pageIndex, pageSize);
+                pageIndex, pageSize, after);
     }
 
     @Override
     @Transactional
     public Pair<UUID, String> createProject(CreateProjectCommand command) {
-        if (command.getGithubUserIdsAsProjectLeadersToInvite() != null) {
-            indexerPort.indexUsers(command.getGithubUserIdsAsProjectLeadersToInvite());
-        }
-
         final UUID projectId = uuidGeneratorPort.generate();
         final String projectSlug = this.projectStoragePort.createProject(projectId, command.getName(),
                 command.getShortDescription(), command.getLongDescription(),
@@ -108,6 +106,7 @@ public class ProjectService implements ProjectFacadePort {
         projectObserverPort.onProjectCreated(projectId);
         projectObserverPort.onLeaderAssigned(projectId, command.getFirstProjectLeaderId());
         if (nonNull(command.getGithubUserIdsAsProjectLeadersToInvite())) {
+            projectObserverPort.onProjectLeadersToIndex(projectId, command.getGithubUserIdsAsProjectLeadersToInvite());
             command.getGithubUserIdsAsProjectLeadersToInvite().forEach(githubUserId ->
                     projectObserverPort.onLeaderInvited(projectId, githubUserId));
         }
@@ -123,10 +122,6 @@ public class ProjectService implements ProjectFacadePort {
         if (!permissionService.isUserProjectLead(command.getId(), projectLeadId)) {
             throw OnlyDustException.forbidden("Only project leads can update their projects");
         }
-        if (command.getGithubUserIdsAsProjectLeadersToInvite() != null) {
-            indexerPort.indexUsers(command.getGithubUserIdsAsProjectLeadersToInvite());
-        }
-
         final Set<UUID> unassignedLeaderIds = getUnassignedLeaderIds(command);
 
         final Set<Long> invitedLeaderGithubIds = new HashSet<>();
@@ -147,6 +142,9 @@ public class ProjectService implements ProjectFacadePort {
                 command.getRewardSettings());
 
         projectObserverPort.onProjectDetailsUpdated(command.getId());
+        if (!invitedLeaderGithubIds.isEmpty()) {
+            projectObserverPort.onProjectLeadersToIndex(command.getId(), List.copyOf(invitedLeaderGithubIds));
+        }
         invitedLeaderGithubIds.forEach(leaderId -> projectObserverPort.onLeaderInvited(command.getId(), leaderId));
         invitationCancelledLeaderGithubIds.forEach(leaderId ->
                 projectObserverPort.onLeaderInvitationCancelled(command.getId(), leaderId));
@@ -214,8 +212,9 @@ public class ProjectService implements ProjectFacadePort {
     public Page<ProjectContributorsLinkView> getContributors(UUID projectId, String login,
                                                              ProjectContributorsLinkView.SortBy sortBy,
                                                              SortDirection sortDirection,
-                                                             Integer pageIndex, Integer pageSize) {
-        return projectStoragePort.findContributors(projectId, login, sortBy, sortDirection, pageIndex, pageSize);
+                                                             Integer pageIndex, Integer pageSize, Cursor after) {
+        return projectStoragePort.findContributors(projectId, login, sortBy, sortDirection, pageIndex, pageSize,
+                after);
     }
 
     @Override
@@ -224,12 +223,14 @@ public class ProjectService implements ProjectFacadePort {
                                                                              ProjectContributorsLinkView.SortBy sortBy,
                                                                              SortDirection sortDirection,
                                                                              Integer pageIndex,
-                                                                             Integer pageSize) {
+                                                                             Integer pageSize,
+                                                                             Cursor after) {
         if (permissionService.isUserProjectLead(projectId, projectLeadId)) {
             return projectStoragePort.findContributorsForProjectLead(projectId, login, sortBy, sortDirection, pageIndex,
-                    pageSize);
+                    pageSize, after);
         } else {
-            return projectStoragePort.findContributors(projectId, login, sortBy, sortDirection, pageIndex, pageSize);
+            return projectStoragePort.findContributors(projectId, login, sortBy, sortDirection, pageIndex, pageSize,
+                    after);
         }
     }
 
@@ -363,12 +364,12 @@ public class ProjectService implements ProjectFacadePort {
     @Override
     public Page<ContributionView> contributions(UUID projectId, User caller, ContributionView.Filters filters,
                                                 ContributionView.Sort sort, SortDirection direction,
-                                                Integer page, Integer pageSize) {
+                                                Integer page, Integer pageSize, Cursor after) {
         if (!permissionService.isUserProjectLead(projectId, caller.getId())) {
             throw OnlyDustException.forbidden("Only project leads can list project contributions");
         }
         return contributionStoragePort.findContributions(caller.getGithubUserId(), filters, sort, direction, page,
-                pageSize);
+                pageSize, after);
     }
 
     @Override
@@ -376,6 +377,21 @@ public class ProjectService implements ProjectFacadePort {
         projectStoragePort.updateProjectsRanking();
     }
 
+    @Override
+    public void updateQueuedProjectsRanking() {
+        projectStoragePort.updateQueuedProjectsRanking();
+    }
+
+    @Override
+    public void refreshProjectCatalog() {
+        projectStoragePort.refreshProjectCatalog();
+    }
+
+    @Override
+    public void refreshProjectContributorLogins() {
+        contributionStoragePort.refreshProjectContributorLogins();
+    }
+
     @Override
     public Page<ContributionView> staledContributions(UUID projectId, User caller, Integer page, Integer pageSize) {
         final var filters = ContributionView.Filters.builder()
@@ -384,7 +400,8 @@ public class ProjectService implements ProjectFacadePort {
                 .to(Date.from(ZonedDateTime.now().minusDays(STALE_CONTRIBUTION_THRESHOLD_IN_DAYS).toInstant()))
                 .build();
 
-        return contributions(projectId, caller, filters, ContributionView.Sort.CREATED_AT, SortDirection.desc, page, pageSize);
+        return contributions(projectId, caller, filters, ContributionView.Sort.CREATED_AT, SortDirection.desc, page,
+                pageSize, null);
     }
 
     @Override
@@ -12,6 +12,7 @@ import onlydust.com.marketplace.api.domain.port.output.ImageStoragePort;
 import onlydust.com.marketplace.api.domain.port.output.ProjectStoragePort;
 import onlydust.com.marketplace.api.domain.port.output.UserStoragePort;
 import onlydust.com.marketplace.api.domain.view.*;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 
@@ -94,17 +95,22 @@ public class UserService implements UserFacadePort {
     @Override
     public UserPayoutInformation updatePayoutInformation(UUID userId, UserPayoutInformation userPayoutInformation) {
         userPayoutInformation.validate();
-        return userStoragePort.savePayoutInformationForUserId(userId, userPayoutInformation);
+        final var savedPayoutInformation = userStoragePort.savePayoutInformationForUserId(userId,
+                userPayoutInformation);
+        userObserverPort.onPayoutInformationUpdated(userId);
+        return savedPayoutInformation;
     }
 
     @Override
     public void markUserAsOnboarded(UUID userId) {
         userStoragePort.updateOnboardingWizardDisplayDate(userId, dateProvider.now());
+        userObserverPort.onOnboardingUpdated(userId);
     }
 
     @Override
     public void updateTermsAndConditionsAcceptanceDate(UUID userId) {
         userStoragePort.updateTermsAndConditionsAcceptanceDate(userId, dateProvider.now());
+        userObserverPort.onOnboardingUpdated(userId);
     }
 
     @Override
@@ -122,8 +128,10 @@ public class UserService implements UserFacadePort {
     @Override
     public UserRewardsPageView getRewardsForUserId(UUID userId, UserRewardView.Filters filters,
                                                    int pageIndex, int pageSize,
-                                                   UserRewardView.SortBy sortBy, SortDirection sortDirection) {
-        return userStoragePort.findRewardsForUserId(userId, filters, pageIndex, pageSize, sortBy, sortDirection);
+                                                   UserRewardView.SortBy sortBy, SortDirection sortDirection,
+                                                   Cursor after) {
+        return userStoragePort.findRewardsForUserId(userId, filters, pageIndex, pageSize, sortBy, sortDirection,
+                after);
     }
 
     @Override
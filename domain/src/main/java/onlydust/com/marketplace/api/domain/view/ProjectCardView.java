@@ -52,7 +52,7 @@ public class ProjectCardView {
     }
 
     public enum SortBy {
-        CONTRIBUTORS_COUNT, REPOS_COUNT, RANK, NAME;
+        CONTRIBUTORS_COUNT, REPOS_COUNT, RANK, NAME, RELEVANCE;
     }
 
     public enum FilterBy {
@@ -11,7 +11,7 @@ import onlydust.com.marketplace.api.domain.model.ProjectVisibility;
 import java.util.*;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class ProjectDetailsView {
     UUID id;
     String slug;
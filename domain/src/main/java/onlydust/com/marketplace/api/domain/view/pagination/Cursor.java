@@ -0,0 +1,97 @@
+package onlydust.com.marketplace.api.domain.view.pagination;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Position of the last item of a page, made of the values of its sort keys and of its id. It is exchanged with
+ * clients as an opaque token, so that the next page can be read with a keyset condition instead of an offset.
+ * Null sort values are kept as such, so that they can be told apart from empty ones.
+ */
+@EqualsAndHashCode
+@ToString
+public class Cursor {
+
+    private static final String ENTRY_SEPARATOR = "\u001E";
+    private static final String KEY_VALUE_SEPARATOR = "\u001F";
+    private static final String NULL_VALUE = "\u0000";
+
+    private final Map<String, String> values;
+
+    private Cursor(final Map<String, String> values) {
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static Cursor decode(final String token) {
+        if (isNull(token) || token.isBlank()) {
+            return null;
+        }
+        try {
+            final Map<String, String> values = new LinkedHashMap<>();
+            for (String entry : new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split(ENTRY_SEPARATOR)) {
+                final String[] keyValue = entry.split(KEY_VALUE_SEPARATOR, 2);
+                if (keyValue.length != 2) {
+                    throw OnlyDustException.badRequest("Invalid pagination cursor %s".formatted(token));
+                }
+                values.put(keyValue[0], NULL_VALUE.equals(keyValue[1]) ? null : keyValue[1]);
+            }
+            return new Cursor(values);
+        } catch (IllegalArgumentException e) {
+            throw OnlyDustException.badRequest("Invalid pagination cursor %s".formatted(token), e);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(values.entrySet().stream()
+                .map(entry -> entry.getKey() + KEY_VALUE_SEPARATOR +
+                              (isNull(entry.getValue()) ? NULL_VALUE : entry.getValue()))
+                .collect(Collectors.joining(ENTRY_SEPARATOR))
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String get(final String key) {
+        if (!values.containsKey(key)) {
+            throw OnlyDustException.badRequest("Pagination cursor does not match the requested sort");
+        }
+        return values.get(key);
+    }
+
+    public Optional<String> find(final String key) {
+        return Optional.ofNullable(values.get(key));
+    }
+
+    public Cursor with(final String key, final Object value) {
+        final Map<String, String> values = new LinkedHashMap<>(this.values);
+        values.put(key, isNull(value) ? null : value.toString());
+        return new Cursor(values);
+    }
+
+    public static class Builder {
+        private final Map<String, String> values = new LinkedHashMap<>();
+
+        public Builder value(final String key, final Object value) {
+            values.put(key, isNull(value) ? null : value.toString());
+            return this;
+        }
+
+        public Cursor build() {
+            return new Cursor(values);
+        }
+    }
+}
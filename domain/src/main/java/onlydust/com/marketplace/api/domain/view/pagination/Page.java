@@ -12,6 +12,7 @@ public class Page<T> {
     List<T> content;
     int totalPageNumber;
     int totalItemNumber;
+    String nextCursor;
     @Builder.Default
     Map<String, Set<Object>> filters = new HashMap<>();
 }
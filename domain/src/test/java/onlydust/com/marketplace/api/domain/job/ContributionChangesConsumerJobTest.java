@@ -0,0 +1,129 @@
+package onlydust.com.marketplace.api.domain.job;
+
+import onlydust.com.marketplace.api.domain.model.notification.ProjectContributionsChanged;
+import onlydust.com.marketplace.api.domain.model.notification.RepoContributionsChanged;
+import onlydust.com.marketplace.api.domain.port.output.ContributionStoragePort;
+import onlydust.com.marketplace.api.domain.port.output.OutboxPort;
+import onlydust.com.marketplace.api.domain.port.output.OutboxPort.IdentifiableEvent;
+import onlydust.com.marketplace.api.domain.port.output.ProjectCachePort;
+import onlydust.com.marketplace.api.domain.port.output.ProjectStoragePort;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class ContributionChangesConsumerJobTest {
+
+    final OutboxPort outbox = mock(OutboxPort.class);
+    final ContributionStoragePort contributionStoragePort = mock(ContributionStoragePort.class);
+    final ProjectStoragePort projectStoragePort = mock(ProjectStoragePort.class);
+    final ProjectCachePort projectCachePort = mock(ProjectCachePort.class);
+    final ContributionChangesConsumerJob job = new ContributionChangesConsumerJob(outbox, contributionStoragePort,
+            projectStoragePort, projectCachePort, ContributionChangesConsumerJob.Config.builder().batchSize(10).build());
+
+    @Test
+    void should_merge_changes_by_repo_and_refresh_them_at_once() {
+        // Given
+        when(outbox.peek(10)).thenReturn(List.of(
+                new IdentifiableEvent(1L, new RepoContributionsChanged(1L, Set.of("c1"))),
+                new IdentifiableEvent(2L, new RepoContributionsChanged(2L, null)),
+                new IdentifiableEvent(3L, new RepoContributionsChanged(1L, Set.of("c2"))),
+                new IdentifiableEvent(4L, new RepoContributionsChanged(3L, Set.of("c3")))
+        ), List.of());
+
+        // When
+        job.run();
+
+        // Then
+        verify(contributionStoragePort).refreshIgnoredContributions(List.of(2L));
+        verify(contributionStoragePort).refreshIgnoredContributions(eq(List.of(1L, 3L)),
+                argThat(contributionIds -> contributionIds.size() == 3
+                                           && Set.copyOf(contributionIds).equals(Set.of("c1", "c2", "c3"))));
+        verify(contributionStoragePort).refreshProjectContributorStats(List.of(1L, 2L, 3L));
+        verify(projectStoragePort).refreshProjectCatalog(List.of(1L, 2L, 3L));
+        verify(projectStoragePort).queueProjectsRanking(List.of(1L, 2L, 3L));
+        verify(projectCachePort).evictByRepoIds(List.of(1L, 2L, 3L));
+        verify(outbox).ack(List.of(1L, 2L, 3L, 4L));
+        verify(outbox, never()).nack(anyLong(), anyString());
+    }
+
+    @Test
+    void should_refresh_the_changed_contributions_by_chunks() {
+        // Given
+        final ContributionChangesConsumerJob job = new ContributionChangesConsumerJob(outbox, contributionStoragePort,
+                projectStoragePort, projectCachePort, ContributionChangesConsumerJob.Config.builder()
+                .batchSize(10).contributionIdsChunkSize(2).build());
+        when(outbox.peek(10)).thenReturn(List.of(
+                new IdentifiableEvent(1L, new RepoContributionsChanged(1L, Set.of("c1", "c2"))),
+                new IdentifiableEvent(2L, new RepoContributionsChanged(2L, Set.of("c3")))
+        ), List.of());
+
+        // When
+        job.run();
+
+        // Then
+        verify(contributionStoragePort).refreshIgnoredContributions(eq(List.of(1L, 2L)),
+                argThat(contributionIds -> contributionIds.size() == 2
+                                           && Set.of("c1", "c2").containsAll(contributionIds)));
+        verify(contributionStoragePort).refreshIgnoredContributions(List.of(1L, 2L), List.of("c3"));
+        verify(outbox).ack(List.of(1L, 2L));
+    }
+
+    @Test
+    void should_only_nack_the_events_of_the_failing_repo_when_the_batch_refresh_fails() {
+        // Given
+        when(outbox.peek(10)).thenReturn(List.of(
+                new IdentifiableEvent(1L, new RepoContributionsChanged(1L, null)),
+                new IdentifiableEvent(2L, new RepoContributionsChanged(2L, null)),
+                new IdentifiableEvent(3L, new RepoContributionsChanged(1L, null))
+        ), List.of());
+        doThrow(new RuntimeException("Some error")).when(contributionStoragePort)
+                .refreshIgnoredContributions(argThat((List<Long> repoIds) -> repoIds.contains(1L)));
+
+        // When
+        job.run();
+
+        // Then
+        verify(contributionStoragePort).refreshIgnoredContributions(List.of(1L, 2L));
+        verify(contributionStoragePort).refreshIgnoredContributions(List.of(1L));
+        verify(contributionStoragePort).refreshIgnoredContributions(List.of(2L));
+        verify(outbox).nack(1L, "Some error");
+        verify(outbox).nack(3L, "Some error");
+        verify(outbox, never()).nack(eq(2L), anyString());
+        verify(outbox).ack(List.of(2L));
+        verify(projectCachePort).evictByRepoIds(List.of(2L));
+    }
+
+    @Test
+    void should_refresh_the_contributor_stats_of_changed_projects_once() {
+        // Given
+        final UUID projectId = UUID.randomUUID();
+        final UUID failingProjectId = UUID.randomUUID();
+        when(outbox.peek(10)).thenReturn(List.of(
+                new IdentifiableEvent(1L, new ProjectContributionsChanged(projectId)),
+                new IdentifiableEvent(2L, new ProjectContributionsChanged(failingProjectId)),
+                new IdentifiableEvent(3L, new ProjectContributionsChanged(projectId))
+        ), List.of());
+        doThrow(new RuntimeException("Some error")).when(contributionStoragePort)
+                .refreshProjectContributorStats(failingProjectId);
+
+        // When
+        job.run();
+
+        // Then
+        verify(contributionStoragePort, times(1)).refreshProjectContributorStats(projectId);
+        verify(projectCachePort).evict(projectId);
+        verify(outbox).ack(List.of(1L, 3L));
+        verify(outbox).nack(2L, "Some error");
+        verify(projectCachePort, never()).evict(failingProjectId);
+        verify(contributionStoragePort, never()).refreshIgnoredContributions(anyList());
+    }
+}
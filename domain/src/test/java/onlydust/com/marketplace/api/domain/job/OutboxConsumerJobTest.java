@@ -0,0 +1,77 @@
+package onlydust.com.marketplace.api.domain.job;
+
+import onlydust.com.marketplace.api.domain.model.notification.Event;
+import onlydust.com.marketplace.api.domain.model.notification.UserSignedUp;
+import onlydust.com.marketplace.api.domain.port.output.OutboxPort;
+import onlydust.com.marketplace.api.domain.port.output.OutboxPort.IdentifiableEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class OutboxConsumerJobTest {
+
+    final OutboxPort outbox = mock(OutboxPort.class);
+    final OutboxConsumer consumer = mock(OutboxConsumer.class);
+    final OutboxConsumerJob job = new OutboxConsumerJob(outbox, consumer,
+            OutboxConsumerJob.Config.builder().batchSize(10).parallelism(2).build());
+
+    @Test
+    void should_ack_processed_events_and_nack_failed_ones() {
+        // Given
+        final Event event1 = new UserSignedUp(UUID.randomUUID(), 1L, "login1", new Date());
+        final Event event2 = new UserSignedUp(UUID.randomUUID(), 2L, "login2", new Date());
+        final Event event3 = new UserSignedUp(UUID.randomUUID(), 3L, "login3", new Date());
+        when(outbox.peek(10)).thenReturn(List.of(
+                new IdentifiableEvent(1L, event1),
+                new IdentifiableEvent(2L, event2),
+                new IdentifiableEvent(3L, event3)
+        ), List.of());
+        doThrow(new RuntimeException("Some error")).when(consumer).process(event2);
+
+        // When
+        job.run();
+
+        // Then
+        verify(consumer).process(event1);
+        verify(consumer).process(event2);
+        verify(consumer).process(event3);
+        verify(outbox).ack(List.of(1L, 3L));
+        verify(outbox).nack(2L, "Some error");
+    }
+
+    @Test
+    void should_do_nothing_when_there_is_no_event() {
+        // Given
+        when(outbox.peek(10)).thenReturn(List.of());
+
+        // When
+        job.run();
+
+        // Then
+        verifyNoInteractions(consumer);
+        verify(outbox, never()).ack(anyList());
+        verify(outbox, never()).nack(anyLong(), anyString());
+    }
+
+    @Test
+    void should_stop_dispatching_events_once_closed() {
+        // Given
+        final Event event = new UserSignedUp(UUID.randomUUID(), 1L, "login1", new Date());
+        when(outbox.peek(10)).thenReturn(List.of(new IdentifiableEvent(1L, event)), List.of());
+        job.close();
+
+        // When
+        job.run();
+
+        // Then
+        verifyNoInteractions(consumer);
+        verify(outbox, never()).ack(anyList());
+    }
+}
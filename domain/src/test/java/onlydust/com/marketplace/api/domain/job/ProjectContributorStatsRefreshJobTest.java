@@ -0,0 +1,62 @@
+package onlydust.com.marketplace.api.domain.job;
+
+import onlydust.com.marketplace.api.domain.port.output.ContributionStoragePort;
+import onlydust.com.marketplace.api.domain.port.output.ProjectCachePort;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+class ProjectContributorStatsRefreshJobTest {
+
+    private final ContributionStoragePort contributionStoragePort = mock(ContributionStoragePort.class);
+    private final ProjectCachePort projectCachePort = mock(ProjectCachePort.class);
+    private final ProjectContributorStatsRefreshJob job = new ProjectContributorStatsRefreshJob(contributionStoragePort,
+            projectCachePort, ProjectContributorStatsRefreshJob.Config.builder().batchSize(2).build());
+
+    @Test
+    void should_drain_the_queue_batch_by_batch() {
+        // Given
+        when(contributionStoragePort.refreshQueuedProjectContributorStats(2)).thenReturn(
+                List.of(UUID.randomUUID(), UUID.randomUUID()),
+                List.of(UUID.randomUUID(), UUID.randomUUID()),
+                List.of(UUID.randomUUID()));
+
+        // When
+        job.run();
+
+        // Then
+        verify(contributionStoragePort, times(3)).refreshQueuedProjectContributorStats(2);
+    }
+
+    @Test
+    void should_evict_the_refreshed_projects_from_the_cache() {
+        // Given
+        final UUID projectId1 = UUID.randomUUID();
+        final UUID projectId2 = UUID.randomUUID();
+        when(contributionStoragePort.refreshQueuedProjectContributorStats(2)).thenReturn(List.of(projectId1, projectId2),
+                List.of());
+
+        // When
+        job.run();
+
+        // Then
+        verify(projectCachePort).evict(projectId1);
+        verify(projectCachePort).evict(projectId2);
+        verifyNoMoreInteractions(projectCachePort);
+    }
+
+    @Test
+    void should_not_propagate_refresh_failures() {
+        // Given
+        when(contributionStoragePort.refreshQueuedProjectContributorStats(2)).thenThrow(new RuntimeException("boom"));
+
+        // When
+        job.run();
+
+        // Then
+        verify(contributionStoragePort, times(1)).refreshQueuedProjectContributorStats(2);
+    }
+}
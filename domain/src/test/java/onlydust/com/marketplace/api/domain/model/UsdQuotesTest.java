@@ -0,0 +1,32 @@
+package onlydust.com.marketplace.api.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UsdQuotesTest {
+
+    private final UsdQuotes quotes = new UsdQuotes(Map.of(Currency.Eth, BigDecimal.valueOf(1500.5)), Instant.now());
+
+    @Test
+    void converts_amount_with_its_currency_price() {
+        assertThat(quotes.toUsd(Currency.Eth, BigDecimal.valueOf(2))).isEqualByComparingTo("3001");
+        assertThat(quotes.price(Currency.Eth)).contains(BigDecimal.valueOf(1500.5));
+    }
+
+    @Test
+    void usd_amounts_are_left_unchanged() {
+        assertThat(quotes.toUsd(Currency.Usd, BigDecimal.TEN)).isEqualTo(BigDecimal.TEN);
+        assertThat(quotes.price(Currency.Usd)).isEmpty();
+    }
+
+    @Test
+    void cannot_convert_without_price() {
+        assertThat(quotes.toUsd(Currency.Op, BigDecimal.TEN)).isNull();
+        assertThat(quotes.toUsd(Currency.Eth, null)).isNull();
+    }
+}
@@ -4,6 +4,7 @@ import com.github.javafaker.Faker;
 import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
 import onlydust.com.marketplace.api.domain.model.ContributionStatus;
 import onlydust.com.marketplace.api.domain.model.User;
+import onlydust.com.marketplace.api.domain.port.input.ContributionObserverPort;
 import onlydust.com.marketplace.api.domain.port.output.ContributionStoragePort;
 import onlydust.com.marketplace.api.domain.view.ContributionDetailsView;
 import org.junit.jupiter.api.Test;
@@ -19,8 +20,10 @@ class ContributionServiceTest {
 
     final ContributionStoragePort contributionStoragePort = mock(ContributionStoragePort.class);
     final PermissionService permissionService = mock(PermissionService.class);
+    final ContributionObserverPort contributionObserverPort = mock(ContributionObserverPort.class);
 
-    final ContributionService contributionService = new ContributionService(contributionStoragePort, permissionService);
+    final ContributionService contributionService = new ContributionService(contributionStoragePort, permissionService,
+            contributionObserverPort);
 
     private final Faker faker = new Faker();
 
@@ -97,6 +100,7 @@ class ContributionServiceTest {
 
         // Then
         verify(contributionStoragePort, times(1)).ignoreContributions(projectId, contributionIds);
+        verify(contributionObserverPort, times(1)).onProjectContributionsChanged(projectId);
     }
 
     @Test
@@ -129,6 +133,7 @@ class ContributionServiceTest {
 
         // Then
         verify(contributionStoragePort, times(1)).unignoreContributions(projectId, contributionIds);
+        verify(contributionObserverPort, times(1)).onProjectContributionsChanged(projectId);
     }
 
     @Test
@@ -3,14 +3,13 @@ package onlydust.com.marketplace.api.domain.service;
 import com.github.javafaker.Faker;
 import onlydust.com.marketplace.api.domain.mocks.ContributorFaker;
 import onlydust.com.marketplace.api.domain.model.Contributor;
-import onlydust.com.marketplace.api.domain.model.User;
 import onlydust.com.marketplace.api.domain.port.output.*;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -52,7 +51,7 @@ public class ContributorServiceTest {
 
         // Then
         verify(githubSearchPort, never()).searchUsersByLogin(anyString());
-        verify(userStoragePort, never()).getUserByGithubId(anyLong());
+        verify(userStoragePort, never()).registeredGithubIds(anyCollection());
         assertThat(contributors.getLeft()).containsExactlyElementsOf(internalContributors);
         assertThat(contributors.getRight()).isEmpty();
     }
@@ -80,16 +79,17 @@ public class ContributorServiceTest {
         when(projectStoragePort.getProjectRepoIds(projectId)).thenReturn(projectRepoIds);
         when(userStoragePort.searchContributorsByLogin(allRepoIds, login, 100)).thenReturn(internalContributors);
         when(githubSearchPort.searchUsersByLogin(login)).thenReturn(externalContributors.stream().map(Contributor::getId).toList());
-        externalContributors.forEach(
-                contributor -> when(userStoragePort.getUserByGithubId(contributor.getId().getGithubUserId()))
-                        .thenReturn(contributor.getIsRegistered() ? Optional.of(User.builder().build()) :
-                                Optional.empty()));
+        when(userStoragePort.registeredGithubIds(externalContributors.stream()
+                .map(contributor -> contributor.getId().getGithubUserId()).toList()))
+                .thenReturn(externalContributors.stream().filter(Contributor::getIsRegistered)
+                        .map(contributor -> contributor.getId().getGithubUserId()).collect(Collectors.toSet()));
         final var contributors = contributorService.searchContributors(projectId, repoIds, login, 5, 100,
                 false);
 
         // Then
         assertThat(contributors.getLeft()).containsExactlyElementsOf(internalContributors);
         assertThat(contributors.getRight()).containsExactlyElementsOf(externalContributors);
+        verify(userStoragePort, never()).getUserByGithubId(anyLong());
     }
 
     @Test
@@ -111,7 +111,7 @@ public class ContributorServiceTest {
 
         // Then
         verify(githubSearchPort, never()).searchUsersByLogin(anyString());
-        verify(userStoragePort, never()).getUserByGithubId(anyLong());
+        verify(userStoragePort, never()).registeredGithubIds(anyCollection());
         assertThat(contributors.getLeft()).containsExactlyElementsOf(internalContributors);
         assertThat(contributors.getRight()).isEmpty();
     }
@@ -136,7 +136,7 @@ public class ContributorServiceTest {
 
         // Then
         verify(githubSearchPort, never()).searchUsersByLogin(anyString());
-        verify(userStoragePort, never()).getUserByGithubId(anyLong());
+        verify(userStoragePort, never()).registeredGithubIds(anyCollection());
         assertThat(contributors.getLeft()).containsExactlyElementsOf(internalContributors);
         assertThat(contributors.getRight()).isEmpty();
     }
@@ -155,10 +155,10 @@ public class ContributorServiceTest {
 
         // When
         when(githubSearchPort.searchUsersByLogin(login)).thenReturn(externalContributors.stream().map(Contributor::getId).toList());
-        externalContributors.forEach(
-                contributor -> when(userStoragePort.getUserByGithubId(contributor.getId().getGithubUserId()))
-                        .thenReturn(contributor.getIsRegistered() ? Optional.of(User.builder().build()) :
-                                Optional.empty()));
+        when(userStoragePort.registeredGithubIds(externalContributors.stream()
+                .map(contributor -> contributor.getId().getGithubUserId()).toList()))
+                .thenReturn(externalContributors.stream().filter(Contributor::getIsRegistered)
+                        .map(contributor -> contributor.getId().getGithubUserId()).collect(Collectors.toSet()));
         final var contributors = contributorService.searchContributors(null, null, login, 0, 0,
                 true);
 
@@ -5,6 +5,7 @@ import onlydust.com.marketplace.api.domain.model.GithubAccount;
 import onlydust.com.marketplace.api.domain.model.GithubMembership;
 import onlydust.com.marketplace.api.domain.model.GithubRepo;
 import onlydust.com.marketplace.api.domain.model.User;
+import onlydust.com.marketplace.api.domain.port.output.GithubOrganizationCachePort;
 import onlydust.com.marketplace.api.domain.port.output.GithubSearchPort;
 import onlydust.com.marketplace.api.domain.port.output.GithubStoragePort;
 import org.junit.jupiter.api.Test;
@@ -12,20 +13,23 @@ import org.mockito.Mockito;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class GithubAccountServiceTest {
 
     final GithubStoragePort githubStoragePort = mock(GithubStoragePort.class);
+    final GithubOrganizationCachePort githubOrganizationCachePort = mock(GithubOrganizationCachePort.class);
     final RetriedGithubInstallationFacade.Config config =
             RetriedGithubInstallationFacade.Config.builder().retryCount(3).retryInterval(0).build();
     final RetriedGithubInstallationFacade githubInstallationService =
             new RetriedGithubInstallationFacade(new GithubAccountService(githubStoragePort,
-                    mock(GithubSearchPort.class)), config);
+                    mock(GithubSearchPort.class), githubOrganizationCachePort), config);
     private final Faker faker = new Faker();
     final Long installationId = (long) faker.number().numberBetween(1000, 2000);
 
@@ -63,6 +67,7 @@ public class GithubAccountServiceTest {
 
         // Then
         assertEquals(githubAccount, Optional.of(expectedAccount));
+        verify(githubOrganizationCachePort).evictOrganization("onlydustxyz");
     }
 
     @Test
@@ -109,7 +114,8 @@ public class GithubAccountServiceTest {
     @Test
     void should_return_user_organizations_given_no_installed_organizations() {
         // Given
-        final GithubAccountService githubAccountService = new GithubAccountService(githubStoragePort, githubSearchPort);
+        final GithubAccountService githubAccountService = new GithubAccountService(githubStoragePort, githubSearchPort,
+                githubOrganizationCachePort);
         final var githubUserId = 5L;
         final User authenticatedUser = User.builder().githubUserId(githubUserId).githubLogin(faker.pokemon().name()).build();
 
@@ -126,12 +132,9 @@ public class GithubAccountServiceTest {
         );
         when(githubSearchPort.searchOrganizationsByGithubUserId(githubUserId))
                 .thenReturn(githubAccounts);
-        when(githubSearchPort.getGithubUserMembershipForOrganization(githubUserId, authenticatedUser.getGithubLogin(),
-                "org1"))
-                .thenReturn(GithubMembership.ADMIN);
-        when(githubSearchPort.getGithubUserMembershipForOrganization(githubUserId, authenticatedUser.getGithubLogin(),
-                "org2"))
-                .thenReturn(GithubMembership.MEMBER);
+        when(githubSearchPort.getGithubUserMembershipForOrganizations(githubUserId, authenticatedUser.getGithubLogin(),
+                List.of("org1", "org2")))
+                .thenReturn(Map.of("org1", GithubMembership.ADMIN, "org2", GithubMembership.MEMBER));
         when(githubStoragePort.findInstalledAccountsByIds(List.of(1L, 2L))).thenReturn(List.of());
         final List<GithubAccount> organizationsForGithubPersonalToken =
                 githubAccountService.getOrganizationsForAuthenticatedUser(authenticatedUser);
@@ -146,7 +149,8 @@ public class GithubAccountServiceTest {
     @Test
     void should_return_user_organizations_given_installed_organizations() {
         // Given
-        final GithubAccountService githubAccountService = new GithubAccountService(githubStoragePort, githubSearchPort);
+        final GithubAccountService githubAccountService = new GithubAccountService(githubStoragePort, githubSearchPort,
+                githubOrganizationCachePort);
         final var githubUserId = 5L;
         final User user = User.builder().githubLogin(faker.pokemon().name()).githubUserId(githubUserId).build();
         // When
@@ -162,10 +166,9 @@ public class GithubAccountServiceTest {
         );
         when(githubSearchPort.searchOrganizationsByGithubUserId(githubUserId))
                 .thenReturn(githubAccounts);
-        when(githubSearchPort.getGithubUserMembershipForOrganization(githubUserId, user.getGithubLogin(), "org1"))
-                .thenReturn(GithubMembership.ADMIN);
-        when(githubSearchPort.getGithubUserMembershipForOrganization(githubUserId, user.getGithubLogin(), "org2"))
-                .thenReturn(GithubMembership.EXTERNAL);
+        when(githubSearchPort.getGithubUserMembershipForOrganizations(githubUserId, user.getGithubLogin(),
+                List.of("org1", "org2")))
+                .thenReturn(Map.of("org1", GithubMembership.ADMIN, "org2", GithubMembership.EXTERNAL));
         when(githubStoragePort.findInstalledAccountsByIds(List.of(1L, 2L, 5L))).thenReturn(List.of(
                 GithubAccount.builder()
                         .id(2L)
@@ -151,7 +151,8 @@ public class ProjectServiceTest {
         assertNotNull(projectIdentity);
         assertNotNull(projectIdentity.getLeft());
         assertThat(projectIdentity.getRight()).isEqualTo("slug");
-        verify(indexerPort, times(1)).indexUsers(usersToInviteAsProjectLeaders);
+        verify(indexerPort, never()).indexUsers(anyList());
+        verify(projectObserverPort).onProjectLeadersToIndex(expectedProjectId, usersToInviteAsProjectLeaders);
         verify(eventStoragePort).saveEvent(new ProjectCreatedOldEvent(projectIdentity.getLeft()));
         verify(projectObserverPort).onProjectCreated(expectedProjectId);
         verify(projectObserverPort).onLeaderAssigned(expectedProjectId, command.getFirstProjectLeaderId());
@@ -195,7 +196,8 @@ public class ProjectServiceTest {
         projectService.updateProject(projectLeadId, command);
 
         // Then
-        verify(indexerPort, times(1)).indexUsers(usersToInviteAsProjectLeaders);
+        verify(indexerPort, never()).indexUsers(anyList());
+        verify(projectObserverPort).onProjectLeadersToIndex(projectId, usersToInviteAsProjectLeaders);
         verify(projectStoragePort, times(1)).updateProject(command.getId(), command.getName(),
                 command.getShortDescription(),
                 command.getLongDescription(), command.getIsLookingForContributors(),
@@ -274,13 +276,13 @@ public class ProjectServiceTest {
         // When
         when(permissionService.isUserProjectLead(projectId, projectLeadId)).thenReturn(false);
         projectService.getContributorsForProjectLeadId(projectId, null, projectLeadId, sortBy, sortDirection, pageIndex,
-                pageSize);
+                pageSize, null);
 
         // Then
         verify(projectStoragePort, times(1)).findContributors(projectId, null, sortBy, sortDirection, pageIndex,
-                pageSize);
+                pageSize, null);
         verify(projectStoragePort, times(0)).findContributorsForProjectLead(projectId, null, sortBy, sortDirection,
-                pageIndex, pageSize);
+                pageIndex, pageSize, null);
     }
 
     @Test
@@ -299,13 +301,13 @@ public class ProjectServiceTest {
                 .thenReturn(List.of(UUID.randomUUID(), projectLeadId));
         projectService.getContributorsForProjectLeadId(projectId, login, projectLeadId, sortBy, sortDirection,
                 pageIndex,
-                pageSize);
+                pageSize, null);
 
         // Then
         verify(projectStoragePort, times(0)).findContributors(projectId, login, sortBy, sortDirection, pageIndex,
-                pageSize);
+                pageSize, null);
         verify(projectStoragePort, times(1)).findContributorsForProjectLead(projectId, login, sortBy, sortDirection,
-                pageIndex, pageSize);
+                pageIndex, pageSize, null);
     }
 
 
@@ -800,7 +802,8 @@ public class ProjectServiceTest {
         when(permissionService.isUserProjectLead(projectId, projectLead.getId())).thenReturn(false);
 
         // Then
-        assertThatThrownBy(() -> projectService.contributions(projectId, projectLead, null, null, null, null, null))
+        assertThatThrownBy(() -> projectService.contributions(projectId, projectLead, null, null, null, null, null,
+                null))
                 .isInstanceOf(OnlyDustException.class).hasMessage("Only project leads can list project contributions");
     }
 
@@ -836,12 +839,12 @@ public class ProjectServiceTest {
                 .build();
 
         when(contributionStoragePort.findContributions(projectLead.getGithubUserId(), filters, sort, direction, page,
-                pageSize))
+                pageSize, null))
                 .thenReturn(expectedContributions);
 
         // When
         final var contributions = projectService.contributions(projectId, projectLead, filters, sort, direction,
-                page, pageSize);
+                page, pageSize, null);
 
         // Then
         assertEquals(expectedContributions, contributions);
@@ -200,6 +200,7 @@ public class UserServiceTest {
 
         // Then
         verify(userStoragePort, times(1)).updateOnboardingWizardDisplayDate(userId, dateProvider.now());
+        verify(userObserverPort, times(1)).onOnboardingUpdated(userId);
     }
 
     @Test
@@ -213,6 +214,7 @@ public class UserServiceTest {
 
         // Then
         verify(userStoragePort, times(1)).updateTermsAndConditionsAcceptanceDate(userId, dateProvider.now());
+        verify(userObserverPort, times(1)).onOnboardingUpdated(userId);
     }
 
     @Test
@@ -369,6 +371,7 @@ public class UserServiceTest {
 
         // Then
         verify(userStoragePort, times(1)).savePayoutInformationForUserId(userId, userPayoutInformation);
+        verify(userObserverPort, times(1)).onPayoutInformationUpdated(userId);
     }
 
     @Test
@@ -0,0 +1,75 @@
+package onlydust.com.marketplace.api.domain.view.pagination;
+
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CursorTest {
+
+    @Test
+    void should_decode_encoded_cursor() {
+        // Given
+        final UUID id = UUID.randomUUID();
+        final Instant requestedAt = Instant.parse("2023-12-01T10:15:30.123Z");
+        final Cursor cursor = Cursor.builder()
+                .value("requestedAt", requestedAt)
+                .value("login", "Jöhn Doe")
+                .value("status", null)
+                .value("id", id)
+                .build();
+
+        // When
+        final Cursor decoded = Cursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(cursor, decoded);
+        assertEquals(requestedAt.toString(), decoded.get("requestedAt"));
+        assertEquals("Jöhn Doe", decoded.get("login"));
+        assertNull(decoded.get("status"));
+        assertEquals(id.toString(), decoded.get("id"));
+    }
+
+    @Test
+    void should_tell_null_values_from_empty_ones() {
+        // Given
+        final Cursor cursor = Cursor.builder()
+                .value("githubTitle", "")
+                .value("contributorLogin", null)
+                .build();
+
+        // When
+        final Cursor decoded = Cursor.decode(cursor.encode());
+
+        // Then
+        assertEquals("", decoded.get("githubTitle"));
+        assertNull(decoded.get("contributorLogin"));
+        assertTrue(decoded.find("contributorLogin").isEmpty());
+    }
+
+    @Test
+    void should_decode_missing_cursor_to_null() {
+        // Then
+        assertNull(Cursor.decode(null));
+        assertNull(Cursor.decode(" "));
+    }
+
+    @Test
+    void should_reject_invalid_cursor() {
+        // Then
+        assertThrows(OnlyDustException.class, () -> Cursor.decode("not a cursor!"));
+        assertThrows(OnlyDustException.class, () -> Cursor.decode("bm90IGEgY3Vyc29y"));
+    }
+
+    @Test
+    void should_reject_cursor_of_another_sort() {
+        // Given
+        final Cursor cursor = Cursor.decode(Cursor.builder().value("login", "foo").build().encode());
+
+        // Then
+        assertThrows(OnlyDustException.class, () -> cursor.get("earned"));
+    }
+}
@@ -22,8 +22,8 @@ import static onlydust.com.marketplace.api.domain.exception.OnlyDustException.in
 
 @AllArgsConstructor
 public class Auth0ApiHttpClient {
-    private final HttpClient httpClient = HttpClient.newHttpClient();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
     private final Auth0ApiClientProperties properties;
     private final Auth0ApiAuthenticator auth0ApiAuthenticator;
 
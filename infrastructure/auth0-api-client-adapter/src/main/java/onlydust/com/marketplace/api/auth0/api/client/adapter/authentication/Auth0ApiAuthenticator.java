@@ -22,8 +22,8 @@ import static java.net.http.HttpRequest.BodyPublishers.ofByteArray;
 public class Auth0ApiAuthenticator {
     private static final String CACHE_KEY = "management-api-access-token";
     public static final int CACHE_TTL_LEEWAY_IN_SECONDS = 60;
-    private final HttpClient httpClient = HttpClient.newHttpClient();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
     private final Auth0ApiClientProperties properties;
     private final Cache<String, Auth0ManagementApiAccessTokenResponse> accessTokenCache = Caffeine.newBuilder()
             .expireAfter(new Expiry<String, Auth0ManagementApiAccessTokenResponse>() {
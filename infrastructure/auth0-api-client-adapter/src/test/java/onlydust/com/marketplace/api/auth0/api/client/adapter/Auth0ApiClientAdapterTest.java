@@ -1,5 +1,6 @@
 package onlydust.com.marketplace.api.auth0.api.client.adapter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.maciejwalkowiak.wiremock.spring.ConfigureWireMock;
@@ -9,6 +10,8 @@ import lombok.SneakyThrows;
 import onlydust.com.marketplace.api.auth0.api.client.adapter.authentication.Auth0ApiAuthenticator;
 import org.junit.jupiter.api.Test;
 
+import java.net.http.HttpClient;
+
 import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,8 +34,10 @@ class Auth0ApiClientAdapterTest {
                 .domainBaseUri(auth0ApiWireMockServer.baseUrl())
                 .patCacheTtlInSeconds(1)
                 .build();
-        final var auth0ApiClientAdapter = new Auth0ApiClientAdapter(properties, new Auth0ApiHttpClient(properties,
-                new Auth0ApiAuthenticator(properties)));
+        final var objectMapper = new ObjectMapper();
+        final var httpClient = HttpClient.newHttpClient();
+        final var auth0ApiClientAdapter = new Auth0ApiClientAdapter(properties, new Auth0ApiHttpClient(objectMapper,
+                httpClient, properties, new Auth0ApiAuthenticator(objectMapper, httpClient, properties)));
 
 
         auth0ApiWireMockServer.stubFor(WireMock.post(
@@ -1,5 +1,6 @@
 package onlydust.com.marketplace.api.auth0.api.client.adapter.authentication;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.maciejwalkowiak.wiremock.spring.ConfigureWireMock;
@@ -9,6 +10,8 @@ import lombok.SneakyThrows;
 import onlydust.com.marketplace.api.auth0.api.client.adapter.Auth0ApiClientProperties;
 import org.junit.jupiter.api.Test;
 
+import java.net.http.HttpClient;
+
 import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,7 +33,7 @@ class Auth0ApiAuthenticatorTest {
                 .clientSecret("some-client-secret")
                 .domainBaseUri(auth0ApiWireMockServer.baseUrl())
                 .build();
-        final var authenticator = new Auth0ApiAuthenticator(properties);
+        final var authenticator = new Auth0ApiAuthenticator(new ObjectMapper(), HttpClient.newHttpClient(), properties);
 
         auth0ApiWireMockServer.stubFor(WireMock.post(
                         WireMock.urlEqualTo("/oauth/token"))
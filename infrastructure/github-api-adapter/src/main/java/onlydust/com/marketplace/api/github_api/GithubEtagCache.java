@@ -0,0 +1,72 @@
+package onlydust.com.marketplace.api.github_api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import onlydust.com.marketplace.api.domain.port.output.GithubOrganizationCachePort;
+import onlydust.com.marketplace.api.github_api.dto.GithubOrgaSearchResponseDTO;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Keeps the last response of the per-user GitHub reads (organizations of a user, membership of a user in an
+ * organization) along with its ETag, so that they are revalidated with conditional requests: GitHub answers
+ * {@code 304 Not Modified} without counting it against the rate limit when nothing changed. The entries related to an
+ * organization are dropped when its GitHub app installation is read, right after the app has been installed.
+ */
+public class GithubEtagCache implements GithubOrganizationCachePort {
+
+    private final Cache<Key, Entry> cache;
+
+    public GithubEtagCache(final Config config) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(config.getTtlInSeconds()))
+                .build();
+    }
+
+    public Optional<Entry> get(final Long githubUserId, final String path) {
+        return Optional.ofNullable(cache.getIfPresent(new Key(githubUserId, path)));
+    }
+
+    public void put(final Long githubUserId, final String path, final String etag, final Object body) {
+        cache.put(new Key(githubUserId, path), new Entry(etag, body));
+    }
+
+    public void evict(final Long githubUserId, final String path) {
+        cache.invalidate(new Key(githubUserId, path));
+    }
+
+    @Override
+    public void evictOrganization(final String organizationLogin) {
+        final String membershipPathPrefix = "/orgs/%s/".formatted(organizationLogin).toLowerCase(Locale.ROOT);
+        cache.asMap().entrySet().removeIf(entry ->
+                entry.getKey().path().toLowerCase(Locale.ROOT).startsWith(membershipPathPrefix) ||
+                (entry.getValue().body() instanceof GithubOrgaSearchResponseDTO[] organizations &&
+                 Arrays.stream(organizations).anyMatch(organization ->
+                         organizationLogin.equalsIgnoreCase(organization.getLogin()))));
+    }
+
+    public record Entry(String etag, Object body) {
+    }
+
+    private record Key(Long githubUserId, String path) {
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Long ttlInSeconds = 86_400L;
+        @Builder.Default
+        Long maximumSize = 10_000L;
+    }
+}
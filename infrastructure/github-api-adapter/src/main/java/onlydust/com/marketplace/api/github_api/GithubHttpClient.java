@@ -3,7 +3,6 @@ package onlydust.com.marketplace.api.github_api;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
@@ -14,17 +13,37 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static onlydust.com.marketplace.api.domain.exception.OnlyDustException.internalServerError;
 
+/**
+ * Calls the GitHub API through the {@link GithubRateLimiter}, so that requests respect the rate limit budget of their
+ * token. Identical GET requests in flight at the same time (same URI, token and ETag) are sent once, and share the
+ * same response.
+ */
 @Slf4j
-@AllArgsConstructor
 public class GithubHttpClient {
     private final ObjectMapper objectMapper;
     private final HttpClient httpClient;
     private final Config config;
+    private final GithubRateLimiter rateLimiter;
+    private final Map<InFlightRequest, CompletableFuture<HttpResponse<byte[]>>> inFlightRequests =
+            new ConcurrentHashMap<>();
+
+    public GithubHttpClient(final ObjectMapper objectMapper, final HttpClient httpClient, final Config config,
+                            final GithubRateLimiter rateLimiter) {
+        this.objectMapper = objectMapper;
+        this.httpClient = httpClient;
+        this.config = config;
+        this.rateLimiter = rateLimiter;
+    }
 
     public <T> T decode(byte[] data, Class<T> classType) {
         try {
@@ -35,13 +54,66 @@ public class GithubHttpClient {
     }
 
     public HttpResponse<byte[]> fetch(final URI uri, final String personalAccessToken) {
+        return fetch(uri, personalAccessToken, null);
+    }
+
+    public HttpResponse<byte[]> fetch(final URI uri, final String personalAccessToken, final String etag) {
+        final var inFlightRequest = new InFlightRequest(uri, personalAccessToken, etag);
+        final var call = new CompletableFuture<HttpResponse<byte[]>>();
+        final var pendingCall = inFlightRequests.putIfAbsent(inFlightRequest, call);
+        if (nonNull(pendingCall)) {
+            rateLimiter.recordCoalesced();
+            return await(pendingCall, uri);
+        }
+
         LOGGER.debug("Fetching {}", uri);
         try {
             final var requestBuilder = HttpRequest.newBuilder().uri(uri).headers("Authorization",
                     "Bearer " + personalAccessToken).GET();
-            return httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (nonNull(etag)) {
+                requestBuilder.header("If-None-Match", etag);
+            }
+            final var httpResponse = send(requestBuilder.build(), personalAccessToken);
+            call.complete(httpResponse);
+            return httpResponse;
         } catch (IOException | InterruptedException e) {
-            throw OnlyDustException.internalServerError("Unable to fetch github API:" + uri, e);
+            final var exception = OnlyDustException.internalServerError("Unable to fetch github API:" + uri, e);
+            call.completeExceptionally(exception);
+            throw exception;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(inFlightRequest, call);
+        }
+    }
+
+    private HttpResponse<byte[]> send(final HttpRequest request, final String personalAccessToken)
+            throws IOException, InterruptedException {
+        rateLimiter.acquire(personalAccessToken);
+        var httpResponse = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        rateLimiter.update(personalAccessToken, httpResponse);
+        if (rateLimiter.isRateLimited(httpResponse)) {
+            // Waits for the budget to reset if it does soon enough, fails otherwise
+            rateLimiter.acquire(personalAccessToken);
+            httpResponse = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            rateLimiter.update(personalAccessToken, httpResponse);
+            if (rateLimiter.isRateLimited(httpResponse)) {
+                throw OnlyDustException.internalServerError("GitHub API rate limit exceeded: " + request.uri());
+            }
+        }
+        return httpResponse;
+    }
+
+    private static HttpResponse<byte[]> await(final CompletableFuture<HttpResponse<byte[]>> pendingCall,
+                                              final URI uri) {
+        try {
+            return pendingCall.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw OnlyDustException.internalServerError("Unable to fetch github API:" + uri, e.getCause());
         }
     }
 
@@ -60,15 +132,41 @@ public class GithubHttpClient {
         };
     }
 
+    /**
+     * Same as {@link #get(String, Class, String)}, but revalidates the response cached for the user with its ETag
+     * instead of downloading it again, see {@link GithubEtagCache}.
+     */
+    public <ResponseBody> Optional<ResponseBody> get(final String path, final Class<ResponseBody> responseClass,
+                                                     final String personalAccessToken, final Long githubUserId,
+                                                     final GithubEtagCache etagCache) {
+        final Optional<GithubEtagCache.Entry> cached = etagCache.get(githubUserId, path);
+        final var httpResponse = fetch(buildURI(path), personalAccessToken,
+                cached.map(GithubEtagCache.Entry::etag).orElse(null));
+        return switch (httpResponse.statusCode()) {
+            case 304 -> cached.map(entry -> responseClass.cast(entry.body()));
+            case 200 -> {
+                final ResponseBody body = decode(httpResponse.body(), responseClass);
+                httpResponse.headers().firstValue("ETag").ifPresentOrElse(
+                        etag -> etagCache.put(githubUserId, path, etag, body),
+                        () -> etagCache.evict(githubUserId, path));
+                yield Optional.of(body);
+            }
+            case 403, 404 -> {
+                etagCache.evict(githubUserId, path);
+                yield Optional.empty();
+            }
+            default -> throw OnlyDustException.internalServerError("Unable to fetch github API: " + path, null);
+        };
+    }
 
     public <ResponseBody, RequestBody> Optional<ResponseBody> post(String path, final RequestBody requestBody,
                                                                    Class<ResponseBody> responseClass) {
         try {
             final HttpResponse<byte[]> httpResponse =
-                    httpClient.send(HttpRequest.newBuilder().uri(buildURI(path)).headers("Authorization",
+                    send(HttpRequest.newBuilder().uri(buildURI(path)).headers("Authorization",
                                     "Bearer " + config.personalAccessToken)
                             .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(requestBody)))
-                            .build(), HttpResponse.BodyHandlers.ofByteArray());
+                            .build(), config.personalAccessToken);
             return switch (httpResponse.statusCode()) {
                 case 200, 201, 204, 206 -> Optional.of(decode(httpResponse.body(), responseClass));
                 case 403, 404 ->
@@ -103,6 +201,9 @@ public class GithubHttpClient {
         return URI.create(baseUri + path);
     }
 
+    private record InFlightRequest(URI uri, String personalAccessToken, String etag) {
+    }
+
     @ToString
     @Data
     public static class Config {
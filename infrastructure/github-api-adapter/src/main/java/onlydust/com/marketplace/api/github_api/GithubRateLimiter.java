@@ -0,0 +1,176 @@
+package onlydust.com.marketplace.api.github_api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Keeps the GitHub rate limit budget of each token, as reported by the {@code X-RateLimit-Remaining},
+ * {@code X-RateLimit-Reset} and {@code Retry-After} response headers, and decrements it for each request sent in
+ * between. A request made with an exhausted token waits for the budget to reset when it does within the configured
+ * deadline, and fails fast otherwise, instead of being sent only to get a 403 back.
+ */
+@Slf4j
+public class GithubRateLimiter {
+    private static final String REQUESTS_METRIC = "github.api.requests";
+
+    private final Config config;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Budget> budgets;
+    private final Timer waits;
+
+    public GithubRateLimiter(final Config config, final MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.budgets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofHours(2))
+                .build();
+        this.waits = Timer.builder("github.api.rate_limit.wait").register(meterRegistry);
+        Gauge.builder("github.api.rate_limit.remaining", budgets, GithubRateLimiter::lowestRemaining)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reserves one request on the token budget, waiting for the budget to reset if needed.
+     */
+    public void acquire(final String token) {
+        final Budget budget = budgetOf(token);
+        final long waitInMillis = budget.reserve(config.getReservedRequests(), System.currentTimeMillis());
+        if (waitInMillis <= 0) {
+            return;
+        }
+        if (waitInMillis > config.getMaxWaitInMillis()) {
+            record("rejected");
+            throw OnlyDustException.internalServerError(
+                    "GitHub API rate limit exceeded, next reset in %d s".formatted(waitInMillis / 1000));
+        }
+
+        record("throttled");
+        LOGGER.info("GitHub API rate limit almost reached, waiting {} ms for the reset", waitInMillis);
+        final long start = System.nanoTime();
+        try {
+            Thread.sleep(waitInMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw OnlyDustException.internalServerError("Interrupted while waiting for GitHub API rate limit", e);
+        } finally {
+            waits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        budget.reserve(config.getReservedRequests(), System.currentTimeMillis());
+    }
+
+    /**
+     * Updates the token budget with the rate limit headers of a GitHub response.
+     */
+    public void update(final String token, final HttpResponse<?> response) {
+        record(String.valueOf(response.statusCode()));
+        final Budget budget = budgetOf(token);
+        final Optional<Long> retryAfter = header(response, "Retry-After");
+        if (retryAfter.isPresent()) {
+            budget.exhaust(System.currentTimeMillis() + retryAfter.get() * 1000);
+            return;
+        }
+        final Optional<Long> remaining = header(response, "X-RateLimit-Remaining");
+        final Optional<Long> resetAt = header(response, "X-RateLimit-Reset");
+        if (remaining.isPresent() && resetAt.isPresent()) {
+            budget.update(remaining.get(), resetAt.get() * 1000);
+        }
+    }
+
+    /**
+     * Tells whether a response was rejected because of a (primary or secondary) rate limit, as opposed to a
+     * permission issue.
+     */
+    public boolean isRateLimited(final HttpResponse<?> response) {
+        return (response.statusCode() == 403 || response.statusCode() == 429) &&
+               (header(response, "Retry-After").isPresent() ||
+                header(response, "X-RateLimit-Remaining").map(remaining -> remaining == 0).orElse(false));
+    }
+
+    public void recordCoalesced() {
+        record("coalesced");
+    }
+
+    private Budget budgetOf(final String token) {
+        return budgets.get(isNull(token) ? "" : token, key -> new Budget());
+    }
+
+    private void record(final String outcome) {
+        meterRegistry.counter(REQUESTS_METRIC, "outcome", outcome).increment();
+    }
+
+    private static Optional<Long> header(final HttpResponse<?> response, final String name) {
+        try {
+            return response.headers().firstValue(name).map(String::trim).map(Long::valueOf);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static double lowestRemaining(final Cache<String, Budget> budgets) {
+        final long now = System.currentTimeMillis();
+        return budgets.asMap().values().stream()
+                .mapToLong(budget -> budget.remaining(now))
+                .filter(remaining -> remaining != Long.MAX_VALUE)
+                .min()
+                .orElse(-1L);
+    }
+
+    private static class Budget {
+        private long remaining = Long.MAX_VALUE;
+        private long resetAtInMillis = 0L;
+
+        synchronized long reserve(final long reserved, final long now) {
+            if (now >= resetAtInMillis) {
+                remaining = Long.MAX_VALUE;
+            }
+            if (remaining > reserved) {
+                if (remaining != Long.MAX_VALUE) {
+                    remaining--;
+                }
+                return 0L;
+            }
+            return resetAtInMillis - now;
+        }
+
+        synchronized void update(final long remaining, final long resetAtInMillis) {
+            this.remaining = remaining;
+            this.resetAtInMillis = resetAtInMillis;
+        }
+
+        synchronized void exhaust(final long retryAtInMillis) {
+            this.remaining = 0L;
+            this.resetAtInMillis = Math.max(this.resetAtInMillis, retryAtInMillis);
+        }
+
+        synchronized long remaining(final long now) {
+            return now >= resetAtInMillis ? Long.MAX_VALUE : remaining;
+        }
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Long maxWaitInMillis = 2_000L;
+        @Builder.Default
+        Long reservedRequests = 0L;
+    }
+}
@@ -1,38 +1,81 @@
 package onlydust.com.marketplace.api.github_api.adapters;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
 import onlydust.com.marketplace.api.domain.model.GithubAccount;
 import onlydust.com.marketplace.api.domain.model.GithubMembership;
 import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
 import onlydust.com.marketplace.api.domain.port.output.GithubAuthenticationPort;
 import onlydust.com.marketplace.api.domain.port.output.GithubSearchPort;
+import onlydust.com.marketplace.api.github_api.GithubEtagCache;
 import onlydust.com.marketplace.api.github_api.GithubHttpClient;
 import onlydust.com.marketplace.api.github_api.dto.GetOrgaMembershipsResponseDTO;
 import onlydust.com.marketplace.api.github_api.dto.GithubOrgaSearchResponseDTO;
 import onlydust.com.marketplace.api.github_api.dto.GithubUserSearchResponse;
 import onlydust.com.marketplace.api.github_api.properties.GithubPaginationProperties;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.regex.Pattern;
 
 import static java.util.Objects.nonNull;
 
-@AllArgsConstructor
-public class GithubSearchApiAdapter implements GithubSearchPort {
+/**
+ * Reads organizations and memberships with the personal access token of the user. Those reads are revalidated against
+ * the {@link GithubEtagCache}, and the membership of a user in several organizations is resolved concurrently, on a
+ * bounded pool shared by all requests (running on the caller thread when the pool is saturated).
+ * User searches do not depend on the caller, so their results are kept for a short while, as the reward recipient
+ * autocomplete sends the same login again and again while it is typed.
+ */
+public class GithubSearchApiAdapter implements GithubSearchPort, AutoCloseable {
     private final GithubHttpClient client;
     private final GithubPaginationProperties githubPaginationProperties;
     private final GithubAuthenticationPort githubAuthenticationPort;
+    private final GithubEtagCache etagCache;
+    private final ExecutorService membershipExecutor;
+    private final Cache<String, List<GithubUserIdentity>> userSearchCache;
 
     private static final Pattern ORG_API_URL_REGEX = Pattern.compile(
             "https://api\\.github\\.com/orgs/([^/]+)");
 
+    public GithubSearchApiAdapter(final GithubHttpClient client,
+                                  final GithubPaginationProperties githubPaginationProperties,
+                                  final GithubAuthenticationPort githubAuthenticationPort,
+                                  final GithubEtagCache etagCache,
+                                  final Config config) {
+        this.client = client;
+        this.githubPaginationProperties = githubPaginationProperties;
+        this.githubAuthenticationPort = githubAuthenticationPort;
+        this.etagCache = etagCache;
+        this.membershipExecutor = new ThreadPoolExecutor(config.getMembershipLookupParallelism(),
+                config.getMembershipLookupParallelism(), 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(config.getMembershipLookupQueueCapacity()), runnable -> {
+            final Thread thread = new Thread(runnable, "github-membership-lookup");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.userSearchCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(config.getUserSearchCacheTtlInSeconds()))
+                .maximumSize(config.getUserSearchCacheMaximumSize())
+                .build();
+    }
+
     @Override
     public List<GithubUserIdentity> searchUsersByLogin(final String login) {
-        return client.get("/search/users?per_page=5&q=" + login, GithubUserSearchResponse.class)
+        return userSearchCache.get(login.trim().toLowerCase(Locale.ROOT), this::fetchUsersByLogin);
+    }
+
+    private List<GithubUserIdentity> fetchUsersByLogin(final String login) {
+        return client.get("/search/users?per_page=5&q=" + URLEncoder.encode(login, StandardCharsets.UTF_8),
+                        GithubUserSearchResponse.class)
                 .map(GithubUserSearchResponse::getItems)
                 .orElse(List.of())
                 .stream().map(
@@ -72,7 +115,7 @@ public class GithubSearchApiAdapter implements GithubSearchPort {
 
         final Optional<GithubOrgaSearchResponseDTO[]> githubOrgaSearchResponseDTOS =
                 client.get(String.format("/user/orgs?per_page=%s&page=%s", pageSize, pageIndex),
-                        GithubOrgaSearchResponseDTO[].class, githubPersonalToken);
+                        GithubOrgaSearchResponseDTO[].class, githubPersonalToken, githubUserId, etagCache);
         if (githubOrgaSearchResponseDTOS.isEmpty() || githubOrgaSearchResponseDTOS.get().length == 0) {
             return List.of();
         }
@@ -97,9 +140,32 @@ public class GithubSearchApiAdapter implements GithubSearchPort {
     public GithubMembership getGithubUserMembershipForOrganization(Long githubUserId, String userLogin,
                                                                    String organizationLogin) {
         final String githubPersonalToken = githubAuthenticationPort.getGithubPersonalToken(githubUserId);
+        return getMembership(githubUserId, userLogin, organizationLogin, githubPersonalToken);
+    }
+
+    @Override
+    public Map<String, GithubMembership> getGithubUserMembershipForOrganizations(Long githubUserId, String userLogin,
+                                                                                 List<String> organizationLogins) {
+        if (organizationLogins.isEmpty()) {
+            return Map.of();
+        }
+        // The token is resolved once, on the caller thread, as it may come from the authentication context
+        final String githubPersonalToken = githubAuthenticationPort.getGithubPersonalToken(githubUserId);
+
+        final Map<String, CompletableFuture<GithubMembership>> lookups = new LinkedHashMap<>();
+        organizationLogins.forEach(organizationLogin -> lookups.computeIfAbsent(organizationLogin,
+                login -> CompletableFuture.supplyAsync(() -> getMembership(githubUserId, userLogin, login,
+                        githubPersonalToken), membershipExecutor)));
 
+        final Map<String, GithubMembership> memberships = new LinkedHashMap<>();
+        lookups.forEach((organizationLogin, lookup) -> memberships.put(organizationLogin, join(lookup)));
+        return memberships;
+    }
+
+    private GithubMembership getMembership(Long githubUserId, String userLogin, String organizationLogin,
+                                           String githubPersonalToken) {
         return client.get(String.format("/orgs/%s/memberships/%s", organizationLogin, userLogin),
-                        GetOrgaMembershipsResponseDTO.class, githubPersonalToken)
+                        GetOrgaMembershipsResponseDTO.class, githubPersonalToken, githubUserId, etagCache)
                 .filter(dto -> nonNull(dto.getRole()) && nonNull(dto.getState()))
                 .map(dto -> {
                     if (dto.getRole().equals("admin") && dto.getState().equals("active")) {
@@ -112,4 +178,35 @@ public class GithubSearchApiAdapter implements GithubSearchPort {
                 })
                 .orElse(GithubMembership.EXTERNAL);
     }
+
+    private static GithubMembership join(final CompletableFuture<GithubMembership> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw OnlyDustException.internalServerError("Unable to fetch github memberships", e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        membershipExecutor.shutdownNow();
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Integer membershipLookupParallelism = 16;
+        @Builder.Default
+        Integer membershipLookupQueueCapacity = 200;
+        @Builder.Default
+        Long userSearchCacheTtlInSeconds = 60L;
+        @Builder.Default
+        Long userSearchCacheMaximumSize = 10_000L;
+    }
 }
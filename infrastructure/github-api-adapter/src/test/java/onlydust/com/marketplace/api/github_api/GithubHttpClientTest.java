@@ -0,0 +1,134 @@
+package onlydust.com.marketplace.api.github_api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import onlydust.com.marketplace.api.github_api.dto.GetOrgaMembershipsResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GithubHttpClientTest {
+
+    private static final String PATH = "/orgs/onlydust/memberships/me";
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<byte[]> response(int statusCode, String body, Map<String, List<String>> headers) {
+        final HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(statusCode);
+        when(response.body()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
+        when(response.headers()).thenReturn(HttpHeaders.of(headers, (name, value) -> true));
+        return response;
+    }
+
+    @Test
+    void should_revalidate_cached_response_with_its_etag() throws Exception {
+        // Given
+        final HttpClient httpClient = mock(HttpClient.class);
+        final GithubHttpClient.Config config = new GithubHttpClient.Config();
+        config.setBaseUri("https://api.github.com");
+        final GithubHttpClient githubHttpClient = new GithubHttpClient(new ObjectMapper(), httpClient, config,
+                new GithubRateLimiter(GithubRateLimiter.Config.builder().build(), new SimpleMeterRegistry()));
+        final GithubEtagCache etagCache = new GithubEtagCache(GithubEtagCache.Config.builder().build());
+        final HttpResponse<byte[]> ok = response(200, "{\"role\":\"admin\",\"state\":\"active\"}",
+                Map.of("ETag", List.of("\"v1\"")));
+        final HttpResponse<byte[]> notModified = response(304, "", Map.of());
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(ok)
+                .thenReturn(notModified);
+
+        // When
+        final Optional<GetOrgaMembershipsResponseDTO> first = githubHttpClient.get(PATH,
+                GetOrgaMembershipsResponseDTO.class, "token", 1L, etagCache);
+        final Optional<GetOrgaMembershipsResponseDTO> second = githubHttpClient.get(PATH,
+                GetOrgaMembershipsResponseDTO.class, "token", 1L, etagCache);
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second).containsSame(first.get());
+        final ArgumentCaptor<HttpRequest> requests = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient, times(2)).send(requests.capture(), any(HttpResponse.BodyHandler.class));
+        assertThat(requests.getAllValues().get(0).headers().firstValue("If-None-Match")).isEmpty();
+        assertThat(requests.getAllValues().get(1).headers().firstValue("If-None-Match")).contains("\"v1\"");
+    }
+
+    @Test
+    void should_send_identical_concurrent_requests_once() throws Exception {
+        // Given
+        final HttpClient httpClient = mock(HttpClient.class);
+        final GithubHttpClient.Config config = new GithubHttpClient.Config();
+        config.setBaseUri("https://api.github.com");
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final GithubHttpClient githubHttpClient = new GithubHttpClient(new ObjectMapper(), httpClient, config,
+                new GithubRateLimiter(GithubRateLimiter.Config.builder().build(), meterRegistry));
+        final HttpResponse<byte[]> ok = response(200, "{\"role\":\"admin\",\"state\":\"active\"}", Map.of());
+        final CountDownLatch sent = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class))).thenAnswer(invocation -> {
+            sent.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return ok;
+        });
+
+        // When
+        final var first = CompletableFuture.supplyAsync(() -> githubHttpClient.get(PATH,
+                GetOrgaMembershipsResponseDTO.class, "token"));
+        sent.await(5, TimeUnit.SECONDS);
+        final var second = CompletableFuture.supplyAsync(() -> githubHttpClient.get(PATH,
+                GetOrgaMembershipsResponseDTO.class, "token"));
+        while (meterRegistry.counter("github.api.requests", "outcome", "coalesced").count() == 0) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isPresent();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isPresent();
+        verify(httpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void should_evict_organization_entries() throws Exception {
+        // Given
+        final GithubEtagCache etagCache = new GithubEtagCache(GithubEtagCache.Config.builder().build());
+        etagCache.put(1L, PATH, "\"v1\"", new GetOrgaMembershipsResponseDTO());
+        etagCache.put(1L, "/orgs/other/memberships/me", "\"v1\"", new GetOrgaMembershipsResponseDTO());
+
+        // When
+        etagCache.evictOrganization("onlydust");
+
+        // Then
+        assertThat(etagCache.get(1L, PATH)).isEmpty();
+        assertThat(etagCache.get(1L, "/orgs/other/memberships/me")).isPresent();
+    }
+
+    @Test
+    void should_evict_organization_entries_whatever_the_case_of_the_login() throws Exception {
+        // Given
+        final GithubEtagCache etagCache = new GithubEtagCache(GithubEtagCache.Config.builder().build());
+        etagCache.put(1L, "/orgs/OnlyDust/memberships/me", "\"v1\"", new GetOrgaMembershipsResponseDTO());
+
+        // When
+        etagCache.evictOrganization("onlydust");
+
+        // Then
+        assertThat(etagCache.get(1L, "/orgs/OnlyDust/memberships/me")).isEmpty();
+    }
+}
@@ -0,0 +1,72 @@
+package onlydust.com.marketplace.api.github_api;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GithubRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GithubRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new GithubRateLimiter(GithubRateLimiter.Config.builder().maxWaitInMillis(1_500L).build(),
+                meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<byte[]> response(int statusCode, Map<String, List<String>> headers) {
+        final HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(statusCode);
+        when(response.headers()).thenReturn(HttpHeaders.of(headers, (name, value) -> true));
+        return response;
+    }
+
+    private static String resetIn(long seconds) {
+        return String.valueOf(System.currentTimeMillis() / 1000 + seconds);
+    }
+
+    @Test
+    void should_let_requests_through_while_budget_remains() {
+        // Given
+        rateLimiter.update("token", response(200, Map.of("X-RateLimit-Remaining", List.of("2"),
+                "X-RateLimit-Reset", List.of(resetIn(3600)))));
+
+        // When
+        rateLimiter.acquire("token");
+        rateLimiter.acquire("token");
+
+        // Then
+        assertThatThrownBy(() -> rateLimiter.acquire("token")).isInstanceOf(OnlyDustException.class);
+        assertThat(meterRegistry.counter("github.api.requests", "outcome", "rejected").count()).isEqualTo(1);
+        rateLimiter.acquire("other-token");
+    }
+
+    @Test
+    void should_wait_for_a_close_reset() {
+        // Given
+        final HttpResponse<byte[]> rateLimited = response(403, Map.of("Retry-After", List.of("1")));
+        rateLimiter.update("token", rateLimited);
+
+        // When
+        rateLimiter.acquire("token");
+
+        // Then
+        assertThat(meterRegistry.timer("github.api.rate_limit.wait").count()).isEqualTo(1);
+        assertThat(rateLimiter.isRateLimited(rateLimited)).isTrue();
+        assertThat(rateLimiter.isRateLimited(response(403, Map.of()))).isFalse();
+    }
+}
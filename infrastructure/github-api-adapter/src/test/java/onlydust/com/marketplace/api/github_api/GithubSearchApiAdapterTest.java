@@ -1,23 +1,32 @@
 package onlydust.com.marketplace.api.github_api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javafaker.Faker;
 import onlydust.com.marketplace.api.domain.model.GithubAccount;
+import onlydust.com.marketplace.api.domain.model.GithubMembership;
+import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
 import onlydust.com.marketplace.api.domain.port.output.GithubAuthenticationPort;
 import onlydust.com.marketplace.api.github_api.adapters.GithubSearchApiAdapter;
+import onlydust.com.marketplace.api.github_api.dto.GetOrgaMembershipsResponseDTO;
 import onlydust.com.marketplace.api.github_api.dto.GithubOrgaSearchResponseDTO;
+import onlydust.com.marketplace.api.github_api.dto.GithubUserSearchResponse;
 import onlydust.com.marketplace.api.github_api.properties.GithubPaginationProperties;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class GithubSearchApiAdapterTest {
 
     private static final Faker faker = new Faker();
+    private final GithubEtagCache etagCache = new GithubEtagCache(GithubEtagCache.Config.builder().build());
 
 
     @Test
@@ -26,7 +35,8 @@ public class GithubSearchApiAdapterTest {
         final GithubHttpClient httpClient = mock(GithubHttpClient.class);
         final GithubAuthenticationPort githubAuthenticationPort = mock(GithubAuthenticationPort.class);
         final GithubSearchApiAdapter githubSearchApiAdapter = new GithubSearchApiAdapter(httpClient,
-                GithubPaginationProperties.builder().pageSize(2).build(), githubAuthenticationPort);
+                GithubPaginationProperties.builder().pageSize(2).build(), githubAuthenticationPort, etagCache,
+                GithubSearchApiAdapter.Config.builder().build());
 
         final long githubUserId = faker.number().randomNumber();
         final String githubPAT = faker.rickAndMorty().character();
@@ -36,7 +46,8 @@ public class GithubSearchApiAdapterTest {
 
         // When
         when(githubAuthenticationPort.getGithubPersonalToken(githubUserId)).thenReturn(githubPAT);
-        when(httpClient.get("/user/orgs?per_page=2&page=1", GithubOrgaSearchResponseDTO[].class, githubPAT))
+        when(httpClient.get("/user/orgs?per_page=2&page=1", GithubOrgaSearchResponseDTO[].class, githubPAT,
+                githubUserId, etagCache))
                 .thenReturn(Optional.of(new GithubOrgaSearchResponseDTO[]{
                         orga1
                 }));
@@ -55,7 +66,8 @@ public class GithubSearchApiAdapterTest {
         final GithubHttpClient httpClient = mock(GithubHttpClient.class);
         final GithubAuthenticationPort githubAuthenticationPort = mock(GithubAuthenticationPort.class);
         final GithubSearchApiAdapter githubSearchApiAdapter = new GithubSearchApiAdapter(httpClient,
-                GithubPaginationProperties.builder().pageSize(2).build(), githubAuthenticationPort);
+                GithubPaginationProperties.builder().pageSize(2).build(), githubAuthenticationPort, etagCache,
+                GithubSearchApiAdapter.Config.builder().build());
 
         final long githubUserId = faker.number().randomNumber();
         final String githubPAT = faker.rickAndMorty().character();
@@ -72,11 +84,13 @@ public class GithubSearchApiAdapterTest {
 
         // When
         when(githubAuthenticationPort.getGithubPersonalToken(githubUserId)).thenReturn(githubPAT);
-        when(httpClient.get("/user/orgs?per_page=2&page=1", GithubOrgaSearchResponseDTO[].class, githubPAT))
+        when(httpClient.get("/user/orgs?per_page=2&page=1", GithubOrgaSearchResponseDTO[].class, githubPAT,
+                githubUserId, etagCache))
                 .thenReturn(Optional.of(new GithubOrgaSearchResponseDTO[]{
                         orga1, orga2
                 }));
-        when(httpClient.get("/user/orgs?per_page=2&page=2", GithubOrgaSearchResponseDTO[].class, githubPAT))
+        when(httpClient.get("/user/orgs?per_page=2&page=2", GithubOrgaSearchResponseDTO[].class, githubPAT,
+                githubUserId, etagCache))
                 .thenReturn(Optional.of(new GithubOrgaSearchResponseDTO[]{
                         orga3
                 }));
@@ -93,5 +107,63 @@ public class GithubSearchApiAdapterTest {
         assertEquals(orga3.getUrl(), "https://api.github.com/orgs/foo3");
     }
 
+    @Test
+    void should_resolve_memberships_of_all_organizations_with_a_single_token_lookup() {
+        // Given
+        final GithubHttpClient httpClient = mock(GithubHttpClient.class);
+        final GithubAuthenticationPort githubAuthenticationPort = mock(GithubAuthenticationPort.class);
+        final GithubSearchApiAdapter githubSearchApiAdapter = new GithubSearchApiAdapter(httpClient,
+                GithubPaginationProperties.builder().build(), githubAuthenticationPort, etagCache,
+                GithubSearchApiAdapter.Config.builder().membershipLookupParallelism(2).build());
+
+        final long githubUserId = faker.number().randomNumber();
+        final String githubPAT = faker.rickAndMorty().character();
+        final GetOrgaMembershipsResponseDTO admin = new GetOrgaMembershipsResponseDTO();
+        admin.setRole("admin");
+        admin.setState("active");
+        final GetOrgaMembershipsResponseDTO member = new GetOrgaMembershipsResponseDTO();
+        member.setRole("member");
+        member.setState("active");
+
+        // When
+        when(githubAuthenticationPort.getGithubPersonalToken(githubUserId)).thenReturn(githubPAT);
+        when(httpClient.get("/orgs/org1/memberships/me", GetOrgaMembershipsResponseDTO.class, githubPAT,
+                githubUserId, etagCache)).thenReturn(Optional.of(admin));
+        when(httpClient.get("/orgs/org2/memberships/me", GetOrgaMembershipsResponseDTO.class, githubPAT,
+                githubUserId, etagCache)).thenReturn(Optional.of(member));
+        when(httpClient.get("/orgs/org3/memberships/me", GetOrgaMembershipsResponseDTO.class, githubPAT,
+                githubUserId, etagCache)).thenReturn(Optional.empty());
+        final Map<String, GithubMembership> memberships =
+                githubSearchApiAdapter.getGithubUserMembershipForOrganizations(githubUserId, "me",
+                        List.of("org1", "org2", "org3"));
 
+        // Then
+        assertEquals(Map.of("org1", GithubMembership.ADMIN, "org2", GithubMembership.MEMBER,
+                "org3", GithubMembership.EXTERNAL), memberships);
+        verify(githubAuthenticationPort, times(1)).getGithubPersonalToken(githubUserId);
+    }
+
+    @Test
+    void should_serve_repeated_user_searches_from_cache() throws Exception {
+        // Given
+        final GithubHttpClient httpClient = mock(GithubHttpClient.class);
+        final GithubSearchApiAdapter githubSearchApiAdapter = new GithubSearchApiAdapter(httpClient,
+                GithubPaginationProperties.builder().pageSize(2).build(), mock(GithubAuthenticationPort.class),
+                etagCache, GithubSearchApiAdapter.Config.builder().build());
+        final GithubUserSearchResponse response = new ObjectMapper().readValue("""
+                {"items": [{"id": 42, "login": "antho", "avatar_url": "https://avatars.githubusercontent.com/u/42"}]}
+                """, GithubUserSearchResponse.class);
+        when(httpClient.get("/search/users?per_page=5&q=antho", GithubUserSearchResponse.class))
+                .thenReturn(Optional.of(response));
+
+        // When
+        final List<GithubUserIdentity> first = githubSearchApiAdapter.searchUsersByLogin("antho");
+        final List<GithubUserIdentity> second = githubSearchApiAdapter.searchUsersByLogin(" Antho");
+
+        // Then
+        assertEquals(1, first.size());
+        assertEquals(42L, first.get(0).getGithubUserId());
+        assertEquals(first, second);
+        verify(httpClient, times(1)).get("/search/users?per_page=5&q=antho", GithubUserSearchResponse.class);
+    }
 }
@@ -1,16 +1,48 @@
 package onlydust.com.marketplace.api.indexer.api.client.adapter;
 
 import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
 import onlydust.com.marketplace.api.domain.port.output.IndexerPort;
 import org.springframework.http.HttpMethod;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
-@AllArgsConstructor
-public class IndexerApiClientAdapter implements IndexerPort {
+/**
+ * Indexes several users with a single call to the bulk endpoint of the indexer. Until the indexer exposes that endpoint
+ * (it answers 404), users are indexed one call each, on a bounded pool dedicated to the indexer (running on the caller
+ * thread when the pool is saturated) rather than on the JVM-wide common pool. The bulk endpoint is tried again once the
+ * configured retry interval has elapsed, so that it gets used as soon as the indexer is upgraded, without a restart.
+ */
+@Slf4j
+public class IndexerApiClientAdapter implements IndexerPort, AutoCloseable {
 
     private final IndexerApiHttpClient httpClient;
+    private final ExecutorService userIndexingExecutor;
+    private final long bulkUserIndexingRetryIntervalInMillis;
+    private volatile long bulkUserIndexingUnsupportedUntil = 0L;
+
+    public IndexerApiClientAdapter(final IndexerApiHttpClient httpClient, final Config config) {
+        this.httpClient = httpClient;
+        this.bulkUserIndexingRetryIntervalInMillis = config.getBulkUserIndexingRetryIntervalInMillis();
+        this.userIndexingExecutor = new ThreadPoolExecutor(config.getUserIndexingParallelism(),
+                config.getUserIndexingParallelism(), 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(config.getUserIndexingQueueCapacity()), runnable -> {
+            final Thread thread = new Thread(runnable, "indexer-user-indexing");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
 
     @Override
     public void indexUser(Long githubUserId) {
@@ -19,7 +51,34 @@ public class IndexerApiClientAdapter implements IndexerPort {
 
     @Override
     public void indexUsers(List<Long> githubUserIds) {
-        githubUserIds.stream().parallel().forEach(this::indexUser);
+        if (githubUserIds.isEmpty()) {
+            return;
+        }
+        if (System.currentTimeMillis() >= bulkUserIndexingUnsupportedUntil) {
+            try {
+                httpClient.sendRequest("/api/v1/users", HttpMethod.PUT, new UsersIndexingRequest(githubUserIds),
+                        Void.class);
+                return;
+            } catch (OnlyDustException e) {
+                if (e.getStatus() != 404) {
+                    throw e;
+                }
+                LOGGER.warn("Bulk user indexing is not supported by the indexer, indexing users one by one for the " +
+                            "next {} ms", bulkUserIndexingRetryIntervalInMillis);
+                bulkUserIndexingUnsupportedUntil = System.currentTimeMillis() + bulkUserIndexingRetryIntervalInMillis;
+            }
+        }
+        try {
+            CompletableFuture.allOf(githubUserIds.stream()
+                    .map(githubUserId -> CompletableFuture.runAsync(() -> indexUser(githubUserId),
+                            userIndexingExecutor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -39,6 +98,27 @@ public class IndexerApiClientAdapter implements IndexerPort {
         httpClient.sendRequest("/api/v1/events/on-repo-link-changed", HttpMethod.POST, new RepoLinkChangedEvent(linkedRepoIds, unlinkedRepoIds), Void.class);
     }
 
+    @Override
+    public void close() {
+        userIndexingExecutor.shutdown();
+    }
+
     private record RepoLinkChangedEvent(Set<Long> linkedRepoIds, Set<Long> unlinkedRepoIds) {
     }
+
+    private record UsersIndexingRequest(List<Long> githubUserIds) {
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Integer userIndexingParallelism = 8;
+        @Builder.Default
+        Integer userIndexingQueueCapacity = 100;
+        @Builder.Default
+        Long bulkUserIndexingRetryIntervalInMillis = 3_600_000L;
+    }
 }
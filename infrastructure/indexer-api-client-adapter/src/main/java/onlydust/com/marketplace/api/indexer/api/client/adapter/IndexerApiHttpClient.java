@@ -22,8 +22,8 @@ import static onlydust.com.marketplace.api.domain.exception.OnlyDustException.in
 
 @AllArgsConstructor
 public class IndexerApiHttpClient {
-    private final HttpClient httpClient = HttpClient.newHttpClient();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
     private final Properties properties;
 
     private HttpRequest.Builder builderFromAuthorizations() {
@@ -51,6 +51,8 @@ public class IndexerApiHttpClient {
                 throw OnlyDustException.unauthorized(format("Unauthorized error when calling %s on Indexer API", path));
             } else if (statusCode == HttpStatus.FORBIDDEN.value()) {
                 throw OnlyDustException.forbidden(format("Forbidden error when calling %s on Indexer API", path));
+            } else if (statusCode == HttpStatus.NOT_FOUND.value()) {
+                throw OnlyDustException.notFound(format("Not found error when calling %s on Indexer API", path));
             } else if (statusCode != HttpStatus.OK.value() &&
                        statusCode != HttpStatus.CREATED.value() &&
                        statusCode != HttpStatus.ACCEPTED.value() &&
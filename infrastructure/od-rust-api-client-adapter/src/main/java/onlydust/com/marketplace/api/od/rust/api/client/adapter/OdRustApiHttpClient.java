@@ -25,8 +25,8 @@ import static onlydust.com.marketplace.api.rest.api.adapter.authentication.Authe
 
 @AllArgsConstructor
 public class OdRustApiHttpClient {
-    private final HttpClient httpClient = HttpClient.newHttpClient();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
     private final Properties properties;
 
     private HttpRequest.Builder builderFromAuthorizations(final HasuraAuthentication authentication) {
@@ -0,0 +1,90 @@
+package onlydust.com.marketplace.api.postgres.adapter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.model.Currency;
+import onlydust.com.marketplace.api.domain.model.UsdQuotes;
+import onlydust.com.marketplace.api.domain.port.output.QuoteProviderPort;
+import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.CryptoUsdQuotesEntity;
+import onlydust.com.marketplace.api.postgres.adapter.repository.old.CryptoUsdQuotesRepository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Keeps a snapshot of the {@code crypto_usd_quotes} table in memory, refreshed in the background at the configured
+ * refresh interval (every minute by default), so that USD amounts can be computed without joining the quotes in each
+ * query, and with the same quotes for a whole response. The snapshot is reloaded synchronously when it is older than
+ * its max age, e.g. when background refreshes keep failing.
+ */
+@Slf4j
+public class InMemoryQuoteProvider implements QuoteProviderPort, AutoCloseable {
+
+    private final CryptoUsdQuotesRepository cryptoUsdQuotesRepository;
+    private final Config config;
+    private final ScheduledExecutorService scheduler;
+    private volatile UsdQuotes quotes;
+
+    public InMemoryQuoteProvider(final CryptoUsdQuotesRepository cryptoUsdQuotesRepository, final Config config) {
+        this.cryptoUsdQuotesRepository = cryptoUsdQuotesRepository;
+        this.config = config;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "usd-quotes-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::refreshSafely, config.getRefreshIntervalInSeconds(),
+                config.getRefreshIntervalInSeconds(), TimeUnit.SECONDS);
+    }
+
+    @Override
+    public UsdQuotes latest() {
+        final UsdQuotes current = quotes;
+        if (isNull(current) || current.getFetchedAt().isBefore(Instant.now().minusSeconds(config.getMaxAgeInSeconds()))) {
+            return refresh();
+        }
+        return current;
+    }
+
+    public synchronized UsdQuotes refresh() {
+        final Map<Currency, BigDecimal> prices = cryptoUsdQuotesRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(quote -> quote.getCurrency().toDomain(),
+                        CryptoUsdQuotesEntity::getPrice));
+        quotes = new UsdQuotes(prices, Instant.now());
+        return quotes;
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            LOGGER.error("Failed to refresh USD quotes", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Long refreshIntervalInSeconds = 60L;
+        @Builder.Default
+        Long maxAgeInSeconds = 300L;
+    }
+}
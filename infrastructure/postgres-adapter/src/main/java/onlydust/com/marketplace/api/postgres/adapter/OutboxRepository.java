@@ -2,21 +2,85 @@ package onlydust.com.marketplace.api.postgres.adapter;
 
 import onlydust.com.marketplace.api.domain.model.notification.Event;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.EventEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.NoRepositoryBean;
 
-import java.util.Optional;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
 
 @NoRepositoryBean
 public interface OutboxRepository<E extends EventEntity> extends JpaRepository<E, Long> {
 
     void saveEvent(Event event);
 
+    /**
+     * Notifies the listeners of the outbox channel that a new event was pushed. The notification is only delivered when
+     * the current transaction commits.
+     */
+    void notifyListeners();
+
+    /**
+     * Locks the next events to process with {@code FOR UPDATE SKIP LOCKED}, so that concurrent consumers never claim
+     * the same events. The status predicate must match the one of the partial index on unprocessed events.
+     * An event is held back as long as an older event with the same ordering key is neither processed nor skipped, so
+     * at most one event per ordering key is claimed at a time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
     @Query(value = """
             SELECT next_notif
             FROM #{#entityName} next_notif
-            WHERE next_notif.id = (SELECT min(n.id) FROM #{#entityName} n WHERE n.status = 'PENDING' OR n.status = 'FAILED')
+            WHERE next_notif.status <> 'PROCESSED'
+              AND next_notif.status <> 'SKIPPED'
+              AND (next_notif.nextAttemptAt IS NULL OR next_notif.nextAttemptAt <= :now)
+              AND NOT EXISTS(SELECT previous
+                             FROM #{#entityName} previous
+                             WHERE previous.orderingKey = next_notif.orderingKey
+                               AND previous.id < next_notif.id
+                               AND previous.status <> 'PROCESSED'
+                               AND previous.status <> 'SKIPPED')
+            ORDER BY next_notif.id
+            """)
+    List<E> findNextToProcess(Instant now, Pageable pageable);
+
+    /**
+     * Locks the pending events with the given coalescing key that were not claimed by a consumer yet. Unlike
+     * {@link #findNextToProcess}, this waits for the rows locked by a consumer, whose claim then excludes them.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = """
+            SELECT pending
+            FROM #{#entityName} pending
+            WHERE pending.coalescingKey = :coalescingKey
+              AND pending.status = 'PENDING'
+              AND pending.attempts = 0
+            ORDER BY pending.id
+            """)
+    List<E> findUnclaimedByCoalescingKey(String coalescingKey);
+
+    @Modifying
+    @Query(value = """
+            UPDATE #{#entityName} n
+            SET n.status = :status, n.error = NULL, n.nextAttemptAt = NULL, n.updatedAt = :now
+            WHERE n.id IN :ids
             """)
-    Optional<E> findNextToProcess();
+    void updateStatus(List<Long> ids, EventEntity.Status status, Instant now);
+
+    @Query(value = "SELECT count(n) FROM #{#entityName} n WHERE n.status <> 'PROCESSED' AND n.status <> 'SKIPPED'")
+    long countUnprocessed();
+
+    @Query(value = "SELECT min(n.createdAt) FROM #{#entityName} n WHERE n.status <> 'PROCESSED' AND n.status <> 'SKIPPED'")
+    Instant findOldestUnprocessedCreationDate();
+
+    /**
+     * Moves the events processed or skipped before the given date to the partitioned archive table of the outbox.
+     */
+    Integer archiveProcessedEvents(Instant processedBefore);
 }
@@ -3,6 +3,7 @@ package onlydust.com.marketplace.api.postgres.adapter;
 import lombok.AllArgsConstructor;
 import onlydust.com.marketplace.api.domain.model.Currency;
 import onlydust.com.marketplace.api.domain.port.output.BackofficeStoragePort;
+import onlydust.com.marketplace.api.domain.port.output.QuoteProviderPort;
 import onlydust.com.marketplace.api.domain.view.backoffice.*;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.postgres.adapter.entity.backoffice.read.BoPaymentEntity;
@@ -29,6 +30,7 @@ public class PostgresBackofficeAdapter implements BackofficeStoragePort {
     private final BoUserRepository boUserRepository;
     private final BoPaymentRepository boPaymentRepository;
     private final BoProjectRepository boProjectRepository;
+    private final QuoteProviderPort quoteProviderPort;
 
     @Override
     @Transactional(readOnly = true)
@@ -57,20 +59,22 @@ public class PostgresBackofficeAdapter implements BackofficeStoragePort {
     public Page<ProjectBudgetView> findProjectBudgetPage(int pageIndex, int pageSize, List<UUID> projectIds) {
         final var page = projectBudgetRepository.findAllByProjectIds(PageRequest.of(pageIndex, pageSize),
                 isNull(projectIds) ? List.of() : projectIds);
+        final var quotes = quoteProviderPort.latest();
         return Page.<ProjectBudgetView>builder()
-                .content(page.getContent().stream().map(entity ->
-                        ProjectBudgetView.builder()
-                                .projectId(entity.getId().getProjectId())
-                                .id(entity.getId().getId())
-                                .currency(entity.getCurrency().toDomain())
-                                .initialAmount(entity.getInitialAmount())
-                                .remainingAmount(entity.getRemainingAmount())
-                                .spentAmount(entity.getSpentAmount())
-                                .initialAmountDollarsEquivalent(entity.getInitialAmountDollarsEquivalent())
-                                .remainingAmountDollarsEquivalent(entity.getRemainingAmountDollarsEquivalent())
-                                .spentAmountDollarsEquivalent(entity.getSpentAmountDollarsEquivalent())
-                                .build()
-                ).toList())
+                .content(page.getContent().stream().map(entity -> {
+                    final var currency = entity.getCurrency().toDomain();
+                    return ProjectBudgetView.builder()
+                            .projectId(entity.getId().getProjectId())
+                            .id(entity.getId().getId())
+                            .currency(currency)
+                            .initialAmount(entity.getInitialAmount())
+                            .remainingAmount(entity.getRemainingAmount())
+                            .spentAmount(entity.getSpentAmount())
+                            .initialAmountDollarsEquivalent(quotes.toUsd(currency, entity.getInitialAmount()))
+                            .remainingAmountDollarsEquivalent(quotes.toUsd(currency, entity.getRemainingAmount()))
+                            .spentAmountDollarsEquivalent(quotes.toUsd(currency, entity.getSpentAmount()))
+                            .build();
+                }).toList())
                 .totalItemNumber((int) page.getTotalElements())
                 .totalPageNumber(page.getTotalPages())
                 .build();
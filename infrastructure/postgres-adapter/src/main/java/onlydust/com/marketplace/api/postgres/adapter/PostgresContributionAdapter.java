@@ -7,7 +7,9 @@ import onlydust.com.marketplace.api.domain.model.Project;
 import onlydust.com.marketplace.api.domain.port.output.ContributionStoragePort;
 import onlydust.com.marketplace.api.domain.view.ContributionDetailsView;
 import onlydust.com.marketplace.api.domain.view.ContributionView;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
+import onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.ContributionRewardViewEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.ContributionViewEntity;
@@ -15,11 +17,9 @@ import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.CustomIgno
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.IgnoredContributionEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.ProjectRepoEntity;
 import onlydust.com.marketplace.api.postgres.adapter.mapper.GithubRepoMapper;
+import onlydust.com.marketplace.api.postgres.adapter.mapper.PaginationMapper;
 import onlydust.com.marketplace.api.postgres.adapter.mapper.ProjectMapper;
 import onlydust.com.marketplace.api.postgres.adapter.repository.*;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.JpaSort;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.text.SimpleDateFormat;
@@ -31,7 +31,7 @@ import static java.util.Objects.isNull;
 @AllArgsConstructor
 public class PostgresContributionAdapter implements ContributionStoragePort {
 
-    private final ContributionViewEntityRepository contributionViewEntityRepository;
+    private final CustomContributionRepository customContributionRepository;
     private final ShortProjectViewEntityRepository shortProjectViewEntityRepository;
     private final GithubRepoViewEntityRepository githubRepoViewEntityRepository;
     private final ContributionDetailsViewEntityRepository contributionDetailsViewEntityRepository;
@@ -48,24 +48,28 @@ public class PostgresContributionAdapter implements ContributionStoragePort {
                                                     ContributionView.Sort sort,
                                                     SortDirection direction,
                                                     Integer page,
-                                                    Integer pageSize) {
+                                                    Integer pageSize,
+                                                    Cursor after) {
         final var format = new SimpleDateFormat("yyyy-MM-dd");
-        final var contributionPage = contributionViewEntityRepository.findContributions(
-                contributorId,
-                filters.getContributors(),
-                filters.getProjects(),
-                filters.getRepos(),
-                filters.getTypes().stream().map(Enum::name).toList(),
-                filters.getStatuses().stream().map(Enum::name).toList(),
-                isNull(filters.getFrom()) ? null : format.format(filters.getFrom()),
-                isNull(filters.getTo()) ? null : format.format(filters.getTo()),
-                PageRequest.of(page, pageSize, sortBy(sort, direction == SortDirection.asc ? Sort.Direction.ASC :
-                        Sort.Direction.DESC)));
+        final var types = filters.getTypes().stream().map(Enum::name).toList();
+        final var statuses = filters.getStatuses().stream().map(Enum::name).toList();
+        final var fromDate = isNull(filters.getFrom()) ? null : format.format(filters.getFrom());
+        final var toDate = isNull(filters.getTo()) ? null : format.format(filters.getTo());
+
+        final var contributions = customContributionRepository.findContributions(contributorId,
+                filters.getContributors(), filters.getProjects(), filters.getRepos(), types, statuses, fromDate,
+                toDate, sort, direction, page, pageSize, after);
+        final int count = PaginationMapper.getTotalItemNumber(after,
+                () -> customContributionRepository.countContributions(contributorId, filters.getContributors(),
+                        filters.getProjects(), filters.getRepos(), types, statuses, fromDate, toDate));
 
         return Page.<ContributionView>builder()
-                .content(contributionPage.getContent().stream().map(ContributionViewEntity::toView).toList())
-                .totalItemNumber((int) contributionPage.getTotalElements())
-                .totalPageNumber(contributionPage.getTotalPages())
+                .content(PaginationMapper.getPageContent(contributions, pageSize).stream()
+                        .map(ContributionViewEntity::toView).toList())
+                .totalItemNumber(count)
+                .totalPageNumber(PaginationHelper.calculateTotalNumberOfPage(pageSize, count))
+                .nextCursor(PaginationMapper.getNextCursor(contributions, pageSize, count,
+                        ContributionViewEntity::toCursor))
                 .build();
     }
 
@@ -81,18 +85,6 @@ public class PostgresContributionAdapter implements ContributionStoragePort {
                 .withRewards(rewards.stream().map(ContributionRewardViewEntity::toView).toList());
     }
 
-    private Sort sortBy(ContributionView.Sort sort, Sort.Direction direction) {
-        return switch (sort) {
-            case CREATED_AT -> Sort.by(direction, "created_at");
-            case PROJECT_REPO_NAME -> Sort.by(direction, "project_name", "repo_name");
-            case GITHUB_NUMBER_TITLE -> Sort.by(direction, "github_number", "github_title");
-            case CONTRIBUTOR_LOGIN -> Sort.by(direction, "contributor_login");
-            case LINKS_COUNT -> JpaSort.unsafe(direction, "COALESCE(jsonb_array_length(COALESCE(closing_issues.links," +
-                                                          "closing_pull_requests.links, reviewed_pull_requests.links)" +
-                                                          "), 0)");
-        };
-    }
-
     @Override
     @Transactional(readOnly = true)
     public List<Project> listProjectsByContributor(Long contributorId, ContributionView.Filters filters) {
@@ -185,4 +177,38 @@ public class PostgresContributionAdapter implements ContributionStoragePort {
         ignoredContributionsRepository.addMissingContributions(repoIds);
         ignoredContributionsRepository.deleteContributionsThatShouldNotBeIgnored(repoIds);
     }
+
+    @Override
+    @Transactional
+    public void refreshIgnoredContributions(List<Long> repoIds, List<String> contributionIds) {
+        if (contributionIds.isEmpty()) {
+            return;
+        }
+        ignoredContributionsRepository.addMissingContributions(repoIds, contributionIds);
+        ignoredContributionsRepository.deleteContributionsThatShouldNotBeIgnored(repoIds, contributionIds);
+    }
+
+    @Override
+    @Transactional
+    public void refreshProjectContributorStats(UUID projectId) {
+        customContributorRepository.refreshProjectContributorStats(projectId);
+    }
+
+    @Override
+    @Transactional
+    public void refreshProjectContributorStats(List<Long> repoIds) {
+        customContributorRepository.refreshProjectContributorStats(repoIds);
+    }
+
+    @Override
+    @Transactional
+    public List<UUID> refreshQueuedProjectContributorStats(int maxProjectCount) {
+        return customContributorRepository.refreshQueuedProjectContributorStats(maxProjectCount);
+    }
+
+    @Override
+    @Transactional
+    public void refreshProjectContributorLogins() {
+        customContributorRepository.refreshProjectContributorLogins();
+    }
 }
@@ -1,42 +1,116 @@
 package onlydust.com.marketplace.api.postgres.adapter;
 
 import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.model.notification.CoalescableEvent;
 import onlydust.com.marketplace.api.domain.model.notification.Event;
 import onlydust.com.marketplace.api.domain.port.output.OutboxPort;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.EventEntity;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
 
+import static java.util.Objects.isNull;
+
+@Slf4j
 @AllArgsConstructor
 public class PostgresOutboxAdapter<E extends EventEntity> implements OutboxPort {
 
     private final OutboxRepository<E> outboxRepository;
+    private final Config config;
 
     @Override
+    @Transactional
     public void push(Event event) {
+        if (event instanceof CoalescableEvent coalescableEvent) {
+            final List<E> pendingEvents = outboxRepository.findUnclaimedByCoalescingKey(coalescableEvent.coalescingKey());
+            if (!pendingEvents.isEmpty()) {
+                final E pending = pendingEvents.get(0);
+                pending.setPayload(new EventEntity.Payload(coalescableEvent.coalesce(pending.getEvent())));
+                outboxRepository.save(pending);
+                return;
+            }
+        }
         outboxRepository.saveEvent(event);
+        outboxRepository.notifyListeners();
     }
 
     @Override
-    public Optional<Event> peek() {
-        return outboxRepository.findNextToProcess().map(EventEntity::getEvent);
+    @Transactional
+    public List<IdentifiableEvent> peek(int maxCount) {
+        final Instant now = Instant.now();
+        final List<E> entities = outboxRepository.findNextToProcess(now, PageRequest.of(0, maxCount));
+        entities.forEach(entity -> {
+            entity.setAttempts(entity.getAttempts() + 1);
+            entity.setNextAttemptAt(now.plusSeconds(config.getClaimTimeoutInSeconds()));
+        });
+        outboxRepository.saveAll(entities);
+        return entities.stream()
+                .map(entity -> new IdentifiableEvent(entity.getId(), entity.getEvent()))
+                .toList();
     }
 
     @Override
-    public void ack() {
-        outboxRepository.findNextToProcess().ifPresent(entity -> {
-            entity.setStatus(EventEntity.Status.PROCESSED);
-            entity.setError(null);
-            outboxRepository.save(entity);
-        });
+    @Transactional
+    public void ack(List<Long> eventIds) {
+        outboxRepository.updateStatus(eventIds, EventEntity.Status.PROCESSED, Instant.now());
     }
 
     @Override
-    public void nack(String message) {
-        outboxRepository.findNextToProcess().ifPresent(entity -> {
-            entity.setStatus(EventEntity.Status.FAILED);
+    @Transactional
+    public void nack(Long eventId, String message) {
+        outboxRepository.findById(eventId).ifPresent(entity -> {
             entity.setError(message);
+            if (entity.getAttempts() >= config.getMaxAttempts()) {
+                LOGGER.warn("Event {} failed {} times, it is skipped: {}", eventId, entity.getAttempts(), message);
+                entity.setStatus(EventEntity.Status.SKIPPED);
+                entity.setNextAttemptAt(null);
+            } else {
+                entity.setStatus(EventEntity.Status.FAILED);
+                entity.setNextAttemptAt(Instant.now().plus(retryDelay(entity.getAttempts())));
+            }
             outboxRepository.save(entity);
         });
     }
+
+    @Override
+    @Transactional
+    public int archiveProcessedEvents(Date processedBefore) {
+        return outboxRepository.archiveProcessedEvents(processedBefore.toInstant());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Backlog backlog() {
+        final Instant oldestEventCreationDate = outboxRepository.findOldestUnprocessedCreationDate();
+        return new Backlog(outboxRepository.countUnprocessed(),
+                isNull(oldestEventCreationDate) ? null : Date.from(oldestEventCreationDate));
+    }
+
+    private Duration retryDelay(final int attempts) {
+        final long delay = config.getRetryBaseDelayInSeconds() << Math.min(Math.max(attempts - 1, 0), 20);
+        return Duration.ofSeconds(Math.min(delay, config.getRetryMaxDelayInSeconds()));
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Long claimTimeoutInSeconds = 300L;
+        @Builder.Default
+        Long retryBaseDelayInSeconds = 5L;
+        @Builder.Default
+        Long retryMaxDelayInSeconds = 3600L;
+        @Builder.Default
+        Integer maxAttempts = 10;
+    }
 }
@@ -4,7 +4,9 @@ import lombok.AllArgsConstructor;
 import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
 import onlydust.com.marketplace.api.domain.model.*;
 import onlydust.com.marketplace.api.domain.port.output.ProjectStoragePort;
+import onlydust.com.marketplace.api.domain.port.output.QuoteProviderPort;
 import onlydust.com.marketplace.api.domain.view.*;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
@@ -18,7 +20,6 @@ import onlydust.com.marketplace.api.postgres.adapter.repository.old.ProjectIdRep
 import onlydust.com.marketplace.api.postgres.adapter.repository.old.ProjectLeaderInvitationRepository;
 import onlydust.com.marketplace.api.postgres.adapter.repository.old.ProjectRepoRepository;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.JpaSort;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +28,8 @@ import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -53,28 +56,30 @@ public class PostgresProjectAdapter implements ProjectStoragePort {
     private final ProjectsPageRepository projectsPageRepository;
     private final ProjectsPageFiltersRepository projectsPageFiltersRepository;
     private final RewardableItemRepository rewardableItemRepository;
-    private final CustomProjectRankingRepository customProjectRankingRepository;
+    private final ProjectRankingEngine projectRankingEngine;
     private final BudgetStatsRepository budgetStatsRepository;
     private final ChurnedContributorViewEntityRepository churnedContributorViewEntityRepository;
     private final NewcomerViewEntityRepository newcomerViewEntityRepository;
     private final ContributorActivityViewEntityRepository contributorActivityViewEntityRepository;
     private final ApplicationRepository applicationRepository;
-    private final ContributionViewEntityRepository contributionViewEntityRepository;
+    private final ProjectDetailsQueryExecutor projectDetailsQueryExecutor;
+    private final ProjectDetailsCache projectDetailsCache;
+    private final QuoteProviderPort quoteProviderPort;
 
     @Override
-    @Transactional(readOnly = true)
     public ProjectDetailsView getById(UUID projectId, User caller) {
-        final var projectEntity = projectViewRepository.findById(projectId)
-                .orElseThrow(() -> OnlyDustException.notFound(format("Project %s not found", projectId)));
-        return getProjectDetails(projectEntity, caller);
+        final var project = projectDetailsCache.getById(projectId, () -> getProjectDetails(
+                () -> projectViewRepository.findById(projectId),
+                () -> OnlyDustException.notFound(format("Project %s not found", projectId))));
+        return withMe(project, caller);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public ProjectDetailsView getBySlug(String slug, User caller) {
-        final var projectEntity = projectViewRepository.findByKey(slug)
-                .orElseThrow(() -> OnlyDustException.notFound(format("Project '%s' not found", slug)));
-        return getProjectDetails(projectEntity, caller);
+        final var project = projectDetailsCache.getBySlug(slug, () -> getProjectDetails(
+                () -> projectViewRepository.findByKey(slug),
+                () -> OnlyDustException.notFound(format("Project '%s' not found", slug))));
+        return withMe(project, caller);
     }
 
     @Override
@@ -124,30 +129,64 @@ public class PostgresProjectAdapter implements ProjectStoragePort {
                (userId != null && customProjectRepository.hasUserAccessToProject(projectSlug, userId));
     }
 
-    private ProjectDetailsView getProjectDetails(ProjectViewEntity projectView, User caller) {
-        final var topContributors = customContributorRepository.findProjectTopContributors(projectView.getId(),
-                TOP_CONTRIBUTOR_COUNT);
-        final var contributorCount = customContributorRepository.getProjectContributorCount(projectView.getId(), null);
-        final var leaders = projectLeadViewRepository.findProjectLeadersAndInvitedLeaders(projectView.getId());
-        final var sponsors = customProjectRepository.getProjectSponsors(projectView.getId());
+    /**
+     * The project is read and mapped on the caller thread within a read-only transaction, while its independent reads
+     * run concurrently on the project details executor, each on its own connection. They are awaited once the caller
+     * transaction is over, so that the caller never holds a connection while waiting for the executor.
+     */
+    private ProjectDetailsView getProjectDetails(final Supplier<Optional<ProjectViewEntity>> projectView,
+                                                 final Supplier<OnlyDustException> notFound) {
+        final PendingProjectDetails pending = projectDetailsQueryExecutor.inTransaction(() -> projectView.get()
+                .map(this::submitProjectDetails)
+                .orElseThrow(notFound));
+        return ProjectMapper.withProjectDetails(pending.project(), pending.topContributors().get(),
+                pending.contributorCount().get(), pending.leaders().get(), pending.sponsors().get(),
+                pending.hasRemainingBudget().get());
+    }
+
+    private PendingProjectDetails submitProjectDetails(ProjectViewEntity projectView) {
+        final UUID projectId = projectView.getId();
+        final var topContributors = projectDetailsQueryExecutor.submit("top contributors",
+                () -> customContributorRepository.findProjectTopContributors(projectId, TOP_CONTRIBUTOR_COUNT));
+        final var contributorCount = projectDetailsQueryExecutor.submit("contributor count",
+                () -> customContributorRepository.getProjectContributorCount(projectId, null));
+        final var leaders = projectDetailsQueryExecutor.submit("leaders",
+                () -> projectLeadViewRepository.findProjectLeadersAndInvitedLeaders(projectId));
+        final var sponsors = projectDetailsQueryExecutor.submit("sponsors",
+                () -> customProjectRepository.getProjectSponsors(projectId));
         // TODO : migrate to multi-token
-        final Boolean hasRemainingBudget = customProjectRepository.hasRemainingBudget(projectView.getId());
-        final var me = isNull(caller) ? null : new ProjectDetailsView.Me(
-                leaders.stream().anyMatch(l -> l.getGithubId().equals(caller.getGithubUserId()) && l.getHasAcceptedInvitation()),
-                leaders.stream().anyMatch(l -> l.getGithubId().equals(caller.getGithubUserId()) && !l.getHasAcceptedInvitation()),
-                !contributionViewEntityRepository.findContributions(caller.getGithubUserId(),
-                        List.of(caller.getGithubUserId()),
-                        List.of(projectView.getId()),
-                        List.of(),
-                        List.of(),
-                        List.of(),
-                        null,
-                        null,
-                        Pageable.ofSize(1)).isEmpty(),
-                applicationRepository.findByProjectIdAndApplicantId(projectView.getId(), caller.getId()).isPresent()
-        );
-        return ProjectMapper.mapToProjectDetailsView(projectView, topContributors, contributorCount, leaders
-                , sponsors, hasRemainingBudget, me);
+        final var hasRemainingBudget = projectDetailsQueryExecutor.submit("remaining budget",
+                () -> customProjectRepository.hasRemainingBudget(projectId));
+
+        return new PendingProjectDetails(ProjectMapper.mapToProjectDetailsView(projectView), topContributors,
+                contributorCount, leaders, sponsors, hasRemainingBudget);
+    }
+
+    private ProjectDetailsView withMe(ProjectDetailsView project, User caller) {
+        if (isNull(caller)) {
+            return project;
+        }
+        final UUID projectId = project.getId();
+        final var isContributor = projectDetailsQueryExecutor.submit("contributor",
+                () -> customContributorRepository.isProjectContributor(projectId, caller.getGithubUserId()));
+        final var hasApplied = projectDetailsQueryExecutor.submit("application",
+                () -> applicationRepository.findByProjectIdAndApplicantId(projectId, caller.getId()).isPresent());
+
+        return project.toBuilder()
+                .me(new ProjectDetailsView.Me(
+                        project.getLeaders().stream().anyMatch(l -> caller.getGithubUserId().equals(l.getGithubUserId())),
+                        project.getInvitedLeaders().stream().anyMatch(l -> caller.getGithubUserId().equals(l.getGithubUserId())),
+                        isContributor.get(),
+                        hasApplied.get()))
+                .build();
+    }
+
+    private record PendingProjectDetails(ProjectDetailsView project,
+                                         ProjectDetailsQueryExecutor.PendingQuery<List<ContributorViewEntity>> topContributors,
+                                         ProjectDetailsQueryExecutor.PendingQuery<Integer> contributorCount,
+                                         ProjectDetailsQueryExecutor.PendingQuery<List<ProjectLeadViewEntity>> leaders,
+                                         ProjectDetailsQueryExecutor.PendingQuery<List<SponsorEntity>> sponsors,
+                                         ProjectDetailsQueryExecutor.PendingQuery<Boolean> hasRemainingBudget) {
     }
 
     @Override
@@ -157,24 +196,43 @@ public class PostgresProjectAdapter implements ProjectStoragePort {
                                                                               String search,
                                                                               ProjectCardView.SortBy sort,
                                                                               Boolean mine, Integer pageIndex,
-                                                                              Integer pageSize) {
-        final String sponsorsJsonPath = ProjectPageItemViewEntity.getSponsorsJsonPath(sponsorIds);
-        final String technologiesJsonPath = ProjectPageItemViewEntity.getTechnologiesJsonPath(technologies);
-        final Long count = projectsPageRepository.countProjectsForUserId(userId, mine, technologiesJsonPath,
-                sponsorsJsonPath, search);
+                                                                              Integer pageSize, Cursor after) {
+        final String sponsorIdsArray = ProjectPageItemViewEntity.getSponsorIdsArray(sponsorIds);
+        final String technologiesArray = ProjectPageItemViewEntity.getTechnologiesArray(technologies);
+        final Function<String, String> afterValue = key -> isNull(after) ? null : after.get(key);
         final List<ProjectPageItemViewEntity> projectsForUserId =
-                projectsPageRepository.findProjectsForUserId(userId, mine,
-                        technologiesJsonPath, sponsorsJsonPath, search, isNull(sort) ?
+                projectsPageRepository.findProjectsPageForUserId(userId, mine,
+                        technologiesArray, sponsorIdsArray, search, isNull(sort) ?
                                 ProjectCardView.SortBy.NAME.name() : sort.name(),
-                        PaginationMapper.getPostgresOffsetFromPagination(pageSize, pageIndex), pageSize);
-        final Map<String, Set<Object>> filters = ProjectPageItemFiltersViewEntity.entitiesToFilters(
-                projectsPageFiltersRepository.findFiltersForUser(userId, mine, technologiesJsonPath, sponsorsJsonPath,
-                        search));
+                        afterValue.apply("projectId"), afterValue.apply("isPendingProjectLead"),
+                        afterValue.apply("name"), afterValue.apply("repoCount"),
+                        afterValue.apply("contributorsCount"), afterValue.apply("rank"),
+                        afterValue.apply("relevance"),
+                        isNull(after) ? PaginationMapper.getPostgresOffsetFromPagination(pageSize, pageIndex) : 0,
+                        pageSize + 1);
+        final Long count;
+        final Map<String, Set<Object>> filters;
+        if (!projectsForUserId.isEmpty()) {
+            count = projectsForUserId.get(0).getTotalCount().longValue();
+            filters = projectsForUserId.get(0).facetsToFilters();
+        } else if (pageIndex > 0 || nonNull(after)) {
+            count = projectsPageRepository.countProjectsForUserId(userId, mine, technologiesArray,
+                    sponsorIdsArray, search);
+            filters = ProjectPageItemFiltersViewEntity.entitiesToFilters(
+                    projectsPageFiltersRepository.findFiltersForUser(userId, mine, technologiesArray,
+                            sponsorIdsArray, search));
+        } else {
+            count = 0L;
+            filters = ProjectPageItemFiltersViewEntity.entitiesToFilters(List.of());
+        }
         return Page.<ProjectCardView>builder()
-                .content(projectsForUserId.stream().map(p -> p.toView(userId)).toList())
+                .content(PaginationMapper.getPageContent(projectsForUserId, pageSize).stream()
+                        .map(p -> p.toView(userId)).toList())
                 .totalItemNumber(count.intValue())
                 .totalPageNumber(PaginationHelper.calculateTotalNumberOfPage(pageSize, count.intValue()))
                 .filters(filters)
+                .nextCursor(PaginationMapper.getNextCursor(projectsForUserId, pageSize, count.intValue(),
+                        ProjectPageItemViewEntity::toCursor))
                 .build();
     }
 
@@ -183,25 +241,44 @@ public class PostgresProjectAdapter implements ProjectStoragePort {
     public Page<ProjectCardView> findByTechnologiesSponsorsSearchSortBy(List<String> technologies,
                                                                         List<UUID> sponsorIds, String search,
                                                                         ProjectCardView.SortBy sort,
-                                                                        Integer pageIndex, Integer pageSize) {
+                                                                        Integer pageIndex, Integer pageSize,
+                                                                        Cursor after) {
 
-        final String sponsorsJsonPath = ProjectPageItemViewEntity.getSponsorsJsonPath(sponsorIds);
-        final String technologiesJsonPath = ProjectPageItemViewEntity.getTechnologiesJsonPath(technologies);
+        final String sponsorIdsArray = ProjectPageItemViewEntity.getSponsorIdsArray(sponsorIds);
+        final String technologiesArray = ProjectPageItemViewEntity.getTechnologiesArray(technologies);
+        final Function<String, String> afterValue = key -> isNull(after) ? null : after.get(key);
         final List<ProjectPageItemViewEntity> projectsForAnonymousUser =
-                projectsPageRepository.findProjectsForAnonymousUser(technologiesJsonPath, sponsorsJsonPath, search,
-                        isNull(sort) ?
+                projectsPageRepository.findProjectsPageForAnonymousUser(technologiesArray, sponsorIdsArray,
+                        search, isNull(sort) ?
                                 ProjectCardView.SortBy.NAME.name() : sort.name(),
-                        PaginationMapper.getPostgresOffsetFromPagination(pageSize, pageIndex), pageSize);
-        final Long count = projectsPageRepository.countProjectsForAnonymousUser(technologiesJsonPath,
-                sponsorsJsonPath, search);
-        final Map<String, Set<Object>> filters = ProjectPageItemFiltersViewEntity.entitiesToFilters(
-                projectsPageFiltersRepository.findFiltersForAnonymousUser(technologiesJsonPath, sponsorsJsonPath,
-                        search));
+                        afterValue.apply("projectId"), afterValue.apply("name"), afterValue.apply("repoCount"),
+                        afterValue.apply("contributorsCount"), afterValue.apply("rank"),
+                        afterValue.apply("relevance"),
+                        isNull(after) ? PaginationMapper.getPostgresOffsetFromPagination(pageSize, pageIndex) : 0,
+                        pageSize + 1);
+        final Long count;
+        final Map<String, Set<Object>> filters;
+        if (!projectsForAnonymousUser.isEmpty()) {
+            count = projectsForAnonymousUser.get(0).getTotalCount().longValue();
+            filters = projectsForAnonymousUser.get(0).facetsToFilters();
+        } else if (pageIndex > 0 || nonNull(after)) {
+            count = projectsPageRepository.countProjectsForAnonymousUser(technologiesArray,
+                    sponsorIdsArray, search);
+            filters = ProjectPageItemFiltersViewEntity.entitiesToFilters(
+                    projectsPageFiltersRepository.findFiltersForAnonymousUser(technologiesArray,
+                            sponsorIdsArray, search));
+        } else {
+            count = 0L;
+            filters = ProjectPageItemFiltersViewEntity.entitiesToFilters(List.of());
+        }
         return Page.<ProjectCardView>builder()
-                .content(projectsForAnonymousUser.stream().map(p -> p.toView(null)).toList())
+                .content(PaginationMapper.getPageContent(projectsForAnonymousUser, pageSize).stream()
+                        .map(p -> p.toView(null)).toList())
                 .totalItemNumber(count.intValue())
                 .totalPageNumber(PaginationHelper.calculateTotalNumberOfPage(pageSize, count.intValue()))
                 .filters(filters)
+                .nextCursor(PaginationMapper.getNextCursor(projectsForAnonymousUser, pageSize, count.intValue(),
+                        ProjectPageItemViewEntity::toCursor))
                 .build();
     }
 
@@ -327,17 +404,20 @@ public class PostgresProjectAdapter implements ProjectStoragePort {
     public Page<ProjectContributorsLinkView> findContributors(UUID projectId, String login,
                                                               ProjectContributorsLinkView.SortBy sortBy,
                                                               SortDirection sortDirection,
-                                                              int pageIndex, int pageSize) {
-        final Integer count = customContributorRepository.getProjectContributorCount(projectId, login);
-        final List<ProjectContributorsLinkView> projectContributorsLinkViews =
+                                                              int pageIndex, int pageSize, Cursor after) {
+        final int count = PaginationMapper.getTotalItemNumber(after,
+                () -> customContributorRepository.getProjectContributorCount(projectId, login));
+        final List<ProjectContributorViewEntity> contributors =
                 customContributorRepository.getProjectContributorViewEntity(projectId, login, sortBy, sortDirection,
-                                pageIndex, pageSize)
-                        .stream().map(ProjectContributorsMapper::mapToDomainWithoutProjectLeadData)
-                        .toList();
+                        pageIndex, pageSize, after, quoteProviderPort.latest());
         return Page.<ProjectContributorsLinkView>builder()
-                .content(projectContributorsLinkViews)
+                .content(PaginationMapper.getPageContent(contributors, pageSize).stream()
+                        .map(ProjectContributorsMapper::mapToDomainWithoutProjectLeadData)
+                        .toList())
                 .totalItemNumber(count)
                 .totalPageNumber(PaginationHelper.calculateTotalNumberOfPage(pageSize, count))
+                .nextCursor(PaginationMapper.getNextCursor(contributors, pageSize, count,
+                        ProjectContributorViewEntity::toCursor))
                 .build();
     }
 
@@ -346,17 +426,20 @@ public class PostgresProjectAdapter implements ProjectStoragePort {
     public Page<ProjectContributorsLinkView> findContributorsForProjectLead(UUID projectId, String login,
                                                                             ProjectContributorsLinkView.SortBy sortBy,
                                                                             SortDirection sortDirection,
-                                                                            int pageIndex, int pageSize) {
-        final Integer count = customContributorRepository.getProjectContributorCount(projectId, login);
-        final List<ProjectContributorsLinkView> projectContributorsLinkViews =
+                                                                            int pageIndex, int pageSize, Cursor after) {
+        final int count = PaginationMapper.getTotalItemNumber(after,
+                () -> customContributorRepository.getProjectContributorCount(projectId, login));
+        final List<ProjectContributorViewEntity> contributors =
                 customContributorRepository.getProjectContributorViewEntity(projectId, login, sortBy, sortDirection,
-                                pageIndex, pageSize)
-                        .stream().map(ProjectContributorsMapper::mapToDomainWithProjectLeadData)
-                        .toList();
+                        pageIndex, pageSize, after, quoteProviderPort.latest());
         return Page.<ProjectContributorsLinkView>builder()
-                .content(projectContributorsLinkViews)
+                .content(PaginationMapper.getPageContent(contributors, pageSize).stream()
+                        .map(ProjectContributorsMapper::mapToDomainWithProjectLeadData)
+                        .toList())
                 .totalItemNumber(count)
                 .totalPageNumber(PaginationHelper.calculateTotalNumberOfPage(pageSize, count))
+                .nextCursor(PaginationMapper.getNextCursor(contributors, pageSize, count,
+                        ProjectContributorViewEntity::toCursor))
                 .build();
     }
 
@@ -398,6 +481,7 @@ public class PostgresProjectAdapter implements ProjectStoragePort {
 
         final var budgetStats = budgetStatsRepository.findByProject(projectId, currencies, filters.getContributors(),
                 fromDate, toDate);
+        final var quotes = quoteProviderPort.latest();
 
         return ProjectRewardsPageView.builder().
                 rewards(Page.<ProjectRewardView>builder()
@@ -408,15 +492,15 @@ public class PostgresProjectAdapter implements ProjectStoragePort {
                 .remainingBudget(budgetStats.size() == 1 ?
                         new Money(budgetStats.get(0).getRemainingAmount(),
                                 budgetStats.get(0).getCurrency().toDomain(),
-                                budgetStats.get(0).getRemainingUsdAmount()) :
+                                quotes.toUsd(budgetStats.get(0).getCurrency().toDomain(), budgetStats.get(0).getRemainingAmount())) :
                         new Money(null, null,
-                                budgetStats.stream().map(BudgetStatsEntity::getRemainingUsdAmount).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add)))
+                                budgetStats.stream().map(s -> quotes.toUsd(s.getCurrency().toDomain(), s.getRemainingAmount())).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add)))
                 .spentAmount(budgetStats.size() == 1 ?
                         new Money(budgetStats.get(0).getSpentAmount(),
                                 budgetStats.get(0).getCurrency().toDomain(),
-                                budgetStats.get(0).getSpentUsdAmount()) :
+                                quotes.toUsd(budgetStats.get(0).getCurrency().toDomain(), budgetStats.get(0).getSpentAmount())) :
                         new Money(null, null,
-                                budgetStats.stream().map(BudgetStatsEntity::getSpentUsdAmount).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add)))
+                                budgetStats.stream().map(s -> quotes.toUsd(s.getCurrency().toDomain(), s.getSpentAmount())).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add)))
                 .sentRewardsCount(budgetStats.stream().map(BudgetStatsEntity::getRewardIds).flatMap(Collection::stream).collect(Collectors.toUnmodifiableSet()).size())
                 .rewardedContributionsCount(budgetStats.stream().map(BudgetStatsEntity::getRewardItemIds).flatMap(Collection::stream).collect(Collectors.toUnmodifiableSet()).size())
                 .rewardedContributorsCount(budgetStats.stream().map(BudgetStatsEntity::getRewardRecipientIds).flatMap(Collection::stream).collect(Collectors.toUnmodifiableSet()).size())
@@ -426,8 +510,9 @@ public class PostgresProjectAdapter implements ProjectStoragePort {
     @Override
     @Transactional(readOnly = true)
     public ProjectBudgetsView findBudgets(UUID projectId) {
+        final var quotes = quoteProviderPort.latest();
         return ProjectBudgetsView.builder().budgets(customProjectBudgetRepository.findProjectBudgetByProjectId(projectId)
-                        .stream().map(BudgetMapper::entityToDomain)
+                        .stream().map(budget -> BudgetMapper.entityToDomain(budget, quotes))
                         .toList())
                 .build();
     }
@@ -495,9 +580,30 @@ public class PostgresProjectAdapter implements ProjectStoragePort {
     }
 
     @Override
-    @Transactional
     public void updateProjectsRanking() {
-        customProjectRankingRepository.updateProjectsRanking();
+        projectRankingEngine.updateProjectsRanking();
+    }
+
+    @Override
+    public void updateQueuedProjectsRanking() {
+        projectRankingEngine.updateQueuedProjectsRanking();
+    }
+
+    @Override
+    public void queueProjectsRanking(List<Long> repoIds) {
+        projectRankingEngine.queueProjects(repoIds);
+    }
+
+    @Override
+    @Transactional
+    public void refreshProjectCatalog(List<Long> repoIds) {
+        customProjectRepository.refreshProjectCatalog(repoIds);
+    }
+
+    @Override
+    @Transactional
+    public void refreshProjectCatalog() {
+        customProjectRepository.refreshProjectCatalog();
     }
 
     @Override
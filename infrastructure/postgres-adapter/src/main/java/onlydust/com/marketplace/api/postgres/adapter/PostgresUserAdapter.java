@@ -4,8 +4,10 @@ import lombok.AllArgsConstructor;
 import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
 import onlydust.com.marketplace.api.domain.model.*;
 import onlydust.com.marketplace.api.domain.model.Currency;
+import onlydust.com.marketplace.api.domain.port.output.QuoteProviderPort;
 import onlydust.com.marketplace.api.domain.port.output.UserStoragePort;
 import onlydust.com.marketplace.api.domain.view.*;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
 import onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
@@ -13,11 +15,13 @@ import onlydust.com.marketplace.api.postgres.adapter.entity.read.ProjectStatsFor
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.RewardStatsEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.UserPayoutInfoValidationEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.UserViewEntity;
+import onlydust.com.marketplace.api.postgres.adapter.entity.read.UserRewardViewEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.ApplicationEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.OnboardingEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.ProjectLeadEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.UserPayoutInfoEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.type.CurrencyEnumEntity;
+import onlydust.com.marketplace.api.postgres.adapter.mapper.PaginationMapper;
 import onlydust.com.marketplace.api.postgres.adapter.mapper.RewardMapper;
 import onlydust.com.marketplace.api.postgres.adapter.mapper.UserMapper;
 import onlydust.com.marketplace.api.postgres.adapter.mapper.UserPayoutInfoMapper;
@@ -57,6 +61,9 @@ public class PostgresUserAdapter implements UserStoragePort {
     private final CustomRewardRepository customRewardRepository;
     private final ProjectLedIdRepository projectLedIdRepository;
     private final RewardStatsRepository rewardStatsRepository;
+    private final UserIdentityWriteBehindBuffer userIdentityWriteBehindBuffer;
+    private final QuoteProviderPort quoteProviderPort;
+    private final RegisteredGithubIdsBitmap registeredGithubIdsBitmap;
 
     @Override
     @Transactional(readOnly = true)
@@ -73,6 +80,11 @@ public class PostgresUserAdapter implements UserStoragePort {
         });
     }
 
+    @Override
+    public Set<Long> registeredGithubIds(Collection<Long> githubUserIds) {
+        return registeredGithubIdsBitmap.filter(githubUserIds);
+    }
+
     @Override
     @Transactional
     public void createUser(User user) {
@@ -82,22 +94,10 @@ public class PostgresUserAdapter implements UserStoragePort {
     @Override
     public void updateUserIdentity(UUID userId, String githubLogin, String githubAvatarUrl, String emailFromGithub,
                                    Date lastSeenAt) {
-        userRepository.findById(userId)
-                .ifPresentOrElse(userEntity -> {
-                    if (githubLogin != null) {
-                        userEntity.setGithubLogin(githubLogin);
-                    }
-                    if (githubAvatarUrl != null) {
-                        userEntity.setGithubAvatarUrl(githubAvatarUrl);
-                    }
-                    if (emailFromGithub != null) {
-                        userEntity.setGithubEmail(emailFromGithub);
-                    }
-                    userEntity.setLastSeenAt(lastSeenAt);
-                    userRepository.save(userEntity);
-                }, () -> {
-                    throw OnlyDustException.notFound(format("User with id %s not found", userId));
-                });
+        if (!userRepository.existsById(userId)) {
+            throw OnlyDustException.notFound(format("User with id %s not found", userId));
+        }
+        userIdentityWriteBehindBuffer.push(userId, githubLogin, githubAvatarUrl, emailFromGithub, lastSeenAt);
     }
 
     @Override
@@ -249,7 +249,8 @@ public class PostgresUserAdapter implements UserStoragePort {
     @Transactional(readOnly = true)
     public UserRewardsPageView findRewardsForUserId(UUID userId, UserRewardView.Filters filters,
                                                     int pageIndex, int pageSize,
-                                                    UserRewardView.SortBy sortBy, SortDirection sortDirection) {
+                                                    UserRewardView.SortBy sortBy, SortDirection sortDirection,
+                                                    Cursor after) {
 
         final var format = new SimpleDateFormat("yyyy-MM-dd");
         final var fromDate = isNull(filters.getFrom()) ? null : format.format(filters.getFrom());
@@ -257,34 +258,39 @@ public class PostgresUserAdapter implements UserStoragePort {
         final var currencies =
                 filters.getCurrencies().stream().map(CurrencyEnumEntity::of).map(CurrencyEnumEntity::toString).toList();
 
-        final var count = customUserRewardRepository.getCount(userId, currencies, filters.getProjectIds(), fromDate,
-                toDate);
-        final var userRewardViews = customUserRewardRepository.getViewEntities(userId,
-                        currencies, filters.getProjectIds(), fromDate, toDate,
-                        sortBy, sortDirection, pageIndex, pageSize)
+        final int count = PaginationMapper.getTotalItemNumber(after,
+                () -> customUserRewardRepository.getCount(userId, currencies, filters.getProjectIds(), fromDate,
+                        toDate));
+        final var rewardEntities = customUserRewardRepository.getViewEntities(userId,
+                currencies, filters.getProjectIds(), fromDate, toDate,
+                sortBy, sortDirection, pageIndex, pageSize, after);
+        final var userRewardViews = PaginationMapper.getPageContent(rewardEntities, pageSize)
                 .stream().map(UserRewardMapper::mapEntityToDomain)
                 .toList();
         final var rewardsStats = rewardStatsRepository.findByUser(userId, currencies, filters.getProjectIds(),
                 fromDate, toDate);
+        final var quotes = quoteProviderPort.latest();
 
         return UserRewardsPageView.builder()
                 .rewards(Page.<UserRewardView>builder()
                         .content(userRewardViews)
                         .totalItemNumber(count)
                         .totalPageNumber(PaginationHelper.calculateTotalNumberOfPage(pageSize, count))
+                        .nextCursor(PaginationMapper.getNextCursor(rewardEntities, pageSize, count,
+                                UserRewardViewEntity::toCursor))
                         .build())
                 .rewardedAmount(rewardsStats.size() == 1 ?
                         new Money(rewardsStats.get(0).getProcessedAmount(),
                                 rewardsStats.get(0).getCurrency().toDomain(),
-                                rewardsStats.get(0).getProcessedUsdAmount()) :
+                                quotes.toUsd(rewardsStats.get(0).getCurrency().toDomain(), rewardsStats.get(0).getProcessedAmount())) :
                         new Money(null, null,
-                                rewardsStats.stream().map(RewardStatsEntity::getProcessedUsdAmount).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add)))
+                                rewardsStats.stream().map(s -> quotes.toUsd(s.getCurrency().toDomain(), s.getProcessedAmount())).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add)))
                 .pendingAmount(rewardsStats.size() == 1 ?
                         new Money(rewardsStats.get(0).getPendingAmount(),
                                 rewardsStats.get(0).getCurrency().toDomain(),
-                                rewardsStats.get(0).getPendingUsdAmount()) :
+                                quotes.toUsd(rewardsStats.get(0).getCurrency().toDomain(), rewardsStats.get(0).getPendingAmount())) :
                         new Money(null, null,
-                                rewardsStats.stream().map(RewardStatsEntity::getPendingUsdAmount).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add)))
+                                rewardsStats.stream().map(s -> quotes.toUsd(s.getCurrency().toDomain(), s.getPendingAmount())).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add)))
                 .receivedRewardsCount(rewardsStats.stream().map(RewardStatsEntity::getRewardIds).flatMap(Collection::stream).collect(Collectors.toUnmodifiableSet()).size())
                 .rewardedContributionsCount(rewardsStats.stream().map(RewardStatsEntity::getRewardItemIds).flatMap(Collection::stream).collect(Collectors.toUnmodifiableSet()).size())
                 .rewardingProjectsCount(rewardsStats.stream().map(RewardStatsEntity::getProjectIds).flatMap(Collection::stream).collect(Collectors.toUnmodifiableSet()).size())
@@ -0,0 +1,116 @@
+package onlydust.com.marketplace.api.postgres.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import onlydust.com.marketplace.api.domain.port.output.ProjectCachePort;
+import onlydust.com.marketplace.api.domain.view.ProjectDetailsView;
+import onlydust.com.marketplace.api.domain.view.ProjectOrganizationRepoView;
+import onlydust.com.marketplace.api.domain.view.ProjectOrganizationView;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Keeps the caller-independent part of each project details page in memory, by project id and by slug. Entries are
+ * evicted by the domain observers whenever the project is updated or the contributions of one of its repos change,
+ * and otherwise expire after a configurable max staleness, which bounds how long indexer-driven fields can be out of
+ * date. Evictions requested within a transaction are run again once it commits, so that a page read meanwhile from the
+ * not yet committed data is not kept for the whole max staleness.
+ */
+public class ProjectDetailsCache implements ProjectCachePort {
+
+    private final Cache<UUID, ProjectDetailsView> projects;
+    private final Cache<String, UUID> projectIdsBySlug;
+
+    public ProjectDetailsCache(final Config config) {
+        this.projects = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(config.getMaxStalenessInSeconds()))
+                .build();
+        this.projectIdsBySlug = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(config.getMaxStalenessInSeconds()))
+                .build();
+    }
+
+    public ProjectDetailsView getById(final UUID projectId, final Supplier<ProjectDetailsView> loader) {
+        final ProjectDetailsView project = projects.get(projectId, id -> loader.get());
+        projectIdsBySlug.put(project.getSlug(), projectId);
+        return project;
+    }
+
+    public ProjectDetailsView getBySlug(final String slug, final Supplier<ProjectDetailsView> loader) {
+        final UUID projectId = projectIdsBySlug.getIfPresent(slug);
+        final ProjectDetailsView cached = isNull(projectId) ? null : projects.getIfPresent(projectId);
+        if (!isNull(cached) && slug.equals(cached.getSlug())) {
+            return cached;
+        }
+        final ProjectDetailsView project = loader.get();
+        projects.put(project.getId(), project);
+        projectIdsBySlug.put(slug, project.getId());
+        return project;
+    }
+
+    @Override
+    public void evict(UUID projectId) {
+        evictNowAndAfterCommit(() -> invalidate(projectId));
+    }
+
+    @Override
+    public void evictByRepoIds(List<Long> repoIds) {
+        final Set<Long> changedRepoIds = Set.copyOf(repoIds);
+        evictNowAndAfterCommit(() -> projects.asMap().values().stream()
+                .filter(project -> includesAnyRepo(project, changedRepoIds))
+                .map(ProjectDetailsView::getId)
+                .toList()
+                .forEach(this::invalidate));
+    }
+
+    private void invalidate(final UUID projectId) {
+        projects.invalidate(projectId);
+        projectIdsBySlug.asMap().values().removeIf(projectId::equals);
+    }
+
+    private void evictNowAndAfterCommit(final Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private static boolean includesAnyRepo(final ProjectDetailsView project, final Set<Long> repoIds) {
+        return project.getOrganizations().stream()
+                .map(ProjectOrganizationView::getRepos)
+                .flatMap(Set::stream)
+                .filter(repo -> Boolean.TRUE.equals(repo.getIsIncludedInProject()))
+                .map(ProjectOrganizationRepoView::getGithubRepoId)
+                .anyMatch(repoIds::contains);
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Long maxStalenessInSeconds = 60L;
+        @Builder.Default
+        Long maximumSize = 1_000L;
+    }
+}
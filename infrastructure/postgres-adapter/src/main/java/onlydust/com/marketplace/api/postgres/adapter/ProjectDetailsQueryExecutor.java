@@ -0,0 +1,123 @@
+package onlydust.com.marketplace.api.postgres.adapter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Runs the independent reads a project details page is made of. In concurrent mode, they are submitted to a bounded
+ * pool shared by all requests, so that the page latency is the one of its slowest read instead of their sum. Each read
+ * runs in its own read-only transaction, outside the one of the caller, and is awaited with its own timeout, which
+ * also applies to its statements.
+ * <p>
+ * Every pool thread holds a connection while it reads, so the pool is capped to half of the connection pool: the
+ * other half remains available to the callers, which must not hold a connection while they await their reads (see
+ * {@link #inTransaction}). When the pool is saturated, reads run on the caller thread. Otherwise, reads run one after
+ * another on the caller thread.
+ */
+@Slf4j
+public class ProjectDetailsQueryExecutor implements AutoCloseable {
+
+    private final Config config;
+    private final ExecutorService executor;
+    private final TransactionTemplate callerTransaction;
+    private final TransactionTemplate queryTransaction;
+
+    public ProjectDetailsQueryExecutor(final Config config, final PlatformTransactionManager transactionManager,
+                                       final int maxConnectionCount) {
+        this.config = config;
+        this.callerTransaction = new TransactionTemplate(transactionManager);
+        this.callerTransaction.setReadOnly(true);
+        this.queryTransaction = new TransactionTemplate(transactionManager);
+        this.queryTransaction.setReadOnly(true);
+        this.queryTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(
+                config.getQueryTimeoutInMillis() + 999)));
+
+        final int parallelism = Math.min(config.getParallelism(), Math.max(1, maxConnectionCount / 2));
+        if (parallelism < config.getParallelism()) {
+            LOGGER.warn("Project details parallelism capped to {} for a connection pool of {}", parallelism,
+                    maxConnectionCount);
+        }
+        this.executor = Boolean.TRUE.equals(config.getConcurrent()) ?
+                new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(config.getQueueCapacity()), runnable -> {
+                    final Thread thread = new Thread(runnable, "project-details-query");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy()) : null;
+    }
+
+    public <T> PendingQuery<T> submit(final String name, final Supplier<T> query) {
+        final Callable<T> read = () -> queryTransaction.execute(status -> query.get());
+        if (isNull(executor)) {
+            final FutureTask<T> future = new FutureTask<>(read);
+            future.run();
+            return new PendingQuery<>(name, future);
+        }
+        return new PendingQuery<>(name, executor.submit(read));
+    }
+
+    /**
+     * Runs the given read on the caller thread within a read-only transaction. Reads submitted meanwhile must be
+     * awaited once it returns, so that the caller releases its connection before waiting for them.
+     */
+    public <T> T inTransaction(final Supplier<T> read) {
+        return callerTransaction.execute(status -> read.get());
+    }
+
+    @Override
+    public void close() {
+        if (!isNull(executor)) {
+            executor.shutdownNow();
+        }
+    }
+
+    @AllArgsConstructor
+    public class PendingQuery<T> {
+        private final String name;
+        private final Future<T> future;
+
+        public T get() {
+            try {
+                return future.get(config.getQueryTimeoutInMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                LOGGER.warn("Project details query {} timed out after {} ms", name, config.getQueryTimeoutInMillis());
+                throw OnlyDustException.internalServerError("Timed out while reading project %s".formatted(name), e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw OnlyDustException.internalServerError("Failed to read project %s".formatted(name), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw OnlyDustException.internalServerError("Interrupted while reading project %s".formatted(name), e);
+            }
+        }
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Boolean concurrent = true;
+        @Builder.Default
+        Integer parallelism = 4;
+        @Builder.Default
+        Integer queueCapacity = 100;
+        @Builder.Default
+        Long queryTimeoutInMillis = 5_000L;
+    }
+}
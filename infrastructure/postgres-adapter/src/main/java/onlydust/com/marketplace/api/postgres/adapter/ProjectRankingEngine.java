@@ -0,0 +1,123 @@
+package onlydust.com.marketplace.api.postgres.adapter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.model.UsdQuotes;
+import onlydust.com.marketplace.api.domain.port.output.QuoteProviderPort;
+import onlydust.com.marketplace.api.postgres.adapter.repository.CustomProjectRankingRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Computes project ranks from the {@code project_ranking_stats} table. Projects are queued for ranking by the changes
+ * of their contributions, rewards, budgets and linked repos: the queued run only refreshes the features and the rank
+ * of these projects, against the current moments of the whole table. The full run refreshes the features of every
+ * project first, then normalizes every rank against the new moments, so that the time windows of the features and
+ * the moments move forward. Both runs work by chunks of projects, each in its own short transaction, and only rows
+ * whose values actually changed are written.
+ * <p>
+ * The duration of each phase is published as a {@code project.ranking.phase} timer, tagged with the run and the phase.
+ */
+@Slf4j
+public class ProjectRankingEngine {
+
+    static final String PHASE_METRIC = "project.ranking.phase";
+
+    private final CustomProjectRankingRepository customProjectRankingRepository;
+    private final QuoteProviderPort quoteProviderPort;
+    private final MeterRegistry meterRegistry;
+    private final Config config;
+
+    public ProjectRankingEngine(final CustomProjectRankingRepository customProjectRankingRepository,
+                                final QuoteProviderPort quoteProviderPort, final MeterRegistry meterRegistry,
+                                final Config config) {
+        this.customProjectRankingRepository = customProjectRankingRepository;
+        this.quoteProviderPort = quoteProviderPort;
+        this.meterRegistry = meterRegistry;
+        this.config = config;
+    }
+
+    public void updateProjectsRanking() {
+        final List<UUID> projectIds = customProjectRankingRepository.findProjectIds();
+        final UsdQuotes quotes = quoteProviderPort.latest();
+
+        final int refreshedStats = timed("full", "stats", () -> byChunks(projectIds,
+                chunk -> customProjectRankingRepository.refreshRankingStats(chunk, quotes)));
+        final int deletedStats = timed("full", "cleanup", customProjectRankingRepository::deleteRemovedProjectsStats);
+        LOGGER.info("Refreshed ranking stats of {} projects ({} changed, {} deleted)", projectIds.size(),
+                refreshedStats, deletedStats);
+
+        final Optional<CustomProjectRankingRepository.RankingMoments> moments = timed("full", "moments",
+                customProjectRankingRepository::getRankingMoments);
+        if (moments.isEmpty()) {
+            LOGGER.info("No ranking stats found, skipping project ranks update");
+            return;
+        }
+        final int updatedRanks = timed("full", "ranks", () -> byChunks(projectIds,
+                chunk -> customProjectRankingRepository.updateRanks(chunk, moments.get())));
+        LOGGER.info("Updated ranks of {} projects ({} changed)", projectIds.size(), updatedRanks);
+    }
+
+    public void updateQueuedProjectsRanking() {
+        final Optional<CustomProjectRankingRepository.RankingMoments> moments = timed("queued", "moments",
+                customProjectRankingRepository::getRankingMoments);
+        if (moments.isEmpty()) {
+            LOGGER.info("No ranking stats found, leaving queued projects to the full ranking");
+            return;
+        }
+        final UsdQuotes quotes = quoteProviderPort.latest();
+
+        final int rankedProjectCount = timed("queued", "ranks", () -> {
+            int count = 0;
+            List<UUID> projectIds;
+            do {
+                projectIds = customProjectRankingRepository.refreshQueuedProjects(config.getChunkSize(), quotes,
+                        moments.get());
+                count += projectIds.size();
+            } while (projectIds.size() == config.getChunkSize());
+            return count;
+        });
+        if (rankedProjectCount > 0) {
+            LOGGER.info("Updated ranking stats and ranks of {} queued projects", rankedProjectCount);
+        }
+    }
+
+    public void queueProjects(final List<Long> repoIds) {
+        customProjectRankingRepository.queueProjects(repoIds);
+    }
+
+    private <T> T timed(final String run, final String phase, final Supplier<T> task) {
+        return Timer.builder(PHASE_METRIC)
+                .tag("run", run)
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(task);
+    }
+
+    private int byChunks(final List<UUID> projectIds, final Function<List<UUID>, Integer> update) {
+        int updatedRows = 0;
+        for (int from = 0; from < projectIds.size(); from += config.getChunkSize()) {
+            updatedRows += update.apply(projectIds.subList(from,
+                    Math.min(from + config.getChunkSize(), projectIds.size())));
+        }
+        return updatedRows;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Integer chunkSize = 100;
+    }
+}
@@ -0,0 +1,132 @@
+package onlydust.com.marketplace.api.postgres.adapter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.port.output.RegisteredUserIndexPort;
+import onlydust.com.marketplace.api.postgres.adapter.repository.UserRepository;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Keeps the GitHub ids of all registered users in a compressed bitmap, so that "is this GitHub user registered?"
+ * is answered in memory instead of joining {@code iam.users}. The bitmap is reloaded from the database in the
+ * background every refresh interval, which bounds how long a sign-up handled by another instance stays invisible here.
+ * Users signing up on this instance are added right away, and re-applied on top of the reloads that may have read the
+ * users table before their sign-up was committed. A published bitmap is never modified, so readers do not need any
+ * lock; only the very first read waits for the initial load.
+ */
+@Slf4j
+public class RegisteredGithubIdsBitmap implements RegisteredUserIndexPort, AutoCloseable {
+    private final UserRepository userRepository;
+    private final Config config;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Long, Long> recentSignUps = new ConcurrentHashMap<>();
+    private volatile Roaring64NavigableMap bitmap;
+
+    public RegisteredGithubIdsBitmap(final UserRepository userRepository, final Config config) {
+        this.userRepository = userRepository;
+        this.config = config;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "registered-github-ids-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::refreshSafely, 0L, config.getRefreshIntervalInSeconds(),
+                TimeUnit.SECONDS);
+    }
+
+    public boolean contains(final Long githubUserId) {
+        return !isNull(githubUserId) && current().contains(githubUserId);
+    }
+
+    public Set<Long> filter(final Collection<Long> githubUserIds) {
+        if (githubUserIds.isEmpty()) {
+            return Set.of();
+        }
+        final Roaring64NavigableMap current = current();
+        return githubUserIds.stream()
+                .filter(githubUserId -> !isNull(githubUserId) && current.contains(githubUserId))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public synchronized void add(final Long githubUserId) {
+        if (isNull(githubUserId)) {
+            return;
+        }
+        recentSignUps.put(githubUserId, System.currentTimeMillis());
+        if (isNull(bitmap) || bitmap.contains(githubUserId)) {
+            return;
+        }
+        final Roaring64NavigableMap updated = new Roaring64NavigableMap();
+        updated.or(bitmap);
+        updated.addLong(githubUserId);
+        bitmap = updated;
+    }
+
+    public void refresh() {
+        final long loadStartedAt = System.currentTimeMillis();
+        final Roaring64NavigableMap loaded = new Roaring64NavigableMap();
+        userRepository.findAllGithubUserIds().forEach(loaded::addLong);
+        publish(loaded, loadStartedAt);
+    }
+
+    private synchronized void publish(final Roaring64NavigableMap loaded, final long loadStartedAt) {
+        // Sign-ups that may not have been committed when the load started are kept until a later load surely sees them
+        recentSignUps.keySet().forEach(loaded::addLong);
+        recentSignUps.values().removeIf(signedUpAt ->
+                signedUpAt < loadStartedAt - config.getRefreshIntervalInSeconds() * 1000);
+        loaded.runOptimize();
+        bitmap = loaded;
+        LOGGER.debug("Loaded {} registered GitHub ids ({} bytes)", loaded.getLongCardinality(),
+                loaded.getLongSizeInBytes());
+    }
+
+    private Roaring64NavigableMap current() {
+        final Roaring64NavigableMap current = bitmap;
+        if (!isNull(current)) {
+            return current;
+        }
+        synchronized (this) {
+            if (isNull(bitmap)) {
+                refresh();
+            }
+            return bitmap;
+        }
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            LOGGER.error("Failed to refresh registered GitHub ids", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Long refreshIntervalInSeconds = 30L;
+    }
+}
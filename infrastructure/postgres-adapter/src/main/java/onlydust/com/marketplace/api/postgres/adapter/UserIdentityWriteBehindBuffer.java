@@ -0,0 +1,139 @@
+package onlydust.com.marketplace.api.postgres.adapter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.postgres.adapter.repository.CustomUserIdentityRepository;
+import onlydust.com.marketplace.api.postgres.adapter.repository.CustomUserIdentityRepository.UserIdentity;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Keeps the latest GitHub identity and "last seen" date of each authenticated user in memory, and writes them to
+ * {@code iam.users} in batches, every few seconds or as soon as enough users are buffered. Rows whose identity did not
+ * change and that were seen recently are left untouched. Pending identities are flushed on shutdown.
+ * <p>
+ * Batches are only ever written from the background thread, in their own transaction: pushing an identity never
+ * blocks on, fails with, or joins the transaction of a write that concerns other users.
+ */
+@Slf4j
+public class UserIdentityWriteBehindBuffer implements AutoCloseable {
+
+    private final CustomUserIdentityRepository customUserIdentityRepository;
+    private final Config config;
+    private final Map<UUID, UserIdentity> pendingIdentities = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    public UserIdentityWriteBehindBuffer(final CustomUserIdentityRepository customUserIdentityRepository,
+                                         final Config config) {
+        this.customUserIdentityRepository = customUserIdentityRepository;
+        this.config = config;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "user-identity-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flushSafely, config.getFlushIntervalInSeconds(),
+                config.getFlushIntervalInSeconds(), TimeUnit.SECONDS);
+    }
+
+    public void push(final UUID userId, final String githubLogin, final String githubAvatarUrl, final String email,
+                     final Date lastSeenAt) {
+        pendingIdentities.merge(userId, UserIdentity.builder()
+                .userId(userId)
+                .githubLogin(githubLogin)
+                .githubAvatarUrl(githubAvatarUrl)
+                .email(email)
+                .lastSeenAt(lastSeenAt)
+                .build(), UserIdentityWriteBehindBuffer::merge);
+        if (pendingIdentities.size() >= config.getMaxBufferedEntries() && flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flushSafely);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+                LOGGER.warn("Could not request a flush of buffered user identities", e);
+            }
+        }
+    }
+
+    public synchronized void flush() {
+        final List<UserIdentity> batch = new ArrayList<>();
+        for (UUID userId : List.copyOf(pendingIdentities.keySet())) {
+            final UserIdentity identity = pendingIdentities.remove(userId);
+            if (!isNull(identity)) {
+                batch.add(identity);
+            }
+            if (batch.size() >= config.getMaxBatchSize()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        write(batch);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        flushSafely();
+    }
+
+    private void flushSafely() {
+        flushRequested.set(false);
+        try {
+            flush();
+        } catch (Exception e) {
+            LOGGER.error("Failed to flush buffered user identities", e);
+        }
+    }
+
+    private void write(final List<UserIdentity> batch) {
+        try {
+            customUserIdentityRepository.updateIdentities(batch, config.getLastSeenPrecisionInSeconds());
+        } catch (RuntimeException e) {
+            batch.forEach(identity -> pendingIdentities.merge(identity.getUserId(), identity,
+                    (current, failed) -> merge(failed, current)));
+            throw e;
+        }
+    }
+
+    private static UserIdentity merge(final UserIdentity previous, final UserIdentity next) {
+        return previous.toBuilder()
+                .githubLogin(isNull(next.getGithubLogin()) ? previous.getGithubLogin() : next.getGithubLogin())
+                .githubAvatarUrl(isNull(next.getGithubAvatarUrl()) ? previous.getGithubAvatarUrl() : next.getGithubAvatarUrl())
+                .email(isNull(next.getEmail()) ? previous.getEmail() : next.getEmail())
+                .lastSeenAt(isNull(previous.getLastSeenAt()) ||
+                            (!isNull(next.getLastSeenAt()) && next.getLastSeenAt().after(previous.getLastSeenAt())) ?
+                        next.getLastSeenAt() : previous.getLastSeenAt())
+                .build();
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        @Builder.Default
+        Long flushIntervalInSeconds = 10L;
+        @Builder.Default
+        Integer maxBufferedEntries = 1_000;
+        @Builder.Default
+        Integer maxBatchSize = 500;
+        @Builder.Default
+        Long lastSeenPrecisionInSeconds = 60L;
+    }
+}
@@ -1,21 +1,30 @@
 package onlydust.com.marketplace.api.postgres.adapter.configuration;
 
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import onlydust.com.marketplace.api.domain.port.input.TechnologyStoragePort;
+import onlydust.com.marketplace.api.domain.port.output.QuoteProviderPort;
 import onlydust.com.marketplace.api.postgres.adapter.*;
+import onlydust.com.marketplace.api.postgres.adapter.entity.write.ContributionChangeEventEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.IndexerEventEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.NotificationEventEntity;
 import onlydust.com.marketplace.api.postgres.adapter.repository.*;
 import onlydust.com.marketplace.api.postgres.adapter.repository.backoffice.*;
 import onlydust.com.marketplace.api.postgres.adapter.repository.old.*;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.persistence.EntityManager;
+import javax.sql.DataSource;
 
 @Configuration
 @EnableAutoConfiguration
@@ -35,8 +44,21 @@ public class PostgresConfiguration {
     }
 
     @Bean
-    public CustomContributorRepository customContributorRepository(final EntityManager entityManager) {
-        return new CustomContributorRepository(entityManager);
+    public CustomContributorRepository customContributorRepository(final EntityManager entityManager,
+                                                                   final RegisteredGithubIdsBitmap registeredGithubIdsBitmap) {
+        return new CustomContributorRepository(entityManager, registeredGithubIdsBitmap);
+    }
+
+    @Bean
+    public RegisteredGithubIdsBitmap registeredGithubIdsBitmap(final UserRepository userRepository,
+                                                               final RegisteredGithubIdsBitmap.Config registeredGithubIdsBitmapConfig) {
+        return new RegisteredGithubIdsBitmap(userRepository, registeredGithubIdsBitmapConfig);
+    }
+
+    @Bean
+    @ConfigurationProperties("infrastructure.postgres.registered-github-ids")
+    public RegisteredGithubIdsBitmap.Config registeredGithubIdsBitmapConfig() {
+        return new RegisteredGithubIdsBitmap.Config();
     }
 
     @Bean
@@ -54,13 +76,15 @@ public class PostgresConfiguration {
                                                          final ProjectsPageRepository projectsPageRepository,
                                                          final ProjectsPageFiltersRepository projectsPageFiltersRepository,
                                                          final RewardableItemRepository rewardableItemRepository,
-                                                         final CustomProjectRankingRepository customProjectRankingRepository,
+                                                         final ProjectRankingEngine projectRankingEngine,
                                                          final BudgetStatsRepository budgetStatsRepository,
                                                          final ChurnedContributorViewEntityRepository churnedContributorViewEntityRepository,
                                                          final NewcomerViewEntityRepository newcomerViewEntityRepository,
                                                          final ContributorActivityViewEntityRepository contributorActivityViewEntityRepository,
                                                          final ApplicationRepository applicationRepository,
-                                                         final ContributionViewEntityRepository contributionViewEntityRepository) {
+                                                         final ProjectDetailsQueryExecutor projectDetailsQueryExecutor,
+                                                         final ProjectDetailsCache projectDetailsCache,
+                                                         final QuoteProviderPort quoteProviderPort) {
         return new PostgresProjectAdapter(
                 projectRepository,
                 projectViewRepository,
@@ -76,13 +100,15 @@ public class PostgresConfiguration {
                 projectsPageRepository,
                 projectsPageFiltersRepository,
                 rewardableItemRepository,
-                customProjectRankingRepository,
+                projectRankingEngine,
                 budgetStatsRepository,
                 churnedContributorViewEntityRepository,
                 newcomerViewEntityRepository,
                 contributorActivityViewEntityRepository,
                 applicationRepository,
-                contributionViewEntityRepository
+                projectDetailsQueryExecutor,
+                projectDetailsCache,
+                quoteProviderPort
         );
     }
 
@@ -115,7 +141,10 @@ public class PostgresConfiguration {
                                                    final CustomUserPayoutInfoRepository customUserPayoutInfoRepository,
                                                    final CustomRewardRepository customRewardRepository,
                                                    final ProjectLedIdRepository projectLedIdRepository,
-                                                   final RewardStatsRepository rewardStatsRepository) {
+                                                   final RewardStatsRepository rewardStatsRepository,
+                                                   final UserIdentityWriteBehindBuffer userIdentityWriteBehindBuffer,
+                                                   final QuoteProviderPort quoteProviderPort,
+                                                   final RegisteredGithubIdsBitmap registeredGithubIdsBitmap) {
         return new PostgresUserAdapter(
                 customUserRepository,
                 customContributorRepository,
@@ -134,7 +163,81 @@ public class PostgresConfiguration {
                 customUserPayoutInfoRepository,
                 customRewardRepository,
                 projectLedIdRepository,
-                rewardStatsRepository);
+                rewardStatsRepository,
+                userIdentityWriteBehindBuffer,
+                quoteProviderPort,
+                registeredGithubIdsBitmap);
+    }
+
+    @Bean
+    public InMemoryQuoteProvider inMemoryQuoteProvider(final CryptoUsdQuotesRepository cryptoUsdQuotesRepository,
+                                                       final InMemoryQuoteProvider.Config inMemoryQuoteProviderConfig) {
+        return new InMemoryQuoteProvider(cryptoUsdQuotesRepository, inMemoryQuoteProviderConfig);
+    }
+
+    @Bean
+    @ConfigurationProperties("infrastructure.postgres.usd-quotes")
+    public InMemoryQuoteProvider.Config inMemoryQuoteProviderConfig() {
+        return new InMemoryQuoteProvider.Config();
+    }
+
+    @Bean
+    public ProjectDetailsQueryExecutor projectDetailsQueryExecutor(final ProjectDetailsQueryExecutor.Config projectDetailsQueryExecutorConfig,
+                                                                   final PlatformTransactionManager transactionManager,
+                                                                   final DataSource dataSource) {
+        return new ProjectDetailsQueryExecutor(projectDetailsQueryExecutorConfig, transactionManager,
+                dataSource instanceof HikariDataSource hikariDataSource ? hikariDataSource.getMaximumPoolSize() :
+                        projectDetailsQueryExecutorConfig.getParallelism() * 2);
+    }
+
+    @Bean
+    @ConfigurationProperties("infrastructure.postgres.project-details")
+    public ProjectDetailsQueryExecutor.Config projectDetailsQueryExecutorConfig() {
+        return new ProjectDetailsQueryExecutor.Config();
+    }
+
+    @Bean
+    public ProjectDetailsCache projectDetailsCache(final ProjectDetailsCache.Config projectDetailsCacheConfig) {
+        return new ProjectDetailsCache(projectDetailsCacheConfig);
+    }
+
+    @Bean
+    @ConfigurationProperties("infrastructure.postgres.project-details-cache")
+    public ProjectDetailsCache.Config projectDetailsCacheConfig() {
+        return new ProjectDetailsCache.Config();
+    }
+
+    @Bean
+    public ProjectRankingEngine projectRankingEngine(final CustomProjectRankingRepository customProjectRankingRepository,
+                                                     final QuoteProviderPort quoteProviderPort,
+                                                     final ObjectProvider<MeterRegistry> meterRegistry,
+                                                     final ProjectRankingEngine.Config projectRankingEngineConfig) {
+        // The adapter can run without the actuator (e.g. in its own integration tests)
+        return new ProjectRankingEngine(customProjectRankingRepository, quoteProviderPort,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new), projectRankingEngineConfig);
+    }
+
+    @Bean
+    @ConfigurationProperties("infrastructure.postgres.project-ranking")
+    public ProjectRankingEngine.Config projectRankingEngineConfig() {
+        return new ProjectRankingEngine.Config();
+    }
+
+    @Bean
+    public CustomUserIdentityRepository customUserIdentityRepository(final EntityManager entityManager) {
+        return new CustomUserIdentityRepository(entityManager);
+    }
+
+    @Bean
+    public UserIdentityWriteBehindBuffer userIdentityWriteBehindBuffer(final CustomUserIdentityRepository customUserIdentityRepository,
+                                                                       final UserIdentityWriteBehindBuffer.Config userIdentityWriteBehindBufferConfig) {
+        return new UserIdentityWriteBehindBuffer(customUserIdentityRepository, userIdentityWriteBehindBufferConfig);
+    }
+
+    @Bean
+    @ConfigurationProperties("infrastructure.postgres.user-identity-write-behind")
+    public UserIdentityWriteBehindBuffer.Config userIdentityWriteBehindBufferConfig() {
+        return new UserIdentityWriteBehindBuffer.Config();
     }
 
     @Bean
@@ -152,13 +255,18 @@ public class PostgresConfiguration {
         return new CustomUserRewardRepository(entityManager);
     }
 
+    @Bean
+    public CustomContributionRepository customContributionRepository(final EntityManager entityManager) {
+        return new CustomContributionRepository(entityManager);
+    }
+
     @Bean
     public CustomUserPayoutInfoRepository customUserPayoutInfoRepository(final EntityManager entityManager) {
         return new CustomUserPayoutInfoRepository(entityManager);
     }
 
     @Bean
-    public PostgresContributionAdapter postgresContributionAdapter(final ContributionViewEntityRepository contributionViewEntityRepository,
+    public PostgresContributionAdapter postgresContributionAdapter(final CustomContributionRepository customContributionRepository,
                                                                    final ShortProjectViewEntityRepository shortProjectViewEntityRepository,
                                                                    final GithubRepoViewEntityRepository githubRepoViewEntityRepository,
                                                                    final ContributionDetailsViewEntityRepository contributionDetailsViewEntityRepository,
@@ -167,7 +275,7 @@ public class PostgresConfiguration {
                                                                    final CustomIgnoredContributionsRepository customIgnoredContributionsRepository,
                                                                    final IgnoredContributionsRepository ignoredContributionsRepository,
                                                                    final ProjectRepository projectRepository) {
-        return new PostgresContributionAdapter(contributionViewEntityRepository, shortProjectViewEntityRepository,
+        return new PostgresContributionAdapter(customContributionRepository, shortProjectViewEntityRepository,
                 githubRepoViewEntityRepository, contributionDetailsViewEntityRepository,
                 contributionRewardViewEntityRepository, customContributorRepository,
                 customIgnoredContributionsRepository, ignoredContributionsRepository, projectRepository);
@@ -195,20 +303,36 @@ public class PostgresConfiguration {
                                                                final ProjectLeadInvitationRepository projectLeadInvitationRepository,
                                                                final BoUserRepository boUserRepository,
                                                                final BoPaymentRepository boPaymentRepository,
-                                                               final BoProjectRepository boProjectRepository) {
+                                                               final BoProjectRepository boProjectRepository,
+                                                               final QuoteProviderPort quoteProviderPort) {
         return new PostgresBackofficeAdapter(githubRepositoryLinkedToProjectRepository, projectBudgetRepository,
                 boSponsorRepository,
-                projectLeadInvitationRepository, boUserRepository, boPaymentRepository, boProjectRepository);
+                projectLeadInvitationRepository, boUserRepository, boPaymentRepository, boProjectRepository,
+                quoteProviderPort);
+    }
+
+    @Bean
+    public PostgresOutboxAdapter<NotificationEventEntity> notificationOutbox(final NotificationEventRepository notificationEventRepository,
+                                                                             final PostgresOutboxAdapter.Config outboxConfig) {
+        return new PostgresOutboxAdapter<>(notificationEventRepository, outboxConfig);
+    }
+
+    @Bean
+    public PostgresOutboxAdapter<IndexerEventEntity> indexerOutbox(final IndexerEventRepository indexerEventRepository,
+                                                                   final PostgresOutboxAdapter.Config outboxConfig) {
+        return new PostgresOutboxAdapter<>(indexerEventRepository, outboxConfig);
     }
 
     @Bean
-    public PostgresOutboxAdapter<NotificationEventEntity> notificationOutbox(final NotificationEventRepository notificationEventRepository) {
-        return new PostgresOutboxAdapter<>(notificationEventRepository);
+    public PostgresOutboxAdapter<ContributionChangeEventEntity> contributionChangeOutbox(final ContributionChangeEventRepository contributionChangeEventRepository,
+                                                                                        final PostgresOutboxAdapter.Config outboxConfig) {
+        return new PostgresOutboxAdapter<>(contributionChangeEventRepository, outboxConfig);
     }
 
     @Bean
-    public PostgresOutboxAdapter<IndexerEventEntity> indexerOutbox(final IndexerEventRepository indexerEventRepository) {
-        return new PostgresOutboxAdapter<>(indexerEventRepository);
+    @ConfigurationProperties("infrastructure.postgres.outbox")
+    public PostgresOutboxAdapter.Config outboxConfig() {
+        return new PostgresOutboxAdapter.Config();
     }
 
     @Bean
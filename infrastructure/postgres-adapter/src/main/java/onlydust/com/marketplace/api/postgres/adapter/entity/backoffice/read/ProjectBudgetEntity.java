@@ -27,9 +27,6 @@ public class ProjectBudgetEntity {
     BigDecimal initialAmount;
     BigDecimal remainingAmount;
     BigDecimal spentAmount;
-    BigDecimal initialAmountDollarsEquivalent;
-    BigDecimal remainingAmountDollarsEquivalent;
-    BigDecimal spentAmountDollarsEquivalent;
 
     @Embeddable
     @Data
@@ -26,9 +26,7 @@ public class BudgetStatsEntity {
     @Enumerated(EnumType.STRING)
     CurrencyEnumEntity currency;
     BigDecimal spentAmount;
-    BigDecimal spentUsdAmount;
     BigDecimal remainingAmount;
-    BigDecimal remainingUsdAmount;
     @Type(type = "jsonb")
     Set<UUID> rewardIds;
     @Type(type = "jsonb")
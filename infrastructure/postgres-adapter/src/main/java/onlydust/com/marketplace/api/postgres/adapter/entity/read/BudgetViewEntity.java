@@ -29,12 +29,4 @@ public class BudgetViewEntity {
     @Type(type = "currency")
     @Column(name = "currency")
     CurrencyEnumEntity currency;
-    @Column(name = "initial_amount_dollars_equivalent")
-    BigDecimal initialAmountDollarsEquivalent;
-    @Column(name = "remaining_amount_dollars_equivalent")
-    BigDecimal remainingAmountDollarsEquivalent;
-    @Column(name = "dollars_conversion_rate")
-    BigDecimal dollarsConversionRate;
-
-
 }
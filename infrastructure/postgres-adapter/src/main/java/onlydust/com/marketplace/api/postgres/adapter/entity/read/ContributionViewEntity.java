@@ -9,6 +9,7 @@ import onlydust.com.marketplace.api.domain.model.GithubRepo;
 import onlydust.com.marketplace.api.domain.model.Project;
 import onlydust.com.marketplace.api.domain.view.ContributionView;
 import onlydust.com.marketplace.api.domain.view.ContributorLinkView;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.type.ProjectVisibilityEnumEntity;
 import onlydust.com.marketplace.api.postgres.adapter.mapper.ProjectMapper;
 import org.hibernate.annotations.TypeDef;
@@ -130,6 +131,20 @@ public class ContributionViewEntity {
                 .build();
     }
 
+    public Cursor toCursor() {
+        return Cursor.builder()
+                .value("createdAt", createdAt.toInstant())
+                .value("projectName", projectName)
+                .value("repoName", repoName)
+                .value("githubNumber", githubNumber)
+                .value("githubTitle", githubTitle)
+                .value("contributorLogin", contributorLogin)
+                .value("linksCount", Optional.ofNullable(links).map(List::size).orElse(0))
+                .value("id", id)
+                .value("projectId", projectId)
+                .build();
+    }
+
     public enum Type {
         PULL_REQUEST, ISSUE, CODE_REVIEW;
 
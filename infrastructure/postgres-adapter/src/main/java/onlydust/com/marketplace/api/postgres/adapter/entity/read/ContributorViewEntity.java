@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.Transient;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -19,5 +20,6 @@ public class ContributorViewEntity {
     String login;
     String htmlUrl;
     String avatarUrl;
+    @Transient
     Boolean isRegistered;
 }
@@ -4,10 +4,12 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.Transient;
 import java.math.BigDecimal;
 
 @AllArgsConstructor
@@ -21,11 +23,13 @@ public class ProjectContributorViewEntity {
     Long githubUserId;
     @Column(name = "login")
     String login;
+    @Column(name = "sort_login")
+    String sortLogin;
     @Column(name = "avatar_url")
     String avatarUrl;
     @Column(name = "contribution_count")
     Integer contributionCount;
-    @Column(name = "is_registered")
+    @Transient
     boolean isRegistered;
     @Column(name = "earned")
     BigDecimal earned;
@@ -62,4 +66,13 @@ public class ProjectContributorViewEntity {
     @Column(name = "lords_usd")
     BigDecimal lordsDollarsEquivalentAmount;
 
+    public Cursor toCursor() {
+        return Cursor.builder()
+                .value("login", this.sortLogin)
+                .value("earned", this.earned)
+                .value("contributionCount", this.contributionCount)
+                .value("rewardCount", this.rewards)
+                .value("toRewardCount", this.totalToReward)
+                .build();
+    }
 }
@@ -8,14 +8,14 @@ import onlydust.com.marketplace.api.domain.model.ProjectVisibility;
 import onlydust.com.marketplace.api.domain.view.ProjectCardView;
 import onlydust.com.marketplace.api.domain.view.ProjectLeaderLinkView;
 import onlydust.com.marketplace.api.domain.view.SponsorView;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.type.ProjectVisibilityEnumEntity;
 import org.hibernate.annotations.Type;
 import org.hibernate.annotations.TypeDef;
 
 import javax.persistence.*;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -48,19 +48,40 @@ public class ProjectPageItemViewEntity {
     List<ProjectLead> projectLeads;
     @Type(type = "jsonb")
     List<Map<String, Long>> technologies;
+    Integer rank;
+    Double relevance;
+    Integer totalCount;
+    @Type(type = "jsonb")
+    List<String> technologiesFacet;
+    @Type(type = "jsonb")
+    List<Sponsor> sponsorsFacet;
 
-    public static String getSponsorsJsonPath(List<UUID> sponsorIds) {
+    public static String getSponsorIdsArray(List<UUID> sponsorIds) {
         if (isNull(sponsorIds) || sponsorIds.isEmpty()) {
             return null;
         }
-        return "$[*] ? (" + String.join(" || ", sponsorIds.stream().map(s -> "@.id == \"" + s + "\"").toList()) + ")";
+        return "{" + String.join(",", sponsorIds.stream().map(UUID::toString).toList()) + "}";
     }
 
-    public static String getTechnologiesJsonPath(List<String> technologies) {
+    public static String getTechnologiesArray(List<String> technologies) {
         if (isNull(technologies) || technologies.isEmpty()) {
             return null;
         }
-        return "$[*] ? (" + String.join(" || ", technologies.stream().map(t -> "@.\"" + t + "\" > 0").toList()) + ")";
+        return "{" + String.join(",", technologies.stream()
+                .map(t -> "\"" + t.replace("\\", "\\\\").replace("\"", "\\\"") + "\"")
+                .toList()) + "}";
+    }
+
+    public Cursor toCursor() {
+        return Cursor.builder()
+                .value("projectId", this.projectId)
+                .value("isPendingProjectLead", Boolean.TRUE.equals(this.isPendingProjectLead))
+                .value("name", this.name)
+                .value("repoCount", this.repoCount)
+                .value("contributorsCount", this.contributorsCount)
+                .value("rank", this.rank)
+                .value("relevance", this.relevance)
+                .build();
     }
 
     public ProjectCardView toView(UUID userId) {
@@ -105,6 +126,26 @@ public class ProjectPageItemViewEntity {
         return view;
     }
 
+    public Integer getTotalCount() {
+        return totalCount;
+    }
+
+    public Map<String, Set<Object>> facetsToFilters() {
+        final Map<String, Set<Object>> filters = new HashMap<>();
+        filters.put(ProjectCardView.FilterBy.TECHNOLOGIES.name(), isNull(this.technologiesFacet) ? new HashSet<>() :
+                this.technologiesFacet.stream().filter(Objects::nonNull).collect(Collectors.toSet()));
+        filters.put(ProjectCardView.FilterBy.SPONSORS.name(), isNull(this.sponsorsFacet) ? new HashSet<>() :
+                this.sponsorsFacet.stream()
+                        .filter(sponsor -> nonNull(sponsor.name))
+                        .map(sponsor -> SponsorView.builder()
+                                .id(sponsor.id)
+                                .url(sponsor.url)
+                                .logoUrl(sponsor.logoUrl)
+                                .name(sponsor.name).build())
+                        .collect(Collectors.toSet()));
+        return filters;
+    }
+
     @EqualsAndHashCode
     public static class ProjectLead {
 
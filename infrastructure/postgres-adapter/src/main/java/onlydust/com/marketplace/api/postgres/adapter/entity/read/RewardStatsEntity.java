@@ -27,9 +27,7 @@ public class RewardStatsEntity {
     @Enumerated(EnumType.STRING)
     CurrencyEnumEntity currency;
     BigDecimal processedAmount;
-    BigDecimal processedUsdAmount;
     BigDecimal pendingAmount;
-    BigDecimal pendingUsdAmount;
     @Type(type = "jsonb")
     Set<UUID> rewardIds;
     @Type(type = "jsonb")
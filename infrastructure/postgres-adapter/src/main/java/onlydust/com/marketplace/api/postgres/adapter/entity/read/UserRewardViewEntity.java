@@ -2,6 +2,7 @@ package onlydust.com.marketplace.api.postgres.adapter.entity.read;
 
 import com.vladmihalcea.hibernate.type.basic.PostgreSQLEnumType;
 import lombok.*;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.type.CurrencyEnumEntity;
 import org.hibernate.annotations.Type;
 import org.hibernate.annotations.TypeDef;
@@ -45,4 +46,14 @@ public class UserRewardViewEntity {
     String status;
     @Column(name = "invoice_received_at")
     Date invoiceReceivedAt;
+
+    public Cursor toCursor() {
+        return Cursor.builder()
+                .value("requestedAt", this.requestedAt.toInstant())
+                .value("dollarsEquivalent", this.dollarsEquivalent)
+                .value("contributionCount", this.contributionCount)
+                .value("status", this.status)
+                .value("id", this.id)
+                .build();
+    }
 }
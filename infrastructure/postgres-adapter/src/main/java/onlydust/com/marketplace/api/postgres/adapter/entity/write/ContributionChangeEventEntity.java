@@ -0,0 +1,22 @@
+package onlydust.com.marketplace.api.postgres.adapter.entity.write;
+
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import onlydust.com.marketplace.api.domain.model.notification.Event;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.Table;
+
+@Entity
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "contribution_change_outbox_events", schema = "public")
+@EntityListeners(AuditingEntityListener.class)
+public class ContributionChangeEventEntity extends EventEntity {
+
+    public ContributionChangeEventEntity(Event event) {
+        super(event);
+    }
+}
@@ -7,7 +7,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import onlydust.com.marketplace.api.domain.model.notification.CoalescableEvent;
 import onlydust.com.marketplace.api.domain.model.notification.Event;
+import onlydust.com.marketplace.api.domain.model.notification.OrderedEvent;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.Type;
 import org.hibernate.annotations.TypeDef;
@@ -38,6 +40,18 @@ public abstract class EventEntity {
 
     String error;
 
+    @Column(nullable = false)
+    Integer attempts;
+
+    @Column(name = "next_attempt_at")
+    Instant nextAttemptAt;
+
+    @Column(name = "coalescing_key")
+    String coalescingKey;
+
+    @Column(name = "ordering_key")
+    String orderingKey;
+
     @EqualsAndHashCode.Exclude
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -51,6 +65,13 @@ public abstract class EventEntity {
     public EventEntity(Event event) {
         this.payload = new Payload(event);
         this.status = Status.PENDING;
+        this.attempts = 0;
+        if (event instanceof CoalescableEvent coalescableEvent) {
+            this.coalescingKey = coalescableEvent.coalescingKey();
+        }
+        if (event instanceof OrderedEvent orderedEvent) {
+            this.orderingKey = orderedEvent.orderingKey();
+        }
     }
 
     public Event getEvent() {
@@ -67,6 +88,6 @@ public abstract class EventEntity {
     }
 
     public enum Status {
-        PENDING, PROCESSED, FAILED
+        PENDING, PROCESSED, FAILED, SKIPPED
     }
 }
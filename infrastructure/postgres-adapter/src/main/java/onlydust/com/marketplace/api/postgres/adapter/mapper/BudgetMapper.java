@@ -1,20 +1,22 @@
 package onlydust.com.marketplace.api.postgres.adapter.mapper;
 
 import onlydust.com.marketplace.api.domain.model.Currency;
+import onlydust.com.marketplace.api.domain.model.UsdQuotes;
 import onlydust.com.marketplace.api.domain.view.BudgetView;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.BudgetViewEntity;
 
 public interface BudgetMapper {
 
 
-    static BudgetView entityToDomain(final BudgetViewEntity entity) {
+    static BudgetView entityToDomain(final BudgetViewEntity entity, final UsdQuotes quotes) {
+        final Currency currency = entity.getCurrency().toDomain();
         return BudgetView.builder()
                 .remaining(entity.getRemainingAmount())
-                .currency(entity.getCurrency().toDomain())
+                .currency(currency)
                 .initialAmount(entity.getInitialAmount())
-                .remainingDollarsEquivalent(entity.getRemainingAmountDollarsEquivalent())
-                .initialDollarsEquivalent(entity.getInitialAmountDollarsEquivalent())
-                .dollarsConversionRate(entity.getDollarsConversionRate())
+                .remainingDollarsEquivalent(quotes.toUsd(currency, entity.getRemainingAmount()))
+                .initialDollarsEquivalent(quotes.toUsd(currency, entity.getInitialAmount()))
+                .dollarsConversionRate(quotes.price(currency).orElse(null))
                 .build();
     }
 }
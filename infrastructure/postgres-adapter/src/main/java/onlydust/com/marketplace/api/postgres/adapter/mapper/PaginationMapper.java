@@ -1,7 +1,23 @@
 package onlydust.com.marketplace.api.postgres.adapter.mapper;
 
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
+import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
+
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+
 public interface PaginationMapper {
 
+    String TOTAL_ITEM_NUMBER = "totalItemNumber";
+
     static Integer getPostgresOffsetFromPagination(int pageSize, int pageIndex) {
         return pageIndex * pageSize;
     }
@@ -10,4 +26,121 @@ public interface PaginationMapper {
         return pageSize;
     }
 
+    /**
+     * Keyset queries read one row more than the page size, to know whether there is a next page without counting.
+     */
+    static <T> List<T> getPageContent(final List<T> rows, final int pageSize) {
+        return rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+    }
+
+    /**
+     * The cursor of the next page also carries the total number of items computed for the first page, so that the
+     * next pages return the same total without counting again.
+     */
+    static <T> String getNextCursor(final List<T> rows, final int pageSize, final int totalItemNumber,
+                                    final Function<T, Cursor> cursorOf) {
+        return rows.size() > pageSize ?
+                cursorOf.apply(rows.get(pageSize - 1)).with(TOTAL_ITEM_NUMBER, totalItemNumber).encode() : null;
+    }
+
+    static int getTotalItemNumber(final Cursor after, final Supplier<Integer> count) {
+        if (isNull(after)) {
+            return count.get();
+        }
+        try {
+            return after.find(TOTAL_ITEM_NUMBER).map(Integer::valueOf).orElseGet(count);
+        } catch (NumberFormatException e) {
+            throw OnlyDustException.badRequest("Invalid pagination cursor", e);
+        }
+    }
+
+    /**
+     * Null values are sorted after all the others whatever the direction, as Postgres does by default in ascending
+     * order, so that the keyset condition can tell which rows come after a null sort value. Columns that cannot be
+     * null keep the default null ordering, so that a descending sort can still be read backward from an index.
+     */
+    static String getPostgresOrderBy(final List<KeysetColumn> columns) {
+        return columns.stream()
+                .map(column -> column.expression() + " " + column.direction().name() +
+                               (column.nullable() ? " nulls last" : ""))
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Builds the condition selecting the rows sorted after the given cursor, given the columns the rows are sorted by
+     * (the last one being unique). It is meant to be applied to the base tables of the query, so that an index on the
+     * sorted columns can be used: when all the columns are sorted in the same direction and cannot be null, it is a
+     * single row comparison; otherwise it is expanded column by column, with explicit predicates on null values.
+     */
+    static String getPostgresKeysetCondition(final List<KeysetColumn> columns, final Cursor after) {
+        if (isNull(after)) {
+            return "true";
+        }
+        if (isRowComparable(columns, after)) {
+            return "(%s) %s (%s)".formatted(
+                    columns.stream().map(KeysetColumn::expression).collect(Collectors.joining(", ")),
+                    columns.get(0).direction() == SortDirection.desc ? "<" : ">",
+                    IntStream.range(0, columns.size())
+                            .mapToObj(i -> keysetParameter(columns.get(i), i))
+                            .collect(Collectors.joining(", ")));
+        }
+        final List<String> alternatives = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            final List<String> predicates = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                predicates.add(isNull(after.get(columns.get(j).name())) ?
+                        columns.get(j).expression() + " is null" :
+                        columns.get(j).expression() + " = " + keysetParameter(columns.get(j), j));
+            }
+            final KeysetColumn column = columns.get(i);
+            if (isNull(after.get(column.name()))) {
+                // Nothing is sorted after null values
+                continue;
+            }
+            final String greater = column.expression() + (column.direction() == SortDirection.desc ? " < " : " > ") +
+                                   keysetParameter(column, i);
+            predicates.add(column.nullable() ? "(" + greater + " or " + column.expression() + " is null)" : greater);
+            alternatives.add("(" + String.join(" and ", predicates) + ")");
+        }
+        return alternatives.isEmpty() ? "false" : "(" + String.join(" or ", alternatives) + ")";
+    }
+
+    static Query setPostgresKeysetParameters(final Query query, final List<KeysetColumn> columns, final Cursor after) {
+        if (!isNull(after)) {
+            for (int i = 0; i < columns.size(); i++) {
+                final String value = after.get(columns.get(i).name());
+                if (!isNull(value)) {
+                    query.setParameter("after" + i, value);
+                }
+            }
+        }
+        return query;
+    }
+
+    private static boolean isRowComparable(final List<KeysetColumn> columns, final Cursor after) {
+        return columns.stream().allMatch(column -> !column.nullable() &&
+                                                   column.direction() == columns.get(0).direction() &&
+                                                   !isNull(after.get(column.name())));
+    }
+
+    /**
+     * Timestamps are stored without time zone, in UTC: the instant of the cursor is converted to UTC explicitly instead
+     * of depending on the time zone of the session.
+     */
+    private static String keysetParameter(final KeysetColumn column, final int index) {
+        return "timestamp".equals(column.type()) ?
+                "(cast(cast(:after%d as text) as timestamptz) at time zone 'UTC')".formatted(index) :
+                "cast(cast(:after%d as text) as %s)".formatted(index, column.type());
+    }
+
+    /**
+     * A column rows are sorted by: its key in the cursor, its SQL expression on the base tables and type, its sort
+     * direction, and whether it can be null.
+     */
+    record KeysetColumn(String name, String expression, String type, SortDirection direction, boolean nullable) {
+
+        public KeysetColumn(String name, String expression, String type, SortDirection direction) {
+            this(name, expression, type, direction, false);
+        }
+    }
 }
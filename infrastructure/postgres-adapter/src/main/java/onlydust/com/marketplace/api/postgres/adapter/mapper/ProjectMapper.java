@@ -25,13 +25,7 @@ import static java.util.Objects.nonNull;
 
 public interface ProjectMapper {
 
-    static ProjectDetailsView mapToProjectDetailsView(ProjectViewEntity projectEntity,
-                                                      List<ContributorViewEntity> topContributors,
-                                                      Integer contributorCount,
-                                                      List<ProjectLeadViewEntity> leaders,
-                                                      List<SponsorEntity> sponsors,
-                                                      final Boolean hasRemainingBudget,
-                                                      ProjectDetailsView.Me me) {
+    static ProjectDetailsView mapToProjectDetailsView(ProjectViewEntity projectEntity) {
 
         final var organizationEntities = new HashMap<Long, GithubAccountEntity>();
         projectEntity.getRepos().forEach(repo -> organizationEntities.put(repo.getOwner().getId(), repo.getOwner()));
@@ -77,6 +71,21 @@ public interface ProjectMapper {
                                 projectEntity.getIgnoreCodeReviews(),
                                 projectEntity.getIgnoreContributionsBefore()
                         ))
+                .build();
+
+        for (ProjectOrganizationView organization : organizations) {
+            project.addOrganization(organization);
+        }
+        return project;
+    }
+
+    static ProjectDetailsView withProjectDetails(ProjectDetailsView project,
+                                                 List<ContributorViewEntity> topContributors,
+                                                 Integer contributorCount,
+                                                 List<ProjectLeadViewEntity> leaders,
+                                                 List<SponsorEntity> sponsors,
+                                                 final Boolean hasRemainingBudget) {
+        return project.toBuilder()
                 .topContributors(topContributors.stream().map(UserMapper::mapToContributorLinkView).toList())
                 .contributorCount(contributorCount)
                 .leaders(leaders.stream()
@@ -89,13 +98,7 @@ public interface ProjectMapper {
                         .collect(Collectors.toSet()))
                 .sponsors(sponsors.stream().map(SponsorMapper::mapToSponsorView).collect(Collectors.toSet()))
                 .hasRemainingBudget(hasRemainingBudget)
-                .me(me)
                 .build();
-
-        for (ProjectOrganizationView organization : organizations) {
-            project.addOrganization(organization);
-        }
-        return project;
     }
 
     static ProjectVisibility projectVisibilityToDomain(ProjectVisibilityEnumEntity visibility) {
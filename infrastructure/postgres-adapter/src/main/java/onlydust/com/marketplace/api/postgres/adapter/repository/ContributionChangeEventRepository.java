@@ -0,0 +1,27 @@
+package onlydust.com.marketplace.api.postgres.adapter.repository;
+
+import onlydust.com.marketplace.api.domain.model.notification.Event;
+import onlydust.com.marketplace.api.postgres.adapter.OutboxRepository;
+import onlydust.com.marketplace.api.postgres.adapter.entity.write.ContributionChangeEventEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+
+public interface ContributionChangeEventRepository extends OutboxRepository<ContributionChangeEventEntity> {
+
+    @Override
+    default void saveEvent(Event event) {
+        save(new ContributionChangeEventEntity(event));
+    }
+
+    @Override
+    @Modifying
+    @Query(value = "NOTIFY contribution_change_outbox_events", nativeQuery = true)
+    void notifyListeners();
+
+    @Override
+    @Query(value = "SELECT archive_processed_outbox_events('contribution_change_outbox_events', cast(:processedBefore as timestamp))",
+            nativeQuery = true)
+    Integer archiveProcessedEvents(Instant processedBefore);
+}
@@ -1,17 +1,11 @@
 package onlydust.com.marketplace.api.postgres.adapter.repository;
 
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.ContributionViewEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-
-import java.util.List;
-import java.util.UUID;
 
 public interface ContributionViewEntityRepository extends JpaRepository<ContributionViewEntity, String> {
 
-    @Query(value = """
+    String FIND_CONTRIBUTIONS = """
             SELECT 
                 c.id,
                 c.created_at,
@@ -153,14 +147,5 @@ public interface ContributionViewEntityRepository extends JpaRepository<Contribu
                 (COALESCE(:statuses) IS NULL OR CAST(c.status AS TEXT) IN (:statuses)) AND
                 (:fromDate IS NULL OR c.created_at >= to_date(cast(:fromDate as text), 'YYYY-MM-DD')) AND
                 (:toDate IS NULL OR c.created_at < to_date(cast(:toDate as text), 'YYYY-MM-DD') + 1)
-            """, nativeQuery = true)
-    Page<ContributionViewEntity> findContributions(Long contributorId,
-                                                   List<Long> contributorIds,
-                                                   List<UUID> projectIds,
-                                                   List<Long> repoIds,
-                                                   List<String> types,
-                                                   List<String> statuses,
-                                                   String fromDate,
-                                                   String toDate,
-                                                   Pageable pageable);
+            """;
 }
@@ -0,0 +1,98 @@
+package onlydust.com.marketplace.api.postgres.adapter.repository;
+
+import lombok.AllArgsConstructor;
+import onlydust.com.marketplace.api.domain.view.ContributionView;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
+import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
+import onlydust.com.marketplace.api.postgres.adapter.entity.read.ContributionViewEntity;
+import onlydust.com.marketplace.api.postgres.adapter.mapper.PaginationMapper;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+import static onlydust.com.marketplace.api.postgres.adapter.repository.ContributionViewEntityRepository.FIND_CONTRIBUTIONS;
+
+@AllArgsConstructor
+public class CustomContributionRepository {
+
+    private static final String COUNT_CONTRIBUTIONS = """
+            select count(*)
+            from (%s) contributions
+            """.formatted(FIND_CONTRIBUTIONS);
+
+    /**
+     * The keyset condition and the sort apply to the base tables, so that indexes on the sorted columns can be used.
+     */
+    protected static final String FIND_CONTRIBUTIONS_PAGE = """
+            %s  AND %%keyset_condition%%
+            ORDER BY %%order_by%%
+            OFFSET :offset LIMIT :limit
+            """.formatted(FIND_CONTRIBUTIONS);
+
+    private final EntityManager entityManager;
+
+    public Integer countContributions(Long contributorId, List<Long> contributorIds, List<UUID> projectIds,
+                                      List<Long> repoIds, List<String> types, List<String> statuses,
+                                      String fromDate, String toDate) {
+        final var query = setFilterParameters(entityManager.createNativeQuery(COUNT_CONTRIBUTIONS),
+                contributorId, contributorIds, projectIds, repoIds, types, statuses, fromDate, toDate);
+        return ((Number) query.getSingleResult()).intValue();
+    }
+
+    public List<ContributionViewEntity> findContributions(Long contributorId, List<Long> contributorIds,
+                                                          List<UUID> projectIds, List<Long> repoIds,
+                                                          List<String> types, List<String> statuses,
+                                                          String fromDate, String toDate,
+                                                          ContributionView.Sort sort, SortDirection direction,
+                                                          int pageIndex, int pageSize, Cursor after) {
+        final List<PaginationMapper.KeysetColumn> columns = sortColumns(sort, direction);
+        final var query = setFilterParameters(entityManager.createNativeQuery(FIND_CONTRIBUTIONS_PAGE
+                                .replace("%keyset_condition%", PaginationMapper.getPostgresKeysetCondition(columns, after))
+                                .replace("%order_by%", PaginationMapper.getPostgresOrderBy(columns)),
+                        ContributionViewEntity.class),
+                contributorId, contributorIds, projectIds, repoIds, types, statuses, fromDate, toDate)
+                .setParameter("offset", isNull(after) ?
+                        PaginationMapper.getPostgresOffsetFromPagination(pageSize, pageIndex) : 0)
+                .setParameter("limit", PaginationMapper.getPostgresLimitFromPagination(pageSize, pageIndex) + 1);
+        return PaginationMapper.setPostgresKeysetParameters(query, columns, after).getResultList();
+    }
+
+    private static Query setFilterParameters(Query query, Long contributorId, List<Long> contributorIds,
+                                             List<UUID> projectIds, List<Long> repoIds, List<String> types,
+                                             List<String> statuses, String fromDate, String toDate) {
+        return query.setParameter("contributorId", contributorId)
+                .setParameter("contributorIds", contributorIds)
+                .setParameter("projectIds", projectIds)
+                .setParameter("repoIds", repoIds)
+                .setParameter("types", types)
+                .setParameter("statuses", statuses)
+                .setParameter("fromDate", fromDate)
+                .setParameter("toDate", toDate);
+    }
+
+    private static List<PaginationMapper.KeysetColumn> sortColumns(ContributionView.Sort sort,
+                                                                   SortDirection direction) {
+        final List<PaginationMapper.KeysetColumn> columns = new ArrayList<>(switch (sort) {
+            case CREATED_AT -> List.of(new PaginationMapper.KeysetColumn("createdAt",
+                    "date_trunc('milliseconds', c.created_at)", "timestamp", direction));
+            case PROJECT_REPO_NAME -> List.of(
+                    new PaginationMapper.KeysetColumn("projectName", "p.name", "text", direction),
+                    new PaginationMapper.KeysetColumn("repoName", "c.repo_name", "text", direction, true));
+            case GITHUB_NUMBER_TITLE -> List.of(
+                    new PaginationMapper.KeysetColumn("githubNumber", "c.github_number", "bigint", direction, true),
+                    new PaginationMapper.KeysetColumn("githubTitle", "c.github_title", "text", direction, true));
+            case CONTRIBUTOR_LOGIN -> List.of(new PaginationMapper.KeysetColumn("contributorLogin",
+                    "c.contributor_login", "text", direction, true));
+            case LINKS_COUNT -> List.of(new PaginationMapper.KeysetColumn("linksCount",
+                    "coalesce(jsonb_array_length(coalesce(closing_issues.links, closing_pull_requests.links, " +
+                    "reviewed_pull_requests.links)), 0)", "integer", direction));
+        });
+        columns.add(new PaginationMapper.KeysetColumn("id", "c.id", "text", direction));
+        columns.add(new PaginationMapper.KeysetColumn("projectId", "p.project_id", "uuid", direction));
+        return columns;
+    }
+}
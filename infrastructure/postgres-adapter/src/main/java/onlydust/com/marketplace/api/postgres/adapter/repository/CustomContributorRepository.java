@@ -2,19 +2,28 @@ package onlydust.com.marketplace.api.postgres.adapter.repository;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.model.Currency;
+import onlydust.com.marketplace.api.domain.model.UsdQuotes;
 import onlydust.com.marketplace.api.domain.view.ProjectContributorsLinkView;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
+import onlydust.com.marketplace.api.postgres.adapter.RegisteredGithubIdsBitmap;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.ContributorViewEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.ProjectContributorViewEntity;
 import onlydust.com.marketplace.api.postgres.adapter.mapper.PaginationMapper;
 import org.intellij.lang.annotations.Language;
 
 import javax.persistence.EntityManager;
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
 
 @AllArgsConstructor
 @Slf4j
@@ -25,105 +34,79 @@ public class CustomContributorRepository {
             		ga.id AS github_user_id,
             		ga.login,
             		user_avatar_url(ga.id, ga.avatar_url) as avatar_url,
-            		ga.html_url,
-                    u.github_user_id IS NOT NULL as is_registered
+            		ga.html_url
             FROM
-                indexer_exp.github_accounts ga
-                JOIN projects_contributors pc ON pc.github_user_id = ga.id
-                    AND pc.project_id = :projectId
-                LEFT JOIN iam.users u ON u.github_user_id = ga.id
-                ORDER BY
-                    pc.completed_contribution_count DESC, ga.id
-                LIMIT :limit
+                project_contributor_stats pcs
+                JOIN indexer_exp.github_accounts ga ON ga.id = pcs.github_user_id
+            WHERE
+                pcs.project_id = :projectId
+                AND pcs.contribution_count > 0
+            ORDER BY
+                pcs.contribution_count DESC, ga.id
+            LIMIT :limit
             """;
 
     protected static final String GET_CONTRIBUTOR_COUNT = """
                 select count(*)
-                from projects_contributors pc
-                join indexer_exp.github_accounts ga on ga.id = pc.github_user_id
-                where pc.project_id = :projectId
+                from project_contributor_stats pcs
+                         join indexer_exp.github_accounts ga on ga.id = pcs.github_user_id
+                where pcs.project_id = :projectId
+                  and pcs.contribution_count > 0
                   and ga.login ilike '%' || :login || '%'
             """;
+    protected static final String EARNED = """
+            coalesce(pcs.eth * :ethUsdPrice, 0) + coalesce(pcs.stark * :starkUsdPrice, 0) +
+                   coalesce(pcs.apt * :aptUsdPrice, 0) + coalesce(pcs.op * :opUsdPrice, 0) +
+                   coalesce(pcs.lords * :lordsUsdPrice, 0) + coalesce(pcs.usd, 0)""";
+
+    /**
+     * Contributors are read from the statistics table only: the keyset condition and the sort apply to its columns, so
+     * that a page is read from the (project_id, sort key, login) index of its sort key. Only the earned amount, which
+     * depends on the current USD quotes, is sorted after being computed. The login copy of the statistics table is only
+     * a sort key (refreshed by {@link #refreshProjectContributorLogins()}): the current GitHub login is displayed and
+     * searched.
+     */
     @Language("PostgreSQL")
     protected static final String GET_CONTRIBUTORS_FOR_PROJECT = """
             select ga.id,
                    ga.login,
+                   pcs.login sort_login,
                    user_avatar_url(ga.id, ga.avatar_url) as avatar_url,
-                   pc.completed_contribution_count                 contribution_count,
-                   u.github_user_id is not null is_registered,
-                   (select count(distinct pr.id)
-                    from payment_requests pr
-                    where pr.project_id = :projectId
-                      and pr.recipient_id = ga.id)               reward_count,
-                   coalesce(to_rewards_stats.total_count,0) to_reward_count,
-                   to_rewards_stats.pull_request_count prs_to_reward,
-                   to_rewards_stats.issue_count issues_to_reward,
-                   to_rewards_stats.code_review_count code_reviews_to_reward,
-                   amounts.usd,
-                          amounts.eth,
-                          coalesce(amounts.eth * cuq_eth.price, 0)   eth_usd,
-                          amounts.stark,
-                          coalesce(amounts.stark * cuq_stark.price, 0) stark_usd,
-                          amounts.apt,
-                          coalesce(amounts.apt * cuq_apt.price, 0)   apt_usd,
-                          amounts.op,
-                          coalesce(amounts.op * cuq_op.price, 0)    op_usd,
-                          amounts.lords,
-                          coalesce(amounts.lords * cuq_lords.price, 0)    lords_usd,
-                          coalesce(amounts.eth * cuq_eth.price, 0) + coalesce(amounts.stark * cuq_stark.price, 0) +
-                          coalesce(amounts.apt * cuq_apt.price, 0) + coalesce(amounts.op * cuq_op.price, 0) +
-                          coalesce(amounts.lords * cuq_lords.price, 0) +
-                          coalesce(amounts.usd, 0)                   earned
-            from projects_contributors pc
-                     join indexer_exp.github_accounts ga on ga.id = pc.github_user_id
-                     left join iam.users u on u.github_user_id = ga.id
-                     left join (select count(distinct c.id)                                          total_count,
-                                       count(distinct c.id) filter ( where c.type = 'PULL_REQUEST' ) pull_request_count,
-                                       count(distinct c.id) filter ( where c.type = 'CODE_REVIEW' )  code_review_count,
-                                       count(distinct c.id) filter ( where c.type = 'ISSUE' )        issue_count,
-                                       c.contributor_id
-                                from project_github_repos pgr
-                                         join indexer_exp.github_repos gr on gr.id = pgr.github_repo_id
-                                         join indexer_exp.contributions c on c.repo_id = gr.id
-                                         left join work_items wi on wi.id = coalesce(cast(c.pull_request_id as text), cast(c.issue_id as text), c.code_review_id) and wi.recipient_id = c.contributor_id
-                                         left join ignored_contributions ic on ic.contribution_id = c.id and ic.project_id = :projectId
-                                where pgr.project_id = :projectId
-                                  and gr.visibility = 'PUBLIC'
-                                  and c.status = 'COMPLETED'
-                                  and wi.id is null
-                                  and ic.project_id is null
-                                group by c.contributor_id) to_rewards_stats on to_rewards_stats.contributor_id = ga.id
-                     left join (select sum(pr.amount) filter (where pr.currency = 'usd')   usd,
-                                                sum(pr.amount) filter (where pr.currency = 'apt')   apt,
-                                                sum(pr.amount) filter (where pr.currency = 'stark') stark,
-                                                sum(pr.amount) filter (where pr.currency = 'op')    op,
-                                                sum(pr.amount) filter (where pr.currency = 'eth')   eth,
-                                                sum(pr.amount) filter (where pr.currency = 'lords')   lords,
-                                                pr.recipient_id
-                                         from payment_requests pr
-                                         where pr.project_id = :projectId
-                                         group by pr.recipient_id) amounts on amounts.recipient_id = ga.id
-                              left join crypto_usd_quotes cuq_eth on cuq_eth.currency = 'eth'
-                              left join crypto_usd_quotes cuq_apt on cuq_apt.currency = 'apt'
-                              left join crypto_usd_quotes cuq_stark on cuq_stark.currency = 'stark'
-                              left join crypto_usd_quotes cuq_op on cuq_op.currency = 'op'
-                              left join crypto_usd_quotes cuq_lords on cuq_lords.currency = 'lords'
-            where pc.project_id = :projectId
+                   pcs.contribution_count,
+                   pcs.reward_count,
+                   pcs.to_reward_count,
+                   case when pcs.to_reward_count > 0 then pcs.prs_to_reward end prs_to_reward,
+                   case when pcs.to_reward_count > 0 then pcs.issues_to_reward end issues_to_reward,
+                   case when pcs.to_reward_count > 0 then pcs.code_reviews_to_reward end code_reviews_to_reward,
+                   pcs.usd,
+                   pcs.eth,
+                   coalesce(pcs.eth * :ethUsdPrice, 0)   eth_usd,
+                   pcs.stark,
+                   coalesce(pcs.stark * :starkUsdPrice, 0) stark_usd,
+                   pcs.apt,
+                   coalesce(pcs.apt * :aptUsdPrice, 0)   apt_usd,
+                   pcs.op,
+                   coalesce(pcs.op * :opUsdPrice, 0)    op_usd,
+                   pcs.lords,
+                   coalesce(pcs.lords * :lordsUsdPrice, 0)    lords_usd,
+                   %earned%                   earned
+            from project_contributor_stats pcs
+                     join indexer_exp.github_accounts ga on ga.id = pcs.github_user_id
+            where pcs.project_id = :projectId
+              and pcs.contribution_count > 0
               and ga.login ilike '%' || :login || '%'
+              and %keyset_condition%
             order by %order_by%
             offset :offset limit :limit
-            """;
-
+            """.replace("%earned%", EARNED);
 
     protected static final String FIND_REPOS_CONTRIBUTORS = """
             SELECT
                 ga.id as github_user_id,
                 ga.login,
                 user_avatar_url(ga.id, ga.avatar_url) as avatar_url,
-                ga.html_url,
-                u.github_user_id IS NOT NULL as is_registered
+                ga.html_url
             FROM indexer_exp.github_accounts ga
-                LEFT JOIN iam.users u on u.github_user_id = ga.id
             WHERE
                 EXISTS(select 1 from indexer_exp.repos_contributors rc 
                 join indexer_exp.github_repos gr on gr.id = rc.repo_id and gr.visibility = 'PUBLIC'
@@ -133,6 +116,28 @@ public class CustomContributorRepository {
             LIMIT :limit
             """;
 
+    protected static final String REFRESH_PROJECT_CONTRIBUTOR_STATS = """
+            select refresh_project_contributor_stats(array[cast(:projectId as uuid)])
+            """;
+
+    protected static final String REFRESH_REPOS_PROJECTS_CONTRIBUTOR_STATS = """
+            select refresh_project_contributor_stats(array(select distinct pgr.project_id
+                                                           from project_github_repos pgr
+                                                           where pgr.github_repo_id in (:repoIds)))
+            """;
+
+    protected static final String REFRESH_QUEUED_PROJECT_CONTRIBUTOR_STATS = """
+            select cast(project_id as text) from refresh_queued_project_contributor_stats(:maxProjectCount) project_id
+            """;
+
+    protected static final String REFRESH_PROJECT_CONTRIBUTOR_LOGINS = """
+            update project_contributor_stats pcs
+            set login = ga.login
+            from indexer_exp.github_accounts ga
+            where ga.id = pcs.github_user_id
+              and pcs.login is distinct from ga.login
+            """;
+
     protected static final String GET_CONTRIBUTION_CONTRIBUTOR_ID = """
             SELECT contributor_id
             FROM indexer_exp.contributions
@@ -140,26 +145,39 @@ public class CustomContributorRepository {
             """;
 
     private final EntityManager entityManager;
+    private final RegisteredGithubIdsBitmap registeredGithubIdsBitmap;
 
-    static protected String buildQuery(ProjectContributorsLinkView.SortBy sortBy, SortDirection sortDirection) {
-        final String direction = Optional.ofNullable(sortDirection).map(SortDirection::name).orElse("asc");
-        final String sortValue = Optional.ofNullable(sortBy).map(sort -> switch (sortBy) {
-            case login -> "login " + direction;
-            case earned -> "earned " + direction + ", login asc";
-            case contributionCount -> "contribution_count " + direction + ", login asc";
-            case rewardCount -> "reward_count " + direction + ", login asc";
-            case toRewardCount -> "to_reward_count " + direction + ", login asc";
-        }).orElse("login " + direction);
+    static protected String buildQuery(ProjectContributorsLinkView.SortBy sortBy, SortDirection sortDirection,
+                                       Cursor after) {
+        final List<PaginationMapper.KeysetColumn> columns = sortColumns(sortBy, sortDirection);
         return GET_CONTRIBUTORS_FOR_PROJECT
-                .replace("%order_by%", sortValue);
+                .replace("%keyset_condition%", PaginationMapper.getPostgresKeysetCondition(columns, after))
+                .replace("%order_by%", PaginationMapper.getPostgresOrderBy(columns));
+    }
+
+    private static List<PaginationMapper.KeysetColumn> sortColumns(ProjectContributorsLinkView.SortBy sortBy,
+                                                                   SortDirection sortDirection) {
+        final SortDirection direction = Optional.ofNullable(sortDirection).orElse(SortDirection.asc);
+        final var login = new PaginationMapper.KeysetColumn("login", "pcs.login", "text", direction);
+        return Optional.ofNullable(sortBy).map(sort -> switch (sortBy) {
+            case login -> List.of(login);
+            case earned -> List.of(new PaginationMapper.KeysetColumn("earned", EARNED, "numeric", direction),
+                    login);
+            case contributionCount -> List.of(new PaginationMapper.KeysetColumn("contributionCount",
+                    "pcs.contribution_count", "bigint", direction), login);
+            case rewardCount -> List.of(new PaginationMapper.KeysetColumn("rewardCount",
+                    "pcs.reward_count", "bigint", direction), login);
+            case toRewardCount -> List.of(new PaginationMapper.KeysetColumn("toRewardCount",
+                    "pcs.to_reward_count", "bigint", direction), login);
+        }).orElse(List.of(login));
     }
 
     public List<ContributorViewEntity> findProjectTopContributors(UUID projectId, int limit) {
-        return entityManager
+        return withRegistration(entityManager
                 .createNativeQuery(FIND_TOP_CONTRIBUTORS_BASE_QUERY, ContributorViewEntity.class)
                 .setParameter("projectId", projectId)
                 .setParameter("limit", limit)
-                .getResultList();
+                .getResultList());
     }
 
     public Integer getProjectContributorCount(UUID projectId, String login) {
@@ -170,26 +188,93 @@ public class CustomContributorRepository {
         return ((Number) query.getSingleResult()).intValue();
     }
 
+    public boolean isProjectContributor(UUID projectId, Long githubUserId) {
+        return (Boolean) entityManager.createNativeQuery("""
+                        select exists(select 1
+                                      from project_github_repos pgr
+                                               join indexer_exp.github_repos gr
+                                                    on gr.id = pgr.github_repo_id and gr.visibility = 'PUBLIC'
+                                               join indexer_exp.contributions c
+                                                    on c.repo_id = pgr.github_repo_id and c.contributor_id = :githubUserId
+                                      where pgr.project_id = :projectId)
+                        """)
+                .setParameter("projectId", projectId)
+                .setParameter("githubUserId", githubUserId)
+                .getSingleResult();
+    }
+
     public List<ProjectContributorViewEntity> getProjectContributorViewEntity(final UUID projectId, String login,
                                                                               ProjectContributorsLinkView.SortBy sortBy,
                                                                               SortDirection sortDirection,
-                                                                              int pageIndex, int pageSize) {
-        return entityManager.createNativeQuery(buildQuery(sortBy, sortDirection),
+                                                                              int pageIndex, int pageSize,
+                                                                              Cursor after, UsdQuotes quotes) {
+        final var query = entityManager.createNativeQuery(buildQuery(sortBy, sortDirection, after),
                         ProjectContributorViewEntity.class)
                 .setParameter("projectId", projectId)
                 .setParameter("login", login != null ? login : "")
-                .setParameter("offset", PaginationMapper.getPostgresOffsetFromPagination(pageSize, pageIndex))
-                .setParameter("limit", PaginationMapper.getPostgresLimitFromPagination(pageSize, pageIndex))
-                .getResultList();
+                .setParameter("ethUsdPrice", quotes.price(Currency.Eth).orElse(BigDecimal.ZERO))
+                .setParameter("starkUsdPrice", quotes.price(Currency.Stark).orElse(BigDecimal.ZERO))
+                .setParameter("aptUsdPrice", quotes.price(Currency.Apt).orElse(BigDecimal.ZERO))
+                .setParameter("opUsdPrice", quotes.price(Currency.Op).orElse(BigDecimal.ZERO))
+                .setParameter("lordsUsdPrice", quotes.price(Currency.Lords).orElse(BigDecimal.ZERO))
+                .setParameter("offset", isNull(after) ?
+                        PaginationMapper.getPostgresOffsetFromPagination(pageSize, pageIndex) : 0)
+                .setParameter("limit", PaginationMapper.getPostgresLimitFromPagination(pageSize, pageIndex) + 1);
+        return withRegistration(PaginationMapper.setPostgresKeysetParameters(query, sortColumns(sortBy, sortDirection),
+                        after).getResultList(),
+                ProjectContributorViewEntity::getGithubUserId, ProjectContributorViewEntity::setRegistered);
     }
 
     public List<ContributorViewEntity> findReposContributorsByLogin(Set<Long> reposIds, String login, int limit) {
-        return entityManager
+        return withRegistration(entityManager
                 .createNativeQuery(FIND_REPOS_CONTRIBUTORS, ContributorViewEntity.class)
                 .setParameter("reposIds", reposIds)
                 .setParameter("login", login != null ? login : "")
                 .setParameter("limit", limit)
+                .getResultList());
+    }
+
+    private List<ContributorViewEntity> withRegistration(final List<ContributorViewEntity> contributors) {
+        return withRegistration(contributors, ContributorViewEntity::getGithubUserId,
+                ContributorViewEntity::setIsRegistered);
+    }
+
+    private <T> List<T> withRegistration(final List<T> contributors, final Function<T, Long> githubUserId,
+                                         final BiConsumer<T, Boolean> setRegistered) {
+        final Set<Long> registeredGithubIds = registeredGithubIdsBitmap.filter(
+                contributors.stream().map(githubUserId).toList());
+        contributors.forEach(contributor ->
+                setRegistered.accept(contributor, registeredGithubIds.contains(githubUserId.apply(contributor))));
+        return contributors;
+    }
+
+    public void refreshProjectContributorStats(UUID projectId) {
+        entityManager.createNativeQuery(REFRESH_PROJECT_CONTRIBUTOR_STATS)
+                .setParameter("projectId", projectId)
+                .getSingleResult();
+    }
+
+    public void refreshProjectContributorStats(List<Long> repoIds) {
+        if (repoIds.isEmpty()) {
+            return;
+        }
+        entityManager.createNativeQuery(REFRESH_REPOS_PROJECTS_CONTRIBUTOR_STATS)
+                .setParameter("repoIds", repoIds)
+                .getSingleResult();
+    }
+
+    public List<UUID> refreshQueuedProjectContributorStats(int maxProjectCount) {
+        final List<String> projectIds = entityManager.createNativeQuery(REFRESH_QUEUED_PROJECT_CONTRIBUTOR_STATS)
+                .setParameter("maxProjectCount", maxProjectCount)
                 .getResultList();
+        return projectIds.stream().map(UUID::fromString).toList();
+    }
+
+    public void refreshProjectContributorLogins() {
+        final int refreshedCount = entityManager.createNativeQuery(REFRESH_PROJECT_CONTRIBUTOR_LOGINS).executeUpdate();
+        if (refreshedCount > 0) {
+            LOGGER.info("Login refreshed for {} project contributor(s)", refreshedCount);
+        }
     }
 
     public Optional<Long> getContributionContributorId(String contributionId) {
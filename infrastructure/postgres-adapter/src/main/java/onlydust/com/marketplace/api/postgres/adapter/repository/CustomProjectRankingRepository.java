@@ -1,9 +1,20 @@
 package onlydust.com.marketplace.api.postgres.adapter.repository;
 
 import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.model.Currency;
+import onlydust.com.marketplace.api.domain.model.UsdQuotes;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
 
 @AllArgsConstructor
 @Slf4j
@@ -11,80 +22,294 @@ public class CustomProjectRankingRepository {
 
     private final EntityManager entityManager;
 
-    public void updateProjectsRanking() {
-        final int executeUpdate = entityManager.createNativeQuery(UPDATE_PROJECT_RANKING_QUERY)
+    public List<UUID> findProjectIds() {
+        return entityManager.createNativeQuery("select cast(project_id as text) from project_details order by project_id")
+                .getResultList().stream()
+                .map(id -> UUID.fromString((String) id))
+                .toList();
+    }
+
+    @Transactional
+    public int refreshRankingStats(final List<UUID> projectIds, final UsdQuotes quotes) {
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+        entityManager.createNativeQuery(DELETE_UNRANKED_PROJECTS_STATS_QUERY)
+                .setParameter("projectIds", projectIds)
+                .executeUpdate();
+        return entityManager.createNativeQuery(REFRESH_RANKING_STATS_QUERY)
+                .setParameter("projectIds", projectIds)
+                .setParameter("ethUsdPrice", quotes.price(Currency.Eth).orElse(BigDecimal.ZERO))
+                .setParameter("starkUsdPrice", quotes.price(Currency.Stark).orElse(BigDecimal.ZERO))
+                .setParameter("aptUsdPrice", quotes.price(Currency.Apt).orElse(BigDecimal.ZERO))
+                .setParameter("opUsdPrice", quotes.price(Currency.Op).orElse(BigDecimal.ZERO))
+                .setParameter("lordsUsdPrice", quotes.price(Currency.Lords).orElse(BigDecimal.ZERO))
+                .executeUpdate();
+    }
+
+    @Transactional
+    public int deleteRemovedProjectsStats() {
+        return entityManager.createNativeQuery("""
+                        delete from project_ranking_stats prs
+                        where not exists(select 1 from project_details pd where pd.project_id = prs.project_id)
+                        """)
+                .executeUpdate();
+    }
+
+    /**
+     * Refreshes the ranking stats and the ranks of (at most maxProjectCount) queued projects. Queued rows are claimed
+     * with SKIP LOCKED so that several instances can run the job at the same time, and are removed in the same
+     * transaction as the refresh, so that a failed refresh leaves them queued.
+     *
+     * @return the refreshed project ids
+     */
+    @Transactional
+    public List<UUID> refreshQueuedProjects(final int maxProjectCount, final UsdQuotes quotes,
+                                            final RankingMoments moments) {
+        final List<UUID> projectIds = claimQueuedProjectIds(maxProjectCount);
+        refreshRankingStats(projectIds, quotes);
+        updateRanks(projectIds, moments);
+        return projectIds;
+    }
+
+    private List<UUID> claimQueuedProjectIds(final int maxProjectCount) {
+        return entityManager.createNativeQuery(CLAIM_QUEUED_PROJECT_IDS_QUERY)
+                .setParameter("maxProjectCount", maxProjectCount)
+                .getResultList().stream()
+                .map(id -> UUID.fromString((String) id))
+                .toList();
+    }
+
+    @Transactional
+    public int queueProjects(final List<Long> repoIds) {
+        if (repoIds.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createNativeQuery(QUEUE_REPOS_PROJECTS_QUERY)
+                .setParameter("repoIds", repoIds)
                 .executeUpdate();
-        LOGGER.info("{} project's rank(s) were updated", executeUpdate);
     }
 
+    public Optional<RankingMoments> getRankingMoments() {
+        final Object[] row = (Object[]) entityManager.createNativeQuery(GET_RANKING_MOMENTS_QUERY).getSingleResult();
+        if (isNull(row[0])) {
+            return Optional.empty();
+        }
+        return Optional.of(RankingMoments.builder()
+                .avgVolumeOfPullRequestsLast3Months(toBigDecimal(row[0]))
+                .stddevVolumeOfPullRequestsLast3Months(toBigDecimal(row[1]))
+                .avgNumberOfDistinctContributors(toBigDecimal(row[2]))
+                .stddevNumberOfDistinctContributors(toBigDecimal(row[3]))
+                .avgNumberOfOpenIssues(toBigDecimal(row[4]))
+                .stddevNumberOfOpenIssues(toBigDecimal(row[5]))
+                .avgTotalGrantsLast1Month(toBigDecimal(row[6]))
+                .stddevTotalGrantsLast1Month(toBigDecimal(row[7]))
+                .avgNumberOfDistinctRecipientsLast1Month(toBigDecimal(row[8]))
+                .stddevNumberOfDistinctRecipientsLast1Month(toBigDecimal(row[9]))
+                .avgAmountRemainingToDistribute(toBigDecimal(row[10]))
+                .stddevAmountRemainingToDistribute(toBigDecimal(row[11]))
+                .avgDaysSinceCreation(toBigDecimal(row[12]))
+                .stddevDaysSinceCreation(toBigDecimal(row[13]))
+                .build());
+    }
+
+    @Transactional
+    public int updateRanks(final List<UUID> projectIds, final RankingMoments moments) {
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createNativeQuery(UPDATE_PROJECT_RANKING_QUERY)
+                .setParameter("projectIds", projectIds)
+                .setParameter("avgVolumeOfPullRequestsLast3Months", moments.getAvgVolumeOfPullRequestsLast3Months())
+                .setParameter("stddevVolumeOfPullRequestsLast3Months", moments.getStddevVolumeOfPullRequestsLast3Months())
+                .setParameter("avgNumberOfDistinctContributors", moments.getAvgNumberOfDistinctContributors())
+                .setParameter("stddevNumberOfDistinctContributors", moments.getStddevNumberOfDistinctContributors())
+                .setParameter("avgNumberOfOpenIssues", moments.getAvgNumberOfOpenIssues())
+                .setParameter("stddevNumberOfOpenIssues", moments.getStddevNumberOfOpenIssues())
+                .setParameter("avgTotalGrantsLast1Month", moments.getAvgTotalGrantsLast1Month())
+                .setParameter("stddevTotalGrantsLast1Month", moments.getStddevTotalGrantsLast1Month())
+                .setParameter("avgNumberOfDistinctRecipientsLast1Month", moments.getAvgNumberOfDistinctRecipientsLast1Month())
+                .setParameter("stddevNumberOfDistinctRecipientsLast1Month", moments.getStddevNumberOfDistinctRecipientsLast1Month())
+                .setParameter("avgAmountRemainingToDistribute", moments.getAvgAmountRemainingToDistribute())
+                .setParameter("stddevAmountRemainingToDistribute", moments.getStddevAmountRemainingToDistribute())
+                .setParameter("avgDaysSinceCreation", moments.getAvgDaysSinceCreation())
+                .setParameter("stddevDaysSinceCreation", moments.getStddevDaysSinceCreation())
+                .executeUpdate();
+    }
+
+    private static BigDecimal toBigDecimal(final Object value) {
+        return isNull(value) ? BigDecimal.ZERO : new BigDecimal(value.toString());
+    }
+
+    @Value
+    @Builder
+    public static class RankingMoments {
+        BigDecimal avgVolumeOfPullRequestsLast3Months;
+        BigDecimal stddevVolumeOfPullRequestsLast3Months;
+        BigDecimal avgNumberOfDistinctContributors;
+        BigDecimal stddevNumberOfDistinctContributors;
+        BigDecimal avgNumberOfOpenIssues;
+        BigDecimal stddevNumberOfOpenIssues;
+        BigDecimal avgTotalGrantsLast1Month;
+        BigDecimal stddevTotalGrantsLast1Month;
+        BigDecimal avgNumberOfDistinctRecipientsLast1Month;
+        BigDecimal stddevNumberOfDistinctRecipientsLast1Month;
+        BigDecimal avgAmountRemainingToDistribute;
+        BigDecimal stddevAmountRemainingToDistribute;
+        BigDecimal avgDaysSinceCreation;
+        BigDecimal stddevDaysSinceCreation;
+    }
+
+    private static final String DELETE_UNRANKED_PROJECTS_STATS_QUERY = """
+            delete from project_ranking_stats prs
+            where prs.project_id in (:projectIds)
+              and not exists(select 1
+                             from project_github_repos pgr
+                                      join indexer_exp.github_repos gr
+                                           on gr.id = pgr.github_repo_id and gr.visibility = 'PUBLIC'
+                             where pgr.project_id = prs.project_id)
+            """;
+
+    private static final String REFRESH_RANKING_STATS_QUERY = """
+            insert into project_ranking_stats (project_id, pr_count, pr_count_last_3_months, open_issue_count,
+                                               contributor_count, distinct_recipient_number_last_1_months,
+                                               total_dollars_equivalent_spent_last_1_month,
+                                               total_dollars_equivalent_remaining_amount, updated_at)
+            select pd.project_id,
+                   coalesce(cs.pr_count, 0),
+                   coalesce(cs.pr_count_last_3_months, 0),
+                   coalesce(cs.open_issue_count, 0),
+                   coalesce(cs.contributor_count, 0),
+                   coalesce(rs.distinct_recipient_number_last_1_month, 0),
+                   coalesce(rs.usd, 0) + coalesce(rs.eth, 0) * :ethUsdPrice + coalesce(rs.stark, 0) * :starkUsdPrice +
+                   coalesce(rs.apt, 0) * :aptUsdPrice + coalesce(rs.op, 0) * :opUsdPrice +
+                   coalesce(rs.lords, 0) * :lordsUsdPrice,
+                   coalesce(bs.usd, 0) + coalesce(bs.eth, 0) * :ethUsdPrice + coalesce(bs.stark, 0) * :starkUsdPrice +
+                   coalesce(bs.apt, 0) * :aptUsdPrice + coalesce(bs.op, 0) * :opUsdPrice +
+                   coalesce(bs.lords, 0) * :lordsUsdPrice,
+                   now()
+            from project_details pd
+                     left join (select pgr.project_id,
+                                       count(c.id) filter ( where c.type = 'PULL_REQUEST' ) pr_count,
+                                       count(c.id) filter ( where c.type = 'PULL_REQUEST' and
+                                                                  c.created_at > CURRENT_DATE - INTERVAL '3 months') pr_count_last_3_months,
+                                       count(c.id) filter ( where c.type = 'ISSUE' and c.status = 'IN_PROGRESS') open_issue_count,
+                                       count(distinct c.contributor_id)
+                                       filter ( where c.created_at > CURRENT_DATE - INTERVAL '1 months') contributor_count
+                                from project_github_repos pgr
+                                         join indexer_exp.github_repos gr
+                                              on pgr.github_repo_id = gr.id and gr.visibility = 'PUBLIC'
+                                         join indexer_exp.contributions c on c.repo_id = gr.id
+                                where pgr.project_id in (:projectIds)
+                                group by pgr.project_id) cs on cs.project_id = pd.project_id
+                     left join (select pr.project_id,
+                                       count(distinct pr.recipient_id)                      distinct_recipient_number_last_1_month,
+                                       sum(pr.amount) filter ( where pr.currency = 'usd' )   usd,
+                                       sum(pr.amount) filter ( where pr.currency = 'eth' )   eth,
+                                       sum(pr.amount) filter ( where pr.currency = 'stark' ) stark,
+                                       sum(pr.amount) filter ( where pr.currency = 'apt' )   apt,
+                                       sum(pr.amount) filter ( where pr.currency = 'op' )    op,
+                                       sum(pr.amount) filter ( where pr.currency = 'lords' ) lords
+                                from payment_requests pr
+                                where pr.project_id in (:projectIds)
+                                  and pr.requested_at > CURRENT_DATE - INTERVAL '1 months'
+                                group by pr.project_id) rs on rs.project_id = pd.project_id
+                     left join (select pb.project_id,
+                                       sum(b.remaining_amount) filter ( where b.currency = 'usd' )   usd,
+                                       sum(b.remaining_amount) filter ( where b.currency = 'eth' )   eth,
+                                       sum(b.remaining_amount) filter ( where b.currency = 'stark' ) stark,
+                                       sum(b.remaining_amount) filter ( where b.currency = 'apt' )   apt,
+                                       sum(b.remaining_amount) filter ( where b.currency = 'op' )    op,
+                                       sum(b.remaining_amount) filter ( where b.currency = 'lords' ) lords
+                                from projects_budgets pb
+                                         join budgets b on pb.budget_id = b.id
+                                where pb.project_id in (:projectIds)
+                                group by pb.project_id) bs on bs.project_id = pd.project_id
+            where pd.project_id in (:projectIds)
+              and exists(select 1
+                         from project_github_repos pgr
+                                  join indexer_exp.github_repos gr
+                                       on gr.id = pgr.github_repo_id and gr.visibility = 'PUBLIC'
+                         where pgr.project_id = pd.project_id)
+            on conflict (project_id) do update
+                set pr_count                                    = excluded.pr_count,
+                    pr_count_last_3_months                      = excluded.pr_count_last_3_months,
+                    open_issue_count                            = excluded.open_issue_count,
+                    contributor_count                           = excluded.contributor_count,
+                    distinct_recipient_number_last_1_months     = excluded.distinct_recipient_number_last_1_months,
+                    total_dollars_equivalent_spent_last_1_month = excluded.total_dollars_equivalent_spent_last_1_month,
+                    total_dollars_equivalent_remaining_amount   = excluded.total_dollars_equivalent_remaining_amount,
+                    updated_at                                  = excluded.updated_at
+            where (project_ranking_stats.pr_count, project_ranking_stats.pr_count_last_3_months,
+                   project_ranking_stats.open_issue_count, project_ranking_stats.contributor_count,
+                   project_ranking_stats.distinct_recipient_number_last_1_months,
+                   project_ranking_stats.total_dollars_equivalent_spent_last_1_month,
+                   project_ranking_stats.total_dollars_equivalent_remaining_amount)
+                      is distinct from
+                  (excluded.pr_count, excluded.pr_count_last_3_months, excluded.open_issue_count,
+                   excluded.contributor_count, excluded.distinct_recipient_number_last_1_months,
+                   excluded.total_dollars_equivalent_spent_last_1_month,
+                   excluded.total_dollars_equivalent_remaining_amount)
+            """;
+
+    private static final String CLAIM_QUEUED_PROJECT_IDS_QUERY = """
+            delete from project_ranking_refresh_queue q
+            where q.project_id in (select project_id
+                                   from project_ranking_refresh_queue
+                                   order by queued_at
+                                   limit :maxProjectCount for update skip locked)
+            returning cast(q.project_id as text)
+            """;
+
+    private static final String QUEUE_REPOS_PROJECTS_QUERY = """
+            insert into project_ranking_refresh_queue (project_id)
+            select distinct pgr.project_id
+            from project_github_repos pgr
+            where pgr.github_repo_id in (:repoIds)
+            on conflict (project_id) do nothing
+            """;
+
+    private static final String GET_RANKING_MOMENTS_QUERY = """
+            select avg(prs.pr_count_last_3_months),
+                   stddev(prs.pr_count_last_3_months),
+                   avg(prs.contributor_count),
+                   stddev(prs.contributor_count),
+                   avg(prs.open_issue_count),
+                   stddev(prs.open_issue_count),
+                   avg(prs.total_dollars_equivalent_spent_last_1_month),
+                   stddev(prs.total_dollars_equivalent_spent_last_1_month),
+                   avg(prs.distinct_recipient_number_last_1_months),
+                   stddev(prs.distinct_recipient_number_last_1_months),
+                   avg(prs.total_dollars_equivalent_remaining_amount),
+                   stddev(prs.total_dollars_equivalent_remaining_amount),
+                   (select avg(CURRENT_DATE - cast(created_at as date)) from project_details),
+                   (select stddev(CURRENT_DATE - cast(created_at as date)) from project_details)
+            from project_ranking_stats prs
+            """;
+
     private static final String UPDATE_PROJECT_RANKING_QUERY = """
-            with subquery as (with s AS (SELECT AVG(psfrc.pr_count_last_3_months)                         AS avg_volume_of_pull_requests_last_3_months,
-                                                STDDEV(psfrc.pr_count_last_3_months)                      AS stddev_volume_of_pull_requests_last_3_months,
-                                                AVG(psfrc.contributor_count)                              AS avg_number_of_distinct_contributors,
-                                                STDDEV(psfrc.contributor_count)                           AS stddev_number_of_distinct_contributors,
-                                                AVG(psfrc.open_issue_count)                               AS avg_number_of_open_issues,
-                                                STDDEV(psfrc.open_issue_count)                            AS stddev_number_of_open_issues,
-                                                AVG(psfrc.total_dollars_equivalent_spent_last_1_month)    AS avg_total_grants_last_1_month,
-                                                STDDEV(psfrc.total_dollars_equivalent_spent_last_1_month) AS stddev_total_grants_last_1_month,
-                                                AVG(psfrc.distinct_recipient_number_last_1_months)        AS avg_number_of_distinct_recipients_last_1_month,
-                                                STDDEV(psfrc.distinct_recipient_number_last_1_months)     AS stddev_number_of_distinct_recipients_last_1_month,
-                                                AVG(psfrc.total_dollars_equivalent_remaining_amount)      AS avg_amount_remaining_to_distribute,
-                                                STDDEV(psfrc.total_dollars_equivalent_remaining_amount)   AS stddev_amount_remaining_to_distribute
-                                         FROM project_stats_for_ranking_computation psfrc),
-                                   project_date_stats AS ((SELECT pd.project_id,
-                                                                  GREATEST(
-                                                                          ROUND(
-                                                                                          ((CURRENT_DATE - cast(pd.created_at as date)) - pas.avg_days_since_creation) /
-                                                                                          NULLIF(pas.stddev_days_since_creation, 0) *
-                                                                                          -1,
-                                                                                          2
-                                                                          ),
-                                                                          0
-                                                                  ) AS normalized_inverted_days_since_creation
-                                                           FROM project_details pd,
-                                                                (SELECT AVG(CURRENT_DATE - cast(created_at as date))    AS avg_days_since_creation,
-                                                                        STDDEV(CURRENT_DATE - cast(created_at as date)) AS stddev_days_since_creation
-                                                                 FROM project_details) pas))
-                              select pd.project_id,
-                                     (normalized_values.normalized_amount_remaining_to_distribute +
-                                      normalized_values.normalized_creation_date +
-                                      normalized_values.normalized_number_of_distinct_contributors +
-                                      normalized_values.normalized_number_of_distinct_recipients +
-                                      normalized_values.normalized_number_of_open_issues +
-                                      normalized_values.normalized_total_grants +
-                                      normalized_values.normalized_volume_of_pull_requests
-                                         ) * 100 AS total_normalized_score
-                              from project_details pd
-                                       join (select project_stats.project_id,
-                                                    LEAST((project_stats.pr_count - s.avg_volume_of_pull_requests_last_3_months) /
-                                                          NULLIF(s.stddev_volume_of_pull_requests_last_3_months, 0),
-                                                          3)                                        AS normalized_volume_of_pull_requests,
-                                                    LEAST((project_stats.distinct_recipient_number_last_1_months -
-                                                           s.avg_number_of_distinct_contributors) /
-                                                          NULLIF(s.stddev_number_of_distinct_contributors, 0),
-                                                          3)                                        AS normalized_number_of_distinct_contributors,
-                                                    LEAST((project_stats.open_issue_count - s.avg_number_of_open_issues) /
-                                                          NULLIF(s.stddev_number_of_open_issues, 0),
-                                                          3)                                        AS normalized_number_of_open_issues,
-                                                    LEAST((project_stats.total_dollars_equivalent_spent_last_1_month -
-                                                           s.avg_total_grants_last_1_month) /
-                                                          NULLIF(s.stddev_total_grants_last_1_month, 0), 3) *
-                                                    2                                               AS normalized_total_grants,
-                                                    LEAST((project_stats.distinct_recipient_number_last_1_months -
-                                                           s.avg_number_of_distinct_recipients_last_1_month) /
-                                                          NULLIF(s.stddev_number_of_distinct_recipients_last_1_month, 0), 3) *
-                                                    2                                               AS normalized_number_of_distinct_recipients,
-                                                    LEAST((project_stats.total_dollars_equivalent_remaining_amount -
-                                                           s.avg_amount_remaining_to_distribute) /
-                                                          NULLIF(s.stddev_amount_remaining_to_distribute, 0), 3) *
-                                                    2                                               AS normalized_amount_remaining_to_distribute,
-                                                    pds.normalized_inverted_days_since_creation * 4 AS normalized_creation_date
-                                             from project_stats_for_ranking_computation project_stats
-                                                      cross join s
-                                                      join project_date_stats pds on pds.project_id = project_stats.project_id) normalized_values
-                                            on normalized_values.project_id = pd.project_id)
             update project_details pd_to_update
-            set rank = subquery.total_normalized_score
-            from subquery
-            where pd_to_update.project_id = subquery.project_id""";
+            set rank = ranks.total_normalized_score
+            from (select prs.project_id,
+                         cast((LEAST((prs.pr_count - :avgVolumeOfPullRequestsLast3Months) /
+                                     NULLIF(:stddevVolumeOfPullRequestsLast3Months, 0), 3) +
+                               LEAST((prs.distinct_recipient_number_last_1_months - :avgNumberOfDistinctContributors) /
+                                     NULLIF(:stddevNumberOfDistinctContributors, 0), 3) +
+                               LEAST((prs.open_issue_count - :avgNumberOfOpenIssues) /
+                                     NULLIF(:stddevNumberOfOpenIssues, 0), 3) +
+                               LEAST((prs.total_dollars_equivalent_spent_last_1_month - :avgTotalGrantsLast1Month) /
+                                     NULLIF(:stddevTotalGrantsLast1Month, 0), 3) * 2 +
+                               LEAST((prs.distinct_recipient_number_last_1_months - :avgNumberOfDistinctRecipientsLast1Month) /
+                                     NULLIF(:stddevNumberOfDistinctRecipientsLast1Month, 0), 3) * 2 +
+                               LEAST((prs.total_dollars_equivalent_remaining_amount - :avgAmountRemainingToDistribute) /
+                                     NULLIF(:stddevAmountRemainingToDistribute, 0), 3) * 2 +
+                               GREATEST(ROUND(((CURRENT_DATE - cast(pd.created_at as date)) - :avgDaysSinceCreation) /
+                                              NULLIF(:stddevDaysSinceCreation, 0) * -1, 2), 0) * 4
+                                 ) * 100 as integer) AS total_normalized_score
+                  from project_ranking_stats prs
+                           join project_details pd on pd.project_id = prs.project_id
+                  where prs.project_id in (:projectIds)) ranks
+            where pd_to_update.project_id = ranks.project_id
+              and pd_to_update.rank is distinct from ranks.total_normalized_score
+            """;
 }
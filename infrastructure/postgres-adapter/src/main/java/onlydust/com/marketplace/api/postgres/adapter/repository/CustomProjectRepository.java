@@ -21,8 +21,31 @@ public class CustomProjectRepository {
                 join projects_sponsors ps on ps.sponsor_id = s.id and ps.project_id = :projectId
             """;
 
+    protected static final String REFRESH_REPOS_PROJECT_CATALOG = """
+                select refresh_project_catalog(array(select distinct pgr.project_id
+                                                     from project_github_repos pgr
+                                                     where pgr.github_repo_id in (:repoIds)))
+            """;
+
+    protected static final String REFRESH_ALL_PROJECT_CATALOG = """
+                select refresh_project_catalog(array(select p.project_id from project_details p))
+            """;
+
     private final EntityManager entityManager;
 
+    public void refreshProjectCatalog(List<Long> repoIds) {
+        if (repoIds.isEmpty()) {
+            return;
+        }
+        entityManager.createNativeQuery(REFRESH_REPOS_PROJECT_CATALOG)
+                .setParameter("repoIds", repoIds)
+                .getSingleResult();
+    }
+
+    public void refreshProjectCatalog() {
+        entityManager.createNativeQuery(REFRESH_ALL_PROJECT_CATALOG).getSingleResult();
+    }
+
     public List<SponsorEntity> getProjectSponsors(UUID projectId) {
         return entityManager
                 .createNativeQuery(FIND_PROJECT_SPONSORS_QUERY, SponsorEntity.class)
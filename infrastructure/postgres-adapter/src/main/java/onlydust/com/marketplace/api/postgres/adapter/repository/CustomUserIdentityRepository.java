@@ -0,0 +1,73 @@
+package onlydust.com.marketplace.api.postgres.adapter.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.TypedParameterValue;
+import org.hibernate.type.StringType;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.Collection;
+import java.util.Date;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@AllArgsConstructor
+@Slf4j
+public class CustomUserIdentityRepository {
+
+    private final EntityManager entityManager;
+
+    @Transactional
+    public int updateIdentities(final Collection<UserIdentity> identities, final long lastSeenPrecisionInSeconds) {
+        if (identities.isEmpty()) {
+            return 0;
+        }
+        final var rows = identities.stream().toList();
+        final Query query = entityManager.createNativeQuery(UPDATE_USER_IDENTITIES_QUERY.formatted(
+                IntStream.range(0, rows.size())
+                        .mapToObj(i -> "(cast(:id%1$d as uuid), cast(:login%1$d as text), cast(:avatarUrl%1$d as text), cast(:email%1$d as text), cast(:lastSeenAt%1$d as timestamp))".formatted(i))
+                        .collect(Collectors.joining(","))));
+        for (int i = 0; i < rows.size(); i++) {
+            final UserIdentity row = rows.get(i);
+            query.setParameter("id" + i, row.getUserId().toString())
+                    .setParameter("login" + i, new TypedParameterValue(StringType.INSTANCE, row.getGithubLogin()))
+                    .setParameter("avatarUrl" + i, new TypedParameterValue(StringType.INSTANCE, row.getGithubAvatarUrl()))
+                    .setParameter("email" + i, new TypedParameterValue(StringType.INSTANCE, row.getEmail()))
+                    .setParameter("lastSeenAt" + i, row.getLastSeenAt());
+        }
+        final int updatedCount = query.setParameter("lastSeenPrecisionInSeconds", lastSeenPrecisionInSeconds)
+                .executeUpdate();
+        LOGGER.debug("{} user identities flushed, {} row(s) updated", rows.size(), updatedCount);
+        return updatedCount;
+    }
+
+    @Value
+    @Builder(toBuilder = true)
+    public static class UserIdentity {
+        UUID userId;
+        String githubLogin;
+        String githubAvatarUrl;
+        String email;
+        Date lastSeenAt;
+    }
+
+    private static final String UPDATE_USER_IDENTITIES_QUERY = """
+            update iam.users u
+            set github_login      = coalesce(v.login, u.github_login),
+                github_avatar_url = coalesce(v.avatar_url, u.github_avatar_url),
+                email             = coalesce(v.email, u.email),
+                last_seen_at      = greatest(u.last_seen_at, v.last_seen_at),
+                updated_at        = now()
+            from (values %s) as v(id, login, avatar_url, email, last_seen_at)
+            where u.id = v.id
+              and (u.github_login is distinct from coalesce(v.login, u.github_login)
+                or u.github_avatar_url is distinct from coalesce(v.avatar_url, u.github_avatar_url)
+                or u.email is distinct from coalesce(v.email, u.email)
+                or u.last_seen_at < v.last_seen_at - :lastSeenPrecisionInSeconds * interval '1 second')
+            """;
+}
@@ -2,6 +2,7 @@ package onlydust.com.marketplace.api.postgres.adapter.repository;
 
 import lombok.AllArgsConstructor;
 import onlydust.com.marketplace.api.domain.view.UserRewardView;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.UserRewardTotalAmountEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.UserRewardViewEntity;
@@ -134,7 +135,8 @@ public class CustomUserRewardRepository {
                                                   end                                                          valid_usdc_wallet
                                        from payment_requests pr
                                                 left join iam.users u on u.github_user_id = pr.recipient_id
-                                                left join public.user_payout_info upi on u.id = upi.user_id)
+                                                left join public.user_payout_info upi on u.id = upi.user_id),
+                     rewards as (
                 select pr.requested_at,
                        pd.name,
                        pd.logo_url,
@@ -187,6 +189,12 @@ public class CustomUserRewardRepository {
                      (coalesce(:projectIds) is null or pr.project_id in (:projectIds)) and
                      (:fromDate IS NULL OR pr.requested_at >= to_date(cast(:fromDate as text), 'YYYY-MM-DD')) AND
                      (:toDate IS NULL OR pr.requested_at < to_date(cast(:toDate as text), 'YYYY-MM-DD') + 1)
+                     )
+            -- rewards is referenced once, so it is inlined and the keyset condition on requested_at and id applies to
+            -- payment_requests
+            select *
+            from rewards
+            where %keyset_condition%
             order by %order_by% offset :offset limit :limit
                      """;
 
@@ -345,7 +353,6 @@ public class CustomUserRewardRepository {
                        else 'PROCESSING' end) = 'PENDING_INVOICE'
                      """;
 
-
     public Integer getCount(UUID userId, List<String> currencies, List<UUID> projectIds, String fromDate,
                             String toDate) {
         final var query = entityManager
@@ -361,30 +368,49 @@ public class CustomUserRewardRepository {
     public List<UserRewardViewEntity> getViewEntities(UUID userId, List<String> currencies, List<UUID> projectIds,
                                                       String fromDate, String toDate,
                                                       UserRewardView.SortBy sortBy,
-                                                      SortDirection sortDirection, int pageIndex, int pageSize) {
-        return entityManager.createNativeQuery(buildQuery(sortBy, sortDirection), UserRewardViewEntity.class)
+                                                      SortDirection sortDirection, int pageIndex, int pageSize,
+                                                      Cursor after) {
+        final var query = entityManager.createNativeQuery(buildQuery(sortBy, sortDirection, after),
+                        UserRewardViewEntity.class)
                 .setParameter("userId", userId)
                 .setParameter("currencies", currencies)
                 .setParameter("projectIds", projectIds)
                 .setParameter("fromDate", fromDate)
                 .setParameter("toDate", toDate)
-                .setParameter("offset", PaginationMapper.getPostgresOffsetFromPagination(pageSize, pageIndex))
-                .setParameter("limit", PaginationMapper.getPostgresLimitFromPagination(pageSize, pageIndex))
+                .setParameter("offset", isNull(after) ?
+                        PaginationMapper.getPostgresOffsetFromPagination(pageSize, pageIndex) : 0)
+                .setParameter("limit", PaginationMapper.getPostgresLimitFromPagination(pageSize, pageIndex) + 1);
+        return PaginationMapper.setPostgresKeysetParameters(query, sortColumns(sortBy, sortDirection), after)
                 .getResultList();
     }
 
-    protected static String buildQuery(UserRewardView.SortBy sortBy, final SortDirection sortDirection) {
+    protected static String buildQuery(UserRewardView.SortBy sortBy, final SortDirection sortDirection,
+                                       final Cursor after) {
+        final List<PaginationMapper.KeysetColumn> columns = sortColumns(sortBy, sortDirection);
+        return FIND_USER_REWARDS_BY_ID
+                .replace("%keyset_condition%", PaginationMapper.getPostgresKeysetCondition(columns, after))
+                .replace("%order_by%", PaginationMapper.getPostgresOrderBy(columns));
+    }
+
+    private static List<PaginationMapper.KeysetColumn> sortColumns(UserRewardView.SortBy sortBy,
+                                                                   final SortDirection sortDirection) {
         sortBy = isNull(sortBy) ? UserRewardView.SortBy.requestedAt : sortBy;
-        final String sort = switch (sortBy) {
-            case amount -> "dollars_equivalent " + sortDirection.name() + ", requested_at desc";
-            case contribution -> "contribution_count " + sortDirection.name() + ", requested_at desc";
-            case status -> "status " + sortDirection.name() + ", requested_at desc";
-            default -> "requested_at " + sortDirection.name();
+        final var requestedAt = new PaginationMapper.KeysetColumn("requestedAt",
+                "date_trunc('milliseconds', requested_at)", "timestamp", SortDirection.desc);
+        final var id = new PaginationMapper.KeysetColumn("id", "id", "uuid", SortDirection.desc);
+        return switch (sortBy) {
+            case amount -> List.of(new PaginationMapper.KeysetColumn("dollarsEquivalent", "dollars_equivalent",
+                    "numeric", sortDirection), requestedAt, id);
+            case contribution -> List.of(new PaginationMapper.KeysetColumn("contributionCount", "contribution_count",
+                    "bigint", sortDirection), requestedAt, id);
+            case status -> List.of(new PaginationMapper.KeysetColumn("status", "status", "text", sortDirection),
+                    requestedAt, id);
+            default -> List.of(new PaginationMapper.KeysetColumn("requestedAt",
+                            "date_trunc('milliseconds', requested_at)", "timestamp", sortDirection),
+                    new PaginationMapper.KeysetColumn("id", "id", "uuid", sortDirection));
         };
-        return FIND_USER_REWARDS_BY_ID.replace("%order_by%", sort);
     }
 
-
     private static final String FIND_USER_REWARD_TOTAL_AMOUNTS_BY_USER_ID = """
             select row_number() over (order by pr.currency) id,
                    pr.currency,
@@ -398,7 +424,6 @@ public class CustomUserRewardRepository {
                           on pr.recipient_id = u.github_user_id and u.id = :userId
             group by pr.currency""";
 
-
     public List<UserRewardTotalAmountEntity> getTotalAmountEntities(UUID userId) {
         return entityManager.createNativeQuery(FIND_USER_REWARD_TOTAL_AMOUNTS_BY_USER_ID,
                         UserRewardTotalAmountEntity.class)
@@ -3,6 +3,10 @@ package onlydust.com.marketplace.api.postgres.adapter.repository;
 import onlydust.com.marketplace.api.domain.model.notification.Event;
 import onlydust.com.marketplace.api.postgres.adapter.OutboxRepository;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.IndexerEventEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
 
 public interface IndexerEventRepository extends OutboxRepository<IndexerEventEntity> {
 
@@ -11,4 +15,13 @@ public interface IndexerEventRepository extends OutboxRepository<IndexerEventEnt
         save(new IndexerEventEntity(event));
     }
 
+    @Override
+    @Modifying
+    @Query(value = "NOTIFY indexer_outbox_events", nativeQuery = true)
+    void notifyListeners();
+
+    @Override
+    @Query(value = "SELECT archive_processed_outbox_events('indexer_outbox_events', cast(:processedBefore as timestamp))",
+            nativeQuery = true)
+    Integer archiveProcessedEvents(Instant processedBefore);
 }
@@ -3,6 +3,10 @@ package onlydust.com.marketplace.api.postgres.adapter.repository;
 import onlydust.com.marketplace.api.domain.model.notification.Event;
 import onlydust.com.marketplace.api.postgres.adapter.OutboxRepository;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.NotificationEventEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
 
 public interface NotificationEventRepository extends OutboxRepository<NotificationEventEntity> {
 
@@ -11,4 +15,13 @@ public interface NotificationEventRepository extends OutboxRepository<Notificati
         save(new NotificationEventEntity(event));
     }
 
+    @Override
+    @Modifying
+    @Query(value = "NOTIFY notification_outbox_events", nativeQuery = true)
+    void notifyListeners();
+
+    @Override
+    @Query(value = "SELECT archive_processed_outbox_events('notification_outbox_events', cast(:processedBefore as timestamp))",
+            nativeQuery = true)
+    Integer archiveProcessedEvents(Instant processedBefore);
 }
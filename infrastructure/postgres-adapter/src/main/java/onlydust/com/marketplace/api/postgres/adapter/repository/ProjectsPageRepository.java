@@ -10,19 +10,54 @@ import java.util.UUID;
 
 public interface ProjectsPageRepository extends JpaRepository<ProjectPageItemViewEntity, UUID> {
 
+    /**
+     * Returns the requested page of projects. Each row also holds the total number of projects matching the filters
+     * and the technologies and sponsors available among them, so that the whole page is read in a single round trip.
+     * When the position of the last item of the previous page is given, the page starts right after it instead of at
+     * the given offset.
+     */
     @Query(value = """
-            select p.project_id,
-                   p.hiring,
-                   p.logo_url,
-                   p.key,
-                   p.name,
-                   p.short_description,
-                   p.visibility,
-                   r_count.repo_count  as repo_count,
-                   coalesce(pc_count.contributors_count,0)                as contributors_count,
-                   (select count(pl_count.user_id)
-                    from project_leads pl_count
-                    where pl_count.project_id = p.project_id) as project_lead_count,
+            with filtered as (select p.project_id,
+                                     p.hiring,
+                                     p.logo_url,
+                                     p.key,
+                                     p.name,
+                                     p.short_description,
+                                     p.visibility,
+                                     pc.rank,
+                                     pc.repo_count,
+                                     pc.contributors_count,
+                                     pc.project_lead_count,
+                                     pc.technologies,
+                                     pc.sponsors,
+                                     cast(coalesce(word_similarity(cast(:search as text), p.name) * 2 +
+                                                   word_similarity(cast(:search as text), pc.search_document), 0)
+                                         as double precision) as relevance
+                              from project_details p
+                                       join project_catalog pc on pc.project_id = p.project_id
+                              where pc.repo_count > 0
+                                and p.visibility = 'PUBLIC'
+                                and (coalesce(:technologies) is null or pc.technology_names && cast(cast(:technologies as text) as text[]))
+                                and (coalesce(:sponsorIds) is null or pc.sponsor_ids && cast(cast(:sponsorIds as text) as uuid[]))
+                                and (coalesce(:search) is null or pc.search_document ilike '%' || cast(:search as text) || '%')),
+                 facets as (select (select count(*) from filtered)                               as total_count,
+                                   (select jsonb_agg(distinct technology_name)
+                                    from filtered f,
+                                         jsonb_array_elements(f.technologies) technology,
+                                         jsonb_object_keys(technology) technology_name)              as technologies_facet,
+                                   (select jsonb_agg(distinct sponsor)
+                                    from filtered f,
+                                         jsonb_array_elements(f.sponsors) sponsor)                    as sponsors_facet)
+            select f.project_id,
+                   f.hiring,
+                   f.logo_url,
+                   f.key,
+                   f.name,
+                   f.short_description,
+                   f.visibility,
+                   f.repo_count                               as repo_count,
+                   f.contributors_count                       as contributors_count,
+                   f.project_lead_count                       as project_lead_count,
                    false                                      as   is_pending_project_lead,
                    false                                      as   is_missing_github_app_installation,
                    (select json_agg(jsonb_build_object(
@@ -35,63 +70,126 @@ public interface ProjectsPageRepository extends JpaRepository<ProjectPageItemVie
                     from project_leads pl
                          left join iam.users u on u.id = pl.user_id
                          left join indexer_exp.github_accounts ga on ga.id = u.github_user_id
-                    where pl.project_id = p.project_id
+                    where pl.project_id = f.project_id
                     group by pl.project_id)                   as   project_leads,
-                   t.technologies as  technologies,
-                   s.sponsor_json                                 sponsors
-            from project_details p
-                left join ((select pt.project_id, jsonb_agg(jsonb_build_object(pt.technology, pt.line_count)) technologies
-                            from project_technologies pt
-                            group by pt.project_id)) as t on t.project_id = p.project_id
-                left join (select ps.project_id,
-                                           jsonb_agg(jsonb_build_object(
-                                                   'url', sponsor.url,
-                                                   'logoUrl', sponsor.logo_url,
-                                                   'id', sponsor.id,
-                                                   'name', sponsor.name
-                                           )) sponsor_json
-                                    from sponsors sponsor
-                                             join public.projects_sponsors ps on ps.sponsor_id = sponsor.id
-                                    group by ps.project_id) s on s.project_id = p.project_id
-                left join (select pgr_count.project_id, count(github_repo_id) repo_count
-                                from project_github_repos pgr_count
-                                join indexer_exp.github_repos gr on gr.id = pgr_count.github_repo_id
-                                where gr.visibility = 'PUBLIC'
-                                group by pgr_count.project_id) r_count on r_count.project_id = p.project_id
-                left join (select pc_count.project_id, count(pc_count.github_user_id) as contributors_count
-                                    from public.projects_contributors pc_count
-                                    group by pc_count.project_id) pc_count on pc_count.project_id = p.project_id
-            where r_count.repo_count > 0
-              and p.visibility = 'PUBLIC'
-              and (coalesce(:technologiesJsonPath) is null or jsonb_path_exists(technologies, cast(cast(:technologiesJsonPath as text) as jsonpath )))
-              and (coalesce(:sponsorsJsonPath) is null or jsonb_path_exists(s.sponsor_json, cast(cast(:sponsorsJsonPath as text) as jsonpath )))
-              and (coalesce(:search) is null or p.name ilike '%' || cast(:search as text) ||'%' or p.short_description ilike '%' || cast(:search as text) ||'%')
+                   f.technologies                             as technologies,
+                   f.sponsors                                 as sponsors,
+                   f.rank                                     as rank,
+                   f.relevance                                as relevance,
+                   facets.total_count                         as total_count,
+                   facets.technologies_facet                  as technologies_facet,
+                   facets.sponsors_facet                      as sponsors_facet
+            from filtered f
+                cross join facets
+              where cast(:afterProjectId as text) is null
+                 or case
+                        when cast(:orderBy as text) = 'NAME'
+                            then (upper(f.name), f.project_id) >
+                                 (upper(cast(:afterName as text)), cast(cast(:afterProjectId as text) as uuid))
+                        when cast(:orderBy as text) = 'REPOS_COUNT'
+                            then (-f.repo_count, upper(f.name), f.project_id) >
+                                 (-cast(cast(:afterRepoCount as text) as integer), upper(cast(:afterName as text)),
+                                  cast(cast(:afterProjectId as text) as uuid))
+                        when cast(:orderBy as text) = 'CONTRIBUTORS_COUNT'
+                            then (-f.contributors_count, upper(f.name), f.project_id) >
+                                 (-cast(cast(:afterContributorsCount as text) as integer), upper(cast(:afterName as text)),
+                                  cast(cast(:afterProjectId as text) as uuid))
+                        when cast(:orderBy as text) = 'RANK'
+                            then (-f.rank, upper(f.name), f.project_id) >
+                                 (-cast(cast(:afterRank as text) as integer), upper(cast(:afterName as text)),
+                                  cast(cast(:afterProjectId as text) as uuid))
+                        when cast(:orderBy as text) = 'RELEVANCE'
+                            then (-f.relevance, -f.rank, upper(f.name), f.project_id) >
+                                 (-cast(cast(:afterRelevance as text) as double precision),
+                                  -cast(cast(:afterRank as text) as integer), upper(cast(:afterName as text)),
+                                  cast(cast(:afterProjectId as text) as uuid))
+                    end
               order by case
-                           when cast(:orderBy as text) = 'NAME' then (upper(p.name), 0)
-                           when cast(:orderBy as text) = 'REPOS_COUNT' then (-r_count.repo_count, upper(p.name))
-                           when cast(:orderBy as text) = 'CONTRIBUTORS_COUNT' then (-pc_count.contributors_count, upper(p.name))
-                           when cast(:orderBy as text) = 'RANK' then (-p.rank, upper(p.name))
+                           when cast(:orderBy as text) = 'NAME' then (upper(f.name), f.project_id)
+                           when cast(:orderBy as text) = 'REPOS_COUNT' then (-f.repo_count, upper(f.name), f.project_id)
+                           when cast(:orderBy as text) = 'CONTRIBUTORS_COUNT' then (-f.contributors_count, upper(f.name), f.project_id)
+                           when cast(:orderBy as text) = 'RANK' then (-f.rank, upper(f.name), f.project_id)
+                           when cast(:orderBy as text) = 'RELEVANCE' then (-f.relevance, -f.rank, upper(f.name), f.project_id)
                        end
               offset :offset limit :limit
               """, nativeQuery = true)
-    List<ProjectPageItemViewEntity> findProjectsForAnonymousUser(@Param("technologiesJsonPath") String technologiesJsonPath,
-                                                                 @Param("sponsorsJsonPath") String sponsorsJsonPath,
-                                                                 @Param("search") String search,
-                                                                 @Param("orderBy") String orderBy,
-                                                                 @Param("offset") int offset,
-                                                                 @Param("limit") int limit);
+    List<ProjectPageItemViewEntity> findProjectsPageForAnonymousUser(@Param("technologies") String technologies,
+                                                                     @Param("sponsorIds") String sponsorIds,
+                                                                     @Param("search") String search,
+                                                                     @Param("orderBy") String orderBy,
+                                                                     @Param("afterProjectId") String afterProjectId,
+                                                                     @Param("afterName") String afterName,
+                                                                     @Param("afterRepoCount") String afterRepoCount,
+                                                                     @Param("afterContributorsCount") String afterContributorsCount,
+                                                                     @Param("afterRank") String afterRank,
+                                                                     @Param("afterRelevance") String afterRelevance,
+                                                                     @Param("offset") int offset,
+                                                                     @Param("limit") int limit);
 
+    /**
+     * Same as {@link #findProjectsPageForAnonymousUser}, including the private projects visible to the given user.
+     */
     @Query(value = """
-            select p.project_id,
-                   p.hiring,
-                   p.logo_url,
-                   p.key,
-                   p.name,
-                   p.short_description,
-                   p.visibility,
-                   r_count.repo_count                         as repo_count,
-                   coalesce(pc_count.contributors_count, 0)   as contributors_count,
-                   pl_count.project_lead_count as project_lead_count,
+            with filtered as (select p.project_id,
+                                     p.hiring,
+                                     p.logo_url,
+                                     p.key,
+                                     p.name,
+                                     p.short_description,
+                                     p.visibility,
+                                     pc.rank,
+                                     pc.repo_count,
+                                     pc.contributors_count,
+                                     pc.project_lead_count,
+                                     pc.technologies,
+                                     pc.sponsors,
+                                     cast(coalesce(word_similarity(cast(:search as text), p.name) * 2 +
+                                                   word_similarity(cast(:search as text), pc.search_document), 0)
+                                         as double precision) as relevance,
+                                     coalesce(is_pending_pl.is_p_pl, false) as is_pending_project_lead
+                              from project_details p
+                                       join project_catalog pc on pc.project_id = p.project_id
+                                       left join (select pl_me.project_id, case count(*) when 0 then false else true end is_lead
+                                                  from project_leads pl_me
+                                                  where pl_me.user_id = :userId
+                                                  group by pl_me.project_id) is_me_lead on is_me_lead.project_id = p.project_id
+                                       left join (select ppc.project_id, case count(*) when 0 then false else true end is_p_c
+                                                  from projects_pending_contributors ppc
+                                                           left join iam.users me on me.github_user_id = ppc.github_user_id
+                                                  where me.id = :userId
+                                                  group by ppc.project_id) is_pending_contributor on is_pending_contributor.project_id = p.project_id
+                                       left join (select ppli.project_id, case count(*) when 0 then false else true end is_p_pl
+                                                  from pending_project_leader_invitations ppli
+                                                           left join iam.users me on me.github_user_id = ppli.github_user_id
+                                                  where me.id = :userId
+                                                  group by ppli.project_id) is_pending_pl on is_pending_pl.project_id = p.project_id
+                              where pc.repo_count > 0
+                                and (p.visibility = 'PUBLIC'
+                                  or (p.visibility = 'PRIVATE' and (pc.project_lead_count > 0 or coalesce(is_pending_pl.is_p_pl, false))
+                                      and (coalesce(is_pending_pl.is_p_pl, false) or
+                                           coalesce(is_me_lead.is_lead, false) or coalesce(is_pending_contributor.is_p_c, false))))
+                                and (coalesce(:technologies) is null or pc.technology_names && cast(cast(:technologies as text) as text[]))
+                                and (coalesce(:sponsorIds) is null or pc.sponsor_ids && cast(cast(:sponsorIds as text) as uuid[]))
+                                and (coalesce(:search) is null or pc.search_document ilike '%' || cast(:search as text) || '%')
+                                and (coalesce(:mine) is null or case when :mine is true then (coalesce(is_me_lead.is_lead, false) or coalesce(is_pending_pl.is_p_pl, false)) else true end)),
+                 facets as (select (select count(*) from filtered)                               as total_count,
+                                   (select jsonb_agg(distinct technology_name)
+                                    from filtered f,
+                                         jsonb_array_elements(f.technologies) technology,
+                                         jsonb_object_keys(technology) technology_name)              as technologies_facet,
+                                   (select jsonb_agg(distinct sponsor)
+                                    from filtered f,
+                                         jsonb_array_elements(f.sponsors) sponsor)                    as sponsors_facet)
+            select f.project_id,
+                   f.hiring,
+                   f.logo_url,
+                   f.key,
+                   f.name,
+                   f.short_description,
+                   f.visibility,
+                   f.repo_count                                 as repo_count,
+                   f.contributors_count                         as contributors_count,
+                   f.project_lead_count                         as project_lead_count,
                    (select json_agg(jsonb_build_object(
                            'id', pl.user_id,
                            'githubId', u.github_user_id,
@@ -102,138 +200,95 @@ public interface ProjectsPageRepository extends JpaRepository<ProjectPageItemVie
                     from project_leads pl
                              join iam.users u on u.id = pl.user_id
                              left join indexer_exp.github_accounts ga on ga.id = u.github_user_id
-                    where pl.project_id = p.project_id
+                    where pl.project_id = f.project_id
                     group by pl.project_id)                     as project_leads,
-                   t.technologies                               as technologies,
-                   s.sponsor_json                               as sponsors,
-                   coalesce(is_pending_pl.is_p_pl, false)       as is_pending_project_lead,
+                   f.technologies                               as technologies,
+                   f.sponsors                                   as sponsors,
+                   f.is_pending_project_lead                    as is_pending_project_lead,
                    (select count(pgr.github_repo_id) > count(agr.repo_id)
                            from project_github_repos pgr
                                     join indexer_exp.github_repos gr2 on gr2.id = pgr.github_repo_id
                                     left join indexer_exp.authorized_github_repos agr on agr.repo_id = pgr.github_repo_id
-                           where pgr.project_id = p.project_id and gr2.visibility = 'PUBLIC')        as is_missing_github_app_installation
-            from project_details p
-                     left join ((select pt.project_id, jsonb_agg(jsonb_build_object(pt.technology, pt.line_count)) technologies
-                                 from project_technologies pt
-                                 group by pt.project_id)) as t on t.project_id = p.project_id
-                     left join (select ps.project_id,
-                                       jsonb_agg(jsonb_build_object(
-                                               'url', sponsor.url,
-                                               'logoUrl', sponsor.logo_url,
-                                               'id', sponsor.id,
-                                               'name', sponsor.name
-                                       )) sponsor_json
-                                from sponsors sponsor
-                                join public.projects_sponsors ps on ps.sponsor_id = sponsor.id
-                                group by ps.project_id) s on s.project_id = p.project_id
-                     left join (select pgr_count.project_id, count(github_repo_id) repo_count
-                                from project_github_repos pgr_count
-                                join indexer_exp.github_repos gr3 on gr3.id = pgr_count.github_repo_id
-                                where gr3.visibility ='PUBLIC'
-                                group by pgr_count.project_id) r_count on r_count.project_id = p.project_id
-                     left join (select pc_count.project_id, count(pc_count.github_user_id) as contributors_count
-                                from public.projects_contributors pc_count
-                                group by pc_count.project_id) pc_count on pc_count.project_id = p.project_id
-                     left join (select pl_me.project_id, case count(*) when 0 then false else true end is_lead
-                                from project_leads pl_me
-                                where pl_me.user_id = :userId
-                                group by pl_me.project_id) is_me_lead on is_me_lead.project_id = p.project_id
-                     left join (select ppc.project_id, case count(*) when 0 then false else true end is_p_c
-                                from projects_pending_contributors ppc
-                                         left join iam.users me on me.github_user_id = ppc.github_user_id
-                                where me.id = :userId
-                                group by ppc.project_id) is_pending_contributor on is_pending_contributor.project_id = p.project_id
-                     left join (select ppli.project_id, case count(*) when 0 then false else true end is_p_pl
-                                from pending_project_leader_invitations ppli
-                                         left join iam.users me on me.github_user_id = ppli.github_user_id
-                                where me.id = :userId
-                                group by ppli.project_id) is_pending_pl on is_pending_pl.project_id = p.project_id
-                     left join (select pl_count.project_id, count(pl_count.user_id) project_lead_count
-                                from project_leads pl_count
-                                group by pl_count.project_id) pl_count on pl_count.project_id = p.project_id
-            where r_count.repo_count > 0
-              and (p.visibility = 'PUBLIC'
-                or (p.visibility = 'PRIVATE' and (pl_count.project_lead_count > 0 or coalesce(is_pending_pl.is_p_pl, false))
-                    and (coalesce(is_pending_pl.is_p_pl, false) or
-                         coalesce(is_me_lead.is_lead, false) or coalesce(is_pending_contributor.is_p_c, false))))
-              and (coalesce(:technologiesJsonPath) is null or
-                   jsonb_path_exists(technologies, cast(cast(:technologiesJsonPath as text) as jsonpath)))
-              and (coalesce(:sponsorsJsonPath) is null or
-                   jsonb_path_exists(s.sponsor_json, cast(cast(:sponsorsJsonPath as text) as jsonpath)))
-              and (coalesce(:search) is null or p.name ilike '%' || cast(:search as text) || '%' or
-                   p.short_description ilike '%' || cast(:search as text) || '%')
-              and (coalesce(:mine) is null or case when :mine is true then (coalesce(is_me_lead.is_lead, false) or coalesce(is_pending_pl.is_p_pl, false)) else true end)
+                           where pgr.project_id = f.project_id and gr2.visibility = 'PUBLIC')        as is_missing_github_app_installation,
+                   f.rank                                       as rank,
+                   f.relevance                                  as relevance,
+                   facets.total_count                           as total_count,
+                   facets.technologies_facet                    as technologies_facet,
+                   facets.sponsors_facet                        as sponsors_facet
+            from filtered f
+                     cross join facets
+            where cast(:afterProjectId as text) is null
+               or case
+                      when cast(:orderBy as text) = 'NAME'
+                          then (not f.is_pending_project_lead, upper(f.name), f.project_id) >
+                               (not cast(cast(:afterIsPendingProjectLead as text) as boolean),
+                                upper(cast(:afterName as text)), cast(cast(:afterProjectId as text) as uuid))
+                      when cast(:orderBy as text) = 'REPOS_COUNT'
+                          then (not f.is_pending_project_lead, -f.repo_count, upper(f.name), f.project_id) >
+                               (not cast(cast(:afterIsPendingProjectLead as text) as boolean),
+                                -cast(cast(:afterRepoCount as text) as integer), upper(cast(:afterName as text)),
+                                cast(cast(:afterProjectId as text) as uuid))
+                      when cast(:orderBy as text) = 'CONTRIBUTORS_COUNT'
+                          then (not f.is_pending_project_lead, -f.contributors_count, upper(f.name), f.project_id) >
+                               (not cast(cast(:afterIsPendingProjectLead as text) as boolean),
+                                -cast(cast(:afterContributorsCount as text) as integer), upper(cast(:afterName as text)),
+                                cast(cast(:afterProjectId as text) as uuid))
+                      when cast(:orderBy as text) = 'RANK'
+                          then (not f.is_pending_project_lead, -f.rank, upper(f.name), f.project_id) >
+                               (not cast(cast(:afterIsPendingProjectLead as text) as boolean),
+                                -cast(cast(:afterRank as text) as integer), upper(cast(:afterName as text)),
+                                cast(cast(:afterProjectId as text) as uuid))
+                      when cast(:orderBy as text) = 'RELEVANCE'
+                          then (not f.is_pending_project_lead, -f.relevance, -f.rank, upper(f.name), f.project_id) >
+                               (not cast(cast(:afterIsPendingProjectLead as text) as boolean),
+                                -cast(cast(:afterRelevance as text) as double precision),
+                                -cast(cast(:afterRank as text) as integer), upper(cast(:afterName as text)),
+                                cast(cast(:afterProjectId as text) as uuid))
+                  end
             order by case
-                         when cast(:orderBy as text) = 'NAME' then (not coalesce(is_pending_pl.is_p_pl, false), upper(p.name), 0)
-                         when cast(:orderBy as text) = 'REPOS_COUNT' then (not coalesce(is_pending_pl.is_p_pl, false),-r_count.repo_count,upper(p.name))
-                         when cast(:orderBy as text) = 'CONTRIBUTORS_COUNT' then (not coalesce(is_pending_pl.is_p_pl, false), -pc_count.contributors_count, upper(p.name))
-                         when cast(:orderBy as text) = 'RANK' then (not coalesce(is_pending_pl.is_p_pl, false), -p.rank, upper(p.name))
+                         when cast(:orderBy as text) = 'NAME' then (not f.is_pending_project_lead, upper(f.name), f.project_id)
+                         when cast(:orderBy as text) = 'REPOS_COUNT' then (not f.is_pending_project_lead, -f.repo_count, upper(f.name), f.project_id)
+                         when cast(:orderBy as text) = 'CONTRIBUTORS_COUNT' then (not f.is_pending_project_lead, -f.contributors_count, upper(f.name), f.project_id)
+                         when cast(:orderBy as text) = 'RANK' then (not f.is_pending_project_lead, -f.rank, upper(f.name), f.project_id)
+                         when cast(:orderBy as text) = 'RELEVANCE' then (not f.is_pending_project_lead, -f.relevance, -f.rank, upper(f.name), f.project_id)
                      end
                      offset :offset limit :limit
                      """, nativeQuery = true)
-    List<ProjectPageItemViewEntity> findProjectsForUserId(@Param("userId") UUID userId,
-                                                          @Param("mine") Boolean mine,
-                                                          @Param("technologiesJsonPath") String technologiesJsonPath,
-                                                          @Param("sponsorsJsonPath") String sponsorsJsonPath,
-                                                          @Param("search") String search,
-                                                          @Param("orderBy") String orderBy,
-                                                          @Param("offset") int offset,
-                                                          @Param("limit") int limit);
+    List<ProjectPageItemViewEntity> findProjectsPageForUserId(@Param("userId") UUID userId,
+                                                              @Param("mine") Boolean mine,
+                                                              @Param("technologies") String technologies,
+                                                              @Param("sponsorIds") String sponsorIds,
+                                                              @Param("search") String search,
+                                                              @Param("orderBy") String orderBy,
+                                                              @Param("afterProjectId") String afterProjectId,
+                                                              @Param("afterIsPendingProjectLead") String afterIsPendingProjectLead,
+                                                              @Param("afterName") String afterName,
+                                                              @Param("afterRepoCount") String afterRepoCount,
+                                                              @Param("afterContributorsCount") String afterContributorsCount,
+                                                              @Param("afterRank") String afterRank,
+                                                              @Param("afterRelevance") String afterRelevance,
+                                                              @Param("offset") int offset,
+                                                              @Param("limit") int limit);
 
     @Query(value = """
-                        select count(p.project_id)
-                        from project_details p
-                        left join ((select pt.project_id, jsonb_agg(jsonb_build_object(pt.technology, pt.line_count)) technologies
-                                    from project_technologies pt
-                                    group by pt.project_id)) as t on t.project_id = p.project_id
-                        left join (select ps.project_id,
-                                                   jsonb_agg(jsonb_build_object(
-                                                           'url', sponsor.url,
-                                                           'logoUrl', sponsor.logo_url,
-                                                           'id', sponsor.id,
-                                                           'name', sponsor.name
-                                                   )) sponsor_json
-                                            from sponsors sponsor
-                                                     join public.projects_sponsors ps on ps.sponsor_id = sponsor.id
-                                            group by ps.project_id) s on s.project_id = p.project_id
-                        where (select count(github_repo_id)
-                                           from project_github_repos pgr_count
-                                           join indexer_exp.github_repos gr2 on gr2.id = pgr_count.github_repo_id
-                                           where pgr_count.project_id = p.project_id and gr2.visibility = 'PUBLIC') > 0
-                                       and p.visibility = 'PUBLIC'
-                                       and (coalesce(:technologiesJsonPath) is null or jsonb_path_exists(technologies, cast(cast(:technologiesJsonPath as text) as jsonpath )))
-                                       and (coalesce(:sponsorsJsonPath) is null or jsonb_path_exists(s.sponsor_json, cast(cast(:sponsorsJsonPath as text) as jsonpath )))
-                                       and (coalesce(:search) is null or p.name ilike '%' || cast(:search as text) ||'%' or p.short_description ilike '%' || cast(:search as text) ||'%')
+            select count(p.project_id)
+            from project_details p
+                join project_catalog pc on pc.project_id = p.project_id
+            where pc.repo_count > 0
+              and p.visibility = 'PUBLIC'
+              and (coalesce(:technologies) is null or pc.technology_names && cast(cast(:technologies as text) as text[]))
+              and (coalesce(:sponsorIds) is null or pc.sponsor_ids && cast(cast(:sponsorIds as text) as uuid[]))
+              and (coalesce(:search) is null or pc.search_document ilike '%' || cast(:search as text) || '%')
             """
             , nativeQuery = true)
-    Long countProjectsForAnonymousUser(@Param("technologiesJsonPath") String technologiesJsonPath,
-                                       @Param("sponsorsJsonPath") String sponsorsJsonPath,
+    Long countProjectsForAnonymousUser(@Param("technologies") String technologies,
+                                       @Param("sponsorIds") String sponsorIds,
                                        @Param("search") String search);
 
     @Query(value = """
             select count(p.project_id)
             from project_details p
-                     left join ((select pt.project_id, jsonb_agg(jsonb_build_object(pt.technology, pt.line_count)) technologies
-                                 from project_technologies pt
-                                 group by pt.project_id)) as t on t.project_id = p.project_id
-                     left join (select ps.project_id,
-                                       jsonb_agg(jsonb_build_object(
-                                               'url', sponsor.url,
-                                               'logoUrl', sponsor.logo_url,
-                                               'id', sponsor.id,
-                                               'name', sponsor.name
-                                       )) sponsor_json
-                                from sponsors sponsor
-                                join public.projects_sponsors ps on ps.sponsor_id = sponsor.id
-                                group by ps.project_id) s on s.project_id = p.project_id
-                     left join (select pgr_count.project_id, count(github_repo_id) repo_count
-                                from project_github_repos pgr_count
-                                join indexer_exp.github_repos gr2 on gr2.id = pgr_count.github_repo_id
-                                where gr2.visibility = 'PUBLIC'
-                                group by pgr_count.project_id) r_count on r_count.project_id = p.project_id
-                     left join (select pc_count.project_id, count(pc_count.github_user_id) as contributors_count
-                                from public.projects_contributors pc_count
-                                group by pc_count.project_id) pc_count on pc_count.project_id = p.project_id
+                     join project_catalog pc on pc.project_id = p.project_id
                      left join (select pl_me.project_id, case count(*) when 0 then false else true end is_lead
                                 from project_leads pl_me
                                 where pl_me.user_id = :userId
@@ -248,25 +303,19 @@ public interface ProjectsPageRepository extends JpaRepository<ProjectPageItemVie
                                          left join iam.users me on me.github_user_id = ppli.github_user_id
                                 where me.id = :userId
                                 group by ppli.project_id) is_pending_pl on is_pending_pl.project_id = p.project_id
-                     left join (select pl_count.project_id, count(pl_count.user_id) project_lead_count
-                                from project_leads pl_count
-                                group by pl_count.project_id) pl_count on pl_count.project_id = p.project_id
-            where r_count.repo_count > 0
+            where pc.repo_count > 0
               and (p.visibility = 'PUBLIC'
-                or (p.visibility = 'PRIVATE' and (pl_count.project_lead_count > 0 or coalesce(is_pending_pl.is_p_pl, false))
+                or (p.visibility = 'PRIVATE' and (pc.project_lead_count > 0 or coalesce(is_pending_pl.is_p_pl, false))
                     and (coalesce(is_pending_pl.is_p_pl, false) or
                          coalesce(is_me_lead.is_lead, false) or coalesce(is_pending_contributor.is_p_c, false))))
-              and (coalesce(:technologiesJsonPath) is null or
-                   jsonb_path_exists(technologies, cast(cast(:technologiesJsonPath as text) as jsonpath)))
-              and (coalesce(:sponsorsJsonPath) is null or
-                   jsonb_path_exists(s.sponsor_json, cast(cast(:sponsorsJsonPath as text) as jsonpath)))
-              and (coalesce(:search) is null or p.name ilike '%' || cast(:search as text) || '%' or
-                   p.short_description ilike '%' || cast(:search as text) || '%')
+              and (coalesce(:technologies) is null or pc.technology_names && cast(cast(:technologies as text) as text[]))
+              and (coalesce(:sponsorIds) is null or pc.sponsor_ids && cast(cast(:sponsorIds as text) as uuid[]))
+              and (coalesce(:search) is null or pc.search_document ilike '%' || cast(:search as text) || '%')
               and (coalesce(:mine) is null or case when :mine is true then (coalesce(is_me_lead.is_lead, false) or coalesce(is_pending_pl.is_p_pl, false)) else true end)
             """, nativeQuery = true)
     Long countProjectsForUserId(@Param("userId") UUID userId,
                                 @Param("mine") Boolean mine,
-                                @Param("technologiesJsonPath") String technologiesJsonPath,
-                                @Param("sponsorsJsonPath") String sponsorsJsonPath,
+                                @Param("technologies") String technologies,
+                                @Param("sponsorIds") String sponsorIds,
                                 @Param("search") String search);
 }
@@ -14,9 +14,7 @@ public interface RewardStatsRepository extends JpaRepository<RewardStatsEntity,
             SELECT 
                 pr.currency,
                 COALESCE(SUM(pr.amount) FILTER ( WHERE COALESCE(p.total_paid, 0) >= pr.amount ), 0) AS processed_amount,
-                COALESCE(SUM(pr.amount) FILTER ( WHERE COALESCE(p.total_paid, 0) >= pr.amount ), 0)  * CASE WHEN pr.currency = 'usd' THEN 1 ELSE cuq.price END AS processed_usd_amount,
                 COALESCE(SUM(pr.amount) FILTER ( WHERE COALESCE(p.total_paid, 0) < pr.amount ), 0) AS pending_amount,
-                COALESCE(SUM(pr.amount) FILTER ( WHERE COALESCE(p.total_paid, 0) < pr.amount ), 0) * CASE WHEN pr.currency = 'usd' THEN 1 ELSE cuq.price END AS pending_usd_amount,
                 JSONB_AGG(pr.id) AS reward_ids,
                 COALESCE(JSONB_AGG(wi.id) FILTER (WHERE wi.id IS NOT NULL), '[]') AS reward_item_ids,
                 JSONB_AGG(pr.project_id) AS project_ids
@@ -28,7 +26,6 @@ public interface RewardStatsRepository extends JpaRepository<RewardStatsEntity,
                 FROM payments p 
                 GROUP BY p.request_id 
             ) p ON p.request_id = pr.id
-            LEFT JOIN crypto_usd_quotes cuq ON cuq.currency = pr.currency
             WHERE 
                 u.id = :userId AND
                 (COALESCE(:currencies) IS NULL OR CAST(pr.currency AS TEXT) IN (:currencies)) AND
@@ -36,7 +33,7 @@ public interface RewardStatsRepository extends JpaRepository<RewardStatsEntity,
                 (:fromDate IS NULL OR pr.requested_at >= to_date(cast(:fromDate AS TEXT), 'YYYY-MM-DD')) AND
                 (:toDate IS NULL OR pr.requested_at < to_date(cast(:toDate AS TEXT), 'YYYY-MM-DD') + 1)
             GROUP BY 
-                pr.currency, cuq.price
+                pr.currency
             """, nativeQuery = true)
     List<RewardStatsEntity> findByUser(UUID userId, List<String> currencies, List<UUID> projectIds, String fromDate,
                                        String toDate);
@@ -3,8 +3,13 @@ package onlydust.com.marketplace.api.postgres.adapter.repository;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<UserEntity, UUID>, JpaSpecificationExecutor<UserEntity> {
+
+    @Query("select u.githubUserId from UserEntity u where u.githubUserId is not null")
+    List<Long> findAllGithubUserIds();
 }
@@ -17,13 +17,9 @@ public interface ProjectBudgetRepository extends JpaRepository<ProjectBudgetEnti
                    b.currency,
                    b.initial_amount,
                    b.remaining_amount,
-                   b.initial_amount - b.remaining_amount                                                             AS spent_amount,
-                   b.initial_amount * CASE WHEN b.currency = 'usd' THEN 1 ELSE cuq.price END                         AS initial_amount_dollars_equivalent,
-                   b.remaining_amount * CASE WHEN b.currency = 'usd' THEN 1 ELSE cuq.price END                       AS remaining_amount_dollars_equivalent,
-                   (b.initial_amount - b.remaining_amount)  * CASE WHEN b.currency = 'usd' THEN 1 ELSE cuq.price END AS spent_amount_dollars_equivalent,
+                   b.initial_amount - b.remaining_amount AS spent_amount,
                    pb.project_id
             FROM budgets b
-                     LEFT JOIN crypto_usd_quotes cuq ON cuq.currency = b.currency
                      JOIN projects_budgets pb ON pb.budget_id = b.id
             WHERE (COALESCE(:projectIds) IS NULL OR pb.project_id in (:projectIds))
             """, nativeQuery = true)
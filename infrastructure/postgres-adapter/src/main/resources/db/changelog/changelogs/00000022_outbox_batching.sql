@@ -0,0 +1,11 @@
+ALTER TABLE notification_outbox_events
+    ADD COLUMN attempts        INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at TIMESTAMP;
+
+ALTER TABLE indexer_outbox_events
+    ADD COLUMN attempts        INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at TIMESTAMP;
+
+-- Events that still fail after the maximum number of attempts are parked, they are kept for inspection but no longer
+-- retried nor counted in the backlog
+ALTER TYPE outbox_event_status ADD VALUE IF NOT EXISTS 'SKIPPED';
@@ -0,0 +1,62 @@
+--liquibase formatted sql
+
+--changeset onlydust:00000023_outbox_unprocessed_indexes runInTransaction:false
+-- Processed and skipped events are final: they are left out of the partial indexes on unprocessed events, so that they
+-- do not bloat them. The indexes are built concurrently, outside of a transaction, so that events keep being written.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS notification_outbox_events_unprocessed_idx
+    ON notification_outbox_events (id)
+    WHERE status <> 'PROCESSED' AND status <> 'SKIPPED';
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS indexer_outbox_events_unprocessed_idx
+    ON indexer_outbox_events (id)
+    WHERE status <> 'PROCESSED' AND status <> 'SKIPPED';
+
+--changeset onlydust:00000023_outbox_archive splitStatements:false
+CREATE TABLE notification_outbox_events_archive
+(
+    LIKE notification_outbox_events
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE indexer_outbox_events_archive
+(
+    LIKE indexer_outbox_events
+) PARTITION BY RANGE (created_at);
+
+CREATE OR REPLACE FUNCTION public.archive_processed_outbox_events(outbox_table TEXT, processed_before TIMESTAMP)
+    RETURNS INTEGER AS
+$$
+DECLARE
+    archive_table    TEXT := outbox_table || '_archive';
+    archived_columns TEXT;
+    partition_month  DATE;
+    archived_count   INTEGER;
+BEGIN
+    -- Every column of the archive table is copied, so that the columns later added to an outbox table and its archive
+    -- table are archived without changing this function
+    SELECT string_agg(quote_ident(a.attname), ', ' ORDER BY a.attnum)
+    INTO archived_columns
+    FROM pg_attribute a
+    WHERE a.attrelid = format('%I', archive_table)::regclass
+      AND a.attnum > 0
+      AND NOT a.attisdropped;
+
+    -- Create the monthly partitions of the archive table that are missing for the events about to be archived
+    FOR partition_month IN EXECUTE format(
+            'SELECT DISTINCT date_trunc(''month'', created_at)::date FROM %I WHERE status IN (''PROCESSED'', ''SKIPPED'') AND updated_at < $1',
+            outbox_table) USING processed_before
+        LOOP
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           archive_table || '_' || to_char(partition_month, 'YYYY_MM'),
+                           archive_table,
+                           partition_month,
+                           (partition_month + INTERVAL '1 month')::date);
+        END LOOP;
+
+    EXECUTE format('WITH archived AS (DELETE FROM %I WHERE status IN (''PROCESSED'', ''SKIPPED'') AND updated_at < $1 RETURNING *) ' ||
+                   'INSERT INTO %I (%s) SELECT %s FROM archived',
+                   outbox_table, archive_table, archived_columns, archived_columns) USING processed_before;
+    GET DIAGNOSTICS archived_count = ROW_COUNT;
+
+    RETURN archived_count;
+END;
+$$ LANGUAGE plpgsql;
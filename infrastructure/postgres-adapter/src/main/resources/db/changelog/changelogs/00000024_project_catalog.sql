@@ -0,0 +1,139 @@
+CREATE TABLE public.project_catalog
+(
+    project_id         UUID PRIMARY KEY,
+    rank               INTEGER   NOT NULL DEFAULT 0,
+    repo_count         INTEGER   NOT NULL DEFAULT 0,
+    contributors_count INTEGER   NOT NULL DEFAULT 0,
+    project_lead_count INTEGER   NOT NULL DEFAULT 0,
+    technologies       JSONB,
+    sponsors           JSONB,
+    updated_at         TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- Recomputes the catalog rows of the given projects, and removes the rows of the projects that no longer exist
+CREATE OR REPLACE FUNCTION public.refresh_project_catalog(refreshed_project_ids UUID[])
+    RETURNS VOID AS
+$$
+BEGIN
+    IF refreshed_project_ids IS NULL OR cardinality(refreshed_project_ids) = 0 THEN
+        RETURN;
+    END IF;
+
+    DELETE
+    FROM project_catalog pc
+    WHERE pc.project_id = ANY (refreshed_project_ids)
+      AND NOT EXISTS (SELECT 1 FROM project_details p WHERE p.project_id = pc.project_id);
+
+    INSERT INTO project_catalog (project_id, rank, repo_count, contributors_count, project_lead_count, technologies,
+                                 sponsors, updated_at)
+    SELECT p.project_id,
+           p.rank,
+           coalesce(r_count.repo_count, 0),
+           coalesce(pc_count.contributors_count, 0),
+           coalesce(pl_count.project_lead_count, 0),
+           t.technologies,
+           s.sponsors,
+           NOW()
+    FROM project_details p
+             LEFT JOIN (SELECT pt.project_id, jsonb_agg(jsonb_build_object(pt.technology, pt.line_count)) technologies
+                        FROM project_technologies pt
+                        WHERE pt.project_id = ANY (refreshed_project_ids)
+                        GROUP BY pt.project_id) t ON t.project_id = p.project_id
+             LEFT JOIN (SELECT ps.project_id,
+                               jsonb_agg(jsonb_build_object(
+                                       'url', sponsor.url,
+                                       'logoUrl', sponsor.logo_url,
+                                       'id', sponsor.id,
+                                       'name', sponsor.name
+                                         )) sponsors
+                        FROM sponsors sponsor
+                                 JOIN projects_sponsors ps ON ps.sponsor_id = sponsor.id
+                        WHERE ps.project_id = ANY (refreshed_project_ids)
+                        GROUP BY ps.project_id) s ON s.project_id = p.project_id
+             LEFT JOIN (SELECT pgr.project_id, count(pgr.github_repo_id) repo_count
+                        FROM project_github_repos pgr
+                                 JOIN indexer_exp.github_repos gr ON gr.id = pgr.github_repo_id
+                        WHERE gr.visibility = 'PUBLIC'
+                          AND pgr.project_id = ANY (refreshed_project_ids)
+                        GROUP BY pgr.project_id) r_count ON r_count.project_id = p.project_id
+             LEFT JOIN (SELECT pc.project_id, count(pc.github_user_id) contributors_count
+                        FROM projects_contributors pc
+                        WHERE pc.project_id = ANY (refreshed_project_ids)
+                        GROUP BY pc.project_id) pc_count ON pc_count.project_id = p.project_id
+             LEFT JOIN (SELECT pl.project_id, count(pl.user_id) project_lead_count
+                        FROM project_leads pl
+                        WHERE pl.project_id = ANY (refreshed_project_ids)
+                        GROUP BY pl.project_id) pl_count ON pl_count.project_id = p.project_id
+    WHERE p.project_id = ANY (refreshed_project_ids)
+    ON CONFLICT (project_id) DO UPDATE SET rank               = excluded.rank,
+                                           repo_count         = excluded.repo_count,
+                                           contributors_count = excluded.contributors_count,
+                                           project_lead_count = excluded.project_lead_count,
+                                           technologies       = excluded.technologies,
+                                           sponsors           = excluded.sponsors,
+                                           updated_at         = excluded.updated_at;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Statement-level trigger refreshing the catalog rows of the projects impacted by the changed rows.
+-- TG_ARGV[0] is the kind of key of the changed table ('project' or 'sponsor') and TG_ARGV[1] its column name.
+-- The tables owned by the indexer have no such trigger, so that indexer writes do not pay for the catalog maintenance:
+-- the catalog rows of the projects of a repo are refreshed when a contribution change event is processed for this
+-- repo, and all rows are periodically reconciled.
+CREATE OR REPLACE FUNCTION public.refresh_project_catalog_on_change()
+    RETURNS TRIGGER AS
+$$
+DECLARE
+    changed_keys         TEXT;
+    impacted_project_ids UUID[];
+BEGIN
+    changed_keys := format('SELECT %I FROM %I', TG_ARGV[1],
+                           CASE WHEN TG_OP = 'DELETE' THEN 'old_rows' ELSE 'new_rows' END);
+
+    EXECUTE CASE TG_ARGV[0]
+                WHEN 'project' THEN format('SELECT array_agg(DISTINCT k) FROM (%s) changed(k)', changed_keys)
+                WHEN 'sponsor' THEN format('SELECT array_agg(DISTINCT ps.project_id) FROM projects_sponsors ps ' ||
+                                           'WHERE ps.sponsor_id IN (%s)', changed_keys)
+        END INTO impacted_project_ids;
+
+    PERFORM refresh_project_catalog(impacted_project_ids);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER project_catalog_on_project_details_insert
+    AFTER INSERT ON public.project_details REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_project_catalog_on_change('project', 'project_id');
+CREATE TRIGGER project_catalog_on_project_details_update
+    AFTER UPDATE ON public.project_details REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_project_catalog_on_change('project', 'project_id');
+CREATE TRIGGER project_catalog_on_project_details_delete
+    AFTER DELETE ON public.project_details REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_project_catalog_on_change('project', 'project_id');
+
+CREATE TRIGGER project_catalog_on_project_github_repos_insert
+    AFTER INSERT ON public.project_github_repos REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_project_catalog_on_change('project', 'project_id');
+CREATE TRIGGER project_catalog_on_project_github_repos_delete
+    AFTER DELETE ON public.project_github_repos REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_project_catalog_on_change('project', 'project_id');
+
+CREATE TRIGGER project_catalog_on_projects_sponsors_insert
+    AFTER INSERT ON public.projects_sponsors REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_project_catalog_on_change('project', 'project_id');
+CREATE TRIGGER project_catalog_on_projects_sponsors_delete
+    AFTER DELETE ON public.projects_sponsors REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_project_catalog_on_change('project', 'project_id');
+
+CREATE TRIGGER project_catalog_on_project_leads_insert
+    AFTER INSERT ON public.project_leads REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_project_catalog_on_change('project', 'project_id');
+CREATE TRIGGER project_catalog_on_project_leads_delete
+    AFTER DELETE ON public.project_leads REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_project_catalog_on_change('project', 'project_id');
+
+CREATE TRIGGER project_catalog_on_sponsors_update
+    AFTER UPDATE ON public.sponsors REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_project_catalog_on_change('sponsor', 'id');
+
+SELECT refresh_project_catalog(array(SELECT project_id FROM project_details));
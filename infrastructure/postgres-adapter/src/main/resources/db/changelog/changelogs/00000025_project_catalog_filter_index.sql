@@ -0,0 +1,25 @@
+-- Technology names (with at least one line of code) of a project_catalog.technologies value
+CREATE OR REPLACE FUNCTION public.project_catalog_technology_names(technologies JSONB)
+    RETURNS TEXT[] AS
+$$
+SELECT coalesce(array_agg(DISTINCT t.key), '{}')
+FROM jsonb_array_elements(coalesce(technologies, '[]')) technology,
+     jsonb_each(technology) t
+WHERE (t.value #>> '{}')::NUMERIC > 0
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Sponsor ids of a project_catalog.sponsors value
+CREATE OR REPLACE FUNCTION public.project_catalog_sponsor_ids(sponsors JSONB)
+    RETURNS UUID[] AS
+$$
+SELECT coalesce(array_agg(DISTINCT (sponsor ->> 'id')::UUID), '{}')
+FROM jsonb_array_elements(coalesce(sponsors, '[]')) sponsor
+WHERE sponsor ->> 'id' IS NOT NULL
+$$ LANGUAGE sql IMMUTABLE;
+
+ALTER TABLE public.project_catalog
+    ADD COLUMN technology_names TEXT[] GENERATED ALWAYS AS (public.project_catalog_technology_names(technologies)) STORED,
+    ADD COLUMN sponsor_ids      UUID[] GENERATED ALWAYS AS (public.project_catalog_sponsor_ids(sponsors)) STORED;
+
+CREATE INDEX project_catalog_technology_names_idx ON public.project_catalog USING GIN (technology_names);
+CREATE INDEX project_catalog_sponsor_ids_idx ON public.project_catalog USING GIN (sponsor_ids);
@@ -0,0 +1,30 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE public.project_catalog
+    ADD COLUMN search_document TEXT NOT NULL DEFAULT '';
+
+-- Keeps the searchable text of a catalog row (name, descriptions and technologies of the project) up to date.
+-- Catalog rows are upserted whenever the project details change, so they are the only source to watch.
+CREATE OR REPLACE FUNCTION public.set_project_catalog_search_document()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    SELECT concat_ws(E'\n', p.name, p.short_description, p.long_description,
+                     array_to_string(project_catalog_technology_names(NEW.technologies), ' '))
+    INTO NEW.search_document
+    FROM project_details p
+    WHERE p.project_id = NEW.project_id;
+
+    NEW.search_document := coalesce(NEW.search_document, '');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER project_catalog_search_document
+    BEFORE INSERT OR UPDATE OF technologies, updated_at ON public.project_catalog
+    FOR EACH ROW EXECUTE FUNCTION set_project_catalog_search_document();
+
+UPDATE public.project_catalog
+SET updated_at = NOW();
+
+CREATE INDEX project_catalog_search_document_idx ON public.project_catalog USING GIN (search_document gin_trgm_ops);
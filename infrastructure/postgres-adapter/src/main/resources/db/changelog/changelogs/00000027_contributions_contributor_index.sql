@@ -0,0 +1,7 @@
+--liquibase formatted sql
+
+--changeset onlydust:00000027_contributions_contributor_index runInTransaction:false
+-- Lets the project details page check whether the caller contributed to the project without reading any contribution.
+-- The index is built concurrently, outside of a transaction, so that the indexer keeps writing contributions meanwhile.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS contributions_contributor_id_repo_id_idx
+    ON indexer_exp.contributions (contributor_id, repo_id);
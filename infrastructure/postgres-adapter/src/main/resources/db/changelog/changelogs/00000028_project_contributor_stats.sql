@@ -0,0 +1,224 @@
+-- Statistics of the contributors of each project, from which the contributors list, count and top contributors of a
+-- project are read, so that each sort key can be served by a (project_id, <sort key>, login) index instead of sorting
+-- an aggregated view. The table holds every contributor of the public repos of the project (as the
+-- projects_pending_contributors view) with their login and completed contribution count, next to the reward recipients
+-- who have no completed contribution (contribution_count = 0) and are not listed.
+CREATE TABLE public.project_contributor_stats
+(
+    project_id             UUID      NOT NULL,
+    github_user_id         BIGINT    NOT NULL,
+    login                  TEXT,
+    contribution_count     BIGINT    NOT NULL DEFAULT 0,
+    reward_count           INTEGER   NOT NULL DEFAULT 0,
+    to_reward_count        INTEGER   NOT NULL DEFAULT 0,
+    prs_to_reward          INTEGER   NOT NULL DEFAULT 0,
+    issues_to_reward       INTEGER   NOT NULL DEFAULT 0,
+    code_reviews_to_reward INTEGER   NOT NULL DEFAULT 0,
+    usd                    NUMERIC,
+    eth                    NUMERIC,
+    stark                  NUMERIC,
+    apt                    NUMERIC,
+    op                     NUMERIC,
+    lords                  NUMERIC,
+    updated_at             TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (project_id, github_user_id)
+);
+
+-- One index per sort key of the contributors list, ending with the login tie-breaker so that a page (and the keyset
+-- condition of the next one) is read in index order. The earned amount depends on the current USD quotes and cannot be
+-- indexed.
+CREATE INDEX project_contributor_stats_login_idx
+    ON public.project_contributor_stats (project_id, login);
+CREATE INDEX project_contributor_stats_contribution_count_login_idx
+    ON public.project_contributor_stats (project_id, contribution_count, login);
+CREATE INDEX project_contributor_stats_reward_count_login_idx
+    ON public.project_contributor_stats (project_id, reward_count, login);
+CREATE INDEX project_contributor_stats_to_reward_count_login_idx
+    ON public.project_contributor_stats (project_id, to_reward_count, login);
+
+-- Recomputes the reward and to-reward statistics of all the contributors of the given projects.
+-- Refreshes of the same project are serialized by a transaction-level advisory lock (taken in project id order to
+-- avoid deadlocks), and rows are upserted, so that concurrent refreshes never fail on the primary key.
+CREATE OR REPLACE FUNCTION public.refresh_project_contributor_stats(refreshed_project_ids UUID[])
+    RETURNS INTEGER AS
+$$
+DECLARE
+    refreshed_count INTEGER;
+BEGIN
+    IF refreshed_project_ids IS NULL OR cardinality(refreshed_project_ids) = 0 THEN
+        RETURN 0;
+    END IF;
+
+    PERFORM pg_advisory_xact_lock(hashtext(locked.project_id::TEXT))
+    FROM (SELECT DISTINCT unnest(refreshed_project_ids) project_id ORDER BY 1) locked;
+
+    CREATE TEMPORARY TABLE IF NOT EXISTS refreshed_project_contributor_stats
+    (
+        LIKE project_contributor_stats
+    ) ON COMMIT DROP;
+    TRUNCATE refreshed_project_contributor_stats;
+
+    WITH contributors AS (SELECT pgr.project_id,
+                                 rc.contributor_id,
+                                 sum(rc.completed_contribution_count) contribution_count
+                          FROM indexer_exp.repos_contributors rc
+                                   JOIN project_github_repos pgr ON pgr.github_repo_id = rc.repo_id
+                                   JOIN indexer_exp.github_repos gr ON gr.id = pgr.github_repo_id AND gr.visibility = 'PUBLIC'
+                          WHERE pgr.project_id = ANY (refreshed_project_ids)
+                          GROUP BY pgr.project_id, rc.contributor_id),
+         rewards AS (SELECT pr.project_id,
+                            pr.recipient_id,
+                            count(DISTINCT pr.id)                                reward_count,
+                            sum(pr.amount) FILTER (WHERE pr.currency = 'usd')   usd,
+                            sum(pr.amount) FILTER (WHERE pr.currency = 'eth')   eth,
+                            sum(pr.amount) FILTER (WHERE pr.currency = 'stark') stark,
+                            sum(pr.amount) FILTER (WHERE pr.currency = 'apt')   apt,
+                            sum(pr.amount) FILTER (WHERE pr.currency = 'op')    op,
+                            sum(pr.amount) FILTER (WHERE pr.currency = 'lords') lords
+                     FROM payment_requests pr
+                     WHERE pr.project_id = ANY (refreshed_project_ids)
+                     GROUP BY pr.project_id, pr.recipient_id),
+         to_rewards AS (SELECT pgr.project_id,
+                               c.contributor_id,
+                               count(DISTINCT c.id)                                          total_count,
+                               count(DISTINCT c.id) FILTER ( WHERE c.type = 'PULL_REQUEST' ) pull_request_count,
+                               count(DISTINCT c.id) FILTER ( WHERE c.type = 'CODE_REVIEW' )  code_review_count,
+                               count(DISTINCT c.id) FILTER ( WHERE c.type = 'ISSUE' )        issue_count
+                        FROM project_github_repos pgr
+                                 JOIN indexer_exp.github_repos gr ON gr.id = pgr.github_repo_id
+                                 JOIN indexer_exp.contributions c ON c.repo_id = gr.id
+                                 LEFT JOIN work_items wi
+                                           ON wi.id = coalesce(cast(c.pull_request_id AS TEXT), cast(c.issue_id AS TEXT),
+                                                               c.code_review_id) AND wi.recipient_id = c.contributor_id
+                                 LEFT JOIN ignored_contributions ic
+                                           ON ic.contribution_id = c.id AND ic.project_id = pgr.project_id
+                        WHERE pgr.project_id = ANY (refreshed_project_ids)
+                          AND gr.visibility = 'PUBLIC'
+                          AND c.status = 'COMPLETED'
+                          AND wi.id IS NULL
+                          AND ic.project_id IS NULL
+                        GROUP BY pgr.project_id, c.contributor_id),
+         refreshed AS (SELECT project_id, contributor_id github_user_id
+                       FROM contributors
+                       UNION
+                       SELECT project_id, recipient_id
+                       FROM rewards
+                       UNION
+                       SELECT project_id, contributor_id
+                       FROM to_rewards)
+    INSERT
+    INTO refreshed_project_contributor_stats (project_id, github_user_id, login, contribution_count, reward_count,
+                                              to_reward_count, prs_to_reward, issues_to_reward, code_reviews_to_reward,
+                                              usd, eth, stark, apt, op, lords, updated_at)
+    SELECT refreshed.project_id,
+           refreshed.github_user_id,
+           ga.login,
+           coalesce(contributors.contribution_count, 0),
+           coalesce(rewards.reward_count, 0),
+           coalesce(to_rewards.total_count, 0),
+           coalesce(to_rewards.pull_request_count, 0),
+           coalesce(to_rewards.issue_count, 0),
+           coalesce(to_rewards.code_review_count, 0),
+           rewards.usd,
+           rewards.eth,
+           rewards.stark,
+           rewards.apt,
+           rewards.op,
+           rewards.lords,
+           NOW()
+    FROM refreshed
+             LEFT JOIN indexer_exp.github_accounts ga ON ga.id = refreshed.github_user_id
+             LEFT JOIN contributors ON contributors.project_id = refreshed.project_id AND
+                                       contributors.contributor_id = refreshed.github_user_id
+             LEFT JOIN rewards ON rewards.project_id = refreshed.project_id AND
+                                  rewards.recipient_id = refreshed.github_user_id
+             LEFT JOIN to_rewards ON to_rewards.project_id = refreshed.project_id AND
+                                     to_rewards.contributor_id = refreshed.github_user_id;
+
+    GET DIAGNOSTICS refreshed_count = ROW_COUNT;
+
+    DELETE
+    FROM project_contributor_stats pcs
+    WHERE pcs.project_id = ANY (refreshed_project_ids)
+      AND NOT EXISTS(SELECT 1
+                     FROM refreshed_project_contributor_stats r
+                     WHERE r.project_id = pcs.project_id
+                       AND r.github_user_id = pcs.github_user_id);
+
+    INSERT INTO project_contributor_stats
+    SELECT *
+    FROM refreshed_project_contributor_stats
+    ON CONFLICT (project_id, github_user_id) DO UPDATE
+        SET login                  = EXCLUDED.login,
+            contribution_count     = EXCLUDED.contribution_count,
+            reward_count           = EXCLUDED.reward_count,
+            to_reward_count        = EXCLUDED.to_reward_count,
+            prs_to_reward          = EXCLUDED.prs_to_reward,
+            issues_to_reward       = EXCLUDED.issues_to_reward,
+            code_reviews_to_reward = EXCLUDED.code_reviews_to_reward,
+            usd                    = EXCLUDED.usd,
+            eth                    = EXCLUDED.eth,
+            stark                  = EXCLUDED.stark,
+            apt                    = EXCLUDED.apt,
+            op                     = EXCLUDED.op,
+            lords                  = EXCLUDED.lords,
+            updated_at             = EXCLUDED.updated_at;
+    RETURN refreshed_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Projects whose rewards changed outside of this API (backoffice, rust API), waiting for their statistics to be
+-- refreshed by a job. Writers only enqueue the project, the costly refresh happens outside of their transaction.
+CREATE TABLE public.project_contributor_stats_refresh_queue
+(
+    project_id UUID PRIMARY KEY,
+    queued_at  TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE OR REPLACE FUNCTION public.enqueue_project_contributor_stats_refresh()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    EXECUTE format('INSERT INTO project_contributor_stats_refresh_queue (project_id) ' ||
+                   'SELECT DISTINCT project_id FROM %I WHERE project_id IS NOT NULL ' ||
+                   'ON CONFLICT (project_id) DO NOTHING',
+                   CASE WHEN TG_OP = 'DELETE' THEN 'old_rows' ELSE 'new_rows' END);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER project_contributor_stats_on_payment_requests_insert
+    AFTER INSERT ON public.payment_requests REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION enqueue_project_contributor_stats_refresh();
+CREATE TRIGGER project_contributor_stats_on_payment_requests_update
+    AFTER UPDATE ON public.payment_requests REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION enqueue_project_contributor_stats_refresh();
+CREATE TRIGGER project_contributor_stats_on_payment_requests_delete
+    AFTER DELETE ON public.payment_requests REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION enqueue_project_contributor_stats_refresh();
+
+-- Refreshes the statistics of (at most max_project_count) queued projects and returns them. Rows are claimed with SKIP
+-- LOCKED so that several instances can run the job at the same time.
+CREATE OR REPLACE FUNCTION public.refresh_queued_project_contributor_stats(max_project_count INTEGER)
+    RETURNS SETOF UUID AS
+$$
+DECLARE
+    claimed_project_ids UUID[];
+BEGIN
+    WITH claimed AS (
+        DELETE FROM project_contributor_stats_refresh_queue q
+            WHERE q.project_id IN (SELECT project_id
+                                   FROM project_contributor_stats_refresh_queue
+                                   ORDER BY queued_at
+                                   LIMIT max_project_count FOR UPDATE SKIP LOCKED)
+            RETURNING q.project_id)
+    SELECT array_agg(project_id)
+    INTO claimed_project_ids
+    FROM claimed;
+
+    PERFORM refresh_project_contributor_stats(claimed_project_ids);
+    RETURN QUERY SELECT unnest(claimed_project_ids);
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT refresh_project_contributor_stats(array(SELECT project_id FROM project_details));
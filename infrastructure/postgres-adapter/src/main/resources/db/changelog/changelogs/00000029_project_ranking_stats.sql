@@ -0,0 +1,17 @@
+-- Per-project features of the ranking, refreshed in chunks by the ranking job. Only the rows whose values changed are
+-- rewritten, and the ranks are computed from the global mean and standard deviation of this table.
+CREATE TABLE public.project_ranking_stats
+(
+    project_id                                  UUID PRIMARY KEY,
+    pr_count                                    BIGINT    NOT NULL DEFAULT 0,
+    pr_count_last_3_months                      BIGINT    NOT NULL DEFAULT 0,
+    open_issue_count                            BIGINT    NOT NULL DEFAULT 0,
+    contributor_count                           BIGINT    NOT NULL DEFAULT 0,
+    distinct_recipient_number_last_1_months     BIGINT    NOT NULL DEFAULT 0,
+    total_dollars_equivalent_spent_last_1_month NUMERIC   NOT NULL DEFAULT 0,
+    total_dollars_equivalent_remaining_amount   NUMERIC   NOT NULL DEFAULT 0,
+    updated_at                                  TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS payment_requests_project_id_requested_at_idx
+    ON public.payment_requests (project_id, requested_at);
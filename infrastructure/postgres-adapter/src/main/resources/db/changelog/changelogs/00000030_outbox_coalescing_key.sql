@@ -0,0 +1,21 @@
+-- Events with the same coalescing key are merged into the pending one while it has not been claimed yet
+ALTER TABLE notification_outbox_events
+    ADD COLUMN coalescing_key TEXT;
+
+ALTER TABLE indexer_outbox_events
+    ADD COLUMN coalescing_key TEXT;
+
+ALTER TABLE notification_outbox_events_archive
+    ADD COLUMN coalescing_key TEXT;
+
+ALTER TABLE indexer_outbox_events_archive
+    ADD COLUMN coalescing_key TEXT;
+
+CREATE INDEX notification_outbox_events_coalescing_key_idx
+    ON notification_outbox_events (coalescing_key)
+    WHERE status = 'PENDING' AND attempts = 0 AND coalescing_key IS NOT NULL;
+
+CREATE INDEX indexer_outbox_events_coalescing_key_idx
+    ON indexer_outbox_events (coalescing_key)
+    WHERE status = 'PENDING' AND attempts = 0 AND coalescing_key IS NOT NULL;
+
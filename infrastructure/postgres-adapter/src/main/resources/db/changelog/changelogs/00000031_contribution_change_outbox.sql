@@ -0,0 +1,46 @@
+CREATE TABLE contribution_change_outbox_events
+(
+    id              BIGSERIAL PRIMARY KEY,
+    payload         jsonb               NOT NULL,
+    status          outbox_event_status NOT NULL DEFAULT 'PENDING',
+    error           TEXT,
+    attempts        INTEGER             NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP,
+    coalescing_key  TEXT,
+    created_at      TIMESTAMP           NOT NULL DEFAULT NOW(),
+    updated_at      TIMESTAMP           NOT NULL
+);
+
+CREATE INDEX contribution_change_outbox_events_unprocessed_idx
+    ON contribution_change_outbox_events (id)
+    WHERE status <> 'PROCESSED' AND status <> 'SKIPPED';
+
+CREATE INDEX contribution_change_outbox_events_coalescing_key_idx
+    ON contribution_change_outbox_events (coalescing_key)
+    WHERE status = 'PENDING' AND attempts = 0 AND coalescing_key IS NOT NULL;
+
+CREATE TABLE contribution_change_outbox_events_archive
+(
+    id              BIGINT              NOT NULL,
+    payload         jsonb               NOT NULL,
+    status          outbox_event_status NOT NULL,
+    error           TEXT,
+    attempts        INTEGER             NOT NULL,
+    next_attempt_at TIMESTAMP,
+    coalescing_key  TEXT,
+    created_at      TIMESTAMP           NOT NULL,
+    updated_at      TIMESTAMP           NOT NULL
+) PARTITION BY RANGE (created_at);
+
+-- Contribution changes that are still waiting in the indexer outbox are moved to their own queue
+WITH moved AS (
+    DELETE FROM indexer_outbox_events
+        WHERE status <> 'PROCESSED'
+            AND payload -> 'event' ->> 'className' =
+                'onlydust.com.marketplace.api.domain.model.notification.RepoContributionsChanged'
+        RETURNING *)
+INSERT
+INTO contribution_change_outbox_events (payload, status, error, attempts, next_attempt_at, coalescing_key, created_at,
+                                        updated_at)
+SELECT payload, 'PENDING', NULL, 0, NULL, NULL, created_at, updated_at
+FROM moved;
@@ -0,0 +1,12 @@
+--liquibase formatted sql
+
+--changeset onlydust:00000032_contributor_login_search_index runInTransaction:false
+-- Both indexes are built concurrently, outside of a transaction, so that the indexer keeps writing accounts and
+-- contributors meanwhile.
+-- Lets the reward recipient autocomplete match logins anywhere (login ilike '%...%') without scanning every account
+CREATE INDEX CONCURRENTLY IF NOT EXISTS github_accounts_login_trgm_idx
+    ON indexer_exp.github_accounts USING GIN (login gin_trgm_ops);
+
+-- Checks whether a matching account contributed to one of the searched repos with a single index probe
+CREATE INDEX CONCURRENTLY IF NOT EXISTS repos_contributors_contributor_id_repo_id_idx
+    ON indexer_exp.repos_contributors (contributor_id, repo_id);
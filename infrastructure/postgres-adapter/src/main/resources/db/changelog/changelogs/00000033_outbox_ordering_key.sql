@@ -0,0 +1,28 @@
+--liquibase formatted sql
+
+--changeset onlydust:00000033_outbox_ordering_key
+-- Events with the same ordering key (typically the same aggregate) are processed one after the other, in id order
+ALTER TABLE notification_outbox_events
+    ADD COLUMN ordering_key TEXT;
+ALTER TABLE indexer_outbox_events
+    ADD COLUMN ordering_key TEXT;
+ALTER TABLE contribution_change_outbox_events
+    ADD COLUMN ordering_key TEXT;
+ALTER TABLE notification_outbox_events_archive
+    ADD COLUMN ordering_key TEXT;
+ALTER TABLE indexer_outbox_events_archive
+    ADD COLUMN ordering_key TEXT;
+ALTER TABLE contribution_change_outbox_events_archive
+    ADD COLUMN ordering_key TEXT;
+
+--changeset onlydust:00000033_outbox_ordering_key_indexes runInTransaction:false
+-- The indexes are built concurrently, outside of a transaction, so that events keep being written
+CREATE INDEX CONCURRENTLY IF NOT EXISTS notification_outbox_events_ordering_key_idx
+    ON notification_outbox_events (ordering_key, id)
+    WHERE status <> 'PROCESSED' AND status <> 'SKIPPED' AND ordering_key IS NOT NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS indexer_outbox_events_ordering_key_idx
+    ON indexer_outbox_events (ordering_key, id)
+    WHERE status <> 'PROCESSED' AND status <> 'SKIPPED' AND ordering_key IS NOT NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS contribution_change_outbox_events_ordering_key_idx
+    ON contribution_change_outbox_events (ordering_key, id)
+    WHERE status <> 'PROCESSED' AND status <> 'SKIPPED' AND ordering_key IS NOT NULL;
@@ -0,0 +1,42 @@
+-- Projects whose ranking features may have changed since their last refresh. The ranking job only recomputes the
+-- features and the rank of these projects, the full pass is kept to move the time windows and the moments forward.
+-- Contribution changes are queued by the contribution changes consumer, the other changes by the triggers below.
+CREATE TABLE public.project_ranking_refresh_queue
+(
+    project_id UUID PRIMARY KEY,
+    queued_at  TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE OR REPLACE FUNCTION public.enqueue_project_ranking_refresh()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    EXECUTE format('INSERT INTO project_ranking_refresh_queue (project_id) ' ||
+                   'SELECT DISTINCT project_id FROM %I WHERE project_id IS NOT NULL ' ||
+                   'ON CONFLICT (project_id) DO NOTHING',
+                   CASE WHEN TG_OP = 'DELETE' THEN 'old_rows' ELSE 'new_rows' END);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER project_ranking_on_payment_requests_insert
+    AFTER INSERT ON public.payment_requests REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION enqueue_project_ranking_refresh();
+CREATE TRIGGER project_ranking_on_payment_requests_update
+    AFTER UPDATE ON public.payment_requests REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION enqueue_project_ranking_refresh();
+CREATE TRIGGER project_ranking_on_payment_requests_delete
+    AFTER DELETE ON public.payment_requests REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION enqueue_project_ranking_refresh();
+CREATE TRIGGER project_ranking_on_projects_budgets_insert
+    AFTER INSERT ON public.projects_budgets REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION enqueue_project_ranking_refresh();
+CREATE TRIGGER project_ranking_on_projects_budgets_delete
+    AFTER DELETE ON public.projects_budgets REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION enqueue_project_ranking_refresh();
+CREATE TRIGGER project_ranking_on_project_github_repos_insert
+    AFTER INSERT ON public.project_github_repos REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION enqueue_project_ranking_refresh();
+CREATE TRIGGER project_ranking_on_project_github_repos_delete
+    AFTER DELETE ON public.project_github_repos REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION enqueue_project_ranking_refresh();
@@ -0,0 +1,119 @@
+package onlydust.com.marketplace.api.postgres.adapter;
+
+import onlydust.com.marketplace.api.domain.view.ProjectDetailsView;
+import onlydust.com.marketplace.api.domain.view.ProjectOrganizationRepoView;
+import onlydust.com.marketplace.api.domain.view.ProjectOrganizationView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProjectDetailsCacheTest {
+
+    private ProjectDetailsCache projectDetailsCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        projectDetailsCache = new ProjectDetailsCache(ProjectDetailsCache.Config.builder().build());
+        loadCount = new AtomicInteger();
+    }
+
+    private Supplier<ProjectDetailsView> loader(ProjectDetailsView project) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return project;
+        };
+    }
+
+    private static ProjectDetailsView project(String slug, Long repoId) {
+        final var project = ProjectDetailsView.builder().id(UUID.randomUUID()).slug(slug).build();
+        project.addOrganization(ProjectOrganizationView.builder()
+                .repos(Set.of(ProjectOrganizationRepoView.builder()
+                        .githubRepoId(repoId)
+                        .isIncludedInProject(true)
+                        .technologies(Map.of())
+                        .build()))
+                .build());
+        return project;
+    }
+
+    @Test
+    void should_load_project_once_by_id_and_slug() {
+        // Given
+        final var project = project("my-project", 1L);
+
+        // When
+        projectDetailsCache.getById(project.getId(), loader(project));
+        final var byId = projectDetailsCache.getById(project.getId(), loader(project));
+        final var bySlug = projectDetailsCache.getBySlug("my-project", loader(project));
+
+        // Then
+        assertThat(byId).isEqualTo(project);
+        assertThat(bySlug).isEqualTo(project);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_reload_evicted_project() {
+        // Given
+        final var project = project("my-project", 1L);
+        projectDetailsCache.getBySlug("my-project", loader(project));
+
+        // When
+        projectDetailsCache.evict(project.getId());
+        projectDetailsCache.getBySlug("my-project", loader(project));
+        projectDetailsCache.getById(project.getId(), loader(project));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_evict_projects_including_changed_repos_only() {
+        // Given
+        final var changed = project("changed", 1L);
+        final var unchanged = project("unchanged", 2L);
+        projectDetailsCache.getById(changed.getId(), loader(changed));
+        projectDetailsCache.getById(unchanged.getId(), loader(unchanged));
+
+        // When
+        projectDetailsCache.evictByRepoIds(List.of(1L, 3L));
+        projectDetailsCache.getById(changed.getId(), loader(changed));
+        projectDetailsCache.getById(unchanged.getId(), loader(unchanged));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void should_evict_project_again_after_commit() {
+        // Given
+        final var project = project("my-project", 1L);
+        projectDetailsCache.getById(project.getId(), loader(project));
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            projectDetailsCache.evict(project.getId());
+            // A concurrent request re-caches the project before the transaction commits
+            projectDetailsCache.getById(project.getId(), loader(project));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        projectDetailsCache.getById(project.getId(), loader(project));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+}
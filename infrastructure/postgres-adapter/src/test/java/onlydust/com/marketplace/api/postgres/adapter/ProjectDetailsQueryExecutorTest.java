@@ -0,0 +1,134 @@
+package onlydust.com.marketplace.api.postgres.adapter;
+
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class ProjectDetailsQueryExecutorTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private ProjectDetailsQueryExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void should_run_queries_concurrently() {
+        // Given
+        executor = new ProjectDetailsQueryExecutor(ProjectDetailsQueryExecutor.Config.builder()
+                .parallelism(2)
+                .build(), transactionManager, 10);
+        final CountDownLatch latch = new CountDownLatch(2);
+
+        // When
+        final var first = executor.submit("first", () -> awaitOthers(latch));
+        final var second = executor.submit("second", () -> awaitOthers(latch));
+
+        // Then
+        assertThat(first.get()).isTrue();
+        assertThat(second.get()).isTrue();
+    }
+
+    @Test
+    void should_cap_parallelism_to_half_of_the_connection_pool() {
+        // Given
+        executor = new ProjectDetailsQueryExecutor(ProjectDetailsQueryExecutor.Config.builder()
+                .parallelism(2)
+                .build(), transactionManager, 2);
+        final CountDownLatch latch = new CountDownLatch(2);
+
+        // When
+        final var first = executor.submit("first", () -> awaitOthers(latch));
+        final var second = executor.submit("second", () -> awaitOthers(latch));
+
+        // Then
+        assertThat(first.get()).isFalse();
+        assertThat(second.get()).isTrue();
+    }
+
+    @Test
+    void should_run_each_query_in_its_own_read_only_transaction() {
+        // Given
+        executor = new ProjectDetailsQueryExecutor(ProjectDetailsQueryExecutor.Config.builder()
+                .queryTimeoutInMillis(1_500L)
+                .build(), transactionManager, 10);
+
+        // When
+        executor.submit("query", () -> true).get();
+
+        // Then
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly() &&
+                                                                        definition.getTimeout() == 2));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void should_run_queries_on_the_caller_thread_when_not_concurrent() {
+        // Given
+        executor = new ProjectDetailsQueryExecutor(ProjectDetailsQueryExecutor.Config.builder()
+                .concurrent(false)
+                .build(), transactionManager, 10);
+        final Thread caller = Thread.currentThread();
+
+        // When
+        final var query = executor.submit("thread", Thread::currentThread);
+
+        // Then
+        assertThat(query.get()).isEqualTo(caller);
+    }
+
+    @Test
+    void should_fail_when_a_query_times_out() {
+        // Given
+        executor = new ProjectDetailsQueryExecutor(ProjectDetailsQueryExecutor.Config.builder()
+                .queryTimeoutInMillis(50L)
+                .build(), transactionManager, 10);
+
+        // When
+        final var query = executor.submit("slow query", () -> awaitOthers(new CountDownLatch(2)));
+
+        // Then
+        assertThatThrownBy(query::get)
+                .isInstanceOf(OnlyDustException.class)
+                .hasMessage("Timed out while reading project slow query");
+    }
+
+    @Test
+    void should_rethrow_query_exceptions() {
+        // Given
+        executor = new ProjectDetailsQueryExecutor(ProjectDetailsQueryExecutor.Config.builder().build(), transactionManager, 10);
+
+        // When
+        final var query = executor.submit("failing query", () -> {
+            throw OnlyDustException.notFound("not found");
+        });
+
+        // Then
+        assertThatThrownBy(query::get)
+                .isInstanceOf(OnlyDustException.class)
+                .hasMessage("not found");
+    }
+
+    private static boolean awaitOthers(final CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package onlydust.com.marketplace.api.postgres.adapter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import onlydust.com.marketplace.api.domain.model.UsdQuotes;
+import onlydust.com.marketplace.api.domain.port.output.QuoteProviderPort;
+import onlydust.com.marketplace.api.postgres.adapter.repository.CustomProjectRankingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ProjectRankingEngineTest {
+
+    private final UsdQuotes quotes = new UsdQuotes(Map.of(), Instant.now());
+    private final List<UUID> projectIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CustomProjectRankingRepository customProjectRankingRepository;
+    private ProjectRankingEngine projectRankingEngine;
+
+    @BeforeEach
+    void setUp() {
+        customProjectRankingRepository = mock(CustomProjectRankingRepository.class);
+        final QuoteProviderPort quoteProviderPort = mock(QuoteProviderPort.class);
+        when(quoteProviderPort.latest()).thenReturn(quotes);
+        when(customProjectRankingRepository.findProjectIds()).thenReturn(projectIds);
+        projectRankingEngine = new ProjectRankingEngine(customProjectRankingRepository, quoteProviderPort,
+                meterRegistry, ProjectRankingEngine.Config.builder().chunkSize(2).build());
+    }
+
+    @Test
+    void should_refresh_stats_and_ranks_by_chunks() {
+        // Given
+        final var moments = CustomProjectRankingRepository.RankingMoments.builder().build();
+        when(customProjectRankingRepository.getRankingMoments()).thenReturn(Optional.of(moments));
+
+        // When
+        projectRankingEngine.updateProjectsRanking();
+
+        // Then
+        verify(customProjectRankingRepository).refreshRankingStats(projectIds.subList(0, 2), quotes);
+        verify(customProjectRankingRepository).refreshRankingStats(projectIds.subList(2, 3), quotes);
+        verify(customProjectRankingRepository).deleteRemovedProjectsStats();
+        verify(customProjectRankingRepository).updateRanks(projectIds.subList(0, 2), moments);
+        verify(customProjectRankingRepository).updateRanks(projectIds.subList(2, 3), moments);
+        assertThat(meterRegistry.get(ProjectRankingEngine.PHASE_METRIC).tag("run", "full").timers())
+                .hasSize(4)
+                .allMatch(timer -> timer.count() == 1);
+    }
+
+    @Test
+    void should_not_update_ranks_without_stats() {
+        // Given
+        when(customProjectRankingRepository.getRankingMoments()).thenReturn(Optional.empty());
+
+        // When
+        projectRankingEngine.updateProjectsRanking();
+
+        // Then
+        verify(customProjectRankingRepository, never()).updateRanks(any(), any());
+    }
+
+    @Test
+    void should_only_rank_queued_projects_by_chunks() {
+        // Given
+        final var moments = CustomProjectRankingRepository.RankingMoments.builder().build();
+        when(customProjectRankingRepository.getRankingMoments()).thenReturn(Optional.of(moments));
+        when(customProjectRankingRepository.refreshQueuedProjects(2, quotes, moments))
+                .thenReturn(projectIds.subList(0, 2), projectIds.subList(2, 3));
+
+        // When
+        projectRankingEngine.updateQueuedProjectsRanking();
+
+        // Then
+        verify(customProjectRankingRepository, times(2)).refreshQueuedProjects(2, quotes, moments);
+        verify(customProjectRankingRepository, never()).findProjectIds();
+        verify(customProjectRankingRepository, never()).refreshRankingStats(any(), any());
+        assertThat(meterRegistry.get(ProjectRankingEngine.PHASE_METRIC).tag("run", "queued").tag("phase", "ranks")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_leave_queued_projects_to_the_full_ranking_without_stats() {
+        // Given
+        when(customProjectRankingRepository.getRankingMoments()).thenReturn(Optional.empty());
+
+        // When
+        projectRankingEngine.updateQueuedProjectsRanking();
+
+        // Then
+        verify(customProjectRankingRepository, never()).refreshQueuedProjects(anyInt(), any(), any());
+    }
+}
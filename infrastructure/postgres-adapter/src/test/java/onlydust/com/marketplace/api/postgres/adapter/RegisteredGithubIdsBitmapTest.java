@@ -0,0 +1,77 @@
+package onlydust.com.marketplace.api.postgres.adapter;
+
+import onlydust.com.marketplace.api.postgres.adapter.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class RegisteredGithubIdsBitmapTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private RegisteredGithubIdsBitmap bitmap;
+
+    @AfterEach
+    void tearDown() {
+        bitmap.close();
+    }
+
+    @Test
+    void should_answer_from_memory_and_include_new_sign_ups() {
+        // Given
+        when(userRepository.findAllGithubUserIds()).thenReturn(List.of(1L, 42L, 5_000_000_000L));
+        bitmap = new RegisteredGithubIdsBitmap(userRepository,
+                RegisteredGithubIdsBitmap.Config.builder().refreshIntervalInSeconds(3600L).build());
+
+        // When
+        final var registered = bitmap.filter(Arrays.asList(1L, 2L, 42L, 5_000_000_000L, null));
+        bitmap.add(2L);
+
+        // Then
+        assertThat(registered).containsExactlyInAnyOrder(1L, 42L, 5_000_000_000L);
+        assertThat(bitmap.contains(2L)).isTrue();
+        assertThat(bitmap.contains(3L)).isFalse();
+        assertThat(bitmap.filter(List.of())).isEmpty();
+        verify(userRepository, atMost(2)).findAllGithubUserIds();
+    }
+
+    @Test
+    void should_pick_up_sign_ups_of_other_instances_on_refresh() {
+        // Given
+        final AtomicReference<List<Long>> registeredIds = new AtomicReference<>(List.of(1L));
+        when(userRepository.findAllGithubUserIds()).thenAnswer(invocation -> registeredIds.get());
+        bitmap = new RegisteredGithubIdsBitmap(userRepository,
+                RegisteredGithubIdsBitmap.Config.builder().refreshIntervalInSeconds(3600L).build());
+        bitmap.refresh();
+        final boolean before = bitmap.contains(2L);
+
+        // When
+        registeredIds.set(List.of(1L, 2L));
+        bitmap.refresh();
+
+        // Then
+        assertThat(before).isFalse();
+        assertThat(bitmap.contains(2L)).isTrue();
+    }
+
+    @Test
+    void should_keep_a_sign_up_that_a_concurrent_reload_did_not_see() {
+        // Given
+        when(userRepository.findAllGithubUserIds()).thenReturn(List.of(1L));
+        bitmap = new RegisteredGithubIdsBitmap(userRepository,
+                RegisteredGithubIdsBitmap.Config.builder().refreshIntervalInSeconds(3600L).build());
+        bitmap.refresh();
+
+        // When
+        bitmap.add(2L);
+        bitmap.refresh();
+
+        // Then
+        assertThat(bitmap.contains(2L)).isTrue();
+    }
+}
@@ -0,0 +1,137 @@
+package onlydust.com.marketplace.api.postgres.adapter;
+
+import onlydust.com.marketplace.api.postgres.adapter.repository.CustomUserIdentityRepository;
+import onlydust.com.marketplace.api.postgres.adapter.repository.CustomUserIdentityRepository.UserIdentity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserIdentityWriteBehindBufferTest {
+
+    private final List<List<UserIdentity>> flushedBatches = new CopyOnWriteArrayList<>();
+    private volatile boolean failing = false;
+    private final CustomUserIdentityRepository customUserIdentityRepository = new CustomUserIdentityRepository(null) {
+        @Override
+        public int updateIdentities(Collection<UserIdentity> identities, long lastSeenPrecisionInSeconds) {
+            if (failing) {
+                throw new RuntimeException("Some error");
+            }
+            if (!identities.isEmpty()) {
+                flushedBatches.add(List.copyOf(identities));
+            }
+            return identities.size();
+        }
+    };
+    private UserIdentityWriteBehindBuffer buffer;
+
+    @AfterEach
+    void tearDown() {
+        buffer.close();
+    }
+
+    @Test
+    void should_keep_the_latest_identity_per_user_until_flushed() {
+        // Given
+        buffer = new UserIdentityWriteBehindBuffer(customUserIdentityRepository,
+                UserIdentityWriteBehindBuffer.Config.builder().flushIntervalInSeconds(3600L).build());
+        final UUID userId = UUID.randomUUID();
+        final Date firstSeenAt = new Date(1_000L);
+        final Date lastSeenAt = new Date(2_000L);
+
+        // When
+        buffer.push(userId, "old-login", "avatar", "email", firstSeenAt);
+        buffer.push(userId, "new-login", null, null, lastSeenAt);
+
+        // Then
+        assertThat(flushedBatches).isEmpty();
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertThat(flushedBatches).containsExactly(List.of(UserIdentity.builder()
+                .userId(userId)
+                .githubLogin("new-login")
+                .githubAvatarUrl("avatar")
+                .email("email")
+                .lastSeenAt(lastSeenAt)
+                .build()));
+    }
+
+    @Test
+    void should_flush_in_batches_once_enough_users_are_buffered() throws InterruptedException {
+        // Given
+        buffer = new UserIdentityWriteBehindBuffer(customUserIdentityRepository,
+                UserIdentityWriteBehindBuffer.Config.builder()
+                        .flushIntervalInSeconds(3600L)
+                        .maxBufferedEntries(3)
+                        .maxBatchSize(2)
+                        .build());
+
+        // When
+        buffer.push(UUID.randomUUID(), "login1", "avatar1", "email1", new Date());
+        buffer.push(UUID.randomUUID(), "login2", "avatar2", "email2", new Date());
+
+        // Then
+        assertThat(flushedBatches).isEmpty();
+
+        // When
+        buffer.push(UUID.randomUUID(), "login3", "avatar3", "email3", new Date());
+
+        // Then
+        waitForFlushedBatches(2);
+        assertThat(flushedBatches).hasSize(2);
+        assertThat(flushedBatches.get(0)).hasSize(2);
+        assertThat(flushedBatches.get(1)).hasSize(1);
+    }
+
+    @Test
+    void should_flush_pending_identities_on_close() {
+        // Given
+        buffer = new UserIdentityWriteBehindBuffer(customUserIdentityRepository,
+                UserIdentityWriteBehindBuffer.Config.builder().flushIntervalInSeconds(3600L).build());
+        buffer.push(UUID.randomUUID(), "login", "avatar", "email", new Date());
+
+        // When
+        buffer.close();
+
+        // Then
+        assertThat(flushedBatches).hasSize(1);
+    }
+
+    @Test
+    void should_not_fail_the_caller_when_a_batch_cannot_be_written() {
+        // Given
+        buffer = new UserIdentityWriteBehindBuffer(customUserIdentityRepository,
+                UserIdentityWriteBehindBuffer.Config.builder()
+                        .flushIntervalInSeconds(3600L)
+                        .maxBufferedEntries(1)
+                        .build());
+        failing = true;
+        final UUID userId = UUID.randomUUID();
+
+        // When
+        buffer.push(userId, "login", "avatar", "email", new Date());
+        buffer.push(userId, "login", "avatar", "email", new Date());
+        failing = false;
+        buffer.flush();
+
+        // Then
+        assertThat(flushedBatches).hasSize(1);
+        assertThat(flushedBatches.get(0)).extracting(UserIdentity::getUserId).containsExactly(userId);
+    }
+
+    private void waitForFlushedBatches(final int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5_000L;
+        while (flushedBatches.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+    }
+}
@@ -16,7 +16,7 @@ public class ProjectPageItemViewEntityTest {
     protected static final Faker faker = new Faker();
 
     @Nested
-    public class ShouldReturnSponsorsJsonPath {
+    public class ShouldReturnSponsorIdsArray {
 
         @Test
         void given_no_sponsors() {
@@ -24,10 +24,10 @@ public class ProjectPageItemViewEntityTest {
             final List<UUID> sponsors = null;
 
             // When
-            final String sponsorsJsonPath = ProjectPageItemViewEntity.getSponsorsJsonPath(sponsors);
+            final String sponsorIdsArray = ProjectPageItemViewEntity.getSponsorIdsArray(sponsors);
 
             // Then
-            assertNull(sponsorsJsonPath);
+            assertNull(sponsorIdsArray);
         }
 
         @Test
@@ -37,10 +37,10 @@ public class ProjectPageItemViewEntityTest {
             final List<UUID> sponsors = List.of(sponsorId1);
 
             // When
-            final String sponsorsJsonPath = ProjectPageItemViewEntity.getSponsorsJsonPath(sponsors);
+            final String sponsorIdsArray = ProjectPageItemViewEntity.getSponsorIdsArray(sponsors);
 
             // Then
-            assertEquals("$[*] ? (@.id == \"" + sponsorId1 + "\")", sponsorsJsonPath);
+            assertEquals("{" + sponsorId1 + "}", sponsorIdsArray);
         }
 
         @Test
@@ -51,17 +51,17 @@ public class ProjectPageItemViewEntityTest {
             final List<UUID> sponsorIds = List.of(sponsorId1, sponsorId2);
 
             // When
-            final String sponsorsJsonPath = ProjectPageItemViewEntity.getSponsorsJsonPath(sponsorIds);
+            final String sponsorIdsArray = ProjectPageItemViewEntity.getSponsorIdsArray(sponsorIds);
 
             // Then
-            assertEquals("$[*] ? (@.id == \"" + sponsorId1 + "\" || @.id == \"" + sponsorId2 + "\")", sponsorsJsonPath);
+            assertEquals("{" + sponsorId1 + "," + sponsorId2 + "}", sponsorIdsArray);
         }
 
 
     }
 
     @Nested
-    public class ShouldReturnTechnologiesJsonPath {
+    public class ShouldReturnTechnologiesArray {
 
 
         @Test
@@ -70,10 +70,10 @@ public class ProjectPageItemViewEntityTest {
             final List<String> technologies = null;
 
             // When
-            final String technologiesJsonPath = ProjectPageItemViewEntity.getTechnologiesJsonPath(technologies);
+            final String technologiesArray = ProjectPageItemViewEntity.getTechnologiesArray(technologies);
 
             // Then
-            assertNull(technologiesJsonPath);
+            assertNull(technologiesArray);
         }
 
         @Test
@@ -83,10 +83,10 @@ public class ProjectPageItemViewEntityTest {
             final List<String> technologies = List.of(technology1);
 
             // When
-            final String technologiesJsonPath = ProjectPageItemViewEntity.getTechnologiesJsonPath(technologies);
+            final String technologiesArray = ProjectPageItemViewEntity.getTechnologiesArray(technologies);
 
             // Then
-            assertEquals("$[*] ? (@.\"" + technology1 + "\" > 0)", technologiesJsonPath);
+            assertEquals("{\"" + technology1 + "\"}", technologiesArray);
         }
 
         @Test
@@ -97,10 +97,22 @@ public class ProjectPageItemViewEntityTest {
             final List<String> technologies = List.of(technology1, technology2);
 
             // When
-            final String technologiesJsonPath = ProjectPageItemViewEntity.getTechnologiesJsonPath(technologies);
+            final String technologiesArray = ProjectPageItemViewEntity.getTechnologiesArray(technologies);
 
             // Then
-            assertEquals("$[*] ? (@.\"" + technology1 + "\" > 0 || @.\"" + technology2 + "\" > 0)", technologiesJsonPath);
+            assertEquals("{\"" + technology1 + "\",\"" + technology2 + "\"}", technologiesArray);
+        }
+
+        @Test
+        void given_technologies_with_special_characters() {
+            // Given
+            final List<String> technologies = List.of("C++", "Objective \"C\"", "Back\\slash");
+
+            // When
+            final String technologiesArray = ProjectPageItemViewEntity.getTechnologiesArray(technologies);
+
+            // Then
+            assertEquals("{\"C++\",\"Objective \\\"C\\\"\",\"Back\\\\slash\"}", technologiesArray);
         }
 
 
@@ -96,7 +96,7 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
         // When
         final List<UserRewardViewEntity> viewEntities = customUserRewardRepository.getViewEntities(userId,
                 List.of(), List.of(), null, null,
-                UserRewardView.SortBy.amount, SortDirection.desc, 0, 100);
+                UserRewardView.SortBy.amount, SortDirection.desc, 0, 100, null);
 
         // Then
         assertEquals(6, viewEntities.size());
@@ -161,7 +161,7 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
                     customUserRewardRepository.getViewEntities(individualIserId,
                             List.of(), List.of(), null, null,
                             UserRewardView.SortBy.amount,
-                            SortDirection.desc, 0, 100);
+                            SortDirection.desc, 0, 100, null);
 
 
             // Then
@@ -193,7 +193,7 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
             List<UserRewardViewEntity> viewEntities = customUserRewardRepository.getViewEntities(individualIserId,
                     List.of(), List.of(), null, null,
                     UserRewardView.SortBy.amount,
-                    SortDirection.desc, 0, 100);
+                    SortDirection.desc, 0, 100, null);
             paymentRepository.save(new PaymentEntity(UUID.randomUUID(), BigDecimal.ONE, "USD",
                     JacksonUtil.toJsonNode("{}"), viewEntities.get(1).getId(), new Date()));
 
@@ -202,7 +202,7 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
                     customUserRewardRepository.getViewEntities(individualIserId,
                             List.of(), List.of(), null, null,
                             UserRewardView.SortBy.amount,
-                            SortDirection.desc, 0, 100);
+                            SortDirection.desc, 0, 100, null);
 
             // Then
             assertEquals(6, viewEntities.size());
@@ -232,7 +232,7 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
                     customUserRewardRepository.getViewEntities(individualIserId,
                             List.of(), List.of(), null, null,
                             UserRewardView.SortBy.amount,
-                            SortDirection.desc, 0, 100);
+                            SortDirection.desc, 0, 100, null);
 
             // Then
             assertEquals(6, viewEntities.size());
@@ -262,7 +262,7 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
                     customUserRewardRepository.getViewEntities(individualIserId,
                             List.of(), List.of(), null, null,
                             UserRewardView.SortBy.amount,
-                            SortDirection.desc, 0, 100);
+                            SortDirection.desc, 0, 100, null);
 
             // Then
             assertEquals(6, viewEntities.size());
@@ -322,7 +322,7 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
             // When
             final List<UserRewardViewEntity> viewEntities = customUserRewardRepository.getViewEntities(companyUserId,
                     List.of(), List.of(), null, null,
-                    UserRewardView.SortBy.amount, SortDirection.desc, 0, 100);
+                    UserRewardView.SortBy.amount, SortDirection.desc, 0, 100, null);
 
             // Then
             assertEquals(6, viewEntities.size());
@@ -346,7 +346,7 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
             // Given
             List<UserRewardViewEntity> viewEntities = customUserRewardRepository.getViewEntities(companyUserId,
                     List.of(), List.of(), null, null,
-                    UserRewardView.SortBy.amount, SortDirection.desc, 0, 100);
+                    UserRewardView.SortBy.amount, SortDirection.desc, 0, 100, null);
             paymentRepository.save(new PaymentEntity(UUID.randomUUID(), BigDecimal.ONE, "STARK",
                     JacksonUtil.toJsonNode("{}"), viewEntities.get(0).getId(), new Date()));
             final UserRewardViewEntity userRewardViewEntity = viewEntities.get(1);
@@ -361,7 +361,7 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
             viewEntities = customUserRewardRepository.getViewEntities(companyUserId,
                     List.of(), List.of(), null, null,
                     UserRewardView.SortBy.amount,
-                    SortDirection.desc, 0, 100);
+                    SortDirection.desc, 0, 100, null);
             // Then
             assertEquals(6, viewEntities.size());
             assertEquals(CurrencyEnumEntity.usd, viewEntities.get(0).getCurrency());
@@ -388,7 +388,7 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
             // When
             final List<UserRewardViewEntity> viewEntities = customUserRewardRepository.getViewEntities(companyUserId,
                     List.of(), List.of(), null, null,
-                    UserRewardView.SortBy.amount, SortDirection.desc, 0, 100);
+                    UserRewardView.SortBy.amount, SortDirection.desc, 0, 100, null);
 
             // Then
             assertEquals(6, viewEntities.size());
@@ -430,7 +430,7 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
             // When
             final List<UserRewardViewEntity> viewEntities = customUserRewardRepository.getViewEntities(companyUserId,
                     List.of(), List.of(), null, null,
-                    UserRewardView.SortBy.amount, SortDirection.desc, 0, 100);
+                    UserRewardView.SortBy.amount, SortDirection.desc, 0, 100, null);
 
             // Then
             assertEquals(6, viewEntities.size());
@@ -454,7 +454,7 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
             // Given
             final UUID lordsPaymentRequestId = customUserRewardRepository.getViewEntities(companyUserId,
                             List.of(), List.of(), null, null,
-                            UserRewardView.SortBy.amount, SortDirection.desc, 0, 100)
+                            UserRewardView.SortBy.amount, SortDirection.desc, 0, 100, null)
                     .get(5).getId();
             paymentRepository.save(new PaymentEntity(UUID.randomUUID(), BigDecimal.ONE, "LORDS",
                     JacksonUtil.toJsonNode("{}"), lordsPaymentRequestId, new Date()));
@@ -462,7 +462,7 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
             // When
             final List<UserRewardViewEntity> viewEntities = customUserRewardRepository.getViewEntities(companyUserId,
                     List.of(), List.of(), null, null,
-                    UserRewardView.SortBy.amount, SortDirection.desc, 0, 100);
+                    UserRewardView.SortBy.amount, SortDirection.desc, 0, 100, null);
 
             // Then
             assertEquals(6, viewEntities.size());
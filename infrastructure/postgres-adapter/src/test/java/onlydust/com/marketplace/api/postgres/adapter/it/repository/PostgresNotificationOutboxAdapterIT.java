@@ -2,6 +2,7 @@ package onlydust.com.marketplace.api.postgres.adapter.it.repository;
 
 import onlydust.com.marketplace.api.domain.model.notification.Event;
 import onlydust.com.marketplace.api.domain.model.notification.ProjectLeaderAssigned;
+import onlydust.com.marketplace.api.domain.port.output.OutboxPort;
 import onlydust.com.marketplace.api.postgres.adapter.PostgresOutboxAdapter;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.NotificationEventEntity;
 import onlydust.com.marketplace.api.postgres.adapter.it.AbstractPostgresIT;
@@ -10,6 +11,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,6 +25,8 @@ class PostgresNotificationOutboxAdapterIT extends AbstractPostgresIT {
     PostgresOutboxAdapter<NotificationEventEntity> postgresOutboxAdapter;
     @Autowired
     NotificationEventRepository notificationEventRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
 
     @BeforeEach
     void setUp() {
@@ -34,15 +41,15 @@ class PostgresNotificationOutboxAdapterIT extends AbstractPostgresIT {
 
         // When
         postgresOutboxAdapter.push(event);
-        final var notificationPeeked = postgresOutboxAdapter.peek();
+        final var notificationsPeeked = postgresOutboxAdapter.peek(10);
 
         // Then
-        assertThat(notificationPeeked).isPresent();
-        assertThat(notificationPeeked.get()).isEqualTo(event);
+        assertThat(notificationsPeeked).hasSize(1);
+        assertThat(notificationsPeeked.get(0).event()).isEqualTo(event);
     }
 
     @Test
-    void should_peek_the_first_pending_notification() {
+    void should_peek_the_first_pending_notifications() {
         // Given
         final Event event1 = new ProjectLeaderAssigned(UUID.randomUUID(), UUID.randomUUID(),
                 faker.date().birthday());
@@ -55,98 +62,165 @@ class PostgresNotificationOutboxAdapterIT extends AbstractPostgresIT {
         postgresOutboxAdapter.push(event1);
         postgresOutboxAdapter.push(event2);
         postgresOutboxAdapter.push(event3);
-        var notificationPeeked = postgresOutboxAdapter.peek();
+        var notificationsPeeked = postgresOutboxAdapter.peek(2);
 
         // Then
-        assertThat(notificationPeeked).isPresent();
-        assertThat(notificationPeeked.get()).isEqualTo(event1);
+        assertThat(notificationsPeeked).extracting(OutboxPort.IdentifiableEvent::event).containsExactly(event1, event2);
 
         // When
-        postgresOutboxAdapter.ack();
-        notificationPeeked = postgresOutboxAdapter.peek();
+        notificationsPeeked = postgresOutboxAdapter.peek(2);
 
         // Then
-        assertThat(notificationPeeked).isPresent();
-        assertThat(notificationPeeked.get()).isEqualTo(event2);
+        assertThat(notificationsPeeked).extracting(OutboxPort.IdentifiableEvent::event).containsExactly(event3);
 
         // When
-        postgresOutboxAdapter.nack("Some error");
-        notificationPeeked = postgresOutboxAdapter.peek();
+        notificationsPeeked = postgresOutboxAdapter.peek(2);
 
         // Then
-        assertThat(notificationPeeked).isPresent();
-        assertThat(notificationPeeked.get()).isEqualTo(event2);
-
-        // When
-        postgresOutboxAdapter.ack();
-        notificationPeeked = postgresOutboxAdapter.peek();
-
-        // Then
-        assertThat(notificationPeeked).isPresent();
-        assertThat(notificationPeeked.get()).isEqualTo(event3);
+        assertThat(notificationsPeeked).isEmpty();
+    }
 
+    @Test
+    void should_get_nothing_when_there_is_no_notifications() {
         // When
-        postgresOutboxAdapter.ack();
-        notificationPeeked = postgresOutboxAdapter.peek();
+        final var notificationsPeeked = postgresOutboxAdapter.peek(10);
 
         // Then
-        assertThat(notificationPeeked).isNotPresent();
+        assertThat(notificationsPeeked).isEmpty();
     }
 
     @Test
-    void should_get_nothing_when_there_is_no_notifications() {
+    void should_ack() {
+        // Given
+        final Event event1 = new ProjectLeaderAssigned(UUID.randomUUID(), UUID.randomUUID(),
+                faker.date().birthday());
+        final Event event2 = new ProjectLeaderAssigned(UUID.randomUUID(), UUID.randomUUID(),
+                faker.date().birthday());
+
         // When
-        final var notificationPeeked = postgresOutboxAdapter.peek();
+        postgresOutboxAdapter.push(event1);
+        postgresOutboxAdapter.push(event2);
+        final var notificationsPeeked = postgresOutboxAdapter.peek(10);
 
         // Then
-        assertThat(notificationPeeked).isNotPresent();
+        assertThat(notificationsPeeked).hasSize(2);
+
+        // And when
+        postgresOutboxAdapter.ack(notificationsPeeked.stream().map(OutboxPort.IdentifiableEvent::id).toList());
+
+        final var entities = notificationEventRepository.findAll();
+        assertThat(entities).hasSize(2);
+        for (NotificationEventEntity entity : entities) {
+            assertThat(entity.getStatus()).isEqualTo(NotificationEventEntity.Status.PROCESSED);
+            assertThat(entity.getError()).isNull();
+            assertThat(entity.getAttempts()).isEqualTo(1);
+        }
     }
 
     @Test
-    void should_ack() {
+    void should_nack_and_retry_later() {
         // Given
         final Event event = new ProjectLeaderAssigned(UUID.randomUUID(), UUID.randomUUID(),
                 faker.date().birthday());
 
         // When
         postgresOutboxAdapter.push(event);
-        final var notificationPeeked = postgresOutboxAdapter.peek();
+        final var notificationsPeeked = postgresOutboxAdapter.peek(10);
 
         // Then
-        assertThat(notificationPeeked).isPresent();
-        assertThat(notificationPeeked.get()).isEqualTo(event);
+        assertThat(notificationsPeeked).hasSize(1);
+        assertThat(notificationsPeeked.get(0).event()).isEqualTo(event);
 
         // And when
-        postgresOutboxAdapter.ack();
-        assertThat(postgresOutboxAdapter.peek()).isNotPresent();
+        postgresOutboxAdapter.nack(notificationsPeeked.get(0).id(), "Some error");
 
+        // Then
+        assertThat(postgresOutboxAdapter.peek(10)).isEmpty();
         final var entity = notificationEventRepository.findAll().get(0);
-        assertThat(entity.getStatus()).isEqualTo(NotificationEventEntity.Status.PROCESSED);
-        assertThat(entity.getError()).isNull();
+        assertThat(entity.getStatus()).isEqualTo(NotificationEventEntity.Status.FAILED);
+        assertThat(entity.getError()).isEqualTo("Some error");
+        assertThat(entity.getAttempts()).isEqualTo(1);
+        assertThat(entity.getNextAttemptAt().isAfter(Instant.now())).isTrue();
     }
 
     @Test
-    void should_nack() {
+    void should_skip_an_event_after_the_maximum_number_of_attempts() {
         // Given
+        final var outbox = new PostgresOutboxAdapter<>(notificationEventRepository,
+                PostgresOutboxAdapter.Config.builder().maxAttempts(1).build());
         final Event event = new ProjectLeaderAssigned(UUID.randomUUID(), UUID.randomUUID(),
                 faker.date().birthday());
+        outbox.push(event);
 
         // When
-        postgresOutboxAdapter.push(event);
-        final var notificationPeeked = postgresOutboxAdapter.peek();
+        outbox.nack(outbox.peek(10).get(0).id(), "Some error");
 
         // Then
-        assertThat(notificationPeeked).isPresent();
-        assertThat(notificationPeeked.get()).isEqualTo(event);
-
-        // And when
-        postgresOutboxAdapter.nack("Some error");
-        assertThat(notificationPeeked).isPresent();
-        assertThat(notificationPeeked.get()).isEqualTo(event);
-
         final var entity = notificationEventRepository.findAll().get(0);
-        assertThat(entity.getStatus()).isEqualTo(NotificationEventEntity.Status.FAILED);
+        assertThat(entity.getStatus()).isEqualTo(NotificationEventEntity.Status.SKIPPED);
         assertThat(entity.getError()).isEqualTo("Some error");
+        assertThat(entity.getNextAttemptAt()).isNull();
+        assertThat(outbox.peek(10)).isEmpty();
+        assertThat(outbox.backlog().size()).isZero();
+    }
+
+    @Test
+    void should_hold_back_events_of_an_aggregate_until_the_previous_one_is_processed() {
+        // Given
+        final UUID projectId = UUID.randomUUID();
+        final Event event1 = new ProjectLeaderAssigned(projectId, UUID.randomUUID(), faker.date().birthday());
+        final Event event2 = new ProjectLeaderAssigned(projectId, UUID.randomUUID(), faker.date().birthday());
+        final Event event3 = new ProjectLeaderAssigned(UUID.randomUUID(), UUID.randomUUID(), faker.date().birthday());
+        postgresOutboxAdapter.push(event1);
+        postgresOutboxAdapter.push(event2);
+        postgresOutboxAdapter.push(event3);
+
+        // When
+        var notificationsPeeked = postgresOutboxAdapter.peek(10);
+
+        // Then
+        assertThat(notificationsPeeked).extracting(OutboxPort.IdentifiableEvent::event).containsExactly(event1, event3);
+
+        // When
+        postgresOutboxAdapter.ack(notificationsPeeked.stream().map(OutboxPort.IdentifiableEvent::id).toList());
+        notificationsPeeked = postgresOutboxAdapter.peek(10);
+
+        // Then
+        assertThat(notificationsPeeked).extracting(OutboxPort.IdentifiableEvent::event).containsExactly(event2);
+    }
+
+    @Test
+    void should_archive_processed_and_skipped_notifications() {
+        // Given
+        final var outbox = new PostgresOutboxAdapter<>(notificationEventRepository,
+                PostgresOutboxAdapter.Config.builder().maxAttempts(1).build());
+        final var event1 = new ProjectLeaderAssigned(UUID.randomUUID(), UUID.randomUUID(),
+                faker.date().birthday());
+        final var event2 = new ProjectLeaderAssigned(UUID.randomUUID(), UUID.randomUUID(),
+                faker.date().birthday());
+        final Event event3 = new ProjectLeaderAssigned(UUID.randomUUID(), UUID.randomUUID(),
+                faker.date().birthday());
+        outbox.push(event1);
+        outbox.ack(outbox.peek(10).stream().map(OutboxPort.IdentifiableEvent::id).toList());
+        outbox.push(event2);
+        outbox.nack(outbox.peek(10).get(0).id(), "Some error");
+        outbox.push(event3);
+
+        // When
+        final int archivedCount = outbox.archiveProcessedEvents(Date.from(Instant.now().plusSeconds(60)));
+
+        // Then
+        assertThat(archivedCount).isEqualTo(2);
+        final var entities = notificationEventRepository.findAll();
+        assertThat(entities).hasSize(1);
+        assertThat(entities.get(0).getEvent()).isEqualTo(event3);
+        final List<Object> archivedOrderingKeys = entityManagerFactory.createEntityManager()
+                .createNativeQuery("""
+                        select ordering_key from notification_outbox_events_archive where ordering_key in (:orderingKeys)
+                        """)
+                .setParameter("orderingKeys", List.of(event1.orderingKey(), event2.orderingKey()))
+                .getResultList();
+        assertThat(archivedOrderingKeys).containsExactlyInAnyOrder(event1.orderingKey(), event2.orderingKey());
     }
 
-}
\ No newline at end of file
+}
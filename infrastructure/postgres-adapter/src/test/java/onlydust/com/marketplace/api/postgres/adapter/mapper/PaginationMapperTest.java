@@ -0,0 +1,78 @@
+package onlydust.com.marketplace.api.postgres.adapter.mapper;
+
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
+import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PaginationMapperTest {
+
+    private static final PaginationMapper.KeysetColumn TITLE = new PaginationMapper.KeysetColumn("title",
+            "c.title", "text", SortDirection.asc, true);
+    private static final PaginationMapper.KeysetColumn ID = new PaginationMapper.KeysetColumn("id", "c.id", "text",
+            SortDirection.asc);
+
+    @Test
+    void should_compare_rows_when_no_column_can_be_null() {
+        // Given
+        final var createdAt = new PaginationMapper.KeysetColumn("createdAt", "c.created_at", "timestamp",
+                SortDirection.desc);
+        final var id = new PaginationMapper.KeysetColumn("id", "c.id", "text", SortDirection.desc);
+        final Cursor after = Cursor.builder().value("createdAt", "2023-12-01T10:15:30.123Z").value("id", "1").build();
+
+        // When
+        final String condition = PaginationMapper.getPostgresKeysetCondition(List.of(createdAt, id), after);
+
+        // Then
+        assertEquals("(c.created_at, c.id) < ((cast(cast(:after0 as text) as timestamptz) at time zone 'UTC'), " +
+                     "cast(cast(:after1 as text) as text))", condition);
+    }
+
+    @Test
+    void should_keep_rows_with_null_values_after_a_non_null_value() {
+        // Given
+        final Cursor after = Cursor.builder().value("title", "foo").value("id", "1").build();
+
+        // When
+        final String condition = PaginationMapper.getPostgresKeysetCondition(List.of(TITLE, ID), after);
+
+        // Then
+        assertEquals("(((c.title > cast(cast(:after0 as text) as text) or c.title is null)) or " +
+                     "(c.title = cast(cast(:after0 as text) as text) and c.id > cast(cast(:after1 as text) as text)))",
+                condition);
+    }
+
+    @Test
+    void should_only_keep_rows_with_null_values_after_a_null_value() {
+        // Given
+        final Cursor after = Cursor.decode(Cursor.builder().value("title", null).value("id", "1").build().encode());
+
+        // When
+        final String condition = PaginationMapper.getPostgresKeysetCondition(List.of(TITLE, ID), after);
+
+        // Then
+        assertEquals("((c.title is null and c.id > cast(cast(:after1 as text) as text)))", condition);
+    }
+
+    @Test
+    void should_sort_null_values_last() {
+        // Then
+        assertEquals("c.title asc nulls last, c.id asc", PaginationMapper.getPostgresOrderBy(List.of(TITLE,
+                ID)));
+    }
+
+    @Test
+    void should_reuse_the_total_of_the_first_page() {
+        // Given
+        final Cursor after = Cursor.decode(PaginationMapper.getNextCursor(List.of("a", "b", "c"), 2, 42,
+                item -> Cursor.builder().value("id", item).build()));
+
+        // Then
+        assertEquals("b", after.get("id"));
+        assertEquals(42, PaginationMapper.getTotalItemNumber(after, () -> 0));
+        assertEquals(7, PaginationMapper.getTotalItemNumber(null, () -> 7));
+    }
+}
@@ -1,9 +1,11 @@
 package onlydust.com.marketplace.api.postgres.adapter.repository;
 
 import onlydust.com.marketplace.api.domain.view.ProjectContributorsLinkView;
+import onlydust.com.marketplace.api.domain.view.pagination.Cursor;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 import org.junit.jupiter.api.Test;
 
+import static onlydust.com.marketplace.api.postgres.adapter.repository.CustomContributorRepository.EARNED;
 import static onlydust.com.marketplace.api.postgres.adapter.repository.CustomContributorRepository.GET_CONTRIBUTORS_FOR_PROJECT;
 import static onlydust.com.marketplace.api.postgres.adapter.repository.CustomContributorRepository.buildQuery;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -11,12 +13,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 public class CustomContributorRepositoryTest {
 
     private static final String GET_CONTRIBUTORS_FOR_PROJECT_WITH_DEFAULT_SORT =
-            GET_CONTRIBUTORS_FOR_PROJECT.replace("%order_by%", "login asc");
+            GET_CONTRIBUTORS_FOR_PROJECT.replace("%keyset_condition%", "true").replace("%order_by%", "pcs.login asc");
 
     @Test
     void should_build_query_given_a_pagination() {
         // When
-        final String query = buildQuery(null, null);
+        final String query = buildQuery(null, null, null);
 
         // Then
         assertEquals(GET_CONTRIBUTORS_FOR_PROJECT_WITH_DEFAULT_SORT, query);
@@ -28,10 +30,11 @@ public class CustomContributorRepositoryTest {
         final ProjectContributorsLinkView.SortBy sortBy = ProjectContributorsLinkView.SortBy.contributionCount;
 
         // When
-        final String query = buildQuery(sortBy, SortDirection.desc);
+        final String query = buildQuery(sortBy, SortDirection.desc, null);
 
         // Then
-        assertEquals(GET_CONTRIBUTORS_FOR_PROJECT.replace("%order_by%", "contribution_count desc, login asc")
+        assertEquals(GET_CONTRIBUTORS_FOR_PROJECT.replace("%keyset_condition%", "true")
+                        .replace("%order_by%", "pcs.contribution_count desc, pcs.login desc")
                 , query);
     }
 
@@ -41,11 +44,12 @@ public class CustomContributorRepositoryTest {
         final ProjectContributorsLinkView.SortBy sortBy = ProjectContributorsLinkView.SortBy.earned;
 
         // When
-        final String query = buildQuery(sortBy, SortDirection.asc);
+        final String query = buildQuery(sortBy, SortDirection.asc, null);
 
         // Then
         assertEquals(GET_CONTRIBUTORS_FOR_PROJECT
-                        .replace("%order_by%", "earned asc, login asc")
+                        .replace("%keyset_condition%", "true")
+                        .replace("%order_by%", EARNED + " asc, pcs.login asc")
                 , query);
     }
 
@@ -55,11 +59,12 @@ public class CustomContributorRepositoryTest {
         final ProjectContributorsLinkView.SortBy sortBy = ProjectContributorsLinkView.SortBy.toRewardCount;
 
         // When
-        final String query = buildQuery(sortBy, SortDirection.desc);
+        final String query = buildQuery(sortBy, SortDirection.desc, null);
 
         // Then
         assertEquals(GET_CONTRIBUTORS_FOR_PROJECT
-                        .replace("%order_by%", "to_reward_count desc, login asc")
+                        .replace("%keyset_condition%", "true")
+                        .replace("%order_by%", "pcs.to_reward_count desc, pcs.login desc")
                 , query);
     }
 
@@ -69,11 +74,12 @@ public class CustomContributorRepositoryTest {
         final ProjectContributorsLinkView.SortBy sortBy = ProjectContributorsLinkView.SortBy.rewardCount;
 
         // When
-        final String query = buildQuery(sortBy, SortDirection.asc);
+        final String query = buildQuery(sortBy, SortDirection.asc, null);
 
         // Then
         assertEquals(GET_CONTRIBUTORS_FOR_PROJECT
-                        .replace("%order_by%", "reward_count asc, login asc")
+                        .replace("%keyset_condition%", "true")
+                        .replace("%order_by%", "pcs.reward_count asc, pcs.login asc")
                 , query);
     }
 
@@ -83,13 +89,31 @@ public class CustomContributorRepositoryTest {
         final ProjectContributorsLinkView.SortBy sortBy = ProjectContributorsLinkView.SortBy.login;
 
         // When
-        final String query = buildQuery(sortBy, SortDirection.desc);
+        final String query = buildQuery(sortBy, SortDirection.desc, null);
 
         // Then
         assertEquals(GET_CONTRIBUTORS_FOR_PROJECT
-                        .replace("%order_by%", "login desc")
+                        .replace("%keyset_condition%", "true")
+                        .replace("%order_by%", "pcs.login desc")
                 , query);
     }
 
+    @Test
+    void should_build_query_given_a_cursor() {
+        // Given
+        final Cursor after = Cursor.builder().value("contributionCount", 12).value("login", "foo").build();
+
+        // When
+        final String query = buildQuery(ProjectContributorsLinkView.SortBy.contributionCount, SortDirection.desc,
+                after);
 
+        // Then
+        assertEquals(GET_CONTRIBUTORS_FOR_PROJECT
+                        .replace("%keyset_condition%", "(pcs.contribution_count, pcs.login) < " +
+                                                       "(cast(cast(:after0 as text) as bigint), " +
+                                                       "cast(cast(:after1 as text) as text))")
+                        .replace("%order_by%", "pcs.contribution_count desc, " +
+                                               "pcs.login desc")
+                , query);
+    }
 }
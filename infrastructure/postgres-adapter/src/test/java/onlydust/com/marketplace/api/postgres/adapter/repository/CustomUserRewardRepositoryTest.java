@@ -10,29 +10,36 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class CustomUserRewardRepositoryTest {
 
+    private static String query(final String orderBy) {
+        return FIND_USER_REWARDS_BY_ID.replace("%keyset_condition%", "true").replace("%order_by%", orderBy);
+    }
+
     @Test
     void should_build_query_with_default_sort_and_pagination() {
         // Then
-        assertEquals(FIND_USER_REWARDS_BY_ID.replace("%order_by%", "requested_at asc"), buildQuery(null,
-                SortDirection.asc));
-        assertEquals(FIND_USER_REWARDS_BY_ID.replace("%order_by%", "requested_at desc"), buildQuery(null,
-                SortDirection.desc));
+        assertEquals(query("date_trunc('milliseconds', requested_at) asc, id asc"),
+                buildQuery(null, SortDirection.asc, null));
+        assertEquals(query("date_trunc('milliseconds', requested_at) desc, id desc"),
+                buildQuery(null, SortDirection.desc, null));
     }
 
     @Test
     void should_build_query_with_sort() {
         // Then
-        assertEquals(FIND_USER_REWARDS_BY_ID.replace("%order_by%", "requested_at desc"),
+        assertEquals(query("date_trunc('milliseconds', requested_at) desc, id desc"),
                 buildQuery(UserRewardView.SortBy.requestedAt,
-                        SortDirection.desc));
-        assertEquals(FIND_USER_REWARDS_BY_ID.replace("%order_by%", "contribution_count asc, requested_at desc"),
+                        SortDirection.desc, null));
+        assertEquals(query("contribution_count asc, " +
+                           "date_trunc('milliseconds', requested_at) desc, id desc"),
                 buildQuery(UserRewardView.SortBy.contribution,
-                        SortDirection.asc));
-        assertEquals(FIND_USER_REWARDS_BY_ID.replace("%order_by%", "dollars_equivalent asc, requested_at desc"),
+                        SortDirection.asc, null));
+        assertEquals(query("dollars_equivalent asc, " +
+                           "date_trunc('milliseconds', requested_at) desc, id desc"),
                 buildQuery(UserRewardView.SortBy.amount,
-                        SortDirection.asc));
-        assertEquals(FIND_USER_REWARDS_BY_ID.replace("%order_by%", "status asc, requested_at desc"),
+                        SortDirection.asc, null));
+        assertEquals(query("status asc, " +
+                           "date_trunc('milliseconds', requested_at) desc, id desc"),
                 buildQuery(UserRewardView.SortBy.status,
-                        SortDirection.asc));
+                        SortDirection.asc, null));
     }
 }